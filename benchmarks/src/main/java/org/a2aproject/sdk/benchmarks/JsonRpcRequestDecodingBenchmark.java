@@ -0,0 +1,75 @@
+package org.a2aproject.sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2ARequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding of JSON-RPC {@code SendMessage} requests with {@link JSONRPCUtils#parseRequestBody},
+ * from the request body to the spec request.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar JsonRpcRequestDecodingBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonRpcRequestDecodingBenchmark {
+
+    @Param({"1", "20"})
+    public int parts;
+
+    @Param({"64", "4096"})
+    public int textSize;
+
+    private String body;
+
+    @Setup
+    public void setup() {
+        StringBuilder partsJson = new StringBuilder();
+        String text = "x".repeat(textSize);
+        for (int i = 0; i < parts; i++) {
+            if (i > 0) {
+                partsJson.append(',');
+            }
+            partsJson.append("{\"text\": \"").append(text).append("\"}");
+        }
+        body = """
+            {
+              "jsonrpc": "2.0",
+              "id": "request-1",
+              "method": "SendMessage",
+              "params": {
+                "message": {
+                  "messageId": "message-1",
+                  "contextId": "context-1",
+                  "role": "ROLE_USER",
+                  "parts": [%s],
+                  "metadata": {"source": "benchmark", "attempt": 1}
+                },
+                "configuration": {"acceptedOutputModes": ["text/plain"], "historyLength": 10}
+              }
+            }
+            """.formatted(partsJson);
+    }
+
+    @Benchmark
+    public A2ARequest<?> parseRequestBody() throws Exception {
+        return JSONRPCUtils.parseRequestBody(body, null);
+    }
+}
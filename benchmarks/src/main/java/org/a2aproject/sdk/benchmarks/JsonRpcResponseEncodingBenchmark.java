@@ -0,0 +1,90 @@
+package org.a2aproject.sdk.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.grpc.utils.ProtoUtils;
+import org.a2aproject.sdk.grpc.utils.SpecJsonEncoder;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageResponse;
+import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.Part;
+import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.a2aproject.sdk.spec.TextPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the serialization of streaming JSON-RPC responses through protobuf messages and
+ * {@code JsonFormat} with the direct {@link SpecJsonEncoder}.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar JsonRpcResponseEncodingBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonRpcResponseEncodingBenchmark {
+
+    @Param({"statusUpdate", "artifactUpdate"})
+    public String event;
+
+    @Param({"1", "20"})
+    public int parts;
+
+    private SendStreamingMessageResponse response;
+
+    @Setup
+    public void setup() {
+        if (event.equals("statusUpdate")) {
+            response = new SendStreamingMessageResponse("request-1", TaskStatusUpdateEvent.builder()
+                    .taskId("task-1")
+                    .contextId("context-1")
+                    .status(new TaskStatus(TaskState.TASK_STATE_WORKING, null, OffsetDateTime.now(ZoneOffset.UTC)))
+                    .metadata(Map.of("progress", 0.5))
+                    .build());
+        } else {
+            List<Part<?>> textParts = new ArrayList<>();
+            for (int i = 0; i < parts; i++) {
+                textParts.add(new TextPart("Streaming chunk " + i + " of the generated answer, with some more text."));
+            }
+            response = new SendStreamingMessageResponse("request-1", TaskArtifactUpdateEvent.builder()
+                    .taskId("task-1")
+                    .contextId("context-1")
+                    .artifact(Artifact.builder().artifactId("artifact-1").parts(textParts).build())
+                    .append(true)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] protobuf() {
+        return JSONRPCUtils.toJsonRPCResultResponse(response.getId(), ProtoUtils.ToProto.taskOrMessageStream(response.getResult()))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] direct() {
+        return SpecJsonEncoder.toJsonRPCResultResponse(response);
+    }
+}
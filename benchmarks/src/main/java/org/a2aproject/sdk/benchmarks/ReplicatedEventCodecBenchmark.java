@@ -0,0 +1,98 @@
+package org.a2aproject.sdk.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventCodec;
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventQueueItem;
+import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.a2aproject.sdk.spec.TextPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the JSON and protobuf encodings of replicated events for a batch of artifact chunks
+ * followed by a final status update, as produced by an agent streaming a large artifact.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar ReplicatedEventCodecBenchmark}.
+ * The encoded size of each variant is printed during setup.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplicatedEventCodecBenchmark {
+
+    private static final String TASK_ID = "benchmark-task";
+
+    @Param({"JSON", "PROTOBUF", "PROTOBUF_GZIP"})
+    public String codec;
+
+    @Param({"1", "50"})
+    public int events;
+
+    @Param({"1024"})
+    public int chunkSize;
+
+    private ReplicatedEventCodec encoder;
+    private List<ReplicatedEventQueueItem> batch;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        encoder = switch (codec) {
+            case "JSON" -> new ReplicatedEventCodec(ReplicatedEventCodec.Format.JSON, -1);
+            case "PROTOBUF" -> new ReplicatedEventCodec(ReplicatedEventCodec.Format.PROTOBUF, -1);
+            default -> new ReplicatedEventCodec(ReplicatedEventCodec.Format.PROTOBUF, 0);
+        };
+
+        String chunk = "lorem ipsum \"dolor\" sit amet\n".repeat(chunkSize / 28 + 1).substring(0, chunkSize);
+        batch = new ArrayList<>(events);
+        for (int i = 0; i < events - 1; i++) {
+            batch.add(new ReplicatedEventQueueItem(TASK_ID, TaskArtifactUpdateEvent.builder()
+                    .taskId(TASK_ID)
+                    .contextId("benchmark-context")
+                    .artifact(Artifact.builder()
+                            .artifactId("artifact-1")
+                            .parts(List.of(new TextPart(chunk)))
+                            .build())
+                    .append(i > 0)
+                    .lastChunk(false)
+                    .build()));
+        }
+        batch.add(new ReplicatedEventQueueItem(TASK_ID, TaskStatusUpdateEvent.builder()
+                .taskId(TASK_ID)
+                .contextId("benchmark-context")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                .build()));
+
+        encoded = encoder.encodeBatch(batch);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return encoder.encodeBatch(batch);
+    }
+
+    @Benchmark
+    public List<ReplicatedEventQueueItem> decode() throws Exception {
+        return ReplicatedEventCodec.decode(encoded);
+    }
+}
@@ -0,0 +1,175 @@
+package org.a2aproject.sdk.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.LoopbackReplicationNetwork;
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.LoopbackReplicationStrategy;
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventCodec;
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedQueueManager;
+import org.a2aproject.sdk.server.events.EventQueue;
+import org.a2aproject.sdk.server.events.EventQueueItem;
+import org.a2aproject.sdk.server.events.MainEventBus;
+import org.a2aproject.sdk.server.events.MainEventBusProcessor;
+import org.a2aproject.sdk.server.tasks.InMemoryTaskStore;
+import org.a2aproject.sdk.spec.Event;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures end-to-end replication of events between two {@link ReplicatedQueueManager} nodes
+ * connected by a {@link LoopbackReplicationNetwork}, without a message broker.
+ * <p>
+ * An event enqueued on the producer node is persisted and replicated by its
+ * {@link MainEventBusProcessor}, received and sequenced by the consumer node, and distributed by
+ * the consumer's processor to a subscription on the consumer node. Both nodes share the task
+ * store, like a database.
+ * </p>
+ * <ul>
+ *     <li>{@code roundTrip} measures the latency distribution of a single event</li>
+ *     <li>{@code throughput} measures events per second for bursts of events of one task</li>
+ * </ul>
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar ReplicationLoopbackBenchmark}. The
+ * channel latency, jitter and reordering are parameters; use for instance
+ * {@code -p latencyMicros=500 -p reorderRate=0.05} to model a congested network.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplicationLoopbackBenchmark {
+
+    private static final String TASK_ID = "benchmark-task";
+    private static final int BURST_SIZE = 100;
+    private static final int RECEIVE_TIMEOUT_MILLIS = 10_000;
+
+    @Param({"JSON", "PROTOBUF"})
+    public String codec;
+
+    @Param({"0", "1000"})
+    public long latencyMicros;
+
+    @Param({"0"})
+    public long jitterMicros;
+
+    @Param({"0", "0.05"})
+    public double reorderRate;
+
+    private LoopbackReplicationNetwork network;
+    private final List<Thread> processorThreads = new ArrayList<>();
+    private final List<ReplicatedQueueManager> queueManagers = new ArrayList<>();
+    private EventQueue producerQueue;
+    private EventQueue consumerQueue;
+    private TaskStatusUpdateEvent event;
+
+    @Setup
+    public void setup() {
+        network = LoopbackReplicationNetwork.builder()
+                .codec(new ReplicatedEventCodec(ReplicatedEventCodec.Format.valueOf(codec), -1))
+                .latency(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros)))
+                .jitter(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(jitterMicros)))
+                .reorderRate(reorderRate)
+                .reorderDelay(Duration.ofMillis(1))
+                .build();
+
+        InMemoryTaskStore taskStore = new InMemoryTaskStore();
+        taskStore.save(Task.builder()
+                .id(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build(), false);
+        ReplicatedQueueManager producer = startNode(taskStore);
+        ReplicatedQueueManager consumer = startNode(taskStore);
+
+        consumerQueue = consumer.createOrTap(TASK_ID);
+        producerQueue = producer.createOrTap(TASK_ID);
+        event = TaskStatusUpdateEvent.builder()
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build();
+    }
+
+    private ReplicatedQueueManager startNode(InMemoryTaskStore taskStore) {
+        LoopbackReplicationStrategy strategy = network.join();
+        MainEventBus mainEventBus = new MainEventBus();
+        ReplicatedQueueManager queueManager = new ReplicatedQueueManager(strategy, taskStore, mainEventBus);
+        // Enabled by default in deployments
+        queueManager.enableSequencing(Duration.ofSeconds(2), 1000);
+        strategy.setReceiver(queueManager::onReplicatedEvent);
+        queueManagers.add(queueManager);
+
+        MainEventBusProcessor processor = new MainEventBusProcessor(mainEventBus, taskStore, (event, snapshot) -> {}, queueManager);
+        Thread thread = new Thread(processor, "MainEventBusProcessor-" + strategy.getNodeIndex());
+        thread.setDaemon(true);
+        thread.start();
+        processorThreads.add(thread);
+        return queueManager;
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        network.close();
+        for (Thread thread : processorThreads) {
+            thread.interrupt();
+            thread.join(5000);
+        }
+        for (ReplicatedQueueManager queueManager : queueManagers) {
+            queueManager.close(TASK_ID);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Event roundTrip() throws Exception {
+        producerQueue.enqueueEvent(event);
+        Event received = receive(consumerQueue);
+        // The producer's own subscription receives the event as well
+        receive(producerQueue);
+        return received;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BURST_SIZE)
+    public Event throughput() throws Exception {
+        for (int i = 0; i < BURST_SIZE; i++) {
+            producerQueue.enqueueEvent(event);
+        }
+        Event received = null;
+        for (int i = 0; i < BURST_SIZE; i++) {
+            received = receive(consumerQueue);
+            receive(producerQueue);
+        }
+        return received;
+    }
+
+    private static Event receive(EventQueue queue) throws Exception {
+        EventQueueItem item = queue.dequeueEventItem(RECEIVE_TIMEOUT_MILLIS);
+        if (item == null) {
+            throw new IllegalStateException("Replicated event was not received within " + RECEIVE_TIMEOUT_MILLIS + "ms");
+        }
+        return item.getEvent();
+    }
+}
@@ -0,0 +1,86 @@
+package org.a2aproject.sdk.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.DataPart;
+import org.a2aproject.sdk.spec.FilePart;
+import org.a2aproject.sdk.spec.FileWithUri;
+import org.a2aproject.sdk.spec.Part;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TextPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the Gson serialization of a task whose artifact holds many parts, as stored by the
+ * database task store and carried by push notifications and replicated events.
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar TaskJsonSerializationBenchmark}.
+ * The parts cycle through text, data and file parts, each with a small metadata map.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int parts;
+
+    private Task task;
+    private String json;
+
+    @Setup
+    public void setup() throws Exception {
+        List<Part<?>> artifactParts = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            Map<String, Object> metadata = Map.of("index", i, "source", "benchmark");
+            artifactParts.add(switch (i % 3) {
+                case 0 -> new TextPart("chunk " + i + " of a \"streamed\" answer\n", metadata);
+                case 1 -> new DataPart(Map.of("row", i, "values", List.of(1.5, 2.5), "label", "item-" + i), metadata);
+                default -> new FilePart(new FileWithUri("text/plain", "file-" + i + ".txt",
+                        "https://example.com/files/" + i), metadata);
+            });
+        }
+        task = Task.builder()
+                .id("benchmark-task")
+                .contextId("benchmark-context")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                .artifacts(List.of(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(artifactParts)
+                        .build()))
+                .build();
+
+        json = JsonUtil.toJson(task);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return JsonUtil.toJson(task);
+    }
+
+    @Benchmark
+    public Task deserialize() throws Exception {
+        return JsonUtil.fromJson(json, Task.class);
+    }
+}
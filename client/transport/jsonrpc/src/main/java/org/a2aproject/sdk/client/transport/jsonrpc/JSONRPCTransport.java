@@ -14,6 +14,8 @@ import static org.a2aproject.sdk.spec.A2AMethods.SUBSCRIBE_TO_TASK_METHOD;
 import static org.a2aproject.sdk.util.Assert.checkNotNullParam;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -154,6 +156,83 @@ public class JSONRPCTransport implements ClientTransport {
         }
     }
 
+    /**
+     * Retrieves several tasks with a single JSON-RPC batch request.
+     * <p>
+     * The requests are sent in one HTTP request and the server handles them concurrently, which
+     * saves a round trip per task when polling many tasks. Interceptors are applied to each
+     * request; the HTTP headers they add are merged, so they should not differ between the
+     * requests of a batch. The tenant of the first request determines the URL.
+     * <p>
+     * Unlike {@link #getTask}, a request that fails, for example because the task does not
+     * exist, does not fail the batch: its response carries the error instead.
+     *
+     * @param requests the tasks to retrieve
+     * @param context optional client call context for the request (may be {@code null})
+     * @return the responses, in the order of {@code requests}
+     * @throws A2AClientException if the batch as a whole fails
+     */
+    public List<GetTaskResponse> getTasks(List<TaskQueryParams> requests, @Nullable ClientCallContext context)
+            throws A2AClientException {
+        checkNotNullParam("requests", requests);
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        List<String> members = new ArrayList<>(requests.size());
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PayloadAndHeaders payloadAndHeaders = applyInterceptors(GET_TASK_METHOD,
+                    ProtoUtils.ToProto.getTaskRequest(requests.get(i)), agentCard, context);
+            members.add(JSONRPCUtils.toJsonRPCRequest(String.valueOf(i), GET_TASK_METHOD,
+                    (MessageOrBuilder) payloadAndHeaders.getPayload()));
+            if (payloadAndHeaders.getHeaders() != null) {
+                headers.putAll(payloadAndHeaders.getHeaders());
+            }
+        }
+
+        try {
+            A2AHttpClient.PostBuilder builder = httpClient.createPost()
+                    .url(Utils.buildBaseUrl(agentInterface, requests.get(0).tenant()))
+                    .addHeader("Content-Type", "application/json")
+                    .addHeader(A2AHeaders.A2A_VERSION, AgentInterface.CURRENT_PROTOCOL_VERSION)
+                    .body(JSONRPCUtils.toJsonRPCBatch(members));
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                builder.addHeader(entry.getKey(), entry.getValue());
+            }
+            A2AHttpResponse httpResponse = builder.post();
+            if (!httpResponse.success()) {
+                int status = httpResponse.status();
+                String message = "Request failed with HTTP " + status;
+                throw new A2AClientException(message,
+                        new A2AClientHTTPError(status, message, httpResponse.body(), httpResponse.headers().toMap()));
+            }
+            String httpResponseBody = httpResponse.body();
+            if (!JSONRPCUtils.isBatchBody(httpResponseBody)) {
+                // The batch was rejected as a whole, with a single error response
+                unmarshalResponse(httpResponseBody, GET_TASK_METHOD);
+                throw new A2AClientException("Unexpected response to batch request: " + httpResponseBody);
+            }
+            Map<String, GetTaskResponse> responses = new HashMap<>();
+            for (String member : JSONRPCUtils.splitBatchBody(httpResponseBody)) {
+                GetTaskResponse response = (GetTaskResponse) JSONRPCUtils.parseResponseBody(member, GET_TASK_METHOD);
+                responses.put(String.valueOf(response.getId()), response);
+            }
+            List<GetTaskResponse> result = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                GetTaskResponse response = responses.get(String.valueOf(i));
+                if (response == null) {
+                    throw new A2AClientException("Missing response for request " + i + " of the batch");
+                }
+                result.add(response);
+            }
+            return result;
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (IOException | InterruptedException | JsonProcessingException e) {
+            throw new A2AClientException("Failed to get tasks: " + e, e);
+        }
+    }
+
     @Override
     public Task cancelTask(CancelTaskParams request, @Nullable ClientCallContext context) throws A2AClientException {
         checkNotNullParam("request", request);
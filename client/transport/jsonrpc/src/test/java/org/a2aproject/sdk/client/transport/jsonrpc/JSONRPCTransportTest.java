@@ -8,6 +8,8 @@ import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.GET_TASK_
 import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.GET_TASK_PUSH_NOTIFICATION_CONFIG_TEST_RESPONSE;
 import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.GET_TASK_TEST_REQUEST;
 import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.GET_TASK_TEST_RESPONSE;
+import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.GET_TASKS_BATCH_TEST_REQUEST;
+import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.GET_TASKS_BATCH_TEST_RESPONSE;
 import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.SEND_MESSAGE_ERROR_TEST_RESPONSE;
 import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.SEND_MESSAGE_TEST_REQUEST;
 import static org.a2aproject.sdk.client.transport.jsonrpc.JsonMessages.SEND_MESSAGE_TEST_REQUEST_WITH_MESSAGE_RESPONSE;
@@ -37,6 +39,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskResponse;
 import org.a2aproject.sdk.spec.A2AClientException;
 import org.a2aproject.sdk.spec.A2AClientHTTPError;
 import org.a2aproject.sdk.spec.AgentCard;
@@ -63,6 +66,7 @@ import org.a2aproject.sdk.spec.SecurityRequirement;
 import org.a2aproject.sdk.spec.SecurityScheme;
 import org.a2aproject.sdk.spec.Task;
 import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
+import org.a2aproject.sdk.spec.TaskNotFoundError;
 import org.a2aproject.sdk.spec.TaskQueryParams;
 import org.a2aproject.sdk.spec.TaskState;
 import org.a2aproject.sdk.spec.TextPart;
@@ -293,6 +297,34 @@ public class JSONRPCTransportTest {
         assertTrue(task.metadata().isEmpty());
     }
 
+    @Test
+    public void testA2AClientGetTasksBatch() throws Exception {
+        this.server.when(
+                        request()
+                                .withMethod("POST")
+                                .withPath("/")
+                                .withBody(JsonBody.json(GET_TASKS_BATCH_TEST_REQUEST, MatchType.ONLY_MATCHING_FIELDS))
+
+                )
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withBody(GET_TASKS_BATCH_TEST_RESPONSE)
+                );
+
+        JSONRPCTransport client = new JSONRPCTransport("http://localhost:4001");
+        List<GetTaskResponse> responses = client.getTasks(
+                List.of(new TaskQueryParams("task-1"), new TaskQueryParams("task-2")), null);
+
+        // Responses are returned in the order of the requests, whatever the order of the server
+        assertEquals(2, responses.size());
+        Task task = responses.get(0).getResult();
+        assertNotNull(task);
+        assertEquals("task-1", task.id());
+        assertEquals(TaskState.TASK_STATE_WORKING, task.status().state());
+        assertInstanceOf(TaskNotFoundError.class, responses.get(1).getError());
+    }
+
     @Test
     public void testA2AClientGetTaskPushNotificationConfig() throws Exception {
         this.server.when(
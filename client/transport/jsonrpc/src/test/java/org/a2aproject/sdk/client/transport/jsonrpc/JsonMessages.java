@@ -278,6 +278,47 @@ public class JsonMessages {
             }
             """;
 
+    static final String GET_TASKS_BATCH_TEST_REQUEST = """
+            [
+              {
+                "jsonrpc":"2.0",
+                "id":"0",
+                "method":"GetTask",
+                "params":{"id":"task-1"}
+              },
+              {
+                "jsonrpc":"2.0",
+                "id":"1",
+                "method":"GetTask",
+                "params":{"id":"task-2"}
+              }
+            ]
+            """;
+
+    static final String GET_TASKS_BATCH_TEST_RESPONSE = """
+            [
+              {
+                "jsonrpc":"2.0",
+                "id":"1",
+                "error":{
+                  "code":-32001,
+                  "message":"Task not found"
+                }
+              },
+              {
+                "jsonrpc":"2.0",
+                "id":"0",
+                "result":{
+                  "id":"task-1",
+                  "contextId":"context-1",
+                  "status":{
+                    "state":"TASK_STATE_WORKING"
+                  }
+                }
+              }
+            ]
+            """;
+
     static final String CANCEL_TASK_TEST_REQUEST = """
             {
               "jsonrpc":"2.0",
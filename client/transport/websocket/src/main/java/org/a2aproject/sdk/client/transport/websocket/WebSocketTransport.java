@@ -0,0 +1,641 @@
+package org.a2aproject.sdk.client.transport.websocket;
+
+import static org.a2aproject.sdk.spec.A2AMethods.CANCEL_TASK_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.DELETE_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.GET_EXTENDED_AGENT_CARD_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.GET_TASK_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.LIST_TASK_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.SEND_MESSAGE_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.SEND_STREAMING_MESSAGE_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.SUBSCRIBE_TO_TASK_METHOD;
+import static org.a2aproject.sdk.util.Assert.checkNotNullParam;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.protobuf.MessageOrBuilder;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
+import io.vertx.core.http.WebSocketConnectOptions;
+import org.a2aproject.sdk.client.transport.spi.ClientTransport;
+import org.a2aproject.sdk.client.transport.spi.interceptors.ClientCallContext;
+import org.a2aproject.sdk.client.transport.spi.interceptors.ClientCallInterceptor;
+import org.a2aproject.sdk.client.transport.spi.interceptors.PayloadAndHeaders;
+import org.a2aproject.sdk.common.A2AHeaders;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.a2aproject.sdk.grpc.StreamResponse;
+import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.grpc.utils.ProtoUtils;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.CreateTaskPushNotificationConfigResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetExtendedAgentCardResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskPushNotificationConfigResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTaskPushNotificationConfigsResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendMessageResponse;
+import org.a2aproject.sdk.spec.A2AClientException;
+import org.a2aproject.sdk.spec.A2AError;
+import org.a2aproject.sdk.spec.AgentCard;
+import org.a2aproject.sdk.spec.AgentInterface;
+import org.a2aproject.sdk.spec.CancelTaskParams;
+import org.a2aproject.sdk.spec.DeleteTaskPushNotificationConfigParams;
+import org.a2aproject.sdk.spec.EventKind;
+import org.a2aproject.sdk.spec.GetExtendedAgentCardParams;
+import org.a2aproject.sdk.spec.GetTaskPushNotificationConfigParams;
+import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsParams;
+import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsResult;
+import org.a2aproject.sdk.spec.ListTasksParams;
+import org.a2aproject.sdk.spec.MessageSendParams;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskIdParams;
+import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
+import org.a2aproject.sdk.spec.TaskQueryParams;
+import org.a2aproject.sdk.util.Utils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Client transport carrying JSON-RPC 2.0 messages over one persistent WebSocket connection.
+ * <p>
+ * The connection is opened by the first call and shared by all the calls of the transport, so
+ * a multi-turn conversation pays the connection and TLS setup once. Calls are multiplexed on the
+ * connection: each request has its own id, responses are matched by id, and any number of calls
+ * and streams can be in progress at once. If the connection is lost, the calls in progress fail
+ * and the next call opens a new connection. A call fails if its response does not arrive within
+ * the request timeout of the transport; streams are not limited in time.
+ * <p>
+ * Calls block until they are answered, so they are rejected on Vert.x event loop threads. Stream
+ * consumers run on Vert.x worker threads and may call the transport, e.g. to reply to an event.
+ * <p>
+ * The handshake carries the {@link A2AHeaders#A2A_VERSION} header and the headers of the call
+ * that opens the connection, as set by its {@link ClientCallContext} and interceptors; the
+ * server applies them to every request of the connection. Headers of later calls are not sent,
+ * so credentials must not change during the lifetime of the transport. Requests are sent to the
+ * URL of the agent interface, and their tenant is carried in their params.
+ *
+ * @see WebSocketProtocol
+ * @see WebSocketTransportConfig
+ */
+public class WebSocketTransport implements ClientTransport {
+
+    private static final Logger log = Logger.getLogger(WebSocketTransport.class.getName());
+
+    private final Vertx vertx;
+    private final boolean ownsVertx;
+    private final WebSocketClient webSocketClient;
+    private final AgentInterface agentInterface;
+    private final @Nullable List<ClientCallInterceptor> interceptors;
+    private final @Nullable AgentCard agentCard;
+    private final Duration requestTimeout;
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private final Object connectionLock = new Object();
+    private @Nullable CompletableFuture<Connection> connection;
+    private volatile boolean closed;
+
+    public WebSocketTransport(String agentUrl) {
+        this(null, true, null, new AgentInterface(WebSocketProtocol.PROTOCOL_BINDING, agentUrl), null);
+    }
+
+    public WebSocketTransport(@Nullable Vertx vertx, boolean perMessageCompression, @Nullable AgentCard agentCard,
+                              AgentInterface agentInterface, @Nullable List<ClientCallInterceptor> interceptors) {
+        this(vertx, perMessageCompression, WebSocketProtocol.DEFAULT_MAX_MESSAGE_SIZE,
+                WebSocketTransportConfig.DEFAULT_REQUEST_TIMEOUT, agentCard, agentInterface, interceptors);
+    }
+
+    public WebSocketTransport(@Nullable Vertx vertx, boolean perMessageCompression, int maxMessageSize,
+                              Duration requestTimeout, @Nullable AgentCard agentCard, AgentInterface agentInterface,
+                              @Nullable List<ClientCallInterceptor> interceptors) {
+        this.ownsVertx = vertx == null;
+        this.vertx = vertx == null ? Vertx.vertx() : vertx;
+        // Frames are limited like messages, as servers may send a whole message in one frame
+        this.webSocketClient = this.vertx.createWebSocketClient(new WebSocketClientOptions()
+                .setTryUsePerMessageCompression(perMessageCompression)
+                .setMaxMessageSize(maxMessageSize)
+                .setMaxFrameSize(maxMessageSize));
+        this.requestTimeout = requestTimeout;
+        this.agentCard = agentCard;
+        this.agentInterface = agentInterface;
+        this.interceptors = interceptors;
+    }
+
+    @Override
+    public EventKind sendMessage(MessageSendParams request, @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            SendMessageResponse response = call(SEND_MESSAGE_METHOD, ProtoUtils.ToProto.sendMessageRequest(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to send message: " + e, e);
+        }
+    }
+
+    @Override
+    public void sendMessageStreaming(MessageSendParams request, Consumer<StreamingEventKind> eventConsumer,
+                                     @Nullable Consumer<Throwable> errorConsumer, @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        checkNotNullParam("eventConsumer", eventConsumer);
+        stream(SEND_STREAMING_MESSAGE_METHOD, ProtoUtils.ToProto.sendMessageRequest(request), eventConsumer, errorConsumer, context);
+    }
+
+    @Override
+    public Task getTask(TaskQueryParams request, @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            GetTaskResponse response = call(GET_TASK_METHOD, ProtoUtils.ToProto.getTaskRequest(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to get task: " + e, e);
+        }
+    }
+
+    @Override
+    public Task cancelTask(CancelTaskParams request, @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            CancelTaskResponse response = call(CANCEL_TASK_METHOD, ProtoUtils.ToProto.cancelTaskRequest(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to cancel task: " + e, e);
+        }
+    }
+
+    @Override
+    public ListTasksResult listTasks(ListTasksParams request, @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            ListTasksResponse response = call(LIST_TASK_METHOD, ProtoUtils.ToProto.listTasksParams(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to list tasks: " + e, e);
+        }
+    }
+
+    @Override
+    public TaskPushNotificationConfig createTaskPushNotificationConfiguration(TaskPushNotificationConfig request,
+                                                                              @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            CreateTaskPushNotificationConfigResponse response = call(SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+                    ProtoUtils.ToProto.createTaskPushNotificationConfigRequest(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to set task push notification config: " + e, e);
+        }
+    }
+
+    @Override
+    public TaskPushNotificationConfig getTaskPushNotificationConfiguration(GetTaskPushNotificationConfigParams request,
+                                                                           @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            GetTaskPushNotificationConfigResponse response = call(GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+                    ProtoUtils.ToProto.getTaskPushNotificationConfigRequest(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to get task push notification config: " + e, e);
+        }
+    }
+
+    @Override
+    public ListTaskPushNotificationConfigsResult listTaskPushNotificationConfigurations(
+            ListTaskPushNotificationConfigsParams request,
+            @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            ListTaskPushNotificationConfigsResponse response = call(LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+                    ProtoUtils.ToProto.listTaskPushNotificationConfigsRequest(request), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to list task push notification configs: " + e, e);
+        }
+    }
+
+    @Override
+    public void deleteTaskPushNotificationConfigurations(DeleteTaskPushNotificationConfigParams request,
+                                                         @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        try {
+            // Response validated (no error), but no result to return
+            call(DELETE_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+                    ProtoUtils.ToProto.deleteTaskPushNotificationConfigRequest(request), context);
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to delete task push notification configs: " + e, e);
+        }
+    }
+
+    @Override
+    public void subscribeToTask(TaskIdParams request, Consumer<StreamingEventKind> eventConsumer,
+                                Consumer<Throwable> errorConsumer, @Nullable ClientCallContext context) throws A2AClientException {
+        checkNotNullParam("request", request);
+        checkNotNullParam("eventConsumer", eventConsumer);
+        checkNotNullParam("errorConsumer", errorConsumer);
+        stream(SUBSCRIBE_TO_TASK_METHOD, ProtoUtils.ToProto.subscribeToTaskRequest(request), eventConsumer, errorConsumer, context);
+    }
+
+    @Override
+    public AgentCard getExtendedAgentCard(GetExtendedAgentCardParams params, @Nullable ClientCallContext context) throws A2AClientException {
+        try {
+            GetExtendedAgentCardResponse response = call(GET_EXTENDED_AGENT_CARD_METHOD,
+                    ProtoUtils.ToProto.extendedAgentCard(params), context);
+            return response.getResult();
+        } catch (A2AClientException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new A2AClientException("Failed to get authenticated extended agent card: " + e, e);
+        }
+    }
+
+    /**
+     * Closes the connection, failing the calls and streams still in progress.
+     */
+    @Override
+    public void close() {
+        CompletableFuture<Connection> current;
+        synchronized (connectionLock) {
+            closed = true;
+            current = connection;
+            connection = null;
+        }
+        if (current != null) {
+            current.thenAccept(Connection::close);
+        }
+        webSocketClient.close();
+        if (ownsVertx) {
+            vertx.close();
+        }
+    }
+
+    /**
+     * Sends a request and waits for its response.
+     *
+     * @throws A2AClientException if the response contains an error, the connection fails or the
+     *                             response does not arrive within the request timeout
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends A2AResponse<?>> T call(String method, MessageOrBuilder payload, @Nullable ClientCallContext context)
+            throws A2AClientException, JsonProcessingException {
+        checkNotOnEventLoop(method);
+        CompletableFuture<String> response = new CompletableFuture<>();
+        send(method, payload, context, new UnaryCall(response));
+        String body;
+        try {
+            body = response.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.completeExceptionally(e);
+            throw new A2AClientException("Interrupted while waiting for the response to " + method, e);
+        } catch (TimeoutException e) {
+            // Unregisters the call, so that a late response is ignored
+            response.completeExceptionally(e);
+            throw new A2AClientException("No response to " + method + " within " + requestTimeout, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof A2AClientException clientException) {
+                throw clientException;
+            }
+            throw new A2AClientException("Failed to call " + method + ": " + cause, cause);
+        }
+        A2AResponse<?> value = JSONRPCUtils.parseResponseBody(body, method);
+        A2AError error = value.getError();
+        if (error != null) {
+            throw new A2AClientException(error.getMessage() + (!error.getDetails().isEmpty() ? ": " + error.getDetails() : ""), error);
+        }
+        // Safe cast: JSONRPCUtils.parseResponseBody returns the correct concrete type based on method
+        return (T) value;
+    }
+
+    /**
+     * Rejects a blocking call made on a Vert.x event loop thread, which would wait for a response
+     * that can only be handled by an event loop thread.
+     */
+    private static void checkNotOnEventLoop(String method) throws A2AClientException {
+        if (Context.isOnEventLoopThread()) {
+            throw new A2AClientException(method + " blocks until it is answered and cannot be called on a Vert.x event loop thread");
+        }
+    }
+
+    private void stream(String method, MessageOrBuilder payload, Consumer<StreamingEventKind> eventConsumer,
+                        @Nullable Consumer<Throwable> errorConsumer, @Nullable ClientCallContext context) throws A2AClientException {
+        send(method, payload, context, new StreamCall(vertx, eventConsumer, errorConsumer));
+    }
+
+    private void send(String method, MessageOrBuilder payload, @Nullable ClientCallContext context, PendingCall call)
+            throws A2AClientException {
+        PayloadAndHeaders payloadAndHeaders = applyInterceptors(method, payload, agentCard, context);
+        Connection current = connect(method, payloadAndHeaders.getHeaders());
+        String id = String.valueOf(nextRequestId.incrementAndGet());
+        String message = JSONRPCUtils.toJsonRPCRequest(id, method, (MessageOrBuilder) payloadAndHeaders.getPayload());
+        current.calls.put(id, call);
+        if (call instanceof UnaryCall unaryCall) {
+            unaryCall.response().whenComplete((ignored, t) -> current.calls.remove(id, call));
+        }
+        if (current.closed) {
+            // The connection was closed after connect() returned, and may have failed its calls
+            // before this one was registered
+            if (current.calls.remove(id) != null) {
+                call.onFailure(new A2AClientException("The WebSocket connection was closed"));
+            }
+            return;
+        }
+        current.webSocket.writeTextMessage(message).onFailure(t -> {
+            if (current.calls.remove(id) != null) {
+                call.onFailure(new A2AClientException("Failed to send " + method + " request: " + t, t));
+            }
+        });
+    }
+
+    /**
+     * Returns the open connection, opening it with the given handshake headers if needed.
+     */
+    private Connection connect(String method, @Nullable Map<String, String> headers) throws A2AClientException {
+        CompletableFuture<Connection> current;
+        synchronized (connectionLock) {
+            if (closed) {
+                throw new A2AClientException("The WebSocket transport is closed");
+            }
+            current = connection;
+            if (current == null || current.isCompletedExceptionally()
+                    || (current.isDone() && current.join().webSocket.isClosed())) {
+                current = open(headers);
+                connection = current;
+            }
+        }
+        if (!current.isDone()) {
+            checkNotOnEventLoop(method);
+        }
+        try {
+            return current.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new A2AClientException("Interrupted while connecting to " + agentInterface.url(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new A2AClientException("Failed to connect to " + agentInterface.url() + ": " + cause, cause);
+        }
+    }
+
+    private CompletableFuture<Connection> open(@Nullable Map<String, String> headers) {
+        WebSocketConnectOptions options = new WebSocketConnectOptions()
+                .setAbsoluteURI(Utils.buildBaseUrl(agentInterface, null))
+                .addHeader(A2AHeaders.A2A_VERSION, AgentInterface.CURRENT_PROTOCOL_VERSION);
+        if (headers != null) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                options.addHeader(entry.getKey(), entry.getValue());
+            }
+        }
+        return webSocketClient.connect(options)
+                .map(webSocket -> {
+                    Connection opened = new Connection(webSocket);
+                    webSocket.textMessageHandler(opened::onMessage);
+                    webSocket.exceptionHandler(t -> log.log(Level.FINE, "WebSocket connection error", t));
+                    webSocket.closeHandler(ignored -> opened.onClosed());
+                    return opened;
+                })
+                .toCompletionStage()
+                .toCompletableFuture();
+    }
+
+    private PayloadAndHeaders applyInterceptors(String methodName, @Nullable Object payload,
+                                                @Nullable AgentCard agentCard, @Nullable ClientCallContext clientCallContext) {
+        PayloadAndHeaders payloadAndHeaders = new PayloadAndHeaders(payload, getHttpHeaders(clientCallContext));
+        if (interceptors != null && ! interceptors.isEmpty()) {
+            for (ClientCallInterceptor interceptor : interceptors) {
+                payloadAndHeaders = interceptor.intercept(methodName, payloadAndHeaders.getPayload(),
+                        payloadAndHeaders.getHeaders(), agentCard, clientCallContext);
+            }
+        }
+        return payloadAndHeaders;
+    }
+
+    private @Nullable Map<String, String> getHttpHeaders(@Nullable ClientCallContext context) {
+        return context != null ? context.getHeaders() : null;
+    }
+
+    /**
+     * An open WebSocket connection and the calls waiting for messages on it.
+     */
+    private static final class Connection {
+
+        private final WebSocket webSocket;
+        private final Map<String, PendingCall> calls = new ConcurrentHashMap<>();
+        private volatile boolean closed;
+
+        Connection(WebSocket webSocket) {
+            this.webSocket = webSocket;
+        }
+
+        void onMessage(String message) {
+            String id;
+            boolean streamCompleted;
+            try {
+                JsonObject json = JsonParser.parseString(message).getAsJsonObject();
+                streamCompleted = json.get("method") instanceof JsonPrimitive method
+                        && WebSocketProtocol.STREAM_COMPLETED_METHOD.equals(method.getAsString());
+                JsonElement idElement = streamCompleted
+                        ? json.getAsJsonObject("params").get(WebSocketProtocol.STREAM_ID_PARAM)
+                        : json.get("id");
+                if (idElement == null || idElement.isJsonNull()) {
+                    log.fine("Ignoring WebSocket message without id: " + message);
+                    return;
+                }
+                id = idElement.getAsString();
+            } catch (RuntimeException e) {
+                log.log(Level.FINE, "Ignoring malformed WebSocket message: " + message, e);
+                return;
+            }
+            PendingCall call = calls.get(id);
+            if (call == null) {
+                log.fine("Ignoring WebSocket message for unknown request " + id);
+                return;
+            }
+            if (streamCompleted) {
+                calls.remove(id);
+                call.onCompleted();
+            } else if (call.onMessage(message)) {
+                calls.remove(id);
+            }
+        }
+
+        void onClosed() {
+            // Set before the calls are failed, so that a call registered concurrently either is
+            // failed here or sees the connection closed
+            closed = true;
+            A2AClientException error = new A2AClientException("The WebSocket connection was closed");
+            for (String id : calls.keySet()) {
+                PendingCall call = calls.remove(id);
+                if (call != null) {
+                    call.onFailure(error);
+                }
+            }
+        }
+
+        void close() {
+            webSocket.close();
+            onClosed();
+        }
+    }
+
+    /**
+     * A request waiting for messages carrying its id.
+     */
+    private interface PendingCall {
+
+        /**
+         * Handles a response to the request.
+         *
+         * @return {@code true} if the call is done
+         */
+        boolean onMessage(String message);
+
+        /**
+         * Handles the end of a stream.
+         */
+        void onCompleted();
+
+        /**
+         * Handles the failure of the connection.
+         */
+        void onFailure(Throwable error);
+    }
+
+    private record UnaryCall(CompletableFuture<String> response) implements PendingCall {
+
+        @Override
+        public boolean onMessage(String message) {
+            response.complete(message);
+            return true;
+        }
+
+        @Override
+        public void onCompleted() {
+            response.completeExceptionally(new A2AClientException("Unexpected end of stream"));
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            response.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Passes the events of a stream to its consumers, as the JSON-RPC transport does for SSE
+     * events: an error response ends the stream with the error, and the end of the stream is
+     * signalled by passing {@code null} to the error consumer.
+     * <p>
+     * Messages arrive on the event loop of the connection, but the consumers run on a Vert.x
+     * worker thread, one at a time and in the order of the messages, so that they may call the
+     * transport and wait for the response.
+     */
+    private static final class StreamCall implements PendingCall {
+
+        private final Vertx vertx;
+        private final Consumer<StreamingEventKind> eventConsumer;
+        private final @Nullable Consumer<Throwable> errorConsumer;
+        private final Queue<Runnable> deliveries = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean delivering = new AtomicBoolean();
+
+        StreamCall(Vertx vertx, Consumer<StreamingEventKind> eventConsumer, @Nullable Consumer<Throwable> errorConsumer) {
+            this.vertx = vertx;
+            this.eventConsumer = eventConsumer;
+            this.errorConsumer = errorConsumer;
+        }
+
+        @Override
+        public boolean onMessage(String message) {
+            try {
+                StreamResponse response = JSONRPCUtils.parseResponseEvent(message);
+                StreamingEventKind event = ProtoUtils.FromProto.streamingEventKind(response);
+                deliver(() -> eventConsumer.accept(event));
+                return false;
+            } catch (A2AError error) {
+                onFailure(error);
+                return true;
+            } catch (JsonProcessingException e) {
+                onFailure(new A2AClientException("Failed to parse streaming event: " + e, e));
+                return true;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            Consumer<Throwable> consumer = errorConsumer;
+            if (consumer != null) {
+                deliver(() -> consumer.accept(null));
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            Consumer<Throwable> consumer = errorConsumer;
+            if (consumer != null) {
+                deliver(() -> consumer.accept(error));
+            }
+        }
+
+        private void deliver(Runnable delivery) {
+            deliveries.add(delivery);
+            if (delivering.compareAndSet(false, true)) {
+                vertx.executeBlocking(this::drain, false);
+            }
+        }
+
+        private @Nullable Void drain() {
+            do {
+                Runnable delivery;
+                while ((delivery = deliveries.poll()) != null) {
+                    try {
+                        delivery.run();
+                    } catch (RuntimeException e) {
+                        log.log(Level.WARNING, "Stream consumer failed", e);
+                    }
+                }
+                delivering.set(false);
+                // A delivery added after the queue was found empty may have seen the flag still set
+            } while (!deliveries.isEmpty() && delivering.compareAndSet(false, true));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.a2aproject.sdk.client.transport.websocket;
+
+import java.time.Duration;
+
+import io.vertx.core.Vertx;
+import org.a2aproject.sdk.client.transport.spi.ClientTransportConfig;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Configuration for the WebSocket transport protocol.
+ * <p>
+ * The WebSocket transport uses a Vert.x WebSocket client. If no {@link Vertx} instance is
+ * specified, the transport creates its own and closes it with the transport. Per-message
+ * compression ({@code permessage-deflate}) is requested by default. Messages of up to
+ * {@link WebSocketProtocol#DEFAULT_MAX_MESSAGE_SIZE} bytes are accepted, and a call fails if its
+ * response has not arrived within {@link #DEFAULT_REQUEST_TIMEOUT}; streams are not limited in
+ * time.
+ * <p>
+ * <b>Basic usage:</b>
+ * <pre>{@code
+ * WebSocketTransportConfig config = new WebSocketTransportConfigBuilder()
+ *     .build();
+ *
+ * Client client = Client.builder(agentCard)
+ *     .withTransport(WebSocketTransport.class, config)
+ *     .build();
+ * }</pre>
+ * <p>
+ * <b>Shared Vert.x instance:</b>
+ * <pre>{@code
+ * WebSocketTransportConfig config = new WebSocketTransportConfigBuilder()
+ *     .vertx(vertx)
+ *     .addInterceptor(new AuthInterceptor("Bearer token"))
+ *     .build();
+ * }</pre>
+ *
+ * @see WebSocketTransportConfigBuilder
+ * @see WebSocketTransport
+ */
+public class WebSocketTransportConfig extends ClientTransportConfig<WebSocketTransport> {
+
+    /**
+     * Default time to wait for the response to a request.
+     */
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private final @Nullable Vertx vertx;
+    private final boolean perMessageCompression;
+    private final int maxMessageSize;
+    private final Duration requestTimeout;
+
+    /**
+     * Create a WebSocket transport configuration with a transport-owned Vert.x instance and
+     * per-message compression.
+     * <p>
+     * Consider using {@link WebSocketTransportConfigBuilder} instead for a more fluent API.
+     */
+    public WebSocketTransportConfig() {
+        this(null, true);
+    }
+
+    /**
+     * Create a WebSocket transport configuration.
+     * <p>
+     * Consider using {@link WebSocketTransportConfigBuilder} instead for a more fluent API.
+     *
+     * @param vertx the Vert.x instance to use, or {@code null} to let the transport create its own
+     * @param perMessageCompression whether to request per-message compression from the server
+     */
+    public WebSocketTransportConfig(@Nullable Vertx vertx, boolean perMessageCompression) {
+        this(vertx, perMessageCompression, WebSocketProtocol.DEFAULT_MAX_MESSAGE_SIZE, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Create a WebSocket transport configuration.
+     * <p>
+     * Consider using {@link WebSocketTransportConfigBuilder} instead for a more fluent API.
+     *
+     * @param vertx the Vert.x instance to use, or {@code null} to let the transport create its own
+     * @param perMessageCompression whether to request per-message compression from the server
+     * @param maxMessageSize the maximum size in bytes of a message received from the server
+     * @param requestTimeout the time to wait for the response to a request
+     * @throws IllegalArgumentException if the maximum message size or the timeout is not positive
+     */
+    public WebSocketTransportConfig(@Nullable Vertx vertx, boolean perMessageCompression, int maxMessageSize,
+                                    Duration requestTimeout) {
+        if (maxMessageSize < 1) {
+            throw new IllegalArgumentException("maxMessageSize must be at least 1");
+        }
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("requestTimeout must be positive");
+        }
+        this.vertx = vertx;
+        this.perMessageCompression = perMessageCompression;
+        this.maxMessageSize = maxMessageSize;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Get the configured Vert.x instance.
+     *
+     * @return the Vert.x instance, or {@code null} if the transport creates its own
+     */
+    public @Nullable Vertx getVertx() {
+        return vertx;
+    }
+
+    /**
+     * Whether per-message compression is requested from the server.
+     *
+     * @return {@code true} if the {@code permessage-deflate} extension is requested
+     */
+    public boolean isPerMessageCompression() {
+        return perMessageCompression;
+    }
+
+    /**
+     * Get the maximum size of a message received from the server.
+     *
+     * @return the maximum message size in bytes
+     */
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /**
+     * Get the time to wait for the response to a request.
+     *
+     * @return the request timeout
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+}
@@ -0,0 +1,109 @@
+package org.a2aproject.sdk.client.transport.websocket;
+
+import java.time.Duration;
+
+import io.vertx.core.Vertx;
+import org.a2aproject.sdk.client.transport.spi.ClientTransportConfigBuilder;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Builder for creating {@link WebSocketTransportConfig} instances.
+ * <p>
+ * All configuration options are optional - if not specified, sensible defaults are used:
+ * <ul>
+ *   <li><b>Vert.x:</b> An instance created and closed by the transport</li>
+ *   <li><b>Per-message compression:</b> Requested</li>
+ *   <li><b>Maximum message size:</b> {@link WebSocketProtocol#DEFAULT_MAX_MESSAGE_SIZE}</li>
+ *   <li><b>Request timeout:</b> {@link WebSocketTransportConfig#DEFAULT_REQUEST_TIMEOUT}</li>
+ *   <li><b>Interceptors:</b> None</li>
+ * </ul>
+ * <p>
+ * <b>Basic usage:</b>
+ * <pre>{@code
+ * Client client = Client.builder(agentCard)
+ *     .withTransport(WebSocketTransport.class, new WebSocketTransportConfigBuilder()
+ *         .vertx(vertx)
+ *         .addInterceptor(loggingInterceptor))
+ *     .build();
+ * }</pre>
+ *
+ * @see WebSocketTransportConfig
+ * @see WebSocketTransport
+ */
+public class WebSocketTransportConfigBuilder extends ClientTransportConfigBuilder<WebSocketTransportConfig, WebSocketTransportConfigBuilder> {
+
+    private @Nullable Vertx vertx;
+    private boolean perMessageCompression = true;
+    private int maxMessageSize = WebSocketProtocol.DEFAULT_MAX_MESSAGE_SIZE;
+    private Duration requestTimeout = WebSocketTransportConfig.DEFAULT_REQUEST_TIMEOUT;
+
+    /**
+     * Set the Vert.x instance used to create the WebSocket client.
+     * <p>
+     * The instance is not closed by the transport. If not specified, the transport creates its
+     * own instance and closes it when the transport is closed.
+     *
+     * @param vertx the Vert.x instance to use
+     * @return this builder for method chaining
+     */
+    public WebSocketTransportConfigBuilder vertx(Vertx vertx) {
+        this.vertx = vertx;
+        return this;
+    }
+
+    /**
+     * Set whether to request per-message compression ({@code permessage-deflate}) from the
+     * server.
+     * <p>
+     * JSON-RPC messages compress well, so compression is requested by default; the server may
+     * still decline it.
+     *
+     * @param perMessageCompression whether to request per-message compression
+     * @return this builder for method chaining
+     */
+    public WebSocketTransportConfigBuilder perMessageCompression(boolean perMessageCompression) {
+        this.perMessageCompression = perMessageCompression;
+        return this;
+    }
+
+    /**
+     * Set the maximum size in bytes of a message, or of a frame, received from the server.
+     * <p>
+     * A whole task, page of tasks or artifact event is received as one message, and a message
+     * over the limit closes the connection, failing every call in progress on it.
+     *
+     * @param maxMessageSize the maximum message size in bytes
+     * @return this builder for method chaining
+     */
+    public WebSocketTransportConfigBuilder maxMessageSize(int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+        return this;
+    }
+
+    /**
+     * Set the time to wait for the response to a request before failing the call.
+     * <p>
+     * The timeout does not apply to streams, which last as long as the task they follow.
+     *
+     * @param requestTimeout the request timeout
+     * @return this builder for method chaining
+     */
+    public WebSocketTransportConfigBuilder requestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    /**
+     * Build the WebSocket transport configuration.
+     *
+     * @return the configured WebSocket transport configuration
+     */
+    @Override
+    public WebSocketTransportConfig build() {
+        WebSocketTransportConfig config = new WebSocketTransportConfig(vertx, perMessageCompression,
+                maxMessageSize, requestTimeout);
+        config.setInterceptors(this.interceptors);
+        return config;
+    }
+}
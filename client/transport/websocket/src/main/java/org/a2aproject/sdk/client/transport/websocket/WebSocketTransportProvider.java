@@ -0,0 +1,32 @@
+package org.a2aproject.sdk.client.transport.websocket;
+
+import org.a2aproject.sdk.client.transport.spi.ClientTransportProvider;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.a2aproject.sdk.spec.A2AClientException;
+import org.a2aproject.sdk.spec.AgentCard;
+import org.a2aproject.sdk.spec.AgentInterface;
+import org.jspecify.annotations.Nullable;
+
+public class WebSocketTransportProvider implements ClientTransportProvider<WebSocketTransport, WebSocketTransportConfig> {
+
+    @Override
+    public WebSocketTransport create(@Nullable WebSocketTransportConfig clientTransportConfig, AgentCard agentCard, AgentInterface agentInterface) throws A2AClientException {
+        WebSocketTransportConfig currentClientTransportConfig = clientTransportConfig;
+        if (currentClientTransportConfig == null) {
+            currentClientTransportConfig = new WebSocketTransportConfig();
+        }
+        return new WebSocketTransport(currentClientTransportConfig.getVertx(), currentClientTransportConfig.isPerMessageCompression(),
+                currentClientTransportConfig.getMaxMessageSize(), currentClientTransportConfig.getRequestTimeout(),
+                agentCard, agentInterface, currentClientTransportConfig.getInterceptors());
+    }
+
+    @Override
+    public String getTransportProtocol() {
+        return WebSocketProtocol.PROTOCOL_BINDING;
+    }
+
+    @Override
+    public Class<WebSocketTransport> getTransportProtocolClass() {
+        return WebSocketTransport.class;
+    }
+}
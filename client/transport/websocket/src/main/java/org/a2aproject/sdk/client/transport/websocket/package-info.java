@@ -0,0 +1,5 @@
+@NullMarked
+package org.a2aproject.sdk.client.transport.websocket;
+
+import org.jspecify.annotations.NullMarked;
+
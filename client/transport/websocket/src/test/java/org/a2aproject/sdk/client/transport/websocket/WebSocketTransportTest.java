@@ -0,0 +1,268 @@
+package org.a2aproject.sdk.client.transport.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.ServerWebSocket;
+import org.a2aproject.sdk.client.transport.spi.interceptors.ClientCallContext;
+import org.a2aproject.sdk.common.A2AHeaders;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.a2aproject.sdk.spec.A2AClientException;
+import org.a2aproject.sdk.spec.AgentInterface;
+import org.a2aproject.sdk.spec.InvalidParamsError;
+import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.MessageSendParams;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskQueryParams;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TextPart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WebSocketTransportTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private final List<ServerWebSocket> connections = new CopyOnWriteArrayList<>();
+    private volatile BiConsumer<ServerWebSocket, JsonObject> requestHandler = (ws, request) -> { };
+    private WebSocketTransport transport;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+                .webSocketHandler(ws -> {
+                    connections.add(ws);
+                    ws.textMessageHandler(message ->
+                            requestHandler.accept(ws, JsonParser.parseString(message).getAsJsonObject()));
+                })
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        transport = new WebSocketTransport(vertx, true, null,
+                new AgentInterface(WebSocketProtocol.PROTOCOL_BINDING, "ws://localhost:" + server.actualPort() + "/ws"), null);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        transport.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static String taskResponse(String id, String taskId) {
+        return """
+                {"jsonrpc": "2.0", "id": "%s",
+                 "result": {"id": "%s", "contextId": "context-1", "status": {"state": "TASK_STATE_COMPLETED"}}}
+                """.formatted(id, taskId);
+    }
+
+    @Test
+    public void testGetTaskSharesOneConnection() throws Exception {
+        requestHandler = (ws, request) -> ws.writeTextMessage(taskResponse(request.get("id").getAsString(),
+                request.getAsJsonObject("params").get("id").getAsString()));
+
+        ClientCallContext context = new ClientCallContext(Map.of(), Map.of("Authorization", "Bearer token"));
+        Task first = transport.getTask(new TaskQueryParams("task-1"), context);
+        Task second = transport.getTask(new TaskQueryParams("task-2"), null);
+
+        assertEquals("task-1", first.id());
+        assertEquals("task-2", second.id());
+        assertEquals(TaskState.TASK_STATE_COMPLETED, second.status().state());
+        assertEquals(1, connections.size());
+        ServerWebSocket connection = connections.get(0);
+        assertEquals("/ws", connection.path());
+        assertEquals(AgentInterface.CURRENT_PROTOCOL_VERSION, connection.headers().get(A2AHeaders.A2A_VERSION));
+        assertEquals("Bearer token", connection.headers().get("Authorization"));
+        assertTrue(connection.headers().get("Sec-WebSocket-Extensions").contains("permessage-deflate"));
+    }
+
+    @Test
+    public void testResponsesAreMatchedById() throws Exception {
+        // The first request is only answered after the second one, so both must be in progress at once
+        List<JsonObject> received = Collections.synchronizedList(new ArrayList<>());
+        requestHandler = (ws, request) -> {
+            received.add(request);
+            if (received.size() == 2) {
+                for (int i = 1; i >= 0; i--) {
+                    JsonObject pending = received.get(i);
+                    ws.writeTextMessage(taskResponse(pending.get("id").getAsString(),
+                            pending.getAsJsonObject("params").get("id").getAsString()));
+                }
+            }
+        };
+
+        CompletableFuture<Task> first = CompletableFuture.supplyAsync(() -> getTask("task-1"));
+        CompletableFuture<Task> second = CompletableFuture.supplyAsync(() -> getTask("task-2"));
+
+        assertEquals("task-1", first.get(10, TimeUnit.SECONDS).id());
+        assertEquals("task-2", second.get(10, TimeUnit.SECONDS).id());
+        assertEquals(1, connections.size());
+    }
+
+    @Test
+    public void testErrorResponse() {
+        requestHandler = (ws, request) -> ws.writeTextMessage("""
+                {"jsonrpc": "2.0", "id": "%s", "error": {"code": -32602, "message": "Invalid parameters"}}
+                """.formatted(request.get("id").getAsString()));
+
+        A2AClientException exception = assertThrows(A2AClientException.class,
+                () -> transport.getTask(new TaskQueryParams("task-1"), null));
+        assertInstanceOf(InvalidParamsError.class, exception.getCause());
+    }
+
+    @Test
+    public void testStreamEndsWithStreamCompleted() throws Exception {
+        requestHandler = (ws, request) -> {
+            String id = request.get("id").getAsString();
+            ws.writeTextMessage("""
+                    {"jsonrpc": "2.0", "id": "%s",
+                     "result": {"task": {"id": "task-1", "contextId": "context-1", "status": {"state": "TASK_STATE_WORKING"}}}}
+                    """.formatted(id));
+            ws.writeTextMessage("""
+                    {"jsonrpc": "2.0", "id": "%s",
+                     "result": {"message": {"role": "ROLE_AGENT", "messageId": "message-1", "parts": [{"text": "done"}]}}}
+                    """.formatted(id));
+            ws.writeTextMessage("""
+                    {"jsonrpc": "2.0", "method": "%s", "params": {"%s": "%s"}}
+                    """.formatted(WebSocketProtocol.STREAM_COMPLETED_METHOD, WebSocketProtocol.STREAM_ID_PARAM, id));
+        };
+
+        List<StreamingEventKind> events = new CopyOnWriteArrayList<>();
+        CompletableFuture<Throwable> end = new CompletableFuture<>();
+        Message message = Message.builder()
+                .role(Message.Role.ROLE_USER)
+                .messageId("message-0")
+                .parts(new TextPart("hello"))
+                .build();
+        transport.sendMessageStreaming(new MessageSendParams(message, null, null), events::add, end::complete, null);
+
+        assertNull(end.get(10, TimeUnit.SECONDS));
+        assertEquals(2, events.size());
+        assertEquals("task-1", assertInstanceOf(Task.class, events.get(0)).id());
+        assertEquals("message-1", assertInstanceOf(Message.class, events.get(1)).messageId());
+    }
+
+    @Test
+    public void testStreamConsumerCanCallTheTransport() throws Exception {
+        requestHandler = (ws, request) -> {
+            String id = request.get("id").getAsString();
+            if (request.get("method").getAsString().equals("SendStreamingMessage")) {
+                ws.writeTextMessage("""
+                        {"jsonrpc": "2.0", "id": "%s",
+                         "result": {"task": {"id": "task-1", "contextId": "context-1", "status": {"state": "TASK_STATE_INPUT_REQUIRED"}}}}
+                        """.formatted(id));
+            } else {
+                ws.writeTextMessage(taskResponse(id, request.getAsJsonObject("params").get("id").getAsString()));
+            }
+        };
+
+        // Replies from inside the consumer, which would deadlock if it ran on the event loop
+        CompletableFuture<Task> reply = new CompletableFuture<>();
+        Message message = Message.builder()
+                .role(Message.Role.ROLE_USER)
+                .messageId("message-0")
+                .parts(new TextPart("hello"))
+                .build();
+        transport.sendMessageStreaming(new MessageSendParams(message, null, null), event -> {
+            try {
+                reply.complete(transport.getTask(new TaskQueryParams(((Task) event).id()), null));
+            } catch (Throwable t) {
+                reply.completeExceptionally(t);
+            }
+        }, null, null);
+
+        assertEquals("task-1", reply.get(10, TimeUnit.SECONDS).id());
+    }
+
+    @Test
+    public void testCallsAreRejectedOnTheEventLoop() throws Exception {
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> {
+            try {
+                transport.getTask(new TaskQueryParams("task-1"), null);
+                failure.complete(null);
+            } catch (Throwable t) {
+                failure.complete(t);
+            }
+        });
+
+        assertInstanceOf(A2AClientException.class, failure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLargeResponse() throws Exception {
+        // Well above the 256 KiB default message size of Vert.x
+        String text = "x".repeat(2 * 1024 * 1024);
+        requestHandler = (ws, request) -> ws.writeTextMessage("""
+                {"jsonrpc": "2.0", "id": "%s",
+                 "result": {"id": "task-1", "contextId": "context-1", "status": {"state": "TASK_STATE_COMPLETED"},
+                            "history": [{"role": "ROLE_AGENT", "messageId": "message-1", "parts": [{"text": "%s"}]}]}}
+                """.formatted(request.get("id").getAsString(), text));
+
+        Task task = transport.getTask(new TaskQueryParams("task-1"), null);
+
+        assertEquals(text, ((TextPart) task.history().get(0).parts().get(0)).text());
+        assertEquals(1, connections.size());
+    }
+
+    @Test
+    public void testCallTimesOut() throws Exception {
+        transport.close();
+        transport = new WebSocketTransport(vertx, true, WebSocketProtocol.DEFAULT_MAX_MESSAGE_SIZE, Duration.ofMillis(200),
+                null, new AgentInterface(WebSocketProtocol.PROTOCOL_BINDING, "ws://localhost:" + server.actualPort() + "/ws"), null);
+        AtomicInteger requests = new AtomicInteger();
+        requestHandler = (ws, request) -> {
+            // The first request is never answered
+            if (requests.incrementAndGet() > 1) {
+                ws.writeTextMessage(taskResponse(request.get("id").getAsString(), "task-2"));
+            }
+        };
+
+        assertThrows(A2AClientException.class, () -> transport.getTask(new TaskQueryParams("task-1"), null));
+        assertEquals("task-2", transport.getTask(new TaskQueryParams("task-2"), null).id());
+        assertEquals(1, connections.size());
+    }
+
+    @Test
+    public void testConnectionLossFailsCallsAndReconnects() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        requestHandler = (ws, request) -> {
+            if (requests.incrementAndGet() == 1) {
+                ws.close();
+            } else {
+                ws.writeTextMessage(taskResponse(request.get("id").getAsString(), "task-2"));
+            }
+        };
+
+        assertThrows(A2AClientException.class, () -> transport.getTask(new TaskQueryParams("task-1"), null));
+        assertEquals("task-2", transport.getTask(new TaskQueryParams("task-2"), null).id());
+        assertEquals(2, connections.size());
+    }
+
+    private Task getTask(String id) {
+        try {
+            return transport.getTask(new TaskQueryParams(id), null);
+        } catch (A2AClientException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.a2aproject.sdk.common;
+
+/**
+ * Constants of the A2A WebSocket transport, shared by clients and servers.
+ * <p>
+ * The transport carries JSON-RPC 2.0 messages over one persistent WebSocket connection, one
+ * message per WebSocket text message. Requests are answered by responses with the same id, in
+ * any order, so a client can have many requests and streams in progress at once. Every response
+ * of a streaming request carries the id of the request, and the end of the stream is signalled by
+ * a {@value #STREAM_COMPLETED_METHOD} notification:
+ * <pre>{@code
+ * {"jsonrpc": "2.0", "method": "StreamCompleted", "params": {"id": "stream-1"}}
+ * }</pre>
+ * The {@link A2AHeaders} of the WebSocket handshake apply to all the requests of the connection.
+ */
+public final class WebSocketProtocol {
+
+    /**
+     * Protocol binding of the agent interfaces served over WebSocket.
+     */
+    public static final String PROTOCOL_BINDING = "JSONRPC+WEBSOCKET";
+
+    /**
+     * Method of the notification sent by the server once a stream has ended.
+     */
+    public static final String STREAM_COMPLETED_METHOD = "StreamCompleted";
+
+    /**
+     * Parameter of the {@value #STREAM_COMPLETED_METHOD} notification holding the id of the
+     * streaming request.
+     */
+    public static final String STREAM_ID_PARAM = "id";
+
+    /**
+     * Default maximum size in bytes of a WebSocket message, for clients and servers alike.
+     * <p>
+     * A whole task, a page of tasks or an artifact event is sent as one message, so the limit is
+     * far above the 256 KiB default of common WebSocket implementations: a message over the limit
+     * of its receiver breaks the connection, failing every call in progress on it.
+     */
+    public static final int DEFAULT_MAX_MESSAGE_SIZE = 64 * 1024 * 1024;
+
+    private WebSocketProtocol() {
+        // Utility class
+    }
+}
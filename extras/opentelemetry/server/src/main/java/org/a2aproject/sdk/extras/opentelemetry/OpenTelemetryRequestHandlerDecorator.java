@@ -13,10 +13,13 @@ import static org.a2aproject.sdk.extras.opentelemetry.A2AObservabilityNames.GENA
 import static org.a2aproject.sdk.extras.opentelemetry.A2AObservabilityNames.GENAI_RESPONSE;
 import static org.a2aproject.sdk.extras.opentelemetry.A2AObservabilityNames.GENAI_ROLE;
 import static org.a2aproject.sdk.extras.opentelemetry.A2AObservabilityNames.GENAI_TASK_ID;
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.unwrapCompletionException;
 
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
 import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
+import org.a2aproject.sdk.server.requesthandlers.TaskSubscriptionParams;
 import org.a2aproject.sdk.spec.A2AError;
 import org.a2aproject.sdk.spec.A2AMethods;
 import org.a2aproject.sdk.spec.CancelTaskParams;
@@ -42,6 +45,7 @@ import jakarta.decorator.Decorator;
 import jakarta.decorator.Delegate;
 import jakarta.enterprise.inject.Any;
 import jakarta.inject.Inject;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -164,18 +168,7 @@ public abstract class OpenTelemetryRequestHandlerDecorator implements RequestHan
 
     @Override
     public Task onCancelTask(CancelTaskParams params, ServerCallContext context) throws A2AError {
-        var spanBuilder = tracer.spanBuilder(A2AMethods.CANCEL_TASK_METHOD)
-                .setSpanKind(SpanKind.SERVER)
-                .setAttribute(GENAI_OPERATION_NAME, A2AMethods.CANCEL_TASK_METHOD);
-
-        if (params.id() != null) {
-            spanBuilder.setAttribute(GENAI_TASK_ID, params.id());
-        }
-        if (extractRequest()) {
-            spanBuilder.setAttribute(GENAI_REQUEST, params.toString());
-        }
-
-        Span span = spanBuilder.startSpan();
+        Span span = startCancelTaskSpan(params);
 
         try (Scope scope = span.makeCurrent()) {
             Task result = delegate.onCancelTask(params, context);
@@ -197,33 +190,7 @@ public abstract class OpenTelemetryRequestHandlerDecorator implements RequestHan
 
     @Override
     public EventKind onMessageSend(MessageSendParams params, ServerCallContext context) throws A2AError {
-        var spanBuilder = tracer.spanBuilder(A2AMethods.SEND_MESSAGE_METHOD)
-                .setSpanKind(SpanKind.SERVER)
-                .setAttribute(GENAI_OPERATION_NAME, A2AMethods.SEND_MESSAGE_METHOD);
-
-        if (params.message() != null) {
-            if (params.message().taskId() != null) {
-                spanBuilder.setAttribute(GENAI_TASK_ID, params.message().taskId());
-            }
-            if (params.message().contextId() != null) {
-                spanBuilder.setAttribute(GENAI_CONTEXT_ID, params.message().contextId());
-            }
-            if (params.message().messageId() != null) {
-                spanBuilder.setAttribute(GENAI_MESSAGE_ID, params.message().messageId());
-            }
-            if (params.message().role() != null) {
-                spanBuilder.setAttribute(GENAI_ROLE, params.message().role().name());
-            }
-            if (params.message().extensions() != null && !params.message().extensions().isEmpty()) {
-                spanBuilder.setAttribute(GENAI_EXTENSIONS, String.join(",", params.message().extensions()));
-            }
-            spanBuilder.setAttribute(GENAI_PARTS_NUMBER, params.message().parts().size());
-        }
-        if (extractRequest()) {
-            spanBuilder.setAttribute(GENAI_REQUEST, params.toString());
-        }
-
-        Span span = spanBuilder.startSpan();
+        Span span = startMessageSendSpan(params);
 
         try (Scope scope = span.makeCurrent()) {
             EventKind result = delegate.onMessageSend(params, context);
@@ -243,6 +210,34 @@ public abstract class OpenTelemetryRequestHandlerDecorator implements RequestHan
         }
     }
 
+    @Override
+    public CompletionStage<Task> onCancelTaskAsync(CancelTaskParams params, ServerCallContext context) {
+        Span span = startCancelTaskSpan(params);
+        CompletionStage<Task> result;
+        try (Scope scope = span.makeCurrent()) {
+            result = delegate.onCancelTaskAsync(params, context);
+        } catch (RuntimeException e) {
+            endSpan(span, null, e);
+            throw e;
+        }
+        // The span ends when the result is ready, not when the request thread is released
+        return result.whenComplete((task, error) -> endSpan(span, task, error));
+    }
+
+    @Override
+    public CompletionStage<EventKind> onMessageSendAsync(MessageSendParams params, ServerCallContext context) {
+        Span span = startMessageSendSpan(params);
+        CompletionStage<EventKind> result;
+        try (Scope scope = span.makeCurrent()) {
+            result = delegate.onMessageSendAsync(params, context);
+        } catch (RuntimeException e) {
+            endSpan(span, null, e);
+            throw e;
+        }
+        // The span ends when the result is ready, not when the request thread is released
+        return result.whenComplete((kind, error) -> endSpan(span, kind, error));
+    }
+
     @Override
     public Flow.Publisher<StreamingEventKind> onMessageSendStream(MessageSendParams params, ServerCallContext context) throws A2AError {
         var spanBuilder = tracer.spanBuilder(A2AMethods.SEND_STREAMING_MESSAGE_METHOD)
@@ -396,6 +391,66 @@ public abstract class OpenTelemetryRequestHandlerDecorator implements RequestHan
         }
     }
 
+    @Override
+    public MultiTaskSubscription onSubscribeToTasks(TaskSubscriptionParams params, ServerCallContext context) throws A2AError {
+        var spanBuilder = tracer.spanBuilder(MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute(GENAI_OPERATION_NAME, MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD);
+
+        if (extractRequest()) {
+            spanBuilder.setAttribute(GENAI_REQUEST, params.toString());
+        }
+
+        Span span = spanBuilder.startSpan();
+
+        try (Scope scope = span.makeCurrent()) {
+            MultiTaskSubscription result = delegate.onSubscribeToTasks(params, context);
+
+            if (extractResponse()) {
+                span.setAttribute(GENAI_RESPONSE, "Stream publisher created");
+            }
+
+            span.setStatus(StatusCode.OK);
+            return result;
+        } catch (A2AError error) {
+            span.setAttribute(ERROR_TYPE, error.getMessage());
+            span.setStatus(StatusCode.ERROR, error.getMessage());
+            throw error;
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public MultiTaskSubscription onUpdateTaskSubscription(TaskSubscriptionParams params, ServerCallContext context) throws A2AError {
+        var spanBuilder = tracer.spanBuilder(MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute(GENAI_OPERATION_NAME, MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD);
+
+        if (extractRequest()) {
+            spanBuilder.setAttribute(GENAI_REQUEST, params.toString());
+        }
+
+        Span span = spanBuilder.startSpan();
+
+        try (Scope scope = span.makeCurrent()) {
+            MultiTaskSubscription result = delegate.onUpdateTaskSubscription(params, context);
+
+            if (extractResponse()) {
+                span.setAttribute(GENAI_RESPONSE, result.getTaskIds().toString());
+            }
+
+            span.setStatus(StatusCode.OK);
+            return result;
+        } catch (A2AError error) {
+            span.setAttribute(ERROR_TYPE, error.getMessage());
+            span.setStatus(StatusCode.ERROR, error.getMessage());
+            throw error;
+        } finally {
+            span.end();
+        }
+    }
+
     @Override
     public ListTaskPushNotificationConfigsResult onListTaskPushNotificationConfigs(ListTaskPushNotificationConfigsParams params, ServerCallContext context) throws A2AError {
         var spanBuilder = tracer.spanBuilder(A2AMethods.LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD)
@@ -462,6 +517,75 @@ public abstract class OpenTelemetryRequestHandlerDecorator implements RequestHan
         delegate.validateRequestedTask(requestedTaskId);
     }
 
+    @Override
+    public boolean isNonBlockingTaskRead() {
+        return delegate.isNonBlockingTaskRead();
+    }
+
+    @Override
+    public boolean isNonBlockingPushNotificationConfigRead() {
+        return delegate.isNonBlockingPushNotificationConfigRead();
+    }
+
+    private Span startCancelTaskSpan(CancelTaskParams params) {
+        var spanBuilder = tracer.spanBuilder(A2AMethods.CANCEL_TASK_METHOD)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute(GENAI_OPERATION_NAME, A2AMethods.CANCEL_TASK_METHOD);
+
+        if (params.id() != null) {
+            spanBuilder.setAttribute(GENAI_TASK_ID, params.id());
+        }
+        if (extractRequest()) {
+            spanBuilder.setAttribute(GENAI_REQUEST, params.toString());
+        }
+
+        return spanBuilder.startSpan();
+    }
+
+    private Span startMessageSendSpan(MessageSendParams params) {
+        var spanBuilder = tracer.spanBuilder(A2AMethods.SEND_MESSAGE_METHOD)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute(GENAI_OPERATION_NAME, A2AMethods.SEND_MESSAGE_METHOD);
+
+        if (params.message() != null) {
+            if (params.message().taskId() != null) {
+                spanBuilder.setAttribute(GENAI_TASK_ID, params.message().taskId());
+            }
+            if (params.message().contextId() != null) {
+                spanBuilder.setAttribute(GENAI_CONTEXT_ID, params.message().contextId());
+            }
+            if (params.message().messageId() != null) {
+                spanBuilder.setAttribute(GENAI_MESSAGE_ID, params.message().messageId());
+            }
+            if (params.message().role() != null) {
+                spanBuilder.setAttribute(GENAI_ROLE, params.message().role().name());
+            }
+            if (params.message().extensions() != null && !params.message().extensions().isEmpty()) {
+                spanBuilder.setAttribute(GENAI_EXTENSIONS, String.join(",", params.message().extensions()));
+            }
+            spanBuilder.setAttribute(GENAI_PARTS_NUMBER, params.message().parts().size());
+        }
+        if (extractRequest()) {
+            spanBuilder.setAttribute(GENAI_REQUEST, params.toString());
+        }
+
+        return spanBuilder.startSpan();
+    }
+
+    private void endSpan(Span span, @Nullable Object result, @Nullable Throwable error) {
+        Throwable cause = error == null ? null : unwrapCompletionException(error);
+        if (cause == null) {
+            if (result != null && extractResponse()) {
+                span.setAttribute(GENAI_RESPONSE, result.toString());
+            }
+            span.setStatus(StatusCode.OK);
+        } else if (cause instanceof A2AError a2aError) {
+            span.setAttribute(ERROR_TYPE, a2aError.getMessage());
+            span.setStatus(StatusCode.ERROR, a2aError.getMessage());
+        }
+        span.end();
+    }
+
     private boolean extractRequest() {
         return Boolean.getBoolean(EXTRACT_REQUEST_SYS_PROPERTY);
     }
@@ -30,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 
 @ExtendWith(MockitoExtension.class)
@@ -246,6 +247,30 @@ class OpenTelemetryRequestHandlerDecoratorTest {
             verify(span).setStatus(StatusCode.ERROR, error.getMessage());
             verify(span).end();
         }
+
+        @Test
+        void onMessageSendAsync_endsSpanWhenResultIsReady() throws A2AError {
+            Message message = Message.builder()
+                    .role(Message.Role.ROLE_USER)
+                    .parts(List.of(new TextPart("test message")))
+                    .messageId("msg-123")
+                    .build();
+            MessageSendParams params = new MessageSendParams(message, null, null, "");
+            CompletableFuture<EventKind> pending = new CompletableFuture<>();
+            when(delegate.onMessageSendAsync(params, context)).thenReturn(pending);
+
+            CompletableFuture<EventKind> actualResult = decorator.onMessageSendAsync(params, context).toCompletableFuture();
+
+            assertFalse(actualResult.isDone());
+            verify(span, never()).end();
+
+            A2AError error = new InvalidRequestError("Invalid message");
+            pending.completeExceptionally(error);
+
+            assertTrue(actualResult.isCompletedExceptionally());
+            verify(span).setStatus(StatusCode.ERROR, error.getMessage());
+            verify(span).end();
+        }
     }
 
     @Nested
@@ -3,10 +3,16 @@ package org.a2aproject.sdk.extras.pushnotificationconfigstore.database.jpa;
 import jakarta.persistence.TypedQuery;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
@@ -34,6 +40,11 @@ public class JpaDatabasePushNotificationConfigStore implements PushNotificationC
     @PersistenceContext(unitName = "a2a-java")
     EntityManager em;
 
+    @Inject
+    Event<PushNotificationConfigChangedEvent> configChangedEvent;
+
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+
     @Transactional
     @Override
     public TaskPushNotificationConfig setInfo(TaskPushNotificationConfig notificationConfig) {
@@ -78,6 +89,7 @@ public class JpaDatabasePushNotificationConfigStore implements PushNotificationC
             throw new RuntimeException("Failed to serialize PushNotificationConfig for Task '" +
                     taskId + "' with ID: " + notificationConfig.id(), e);
         }
+        configChangedEvent.fire(new PushNotificationConfigChangedEvent(taskId));
         return notificationConfig;
     }
 
@@ -165,6 +177,7 @@ public class JpaDatabasePushNotificationConfigStore implements PushNotificationC
 
         if (jpaConfig != null) {
             em.remove(jpaConfig);
+            configChangedEvent.fire(new PushNotificationConfigChangedEvent(taskId));
             LOGGER.debug("Successfully deleted PushNotificationConfig for Task '{}' with Config ID: {}",
                     taskId, configId);
         } else {
@@ -196,4 +209,20 @@ public class JpaDatabasePushNotificationConfigStore implements PushNotificationC
         return versions;
     }
 
+    @Override
+    public boolean addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+        return true;
+    }
+
+    /**
+     * Notifies the change listeners once the transaction changing the configs of a task has
+     * committed. Notifying them earlier would let a concurrent read cache the rows that are
+     * about to be replaced until the cache entry expires.
+     */
+    void onConfigChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) PushNotificationConfigChangedEvent event) {
+        for (Consumer<String> listener : changeListeners) {
+            listener.accept(event.taskId());
+        }
+    }
 }
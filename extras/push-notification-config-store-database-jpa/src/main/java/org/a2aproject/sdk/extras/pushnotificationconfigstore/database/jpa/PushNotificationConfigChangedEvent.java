@@ -0,0 +1,13 @@
+package org.a2aproject.sdk.extras.pushnotificationconfigstore.database.jpa;
+
+/**
+ * CDI event fired when the push notification configs of a task are changed in a transaction.
+ * <p>
+ * It is observed after the transaction commits, so that change listeners only see committed
+ * changes.
+ * </p>
+ *
+ * @param taskId the ID of the task whose configs changed
+ */
+record PushNotificationConfigChangedEvent(String taskId) {
+}
@@ -12,9 +12,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.transaction.UserTransaction;
 
 import org.a2aproject.sdk.client.http.A2AHttpClient;
 import org.a2aproject.sdk.client.http.A2AHttpResponse;
@@ -40,6 +42,9 @@ public class JpaPushNotificationConfigStoreTest {
     @Inject
     PushNotificationConfigStore configStore;
 
+    @Inject
+    UserTransaction userTransaction;
+
     private BasePushNotificationSender notificationSender;
 
     @Mock
@@ -371,4 +376,31 @@ public class JpaPushNotificationConfigStoreTest {
         ListTaskPushNotificationConfigsResult afterDeletion = configStore.getInfo(new ListTaskPushNotificationConfigsParams(taskId));
         assertTrue(afterDeletion.configs().isEmpty());
     }
+
+    @Test
+    public void testChangeListenersAreNotifiedAfterCommit() throws Exception {
+        String taskId = "task_change_listener";
+        List<String> changedTasks = new CopyOnWriteArrayList<>();
+        configStore.addChangeListener(changedTaskId -> {
+            if (taskId.equals(changedTaskId)) {
+                changedTasks.add(changedTaskId);
+            }
+        });
+        TaskPushNotificationConfig config = createSamplePushConfig("http://example.com/callback", "cfg1", null);
+
+        userTransaction.begin();
+        configStore.setInfo(TaskPushNotificationConfig.builder(config).taskId(taskId).build());
+        // Not notified before commit, or a concurrent read could cache the old configs again
+        assertTrue(changedTasks.isEmpty());
+        userTransaction.commit();
+        assertEquals(List.of(taskId), changedTasks);
+
+        userTransaction.begin();
+        configStore.deleteInfo(taskId, "cfg1");
+        userTransaction.rollback();
+        assertEquals(List.of(taskId), changedTasks);
+
+        configStore.deleteInfo(taskId, "cfg1");
+        assertEquals(List.of(taskId, taskId), changedTasks);
+    }
 }
@@ -0,0 +1,258 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory replication channel connecting several {@link ReplicatedQueueManager} instances in
+ * the same JVM, for tests and benchmarks that run without a message broker.
+ * <p>
+ * Each node joins the network with a {@link LoopbackReplicationStrategy}. Events sent by a node
+ * are encoded with the configured {@link ReplicatedEventCodec}, like a broker record, and
+ * delivered to every other node, and optionally to the sender as well. Delivery to each node can
+ * be delayed, reordered and dropped:
+ * </p>
+ * <ul>
+ *     <li>Every event is delayed by the latency plus a random jitter of up to {@code jitter}</li>
+ *     <li>With probability {@code reorderRate}, an event is held back for an additional
+ *         {@code reorderDelay}, so that later events overtake it</li>
+ *     <li>With probability {@code dropRate}, an event is not delivered to a node</li>
+ * </ul>
+ * <p>
+ * Events are delivered to each node by a single thread of that node, like a consumer of a
+ * single partition.
+ * </p>
+ * <pre>{@code
+ * LoopbackReplicationNetwork network = LoopbackReplicationNetwork.builder()
+ *         .latency(Duration.ofMillis(2))
+ *         .dropRate(0.01)
+ *         .build();
+ * LoopbackReplicationStrategy strategy = network.join();
+ * ReplicatedQueueManager queueManager = new ReplicatedQueueManager(strategy, taskStateProvider, mainEventBus);
+ * strategy.setReceiver(queueManager::onReplicatedEvent);
+ * }</pre>
+ */
+public final class LoopbackReplicationNetwork implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoopbackReplicationNetwork.class);
+
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double reorderRate;
+    private final long reorderDelayNanos;
+    private final double dropRate;
+    private final ReplicatedEventCodec codec;
+    private final boolean deliverToSender;
+    private final Random random;
+
+    private final List<LoopbackReplicationStrategy> nodes = new CopyOnWriteArrayList<>();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private LoopbackReplicationNetwork(Builder builder) {
+        this.latencyNanos = builder.latency.toNanos();
+        this.jitterNanos = builder.jitter.toNanos();
+        this.reorderRate = builder.reorderRate;
+        this.reorderDelayNanos = builder.reorderDelay.toNanos();
+        this.dropRate = builder.dropRate;
+        this.codec = builder.codec;
+        this.deliverToSender = builder.deliverToSender;
+        this.random = new Random(builder.seed);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Adds a node to the network.
+     *
+     * @return the replication strategy of the new node; events are delivered to it once its
+     *         receiver is set
+     */
+    public LoopbackReplicationStrategy join() {
+        LoopbackReplicationStrategy node = new LoopbackReplicationStrategy(this, nodes.size());
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * Returns the number of events sent by all nodes.
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Returns the number of events delivered to the receivers of all nodes.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Returns the number of deliveries that were dropped, counting each receiving node.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Stops delivery to all nodes. Events not yet delivered are discarded.
+     */
+    @Override
+    public void close() {
+        for (LoopbackReplicationStrategy node : nodes) {
+            node.close();
+        }
+    }
+
+    void publish(LoopbackReplicationStrategy sender, ReplicatedEventQueueItem item) {
+        byte[] record;
+        try {
+            record = codec.encode(item);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to encode replicated event", e);
+        }
+        sentCount.incrementAndGet();
+        for (LoopbackReplicationStrategy node : nodes) {
+            if (node == sender && !deliverToSender) {
+                continue;
+            }
+            long delayNanos;
+            synchronized (random) {
+                if (dropRate > 0 && random.nextDouble() < dropRate) {
+                    droppedCount.incrementAndGet();
+                    continue;
+                }
+                delayNanos = latencyNanos;
+                if (jitterNanos > 0) {
+                    delayNanos += (long) (random.nextDouble() * jitterNanos);
+                }
+                if (reorderRate > 0 && random.nextDouble() < reorderRate) {
+                    delayNanos += reorderDelayNanos;
+                }
+            }
+            node.schedule(() -> deliver(node, record), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void deliver(LoopbackReplicationStrategy node, byte[] record) {
+        try {
+            Consumer<ReplicatedEventQueueItem> receiver = node.getReceiver();
+            if (receiver == null) {
+                return;
+            }
+            for (ReplicatedEventQueueItem item : ReplicatedEventCodec.decode(record)) {
+                deliveredCount.incrementAndGet();
+                receiver.accept(item);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to deliver replicated event record of {} bytes to node {}", record.length, node.getNodeIndex(), e);
+        }
+    }
+
+    /**
+     * Builder for {@link LoopbackReplicationNetwork}. By default events are delivered to the
+     * other nodes immediately, in order and without loss, encoded as JSON.
+     */
+    public static final class Builder {
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private double reorderRate;
+        private Duration reorderDelay = Duration.ofMillis(10);
+        private double dropRate;
+        private ReplicatedEventCodec codec = new ReplicatedEventCodec(ReplicatedEventCodec.Format.JSON, -1);
+        private boolean deliverToSender;
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the delay of every delivery.
+         */
+        public Builder latency(Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum random delay added to every delivery.
+         */
+        public Builder jitter(Duration jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the probability, between 0 and 1, that a delivery is held back by the reorder delay.
+         */
+        public Builder reorderRate(double reorderRate) {
+            this.reorderRate = checkRate(reorderRate);
+            return this;
+        }
+
+        /**
+         * Sets how long deliveries selected by the reorder rate are held back.
+         */
+        public Builder reorderDelay(Duration reorderDelay) {
+            this.reorderDelay = reorderDelay;
+            return this;
+        }
+
+        /**
+         * Sets the probability, between 0 and 1, that a delivery to a node is dropped.
+         */
+        public Builder dropRate(double dropRate) {
+            this.dropRate = checkRate(dropRate);
+            return this;
+        }
+
+        /**
+         * Sets the codec used to encode events.
+         */
+        public Builder codec(ReplicatedEventCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Sets whether events are also delivered to the node that sent them, like a topic
+         * consumed by every node with its own consumer group.
+         */
+        public Builder deliverToSender(boolean deliverToSender) {
+            this.deliverToSender = deliverToSender;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random numbers deciding jitter, reordering and drops.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public LoopbackReplicationNetwork build() {
+            return new LoopbackReplicationNetwork(this);
+        }
+
+        private static double checkRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Rate must be between 0 and 1: " + rate);
+            }
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.a2aproject.sdk.spec.Event;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Replication strategy of a node in a {@link LoopbackReplicationNetwork}.
+ * <p>
+ * This is not a CDI bean; it is created by {@link LoopbackReplicationNetwork#join()} and passed
+ * to the {@link ReplicatedQueueManager} constructor. Received events are passed to the receiver,
+ * normally {@link ReplicatedQueueManager#onReplicatedEvent(ReplicatedEventQueueItem)}.
+ * </p>
+ */
+public class LoopbackReplicationStrategy implements ReplicationStrategy {
+
+    private final LoopbackReplicationNetwork network;
+    private final int nodeIndex;
+    private final ScheduledExecutorService deliveryExecutor;
+    private volatile @Nullable Consumer<ReplicatedEventQueueItem> receiver;
+
+    LoopbackReplicationStrategy(LoopbackReplicationNetwork network, int nodeIndex) {
+        this.network = network;
+        this.nodeIndex = nodeIndex;
+        this.deliveryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "a2a-replication-loopback-" + nodeIndex);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the index of this node in the network, starting at 0.
+     */
+    public int getNodeIndex() {
+        return nodeIndex;
+    }
+
+    /**
+     * Sets the consumer of events delivered to this node. Events delivered before it is set
+     * are discarded.
+     *
+     * @param receiver the consumer, normally {@code queueManager::onReplicatedEvent}
+     */
+    public void setReceiver(Consumer<ReplicatedEventQueueItem> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void send(String taskId, Event event) {
+        send(new ReplicatedEventQueueItem(taskId, event));
+    }
+
+    @Override
+    public void send(ReplicatedEventQueueItem item) {
+        network.publish(this, item);
+    }
+
+    void schedule(Runnable delivery, long delay, TimeUnit unit) {
+        try {
+            deliveryExecutor.schedule(delivery, delay, unit);
+        } catch (RejectedExecutionException e) {
+            // The network has been closed
+        }
+    }
+
+    @Nullable Consumer<ReplicatedEventQueueItem> getReceiver() {
+        return receiver;
+    }
+
+    void close() {
+        deliveryExecutor.shutdownNow();
+    }
+}
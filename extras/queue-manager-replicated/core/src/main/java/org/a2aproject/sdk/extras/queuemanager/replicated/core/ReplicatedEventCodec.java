@@ -0,0 +1,286 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import org.a2aproject.sdk.grpc.StreamResponse;
+import org.a2aproject.sdk.grpc.utils.ProtoUtils;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+
+/**
+ * Encodes and decodes replicated events for transport over a message broker.
+ * <p>
+ * Two formats are supported:
+ * </p>
+ * <ul>
+ *   <li>{@link Format#JSON}: a single {@link ReplicatedEventQueueItem} as a JSON object, or a batch
+ *       as a JSON array, encoded as UTF-8. This is the format used by earlier releases.</li>
+ *   <li>{@link Format#PROTOBUF}: a binary frame made of a zero byte, a version byte, a flags byte
+ *       and a protobuf encoded batch, optionally gzip compressed. Events are encoded with the
+ *       {@code StreamResponse} message of the A2A gRPC protocol. The batch has the following
+ *       schema:
+ * <pre>
+ * message ReplicatedEventBatch {
+ *   repeated ReplicatedEvent events = 1;
+ * }
+ * message ReplicatedEvent {
+ *   string task_id = 1;
+ *   oneof payload {
+ *     a2a.v1.StreamResponse event = 2;
+ *     string json = 3;      // events without a protobuf representation, e.g. errors
+ *     bool closed = 4;      // the poison pill (QueueClosedEvent)
+ *   }
+ *   string origin = 5;
+ *   uint64 sequence = 6;
+ * }
+ * </pre>
+ *   </li>
+ * </ul>
+ * <p>
+ * {@link #decode(byte[])} detects the format from the first byte, so nodes using either format
+ * can read events from each other. JSON records received as strings are decoded with
+ * {@link #decode(String)}.
+ * </p>
+ */
+public final class ReplicatedEventCodec {
+
+    /**
+     * Wire format used when encoding replicated events.
+     */
+    public enum Format {
+        JSON,
+        PROTOBUF
+    }
+
+    static final byte FRAME_MARKER = 0;
+    static final byte FRAME_VERSION = 1;
+    static final byte FLAG_GZIP = 1;
+
+    private static final int BATCH_EVENT_FIELD = 1;
+    private static final int TASK_ID_FIELD = 1;
+    private static final int EVENT_FIELD = 2;
+    private static final int JSON_FIELD = 3;
+    private static final int CLOSED_FIELD = 4;
+    private static final int ORIGIN_FIELD = 5;
+    private static final int SEQUENCE_FIELD = 6;
+
+    private final Format format;
+    private final int compressionThreshold;
+
+    /**
+     * Creates a codec.
+     *
+     * @param format the format used for encoding
+     * @param compressionThreshold the minimum size in bytes of a protobuf encoded batch for it to be
+     *                             gzip compressed, or a negative value to never compress
+     */
+    public ReplicatedEventCodec(Format format, int compressionThreshold) {
+        this.format = format;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Encodes a single replicated event.
+     *
+     * @param item the replicated event
+     * @return the encoded event
+     * @throws JsonProcessingException if the event cannot be serialized
+     */
+    public byte[] encode(ReplicatedEventQueueItem item) throws JsonProcessingException {
+        if (format == Format.JSON) {
+            return JsonUtil.toJson(item).getBytes(StandardCharsets.UTF_8);
+        }
+        return encodeBatch(List.of(item));
+    }
+
+    /**
+     * Encodes a batch of replicated events.
+     *
+     * @param items the replicated events, in order
+     * @return the encoded batch
+     * @throws JsonProcessingException if an event cannot be serialized
+     */
+    public byte[] encodeBatch(List<ReplicatedEventQueueItem> items) throws JsonProcessingException {
+        if (format == Format.JSON) {
+            return toJson(items).getBytes(StandardCharsets.UTF_8);
+        }
+
+        try {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream();
+            CodedOutputStream out = CodedOutputStream.newInstance(batch);
+            for (ReplicatedEventQueueItem item : items) {
+                out.writeByteArray(BATCH_EVENT_FIELD, encodeEvent(item));
+            }
+            out.flush();
+            return frame(batch.toByteArray());
+        } catch (IOException e) {
+            // Only in-memory streams are involved
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes a batch of replicated events in the {@link Format#JSON} format, as a string.
+     *
+     * @param items the replicated events, in order
+     * @return the JSON array of the events
+     * @throws JsonProcessingException if an event cannot be serialized
+     */
+    public static String toJson(List<ReplicatedEventQueueItem> items) throws JsonProcessingException {
+        StringBuilder json = new StringBuilder("[");
+        for (ReplicatedEventQueueItem item : items) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(JsonUtil.toJson(item));
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Decodes replicated events encoded in either format.
+     *
+     * @param data the encoded event or batch
+     * @return the replicated events, in the order they were encoded
+     * @throws JsonProcessingException if the data cannot be decoded
+     */
+    public static List<ReplicatedEventQueueItem> decode(byte[] data) throws JsonProcessingException {
+        if (data.length > 0 && data[0] == FRAME_MARKER) {
+            return decodeFrame(data);
+        }
+        return decode(new String(data, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a single replicated event or a batch in the {@link Format#JSON} format.
+     *
+     * @param json the JSON object of an event, or the JSON array of a batch
+     * @return the replicated events, in the order they were encoded
+     * @throws JsonProcessingException if the data cannot be decoded
+     */
+    public static List<ReplicatedEventQueueItem> decode(String json) throws JsonProcessingException {
+        json = json.trim();
+        if (json.startsWith("[")) {
+            return List.of(JsonUtil.fromJson(json, ReplicatedEventQueueItem[].class));
+        }
+        return List.of(JsonUtil.fromJson(json, ReplicatedEventQueueItem.class));
+    }
+
+    private byte[] frame(byte[] payload) throws IOException {
+        byte flags = 0;
+        if (compressionThreshold >= 0 && payload.length >= compressionThreshold) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(payload);
+            }
+            payload = compressed.toByteArray();
+            flags |= FLAG_GZIP;
+        }
+        byte[] frame = new byte[payload.length + 3];
+        frame[0] = FRAME_MARKER;
+        frame[1] = FRAME_VERSION;
+        frame[2] = flags;
+        System.arraycopy(payload, 0, frame, 3, payload.length);
+        return frame;
+    }
+
+    private static byte[] encodeEvent(ReplicatedEventQueueItem item) throws IOException, JsonProcessingException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        out.writeString(TASK_ID_FIELD, item.getTaskId());
+        if (item.isClosedEvent()) {
+            out.writeBool(CLOSED_FIELD, true);
+        } else if (item.hasEvent()) {
+            out.writeMessage(EVENT_FIELD, ProtoUtils.ToProto.taskOrMessageStream(item.getStreamingEvent()));
+        } else {
+            out.writeString(JSON_FIELD, JsonUtil.toJson(item));
+        }
+        if (item.getOrigin() != null) {
+            out.writeString(ORIGIN_FIELD, item.getOrigin());
+        }
+        if (item.getSequence() > 0) {
+            out.writeUInt64(SEQUENCE_FIELD, item.getSequence());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static List<ReplicatedEventQueueItem> decodeFrame(byte[] data) throws JsonProcessingException {
+        if (data.length < 3) {
+            throw new JsonProcessingException("Truncated replicated event frame");
+        }
+        if (data[1] != FRAME_VERSION) {
+            throw new JsonProcessingException("Unsupported replicated event frame version: " + data[1]);
+        }
+        try {
+            InputStream payload = new ByteArrayInputStream(data, 3, data.length - 3);
+            if ((data[2] & FLAG_GZIP) != 0) {
+                payload = new GZIPInputStream(payload);
+            }
+            CodedInputStream in = CodedInputStream.newInstance(payload);
+            List<ReplicatedEventQueueItem> items = new ArrayList<>();
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                if (WireFormat.getTagFieldNumber(tag) == BATCH_EVENT_FIELD) {
+                    items.add(decodeEvent(in.readBytes().newCodedInput()));
+                } else {
+                    in.skipField(tag);
+                }
+            }
+            return items;
+        } catch (IOException e) {
+            throw new JsonProcessingException("Failed to decode replicated event frame", e);
+        }
+    }
+
+    private static ReplicatedEventQueueItem decodeEvent(CodedInputStream in) throws IOException, JsonProcessingException {
+        String taskId = null;
+        ReplicatedEventQueueItem item = null;
+        boolean closed = false;
+        String origin = null;
+        long sequence = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TASK_ID_FIELD -> taskId = in.readStringRequireUtf8();
+                case EVENT_FIELD -> item = new ReplicatedEventQueueItem(null,
+                        ProtoUtils.FromProto.streamingEventKind(StreamResponse.parseFrom(in.readBytes())));
+                case JSON_FIELD -> item = JsonUtil.fromJson(in.readStringRequireUtf8(), ReplicatedEventQueueItem.class);
+                case CLOSED_FIELD -> closed = in.readBool();
+                case ORIGIN_FIELD -> origin = in.readStringRequireUtf8();
+                case SEQUENCE_FIELD -> sequence = in.readUInt64();
+                default -> in.skipField(tag);
+            }
+        }
+        if (closed) {
+            item = new ReplicatedEventQueueItem();
+            item.setClosedEvent(true);
+        }
+        if (item == null) {
+            throw new JsonProcessingException("Replicated event without payload for task: " + taskId);
+        }
+        item.setTaskId(taskId);
+        if (origin != null) {
+            item.setOrigin(origin);
+            item.setSequence(sequence);
+        }
+        return item;
+    }
+}
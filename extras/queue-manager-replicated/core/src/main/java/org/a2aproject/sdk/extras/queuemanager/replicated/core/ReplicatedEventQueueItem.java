@@ -14,6 +14,12 @@ public class ReplicatedEventQueueItem implements EventQueueItem {
 
     private boolean closedEvent;
 
+    private SubscriberInterestEvent interest;
+
+    private String origin;
+
+    private long sequence;
+
     // Default constructor for JSON deserialization
     public ReplicatedEventQueueItem() {
     }
@@ -39,6 +45,10 @@ public class ReplicatedEventQueueItem implements EventQueueItem {
             this.event = null;
             this.error = null;
             this.closedEvent = true;
+        } else if (event instanceof SubscriberInterestEvent interestEvent) {
+            this.event = null;
+            this.error = null;
+            this.interest = interestEvent;
         } else if (event instanceof StreamingEventKind streamingEvent) {
             this.event = streamingEvent;
             this.error = null;
@@ -48,7 +58,7 @@ public class ReplicatedEventQueueItem implements EventQueueItem {
             this.error = jsonRpcError;
             this.closedEvent = false;
         } else {
-            throw new IllegalArgumentException("Event must be StreamingEventKind, A2AError, or QueueClosedEvent, got: " + event.getClass());
+            throw new IllegalArgumentException("Event must be StreamingEventKind, A2AError, QueueClosedEvent or SubscriberInterestEvent, got: " + event.getClass());
         }
     }
 
@@ -97,6 +107,9 @@ public class ReplicatedEventQueueItem implements EventQueueItem {
         if (closedEvent) {
             return new org.a2aproject.sdk.server.events.QueueClosedEvent(taskId);
         }
+        if (interest != null) {
+            return interest;
+        }
         if (event != null) {
             return event;
         }
@@ -149,6 +162,52 @@ public class ReplicatedEventQueueItem implements EventQueueItem {
         }
     }
 
+    /**
+     * Get the subscriber interest announcement (for JSON serialization).
+     * @return the subscriber interest announcement or null
+     */
+    public SubscriberInterestEvent getInterest() {
+        return interest;
+    }
+
+    public void setInterest(SubscriberInterestEvent interest) {
+        this.interest = interest;
+    }
+
+    /**
+     * Check if this is a subscriber interest announcement rather than a task event.
+     * Such items control replication and must never be enqueued.
+     * @return true if this is a subscriber interest announcement
+     */
+    public boolean isInterestEvent() {
+        return interest != null;
+    }
+
+    /**
+     * Get the ID of the event stream this event belongs to, identifying the sending node.
+     * @return the origin or null if the sender did not stamp the event
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Get the position of this event in the stream of its task and origin. Sequence numbers
+     * start at 1 and increase by one for each event sent.
+     * @return the sequence number, or 0 if the sender did not stamp the event
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     /**
      * Check if this event is a Task event.
      * Task events should always be processed even for inactive tasks,
@@ -166,6 +225,9 @@ public class ReplicatedEventQueueItem implements EventQueueItem {
                 ", event=" + event +
                 ", error=" + error +
                 ", closedEvent=" + closedEvent +
+                ", interest=" + interest +
+                ", origin='" + origin + '\'' +
+                ", sequence=" + sequence +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Restores the order of sequence-numbered replicated events and drops duplicates.
+ * <p>
+ * Events are tracked per task and origin, the event stream of one sending node. Events that
+ * arrive in sequence are delivered immediately. Events with a sequence number that was already
+ * delivered are dropped. Events arriving ahead of a missing event are buffered until the
+ * missing event arrives; if it does not arrive within the gap timeout, or too many events are
+ * buffered, the buffered events are delivered in order and the task is re-synchronized, e.g.
+ * from the task store. Events without a sequence number, from nodes that do not stamp them,
+ * are delivered as they arrive.
+ * </p>
+ * <p>
+ * Sending nodes number the events of every stream from {@value #FIRST_SEQUENCE}, so events
+ * that arrive ahead of the first one are buffered like any other gap. A node that starts
+ * consuming in the middle of a stream waits for the gap timeout once, then delivers what it
+ * received and re-synchronizes the task. The streams of a task are dropped once its poison
+ * pill has been delivered, and idle streams are dropped after a while.
+ * </p>
+ */
+class ReplicatedEventSequencer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicatedEventSequencer.class);
+
+    // Sequence number of the first event of a stream, see ReplicatedQueueManager#replicate
+    static final long FIRST_SEQUENCE = 1;
+    private static final long IDLE_STREAM_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final long gapTimeoutNanos;
+    private final int maxBufferedEvents;
+    private final Consumer<ReplicatedEventQueueItem> deliverer;
+    private final Consumer<String> resync;
+    private final ScheduledExecutorService scheduler;
+
+    // taskId -> (origin -> stream)
+    private final ConcurrentMap<String, ConcurrentMap<String, Stream>> streams = new ConcurrentHashMap<>();
+
+    private static final class Stream {
+        // Guarded by this
+        private long nextExpected = FIRST_SEQUENCE;
+        private final TreeMap<Long, ReplicatedEventQueueItem> pending = new TreeMap<>();
+        private ScheduledFuture<?> gapTimer;
+        private volatile long lastActivity = System.nanoTime();
+    }
+
+    /**
+     * Creates a sequencer.
+     *
+     * @param gapTimeout how long events are buffered while waiting for a missing event
+     * @param maxBufferedEvents the number of buffered events of a stream that ends the wait early
+     * @param deliverer processes events, called in sequence order for each stream
+     * @param resync re-synchronizes a task after events of it were lost
+     */
+    ReplicatedEventSequencer(Duration gapTimeout, int maxBufferedEvents,
+                             Consumer<ReplicatedEventQueueItem> deliverer, Consumer<String> resync) {
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.maxBufferedEvents = maxBufferedEvents;
+        this.deliverer = deliverer;
+        this.resync = resync;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "a2a-replication-sequencer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::dropIdleStreams, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Accepts a received event, delivering it and any buffered events that follow it when it
+     * is next in sequence.
+     *
+     * @param item the replicated event
+     */
+    void accept(ReplicatedEventQueueItem item) {
+        String taskId = item.getTaskId();
+        String origin = item.getOrigin();
+        long sequence = item.getSequence();
+        if (origin == null || sequence <= 0) {
+            deliver(item);
+            return;
+        }
+
+        Stream stream = streams.computeIfAbsent(taskId, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(origin, k -> new Stream());
+        boolean lostEvents = false;
+        synchronized (stream) {
+            stream.lastActivity = System.nanoTime();
+            if (sequence < stream.nextExpected || stream.pending.containsKey(sequence)) {
+                LOGGER.debug("Dropping duplicate replicated event {} of task {} from {}", sequence, taskId, origin);
+                return;
+            }
+            if (sequence == stream.nextExpected) {
+                deliver(item);
+                stream.nextExpected++;
+                drainInSequence(stream);
+            } else {
+                LOGGER.debug("Buffering replicated event {} of task {} from {}, waiting for event {}",
+                        sequence, taskId, origin, stream.nextExpected);
+                stream.pending.put(sequence, item);
+                if (stream.pending.size() >= maxBufferedEvents) {
+                    skipGaps(taskId, origin, stream);
+                    lostEvents = true;
+                } else if (stream.gapTimer == null) {
+                    stream.gapTimer = scheduler.schedule(() -> onGapTimeout(taskId, origin, stream),
+                            gapTimeoutNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        if (lostEvents) {
+            resync(taskId);
+        }
+    }
+
+    int trackedTaskCount() {
+        return streams.size();
+    }
+
+    /**
+     * Stops the background thread. Buffered events are discarded.
+     */
+    void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void onGapTimeout(String taskId, String origin, Stream stream) {
+        synchronized (stream) {
+            stream.gapTimer = null;
+            if (stream.pending.isEmpty()) {
+                return;
+            }
+            skipGaps(taskId, origin, stream);
+        }
+        resync(taskId);
+    }
+
+    // Must be called while holding the stream's lock
+    private void drainInSequence(Stream stream) {
+        while (!stream.pending.isEmpty() && stream.pending.firstKey() == stream.nextExpected) {
+            deliver(stream.pending.pollFirstEntry().getValue());
+            stream.nextExpected++;
+        }
+        if (stream.pending.isEmpty() && stream.gapTimer != null) {
+            stream.gapTimer.cancel(false);
+            stream.gapTimer = null;
+        }
+    }
+
+    // Must be called while holding the stream's lock
+    private void skipGaps(String taskId, String origin, Stream stream) {
+        LOGGER.warn("Replicated events {} to {} of task {} from {} were lost, delivering {} buffered events",
+                stream.nextExpected, stream.pending.firstKey() - 1, taskId, origin, stream.pending.size());
+        for (Map.Entry<Long, ReplicatedEventQueueItem> entry : stream.pending.entrySet()) {
+            deliver(entry.getValue());
+            stream.nextExpected = entry.getKey() + 1;
+        }
+        stream.pending.clear();
+        if (stream.gapTimer != null) {
+            stream.gapTimer.cancel(false);
+            stream.gapTimer = null;
+        }
+    }
+
+    private void deliver(ReplicatedEventQueueItem item) {
+        try {
+            deliverer.accept(item);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to process replicated event for task {}", item.getTaskId(), e);
+        }
+        if (item.isClosedEvent()) {
+            // The task is done, no further events are expected
+            streams.remove(item.getTaskId());
+        }
+    }
+
+    private void resync(String taskId) {
+        try {
+            resync.accept(taskId);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to re-synchronize task {} after lost replicated events", taskId, e);
+        }
+    }
+
+    private void dropIdleStreams() {
+        long now = System.nanoTime();
+        for (String taskId : streams.keySet()) {
+            streams.computeIfPresent(taskId, (k, taskStreams) -> {
+                taskStreams.values().removeIf(stream -> now - stream.lastActivity > IDLE_STREAM_TIMEOUT_NANOS
+                        && stream.gapTimer == null);
+                return taskStreams.isEmpty() ? null : taskStreams;
+            });
+        }
+    }
+}
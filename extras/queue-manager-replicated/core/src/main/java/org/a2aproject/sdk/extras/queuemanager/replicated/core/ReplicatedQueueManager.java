@@ -1,5 +1,14 @@
 package org.a2aproject.sdk.extras.queuemanager.replicated.core;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
@@ -8,14 +17,21 @@ import jakarta.enterprise.inject.Alternative;
 import jakarta.inject.Inject;
 
 import org.a2aproject.sdk.extras.common.events.TaskFinalizedEvent;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
 import org.a2aproject.sdk.server.events.EventEnqueueHook;
 import org.a2aproject.sdk.server.events.EventQueue;
 import org.a2aproject.sdk.server.events.EventQueueFactory;
 import org.a2aproject.sdk.server.events.EventQueueItem;
 import org.a2aproject.sdk.server.events.InMemoryQueueManager;
 import org.a2aproject.sdk.server.events.MainEventBus;
+import org.a2aproject.sdk.server.events.QueueClosedEvent;
 import org.a2aproject.sdk.server.events.QueueManager;
 import org.a2aproject.sdk.server.tasks.TaskStateProvider;
+import org.a2aproject.sdk.server.tasks.TaskStore;
+import org.a2aproject.sdk.spec.Event;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,12 +41,56 @@ import org.slf4j.LoggerFactory;
 public class ReplicatedQueueManager implements QueueManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(ReplicatedQueueManager.class);
 
+    private static final String A2A_REPLICATION_INTEREST_FILTERING_ENABLED = "a2a.replication.interest-filtering.enabled";
+    private static final String A2A_REPLICATION_INTEREST_HEARTBEAT_MS = "a2a.replication.interest-filtering.heartbeat-ms";
+    private static final String A2A_REPLICATION_INTEREST_TTL_MS = "a2a.replication.interest-filtering.ttl-ms";
+    private static final String A2A_REPLICATION_INTEREST_REPLAY_WINDOW_MS = "a2a.replication.interest-filtering.replay-window-ms";
+    private static final String A2A_REPLICATION_NODE_ID = "a2a.replication.node-id";
+    private static final String A2A_REPLICATION_SEQUENCING_ENABLED = "a2a.replication.sequencing.enabled";
+    private static final String A2A_REPLICATION_SEQUENCING_GAP_TIMEOUT_MS = "a2a.replication.sequencing.gap-timeout-ms";
+    private static final String A2A_REPLICATION_SEQUENCING_MAX_BUFFERED = "a2a.replication.sequencing.max-buffered-events";
+    private static final String A2A_REPLICATION_TASK_ACTIVITY_CACHE_TTL_MS = "a2a.replication.task-activity-cache.ttl-ms";
+    private static final String A2A_REPLICATION_TASK_ACTIVITY_CACHE_MAX_SIZE = "a2a.replication.task-activity-cache.max-size";
+    // Defined by the task store, defaults to the JPA task store's default
+    private static final String A2A_REPLICATION_GRACE_PERIOD_SECONDS = "a2a.replication.grace-period-seconds";
+    private static final long DEFAULT_GRACE_PERIOD_SECONDS = 15;
+    // Upper bound on tasks with an outgoing sequence, the least recently used one is evicted beyond it.
+    // Entries are normally dropped when the task is finalized
+    private static final int MAX_SEQUENCED_TASKS = 100_000;
+
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
+
+    // Used to re-synchronize tasks after replicated events were lost
+    @Inject
+    @Nullable TaskStore taskStore;
+
     // Fields set by constructor injection cannot be final. We need a noargs constructor for
     // Jakarta compatibility, and it seems that making fields set by constructor injection
     // final, is not proxyable in all runtimes
     private InMemoryQueueManager delegate;
     private ReplicationStrategy replicationStrategy;
     private TaskStateProvider taskStateProvider;
+    private volatile @Nullable SubscriberInterestRegistry interestRegistry;
+    private volatile @Nullable ReplicatedEventSequencer sequencer;
+    private volatile @Nullable TaskActivityCache taskActivityCache;
+
+    // Outgoing event streams, keyed by task ID. Each stream has an ID that is unique across
+    // nodes and restarts, so a stream that is dropped and recreated is never confused with
+    // the previous one by receiving nodes.
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong streamCounter = new AtomicLong();
+    private final Map<String, OutgoingStream> outgoingStreams = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OutgoingStream> eldest) {
+                    // Tasks that are never finalized; receivers treat a recreated stream as a new one
+                    return size() > MAX_SEQUENCED_TASKS;
+                }
+            });
+
+    private record OutgoingStream(String id, AtomicLong lastSequence) {
+    }
 
     /**
      * No-args constructor for CDI proxy creation.
@@ -54,6 +114,128 @@ public class ReplicatedQueueManager implements QueueManager {
         this.delegate = new InMemoryQueueManager(new ReplicatingEventQueueFactory(), taskStateProvider, mainEventBus);
     }
 
+    @PostConstruct
+    void initConfig() {
+        A2AConfigProvider config = configProvider;
+        if (config == null) {
+            return;
+        }
+        long taskActivityTtlMs = Long.parseLong(config.getValue(A2A_REPLICATION_TASK_ACTIVITY_CACHE_TTL_MS));
+        if (taskActivityTtlMs > 0) {
+            long gracePeriodSeconds = config.getOptionalValue(A2A_REPLICATION_GRACE_PERIOD_SECONDS)
+                    .map(Long::parseLong)
+                    .orElse(DEFAULT_GRACE_PERIOD_SECONDS);
+            enableTaskActivityCache(Duration.ofMillis(taskActivityTtlMs), Duration.ofSeconds(gracePeriodSeconds),
+                    Integer.parseInt(config.getValue(A2A_REPLICATION_TASK_ACTIVITY_CACHE_MAX_SIZE)));
+        }
+        if (Boolean.parseBoolean(config.getValue(A2A_REPLICATION_SEQUENCING_ENABLED))) {
+            enableSequencing(Duration.ofMillis(Long.parseLong(config.getValue(A2A_REPLICATION_SEQUENCING_GAP_TIMEOUT_MS))),
+                    Integer.parseInt(config.getValue(A2A_REPLICATION_SEQUENCING_MAX_BUFFERED)));
+        }
+        if (!Boolean.parseBoolean(config.getValue(A2A_REPLICATION_INTEREST_FILTERING_ENABLED))) {
+            return;
+        }
+        String nodeId = config.getOptionalValue(A2A_REPLICATION_NODE_ID)
+                .filter(id -> !id.isBlank())
+                .orElseGet(() -> UUID.randomUUID().toString());
+        enableInterestFiltering(nodeId,
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_REPLICATION_INTEREST_HEARTBEAT_MS))),
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_REPLICATION_INTEREST_TTL_MS))),
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_REPLICATION_INTEREST_REPLAY_WINDOW_MS))));
+    }
+
+    @PreDestroy
+    void close() {
+        closeInterestRegistry();
+        ReplicatedEventSequencer currentSequencer = sequencer;
+        sequencer = null;
+        if (currentSequencer != null) {
+            currentSequencer.close();
+        }
+    }
+
+    private void closeInterestRegistry() {
+        SubscriberInterestRegistry registry = interestRegistry;
+        interestRegistry = null;
+        if (registry != null) {
+            registry.close();
+        }
+    }
+
+    /**
+     * Enables caching of task activity, so that replicated events are admitted without querying
+     * the {@link TaskStateProvider} for every event. Finalization of tasks is recorded from
+     * local finalization and received final events, and tasks are recorded as active from local
+     * events and subscribers; other tasks are cached for the TTL, whether they are active or not.
+     *
+     * @param ttl how long a task that is not known to be finalized is cached
+     * @param gracePeriod how long events of a task are still processed after it was finalized;
+     *                    should match the grace period of the {@link TaskStateProvider}
+     * @param maxSize the maximum number of cached tasks
+     */
+    void enableTaskActivityCache(Duration ttl, Duration gracePeriod, int maxSize) {
+        LOGGER.debug("Enabling task activity cache (ttl: {}, grace period: {}, max size: {})", ttl, gracePeriod, maxSize);
+        taskActivityCache = new TaskActivityCache(taskStateProvider, ttl, gracePeriod, maxSize);
+    }
+
+    /**
+     * Enables ordering and deduplication of received events. Events stamped with a sequence
+     * number by the sending node are processed in sequence, duplicates are dropped, and
+     * events arriving ahead of a missing event are buffered. If the missing event does not
+     * arrive in time, the buffered events are processed and the task is re-synchronized from
+     * the {@link TaskStore}.
+     *
+     * @param gapTimeout how long events are buffered while waiting for a missing event
+     * @param maxBufferedEvents the number of buffered events of a task that ends the wait early
+     */
+    public void enableSequencing(Duration gapTimeout, int maxBufferedEvents) {
+        ReplicatedEventSequencer previous = sequencer;
+        LOGGER.debug("Enabling replicated event sequencing (gap timeout: {}, max buffered events: {})",
+                gapTimeout, maxBufferedEvents);
+        sequencer = new ReplicatedEventSequencer(gapTimeout, maxBufferedEvents, this::enqueueReplicatedEvent, this::resync);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Enables subscriber interest filtering. Non-final events of a task are then only
+     * replicated while another node subscribes to the task, and replicated events are only
+     * processed by nodes subscribing to it. Final status events and the poison pill are always
+     * replicated to all nodes.
+     * <p>
+     * Interest is announced by the nodes clients subscribe on, not by the node producing the
+     * events of a task. Events produced while no other node is interested are held for the
+     * replay window, and replicated once an announcement arrives within it.
+     * </p>
+     * <p>
+     * The {@link ReplicationStrategy} still publishes replicated events to all nodes, so events
+     * of a task with an interested node are received by every node, and dropped before they
+     * are enqueued by the nodes without subscriptions.
+     * </p>
+     * <p>
+     * All nodes must support interest filtering before it is enabled on any of them.
+     * </p>
+     *
+     * @param nodeId the unique ID of this node
+     * @param heartbeat how often live subscriptions are re-announced to other nodes
+     * @param ttl how long an announcement from another node is valid without being repeated;
+     *            should be a few heartbeat intervals
+     * @param replayWindow how long events produced without interest are held for an
+     *                     announcement; should cover the time an announcement takes to arrive
+     */
+    void enableInterestFiltering(String nodeId, Duration heartbeat, Duration ttl, Duration replayWindow) {
+        closeInterestRegistry();
+        LOGGER.debug("Enabling subscriber interest filtering for node {} (heartbeat: {}, ttl: {}, replay window: {})",
+                nodeId, heartbeat, ttl, replayWindow);
+        interestRegistry = new SubscriberInterestRegistry(nodeId, heartbeat, ttl, replayWindow,
+                replicationStrategy::send, this::replicate, delegate::getActiveChildQueueCount);
+    }
+
+    @Nullable SubscriberInterestRegistry getInterestRegistry() {
+        return interestRegistry;
+    }
+
 
     @Override
     public void add(String taskId, EventQueue queue) {
@@ -67,7 +249,17 @@ public class ReplicatedQueueManager implements QueueManager {
 
     @Override
     public EventQueue tap(String taskId) {
-        return delegate.tap(taskId);
+        // Only called to subscribe to a task, which recreates the queue with createOrTap if
+        // there is none, so the interest is announced either way
+        SubscriberInterestRegistry registry = interestRegistry;
+        if (registry != null) {
+            registry.onLocalSubscriber(taskId);
+        }
+        EventQueue childQueue = delegate.tap(taskId);
+        if (childQueue != null) {
+            onTaskActive(taskId);
+        }
+        return childQueue;
     }
 
     @Override
@@ -80,7 +272,35 @@ public class ReplicatedQueueManager implements QueueManager {
 
     @Override
     public EventQueue createOrTap(String taskId) {
-        return delegate.createOrTap(taskId);
+        // Also called by the node producing the events of the task, which needs no replicated
+        // events; subscribers announce their interest in tap
+        EventQueue childQueue = delegate.createOrTap(taskId);
+        onTaskActive(taskId);
+        return childQueue;
+    }
+
+    private void onTaskActive(String taskId) {
+        TaskActivityCache activityCache = taskActivityCache;
+        if (activityCache != null) {
+            activityCache.onTaskActive(taskId);
+        }
+    }
+
+    /**
+     * Checks whether an event must be replicated to, and processed by, all nodes regardless of
+     * subscriber interest: final task states and the poison pill.
+     */
+    private static boolean isBroadcastEvent(Event event) {
+        if (event instanceof QueueClosedEvent) {
+            return true;
+        }
+        if (event instanceof TaskStatusUpdateEvent statusUpdate) {
+            return statusUpdate.status().state().isFinal();
+        }
+        if (event instanceof Task task) {
+            return task.status() != null && task.status().state() != null && task.status().state().isFinal();
+        }
+        return false;
     }
 
     @Override
@@ -89,18 +309,83 @@ public class ReplicatedQueueManager implements QueueManager {
     }
 
     public void onReplicatedEvent(@Observes ReplicatedEventQueueItem replicatedEvent) {
+        SubscriberInterestRegistry registry = interestRegistry;
+        if (replicatedEvent.isInterestEvent()) {
+            // Control event, never enqueued
+            if (registry != null) {
+                registry.onInterestEvent(replicatedEvent.getTaskId(), replicatedEvent.getInterest());
+            }
+            return;
+        }
+
         // Check if task is still active before processing replicated event
         // Always allow QueueClosedEvent and Task events (they carry final state)
         // Skip other event types for inactive tasks to prevent queue creation for expired tasks
         if (!replicatedEvent.isClosedEvent()
                 && !replicatedEvent.isTaskEvent()
-                && !taskStateProvider.isTaskActive(replicatedEvent.getTaskId())) {
+                && !isTaskActive(replicatedEvent.getTaskId())) {
             // Task is no longer active - skip processing this replicated event
             // This prevents creating queues for tasks that have been finalized beyond the grace period
             LOGGER.debug("Skipping replicated event for inactive task {}", replicatedEvent.getTaskId());
             return;
         }
 
+        TaskActivityCache activityCache = taskActivityCache;
+        if (activityCache != null) {
+            if (isBroadcastEvent(replicatedEvent.getEvent())) {
+                activityCache.onTaskFinalized(replicatedEvent.getTaskId());
+            } else if (replicatedEvent.isTaskEvent()) {
+                // Admitted without a check, so that tasks created on other nodes become known
+                activityCache.onTaskActive(replicatedEvent.getTaskId());
+            }
+        }
+
+        ReplicatedEventSequencer currentSequencer = sequencer;
+        if (currentSequencer != null) {
+            currentSequencer.accept(replicatedEvent);
+        } else {
+            processReplicatedEvent(replicatedEvent);
+        }
+    }
+
+    private boolean isTaskActive(String taskId) {
+        TaskActivityCache activityCache = taskActivityCache;
+        return activityCache != null ? activityCache.isTaskActive(taskId) : taskStateProvider.isTaskActive(taskId);
+    }
+
+    // Called for received events in sequence order
+    private void processReplicatedEvent(ReplicatedEventQueueItem replicatedEvent) {
+        SubscriberInterestRegistry registry = interestRegistry;
+        if (registry != null) {
+            if (isBroadcastEvent(replicatedEvent.getEvent())) {
+                registry.forget(replicatedEvent.getTaskId());
+            } else if (delegate.getActiveChildQueueCount(replicatedEvent.getTaskId()) <= 0) {
+                // No local subscriber - the node producing the event persists it, so there is
+                // nothing to deliver here and no reason to create a MainQueue
+                LOGGER.debug("Skipping replicated event for task {} without local subscribers", replicatedEvent.getTaskId());
+                return;
+            }
+        }
+        enqueueReplicatedEvent(replicatedEvent);
+    }
+
+    /**
+     * Re-synchronizes local subscribers of a task after replicated events of it were lost, by
+     * distributing the task as currently stored.
+     */
+    private void resync(String taskId) {
+        TaskStore store = taskStore;
+        if (store == null || delegate.getActiveChildQueueCount(taskId) <= 0) {
+            return;
+        }
+        Task task = store.get(taskId);
+        if (task != null) {
+            LOGGER.debug("Re-synchronizing task {} from the task store after lost replicated events", taskId);
+            enqueueReplicatedEvent(new ReplicatedEventQueueItem(taskId, task));
+        }
+    }
+
+    private void enqueueReplicatedEvent(ReplicatedEventQueueItem replicatedEvent) {
         // Get the MainQueue to enqueue the replicated event item
         // We must use enqueueItem (not enqueueEvent) to preserve the isReplicated() flag
         // and avoid triggering the replication hook again (which would cause a replication loop)
@@ -163,6 +448,11 @@ public class ReplicatedQueueManager implements QueueManager {
 
         LOGGER.debug("Task {} finalized - sending TaskStatusUpdateEvent then poison pill (QueueClosedEvent) after transaction commit", taskId);
 
+        TaskActivityCache activityCache = taskActivityCache;
+        if (activityCache != null) {
+            activityCache.onTaskFinalized(taskId);
+        }
+
         // Convert final Task to TaskStatusUpdateEvent to match local event distribution
         // This ensures remote instances receive the same event type as local instances
         org.a2aproject.sdk.spec.TaskStatusUpdateEvent finalStatusEvent = org.a2aproject.sdk.spec.TaskStatusUpdateEvent.builder()
@@ -172,12 +462,31 @@ public class ReplicatedQueueManager implements QueueManager {
                 .build();
 
         // Send TaskStatusUpdateEvent FIRST to ensure it arrives before poison pill
-        replicationStrategy.send(taskId, finalStatusEvent);
+        replicate(taskId, finalStatusEvent);
 
         // Then send poison pill
         // The transaction has committed, so the final state is guaranteed to be in the database
         org.a2aproject.sdk.server.events.QueueClosedEvent closedEvent = new org.a2aproject.sdk.server.events.QueueClosedEvent(taskId);
-        replicationStrategy.send(taskId, closedEvent);
+        replicate(taskId, closedEvent);
+        outgoingStreams.remove(taskId);
+
+        SubscriberInterestRegistry registry = interestRegistry;
+        if (registry != null) {
+            registry.forget(taskId);
+        }
+    }
+
+    /**
+     * Sends an event to the other nodes, stamped with the ID of the task's outgoing stream
+     * and the next sequence number of that stream.
+     */
+    private void replicate(String taskId, Event event) {
+        OutgoingStream stream = outgoingStreams.computeIfAbsent(taskId,
+                k -> new OutgoingStream(instanceId + "/" + streamCounter.incrementAndGet(), new AtomicLong(ReplicatedEventSequencer.FIRST_SEQUENCE - 1)));
+        ReplicatedEventQueueItem item = new ReplicatedEventQueueItem(taskId, event);
+        item.setOrigin(stream.id());
+        item.setSequence(stream.lastSequence().incrementAndGet());
+        replicationStrategy.send(item);
     }
 
     @Override
@@ -220,7 +529,18 @@ public class ReplicatedQueueManager implements QueueManager {
                 // Only replicate if this isn't already a replicated event
                 // This prevents replication loops
                 if (taskId != null) {
-                    replicationStrategy.send(taskId, item.getEvent());
+                    TaskActivityCache activityCache = taskActivityCache;
+                    if (activityCache != null && !isBroadcastEvent(item.getEvent())) {
+                        // This node works on the task, and is about to save it
+                        activityCache.onTaskActive(taskId);
+                    }
+                    SubscriberInterestRegistry registry = interestRegistry;
+                    if (registry != null && !isBroadcastEvent(item.getEvent())) {
+                        // Replicated if another node subscribes to the task, held for its announcement otherwise
+                        registry.onLocalEvent(taskId, item.getEvent());
+                        return;
+                    }
+                    replicate(taskId, item.getEvent());
                 }
             }
         }
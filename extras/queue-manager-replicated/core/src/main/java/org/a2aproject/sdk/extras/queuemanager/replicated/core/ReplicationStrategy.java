@@ -4,4 +4,18 @@ import org.a2aproject.sdk.spec.Event;
 
 public interface ReplicationStrategy {
     void send(String taskId, Event event);
-}
\ No newline at end of file
+
+    /**
+     * Sends an event that has already been wrapped for replication, including the origin and
+     * sequence number stamped by the {@link ReplicatedQueueManager}.
+     * <p>
+     * Strategies should override this to transmit the whole item. The default implementation
+     * only sends the event, so receiving nodes cannot detect duplicates or gaps.
+     * </p>
+     *
+     * @param item the replicated event
+     */
+    default void send(ReplicatedEventQueueItem item) {
+        send(item.getTaskId(), item.getEvent());
+    }
+}
@@ -0,0 +1,39 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import org.a2aproject.sdk.spec.Event;
+
+/**
+ * Control event announcing whether a node holds live subscriptions for a task.
+ * <p>
+ * When subscriber interest filtering is enabled, each node replicates one of these events when
+ * a client subscribes to a task on that node, repeats it periodically while the subscription
+ * is live, and replicates a withdrawal once the last subscription is closed. Other nodes use
+ * them to decide which events of the task need to be replicated at all.
+ * </p>
+ * <p>
+ * Note: This is an internal event that is never enqueued on an event queue.
+ * </p>
+ */
+public class SubscriberInterestEvent implements Event {
+
+    private final String nodeId;
+    private final boolean interested;
+
+    public SubscriberInterestEvent(String nodeId, boolean interested) {
+        this.nodeId = nodeId;
+        this.interested = interested;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isInterested() {
+        return interested;
+    }
+
+    @Override
+    public String toString() {
+        return "SubscriberInterestEvent{nodeId='" + nodeId + "', interested=" + interested + "}";
+    }
+}
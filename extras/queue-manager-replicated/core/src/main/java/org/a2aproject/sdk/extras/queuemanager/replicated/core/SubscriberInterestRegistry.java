@@ -0,0 +1,299 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+import org.a2aproject.sdk.spec.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks which nodes hold live subscriptions ({@code ChildQueue}s) for each task.
+ * <p>
+ * The registry is replicated: local subscriptions are announced to all nodes with a
+ * {@link SubscriberInterestEvent}, and announcements from other nodes are recorded with an
+ * expiry time. Each node re-announces its live subscriptions every heartbeat interval, so
+ * entries of nodes that stopped or missed a withdrawal expire after the TTL, and nodes that
+ * joined later learn about existing subscriptions within one interval. Subscriptions that have
+ * been closed are detected and withdrawn by the heartbeat.
+ * </p>
+ * <p>
+ * Non-final events produced on this node are only replicated while another node is interested
+ * in their task. Events without interest are held for the replay window, and replicated in
+ * order when an announcement for the task arrives within it, so that events produced while the
+ * announcement of a new subscription was in flight are not lost.
+ * </p>
+ */
+class SubscriberInterestRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubscriberInterestRegistry.class);
+
+    // Upper bound on the events held for a task, the oldest ones are dropped beyond it
+    static final int MAX_HELD_EVENTS_PER_TASK = 100;
+
+    private final String nodeId;
+    private final long ttlNanos;
+    private final long replayWindowNanos;
+    private final BiConsumer<String, SubscriberInterestEvent> announcer;
+    private final BiConsumer<String, Event> replicator;
+    private final ToIntFunction<String> localSubscriberCount;
+    private final ScheduledExecutorService scheduler;
+
+    // taskId -> (nodeId -> expiry in System.nanoTime() terms)
+    private final ConcurrentMap<String, Map<String, Long>> remoteInterest = new ConcurrentHashMap<>();
+    // taskId -> whether the interest was announced since the last heartbeat
+    private final ConcurrentMap<String, Boolean> localInterest = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, HeldEvents> heldEvents = new ConcurrentHashMap<>();
+
+    private record HeldEvent(Event event, long heldAt) {
+    }
+
+    private static final class HeldEvents {
+        // Guarded by this
+        private final ArrayDeque<HeldEvent> events = new ArrayDeque<>();
+        private boolean removed;
+
+        private void prune(long now, long replayWindowNanos) {
+            while (!events.isEmpty()
+                    && (events.size() > MAX_HELD_EVENTS_PER_TASK || now - events.peekFirst().heldAt() > replayWindowNanos)) {
+                events.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Creates a registry and starts its heartbeat.
+     *
+     * @param nodeId the ID of this node
+     * @param heartbeat how often live local subscriptions are re-announced
+     * @param ttl how long an announcement from another node is valid without being repeated
+     * @param replayWindow how long events produced without interest are held for an announcement
+     * @param announcer replicates an announcement for a task to all nodes
+     * @param replicator replicates an event produced on this node to all nodes
+     * @param localSubscriberCount returns the number of live local subscriptions for a task
+     */
+    SubscriberInterestRegistry(String nodeId, Duration heartbeat, Duration ttl, Duration replayWindow,
+                               BiConsumer<String, SubscriberInterestEvent> announcer,
+                               BiConsumer<String, Event> replicator,
+                               ToIntFunction<String> localSubscriberCount) {
+        this.nodeId = nodeId;
+        this.ttlNanos = ttl.toNanos();
+        this.replayWindowNanos = replayWindow.toNanos();
+        this.announcer = announcer;
+        this.replicator = replicator;
+        this.localSubscriberCount = localSubscriberCount;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "a2a-replication-interest");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatNanos = heartbeat.toNanos();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatNanos, heartbeatNanos, TimeUnit.NANOSECONDS);
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Records that a client subscribes to the task on this node, announcing the interest to
+     * other nodes if this is the first live subscription. The interest is kept until the next
+     * heartbeat even if the subscription has not been opened yet.
+     *
+     * @param taskId the task ID
+     */
+    synchronized void onLocalSubscriber(String taskId) {
+        if (localInterest.put(taskId, Boolean.TRUE) == null) {
+            LOGGER.debug("Node {} announcing interest in task {}", nodeId, taskId);
+            announce(taskId, true);
+        }
+    }
+
+    /**
+     * Replicates a non-final event produced on this node if another node is interested in its
+     * task, and holds it for the replay window otherwise.
+     *
+     * @param taskId the task ID
+     * @param event the event
+     */
+    void onLocalEvent(String taskId, Event event) {
+        if (hasRemoteInterest(taskId) && !heldEvents.containsKey(taskId)) {
+            replicator.accept(taskId, event);
+            return;
+        }
+        while (true) {
+            HeldEvents held = heldEvents.computeIfAbsent(taskId, k -> new HeldEvents());
+            // Under the lock, so that an announcement arriving concurrently replays the event
+            // or sees the interest before it is held
+            synchronized (held) {
+                if (held.removed) {
+                    continue;
+                }
+                if (hasRemoteInterest(taskId)) {
+                    replay(taskId, held);
+                    replicator.accept(taskId, event);
+                } else {
+                    long now = System.nanoTime();
+                    held.events.addLast(new HeldEvent(event, now));
+                    held.prune(now, replayWindowNanos);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records an announcement received from the replication channel.
+     *
+     * @param taskId the task ID
+     * @param event the announcement
+     */
+    void onInterestEvent(String taskId, SubscriberInterestEvent event) {
+        if (nodeId.equals(event.getNodeId())) {
+            return;
+        }
+        if (event.isInterested()) {
+            long expiry = System.nanoTime() + ttlNanos;
+            remoteInterest.compute(taskId, (k, nodes) -> {
+                Map<String, Long> updated = nodes != null ? nodes : new ConcurrentHashMap<>();
+                updated.put(event.getNodeId(), expiry);
+                return updated;
+            });
+            HeldEvents held = heldEvents.get(taskId);
+            if (held != null) {
+                synchronized (held) {
+                    replay(taskId, held);
+                }
+            }
+        } else {
+            remoteInterest.computeIfPresent(taskId, (k, nodes) -> {
+                nodes.remove(event.getNodeId());
+                return nodes.isEmpty() ? null : nodes;
+            });
+        }
+    }
+
+    /**
+     * Checks whether another node holds live subscriptions for the task.
+     *
+     * @param taskId the task ID
+     * @return true if events of the task need to be replicated
+     */
+    boolean hasRemoteInterest(String taskId) {
+        Map<String, Long> nodes = remoteInterest.get(taskId);
+        if (nodes == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        for (Long expiry : nodes.values()) {
+            if (expiry - now > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the remote interest recorded for a task that has been finalized. Local interest is
+     * withdrawn by the heartbeat once the local subscriptions have been closed.
+     *
+     * @param taskId the task ID
+     */
+    void forget(String taskId) {
+        remoteInterest.remove(taskId);
+        HeldEvents held = heldEvents.get(taskId);
+        if (held != null) {
+            synchronized (held) {
+                held.events.clear();
+                remove(taskId, held);
+            }
+        }
+    }
+
+    /**
+     * Withdraws all local interest and stops the heartbeat.
+     */
+    synchronized void close() {
+        scheduler.shutdownNow();
+        for (String taskId : localInterest.keySet()) {
+            localInterest.remove(taskId);
+            announce(taskId, false);
+        }
+    }
+
+    void heartbeat() {
+        for (String taskId : localInterest.keySet()) {
+            if (localSubscriberCount.applyAsInt(taskId) > 0) {
+                localInterest.replace(taskId, Boolean.FALSE);
+                announce(taskId, true);
+                continue;
+            }
+            // Withdraw under the lock, so a client subscribing concurrently re-announces afterwards.
+            // Interest announced since the last heartbeat is kept, the subscription may not be open yet
+            synchronized (this) {
+                if (localSubscriberCount.applyAsInt(taskId) <= 0
+                        && !localInterest.replace(taskId, Boolean.TRUE, Boolean.FALSE)
+                        && localInterest.remove(taskId) != null) {
+                    LOGGER.debug("Node {} withdrawing interest in task {}", nodeId, taskId);
+                    announce(taskId, false);
+                }
+            }
+        }
+
+        long now = System.nanoTime();
+        for (String taskId : remoteInterest.keySet()) {
+            remoteInterest.computeIfPresent(taskId, (k, nodes) -> {
+                nodes.values().removeIf(expiry -> expiry - now <= 0);
+                return nodes.isEmpty() ? null : nodes;
+            });
+        }
+
+        for (Map.Entry<String, HeldEvents> entry : heldEvents.entrySet()) {
+            HeldEvents held = entry.getValue();
+            synchronized (held) {
+                held.prune(now, replayWindowNanos);
+                if (held.events.isEmpty()) {
+                    remove(entry.getKey(), held);
+                }
+            }
+        }
+    }
+
+    // Called while holding the lock of the held events
+    private void replay(String taskId, HeldEvents held) {
+        if (held.removed) {
+            return;
+        }
+        held.prune(System.nanoTime(), replayWindowNanos);
+        if (!held.events.isEmpty()) {
+            LOGGER.debug("Node {} replicating {} held events of task {}", nodeId, held.events.size(), taskId);
+        }
+        for (HeldEvent heldEvent : held.events) {
+            replicator.accept(taskId, heldEvent.event());
+        }
+        held.events.clear();
+        remove(taskId, held);
+    }
+
+    // Called while holding the lock of the held events
+    private void remove(String taskId, HeldEvents held) {
+        held.removed = true;
+        heldEvents.remove(taskId, held);
+    }
+
+    private void announce(String taskId, boolean interested) {
+        try {
+            announcer.accept(taskId, new SubscriberInterestEvent(nodeId, interested));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to replicate subscriber interest of node {} in task {}", nodeId, taskId, e);
+        }
+    }
+}
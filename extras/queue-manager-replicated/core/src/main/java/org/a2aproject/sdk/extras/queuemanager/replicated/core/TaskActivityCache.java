@@ -0,0 +1,133 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.a2aproject.sdk.server.tasks.TaskStateProvider;
+
+/**
+ * Node-local cache of whether tasks are active, used to admit replicated events without
+ * querying the {@link TaskStateProvider} for every event.
+ * <p>
+ * A task is active while it is not finalized, and for the grace period after it was
+ * finalized. Finalization is recorded when this node finalizes a task, or receives the final
+ * event of a task from another node; since final states are terminal, these entries stay valid
+ * until they are evicted. Tasks this node works on, because it produces their events or has
+ * subscribers for them, are recorded as active for the TTL on every local event, so the node
+ * owning a task does not query the {@link TaskStateProvider} for it.
+ * </p>
+ * <p>
+ * Other tasks are loaded from the {@link TaskStateProvider} with a single query and cached for
+ * the TTL, whether they are active or not. The TTL bounds how long a task finalized on another
+ * node, whose final event was not received, is still considered active, and how long events of
+ * a task that is not stored yet are dropped, unless the task becomes known locally first.
+ * </p>
+ * <p>
+ * Beyond the maximum size, the least recently used task is evicted.
+ * </p>
+ */
+class TaskActivityCache {
+
+    private final TaskStateProvider taskStateProvider;
+    private final long ttlNanos;
+    private final long gracePeriodNanos;
+    private final int maxSize;
+
+    private final Map<String, Activity> activities;
+
+    private enum State {
+        // Not finalized, valid for the TTL
+        ACTIVE,
+        // Neither active nor within the grace period when loaded, valid for the TTL
+        INACTIVE,
+        // Finalized, valid until evicted
+        FINALIZED
+    }
+
+    /**
+     * The cached activity of a task.
+     *
+     * @param state the state of the task
+     * @param sinceNanos when the task was finalized if {@code FINALIZED}, otherwise when the entry
+     *                   was recorded, in {@code System.nanoTime()} terms
+     */
+    private record Activity(State state, long sinceNanos) {
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param taskStateProvider the provider loading tasks that are not cached
+     * @param ttl how long a task that is not known to be finalized is cached
+     * @param gracePeriod how long a task is still considered active after it was finalized
+     * @param maxSize the maximum number of cached tasks
+     */
+    TaskActivityCache(TaskStateProvider taskStateProvider, Duration ttl, Duration gracePeriod, int maxSize) {
+        this.taskStateProvider = taskStateProvider;
+        this.ttlNanos = ttl.toNanos();
+        this.gracePeriodNanos = gracePeriod.toNanos();
+        this.maxSize = maxSize;
+        this.activities = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Activity> eldest) {
+                return size() > TaskActivityCache.this.maxSize;
+            }
+        });
+    }
+
+    /**
+     * Checks whether a task is active, including the grace period after it was finalized.
+     *
+     * @param taskId the task ID
+     * @return true if events of the task should be processed
+     */
+    boolean isTaskActive(String taskId) {
+        long now = System.nanoTime();
+        Activity activity = activities.get(taskId);
+        if (activity != null) {
+            if (activity.state() == State.FINALIZED) {
+                return now - activity.sinceNanos() < gracePeriodNanos;
+            }
+            if (now - activity.sinceNanos() < ttlNanos) {
+                return activity.state() == State.ACTIVE;
+            }
+        }
+
+        // Possibly finalized within the grace period on another node, the TTL bounds the error
+        boolean active = taskStateProvider.isTaskActive(taskId);
+        store(taskId, new Activity(active ? State.ACTIVE : State.INACTIVE, now));
+        return active;
+    }
+
+    /**
+     * Records that a task is active, because this node produces events of it or has subscribers
+     * for it, unless it is already known to be finalized.
+     *
+     * @param taskId the task ID
+     */
+    void onTaskActive(String taskId) {
+        store(taskId, new Activity(State.ACTIVE, System.nanoTime()));
+    }
+
+    /**
+     * Records that a task was finalized now, unless it is already known to be finalized.
+     *
+     * @param taskId the task ID
+     */
+    void onTaskFinalized(String taskId) {
+        long now = System.nanoTime();
+        store(taskId, new Activity(State.FINALIZED, now));
+    }
+
+    int size() {
+        return activities.size();
+    }
+
+    private void store(String taskId, Activity activity) {
+        // A loaded entry must not replace a finalization recorded while it was loading
+        activities.merge(taskId, activity,
+                (existing, updated) -> existing.state() == State.FINALIZED ? existing : updated);
+    }
+}
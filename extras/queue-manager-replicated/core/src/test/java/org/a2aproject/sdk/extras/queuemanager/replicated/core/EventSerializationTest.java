@@ -328,4 +328,24 @@ public class EventSerializationTest {
         QueueClosedEvent retrievedClosedEvent = (QueueClosedEvent) retrievedEvent;
         assertEquals(taskId, retrievedClosedEvent.getTaskId(), "Reconstructed event should have correct task ID");
     }
+
+    @Test
+    public void testSubscriberInterestEventSerialization() throws JsonProcessingException {
+        String taskId = "interest-serialization-test";
+        ReplicatedEventQueueItem originalReplicatedEvent =
+                new ReplicatedEventQueueItem(taskId, new SubscriberInterestEvent("node-1", true));
+
+        assertTrue(originalReplicatedEvent.isInterestEvent(), "Should be marked as interest event");
+        assertFalse(originalReplicatedEvent.isClosedEvent(), "Should not be marked as closed event");
+        assertFalse(originalReplicatedEvent.hasEvent(), "Should not have regular event");
+
+        String json = JsonUtil.toJson(originalReplicatedEvent);
+        ReplicatedEventQueueItem deserializedReplicatedEvent = JsonUtil.fromJson(json, ReplicatedEventQueueItem.class);
+
+        assertEquals(taskId, deserializedReplicatedEvent.getTaskId());
+        assertTrue(deserializedReplicatedEvent.isInterestEvent(), "Deserialized should be marked as interest event");
+        assertEquals("node-1", deserializedReplicatedEvent.getInterest().getNodeId());
+        assertTrue(deserializedReplicatedEvent.getInterest().isInterested());
+        assertInstanceOf(SubscriberInterestEvent.class, deserializedReplicatedEvent.getEvent());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.server.events.EventQueue;
+import org.a2aproject.sdk.server.events.EventQueueItem;
+import org.a2aproject.sdk.server.events.EventQueueUtil;
+import org.a2aproject.sdk.server.events.MainEventBus;
+import org.a2aproject.sdk.server.events.MainEventBusProcessor;
+import org.a2aproject.sdk.server.tasks.InMemoryTaskStore;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LoopbackReplicationNetworkTest {
+
+    private LoopbackReplicationNetwork network;
+
+    @AfterEach
+    public void tearDown() {
+        if (network != null) {
+            network.close();
+        }
+    }
+
+    private static TaskStatusUpdateEvent createEvent(String taskId) {
+        return TaskStatusUpdateEvent.builder()
+                .taskId(taskId)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build();
+    }
+
+    private static List<ReplicatedEventQueueItem> sequencedItems(int count) {
+        List<ReplicatedEventQueueItem> items = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            ReplicatedEventQueueItem item = new ReplicatedEventQueueItem("task", createEvent("task"));
+            item.setOrigin("origin");
+            item.setSequence(i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Test
+    public void testDeliversToAllNodes() throws InterruptedException {
+        network = LoopbackReplicationNetwork.builder().latency(Duration.ofMillis(1)).build();
+        CountDownLatch received = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            network.join().setReceiver(item -> received.countDown());
+        }
+
+        network.join().send("task", createEvent("task"));
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        assertEquals(1, network.getSentCount());
+    }
+
+    @Test
+    public void testReordersDeliveries() throws InterruptedException {
+        network = LoopbackReplicationNetwork.builder()
+                .deliverToSender(true)
+                .reorderRate(0.3)
+                .reorderDelay(Duration.ofMillis(20))
+                .build();
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+        LoopbackReplicationStrategy node = network.join();
+        node.setReceiver(item -> {
+            received.add(item.getSequence());
+            done.countDown();
+        });
+
+        for (ReplicatedEventQueueItem item : sequencedItems(100)) {
+            node.send(item);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(100, received.size());
+        assertNotEquals(received.stream().sorted().toList(), received);
+    }
+
+    @Test
+    public void testDropsDeliveries() throws InterruptedException {
+        network = LoopbackReplicationNetwork.builder().deliverToSender(true).dropRate(1).build();
+        List<ReplicatedEventQueueItem> received = new CopyOnWriteArrayList<>();
+        LoopbackReplicationStrategy first = network.join();
+        first.setReceiver(received::add);
+        network.join().setReceiver(received::add);
+
+        for (ReplicatedEventQueueItem item : sequencedItems(10)) {
+            first.send(item);
+        }
+
+        Thread.sleep(50);
+        assertTrue(received.isEmpty());
+        assertEquals(20, network.getDroppedCount());
+    }
+
+    @Test
+    public void testReplicatesBetweenQueueManagers() throws Exception {
+        network = LoopbackReplicationNetwork.builder()
+                .latency(Duration.ofMillis(1))
+                .jitter(Duration.ofMillis(2))
+                .build();
+        // Nodes share the task store, like a database
+        InMemoryTaskStore taskStore = new InMemoryTaskStore();
+        Node producer = new Node(network.join(), taskStore);
+        Node consumer = new Node(network.join(), taskStore);
+        try {
+            String taskId = "loopback-task";
+            EventQueue subscription = consumer.queueManager.createOrTap(taskId);
+            TaskStatusUpdateEvent event = createEvent(taskId);
+
+            producer.queueManager.createOrTap(taskId).enqueueEvent(event);
+
+            EventQueueItem item = subscription.dequeueEventItem(5000);
+            assertNotNull(item);
+            TaskStatusUpdateEvent received = assertInstanceOf(TaskStatusUpdateEvent.class, item.getEvent());
+            assertEquals(taskId, received.taskId());
+            assertEquals(1, network.getDeliveredCount());
+        } finally {
+            producer.stop();
+            consumer.stop();
+        }
+    }
+
+    private static class Node {
+        private final ReplicatedQueueManager queueManager;
+        private final MainEventBusProcessor processor;
+
+        Node(LoopbackReplicationStrategy strategy, InMemoryTaskStore taskStore) {
+            MainEventBus mainEventBus = new MainEventBus();
+            queueManager = new ReplicatedQueueManager(strategy, taskStore, mainEventBus);
+            queueManager.enableSequencing(Duration.ofSeconds(1), 100);
+            strategy.setReceiver(queueManager::onReplicatedEvent);
+            processor = new MainEventBusProcessor(mainEventBus, taskStore, (event, snapshot) -> {}, queueManager);
+            EventQueueUtil.start(processor);
+        }
+
+        void stop() {
+            EventQueueUtil.stop(processor);
+            queueManager.close();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+import org.a2aproject.sdk.server.events.QueueClosedEvent;
+import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.InvalidParamsError;
+import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.a2aproject.sdk.spec.TextPart;
+import org.junit.jupiter.api.Test;
+
+public class ReplicatedEventCodecTest {
+
+    private static final String TASK_ID = "codec-task";
+
+    private final ReplicatedEventCodec protobufCodec = new ReplicatedEventCodec(ReplicatedEventCodec.Format.PROTOBUF, -1);
+
+    private List<ReplicatedEventQueueItem> allKinds() {
+        Task task = Task.builder()
+                .id(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .metadata(Map.of("key", "value"))
+                .build();
+        Message message = Message.builder()
+                .role(Message.Role.ROLE_AGENT)
+                .parts(List.of(new TextPart("hello")))
+                .messageId("msg-1")
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .build();
+        TaskStatusUpdateEvent statusUpdate = TaskStatusUpdateEvent.builder()
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                .build();
+        TaskArtifactUpdateEvent artifactUpdate = TaskArtifactUpdateEvent.builder()
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .artifact(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(List.of(new TextPart("chunk")))
+                        .build())
+                .append(true)
+                .lastChunk(false)
+                .build();
+        return List.of(
+                new ReplicatedEventQueueItem(TASK_ID, task),
+                new ReplicatedEventQueueItem(TASK_ID, message),
+                new ReplicatedEventQueueItem(TASK_ID, statusUpdate),
+                new ReplicatedEventQueueItem(TASK_ID, artifactUpdate),
+                new ReplicatedEventQueueItem(TASK_ID, new InvalidParamsError("bad params")),
+                new ReplicatedEventQueueItem(TASK_ID, new QueueClosedEvent(TASK_ID)));
+    }
+
+    @Test
+    public void testProtobufBatchRoundTrip() throws JsonProcessingException {
+        List<ReplicatedEventQueueItem> items = allKinds();
+
+        byte[] encoded = protobufCodec.encodeBatch(items);
+
+        assertEquals(ReplicatedEventCodec.FRAME_MARKER, encoded[0]);
+        assertEquals(ReplicatedEventCodec.FRAME_VERSION, encoded[1]);
+        assertEquals(0, encoded[2]);
+        assertDecodedEquals(items, ReplicatedEventCodec.decode(encoded));
+    }
+
+    @Test
+    public void testCompressedProtobufRoundTrip() throws JsonProcessingException {
+        ReplicatedEventCodec compressingCodec = new ReplicatedEventCodec(ReplicatedEventCodec.Format.PROTOBUF, 0);
+        List<ReplicatedEventQueueItem> items = allKinds();
+
+        byte[] encoded = compressingCodec.encodeBatch(items);
+
+        assertEquals(ReplicatedEventCodec.FLAG_GZIP, encoded[2]);
+        assertDecodedEquals(items, ReplicatedEventCodec.decode(encoded));
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws JsonProcessingException {
+        ReplicatedEventCodec jsonCodec = new ReplicatedEventCodec(ReplicatedEventCodec.Format.JSON, -1);
+        List<ReplicatedEventQueueItem> items = allKinds();
+
+        assertDecodedEquals(items, ReplicatedEventCodec.decode(jsonCodec.encodeBatch(items)));
+        assertDecodedEquals(items.subList(0, 1), ReplicatedEventCodec.decode(jsonCodec.encode(items.get(0))));
+    }
+
+    @Test
+    public void testDecodesJsonFromEarlierReleases() throws JsonProcessingException {
+        ReplicatedEventQueueItem item = allKinds().get(2);
+        byte[] legacy = JsonUtil.toJson(item).getBytes(StandardCharsets.UTF_8);
+
+        assertDecodedEquals(List.of(item), ReplicatedEventCodec.decode(legacy));
+    }
+
+    @Test
+    public void testProtobufIsSmallerThanJson() throws JsonProcessingException {
+        ReplicatedEventCodec jsonCodec = new ReplicatedEventCodec(ReplicatedEventCodec.Format.JSON, -1);
+        List<ReplicatedEventQueueItem> items = allKinds().subList(0, 4);
+
+        assertTrue(protobufCodec.encodeBatch(items).length < jsonCodec.encodeBatch(items).length);
+    }
+
+    @Test
+    public void testSequenceRoundTrip() throws JsonProcessingException {
+        ReplicatedEventQueueItem item = allKinds().get(2);
+        item.setOrigin("node-a/1");
+        item.setSequence(42);
+
+        for (ReplicatedEventCodec.Format format : ReplicatedEventCodec.Format.values()) {
+            ReplicatedEventQueueItem decoded = ReplicatedEventCodec.decode(
+                    new ReplicatedEventCodec(format, -1).encode(item)).get(0);
+            assertEquals("node-a/1", decoded.getOrigin());
+            assertEquals(42, decoded.getSequence());
+        }
+    }
+
+    @Test
+    public void testRejectsUnknownFrameVersion() throws JsonProcessingException {
+        byte[] encoded = protobufCodec.encode(allKinds().get(0));
+        encoded[1] = 99;
+
+        assertThrows(JsonProcessingException.class, () -> ReplicatedEventCodec.decode(encoded));
+    }
+
+    private void assertDecodedEquals(List<ReplicatedEventQueueItem> expected, List<ReplicatedEventQueueItem> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            ReplicatedEventQueueItem expectedItem = expected.get(i);
+            ReplicatedEventQueueItem actualItem = actual.get(i);
+            assertEquals(expectedItem.getTaskId(), actualItem.getTaskId());
+            assertEquals(expectedItem.isClosedEvent(), actualItem.isClosedEvent());
+            if (expectedItem.isClosedEvent()) {
+                assertInstanceOf(QueueClosedEvent.class, actualItem.getEvent());
+            } else if (expectedItem.hasError()) {
+                assertInstanceOf(InvalidParamsError.class, actualItem.getErrorObject());
+                assertEquals(expectedItem.getErrorObject().getMessage(), actualItem.getErrorObject().getMessage());
+            } else {
+                assertEventEquals(expectedItem.getStreamingEvent(), actualItem.getStreamingEvent());
+            }
+        }
+    }
+
+    // Both codecs may turn absent metadata into empty metadata, so compare the relevant fields
+    private void assertEventEquals(StreamingEventKind expected, StreamingEventKind actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        if (expected instanceof Task task) {
+            Task actualTask = (Task) actual;
+            assertEquals(task.id(), actualTask.id());
+            assertEquals(task.contextId(), actualTask.contextId());
+            assertEquals(task.status().state(), actualTask.status().state());
+            assertEquals(task.metadata(), actualTask.metadata());
+        } else if (expected instanceof Message message) {
+            Message actualMessage = (Message) actual;
+            assertEquals(message.messageId(), actualMessage.messageId());
+            assertEquals(message.role(), actualMessage.role());
+            assertEquals(((TextPart) message.parts().get(0)).text(), ((TextPart) actualMessage.parts().get(0)).text());
+        } else if (expected instanceof TaskStatusUpdateEvent statusUpdate) {
+            TaskStatusUpdateEvent actualUpdate = (TaskStatusUpdateEvent) actual;
+            assertEquals(statusUpdate.taskId(), actualUpdate.taskId());
+            assertEquals(statusUpdate.status().state(), actualUpdate.status().state());
+        } else if (expected instanceof TaskArtifactUpdateEvent artifactUpdate) {
+            TaskArtifactUpdateEvent actualUpdate = (TaskArtifactUpdateEvent) actual;
+            assertEquals(artifactUpdate.taskId(), actualUpdate.taskId());
+            assertEquals(artifactUpdate.artifact().artifactId(), actualUpdate.artifact().artifactId());
+            assertEquals(artifactUpdate.append(), actualUpdate.append());
+            assertEquals(artifactUpdate.lastChunk(), actualUpdate.lastChunk());
+            assertEquals(((TextPart) artifactUpdate.artifact().parts().get(0)).text(),
+                    ((TextPart) actualUpdate.artifact().parts().get(0)).text());
+        }
+    }
+}
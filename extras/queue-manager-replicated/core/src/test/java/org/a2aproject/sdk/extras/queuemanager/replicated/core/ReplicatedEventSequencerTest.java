@@ -0,0 +1,171 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.server.events.QueueClosedEvent;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ReplicatedEventSequencerTest {
+
+    private static final String TASK_ID = "sequenced-task";
+    private static final String ORIGIN = "node-a/1";
+
+    private final List<Long> delivered = new CopyOnWriteArrayList<>();
+    private final List<String> resynced = new CopyOnWriteArrayList<>();
+    private ReplicatedEventSequencer sequencer;
+
+    private ReplicatedEventSequencer createSequencer(Duration gapTimeout, int maxBufferedEvents) {
+        sequencer = new ReplicatedEventSequencer(gapTimeout, maxBufferedEvents,
+                item -> delivered.add(item.getSequence()), resynced::add);
+        return sequencer;
+    }
+
+    private static ReplicatedEventQueueItem item(long sequence) {
+        ReplicatedEventQueueItem item = new ReplicatedEventQueueItem(TASK_ID, TaskStatusUpdateEvent.builder()
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build());
+        item.setOrigin(ORIGIN);
+        item.setSequence(sequence);
+        return item;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (sequencer != null) {
+            sequencer.close();
+        }
+    }
+
+    @Test
+    public void testDropsDuplicates() {
+        createSequencer(Duration.ofHours(1), 100);
+
+        sequencer.accept(item(1));
+        sequencer.accept(item(2));
+        sequencer.accept(item(1));
+        sequencer.accept(item(2));
+        sequencer.accept(item(3));
+
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertTrue(resynced.isEmpty());
+    }
+
+    @Test
+    public void testReordersBufferedEvents() {
+        createSequencer(Duration.ofHours(1), 100);
+
+        sequencer.accept(item(1));
+        sequencer.accept(item(3));
+        sequencer.accept(item(4));
+        assertEquals(List.of(1L), delivered);
+
+        sequencer.accept(item(2));
+        assertEquals(List.of(1L, 2L, 3L, 4L), delivered);
+        assertTrue(resynced.isEmpty());
+    }
+
+    @Test
+    public void testFirstEventsOutOfOrder() {
+        createSequencer(Duration.ofHours(1), 100);
+
+        sequencer.accept(item(2));
+        assertTrue(delivered.isEmpty());
+
+        sequencer.accept(item(1));
+        sequencer.accept(item(3));
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertTrue(resynced.isEmpty());
+    }
+
+    @Test
+    public void testJoiningInTheMiddleOfAStreamWaitsForTheGapTimeout() throws InterruptedException {
+        CountDownLatch resyncLatch = new CountDownLatch(1);
+        sequencer = new ReplicatedEventSequencer(Duration.ofMillis(50), 100,
+                item -> delivered.add(item.getSequence()), taskId -> {
+                    resynced.add(taskId);
+                    resyncLatch.countDown();
+                });
+
+        sequencer.accept(item(5));
+        sequencer.accept(item(6));
+
+        assertTrue(resyncLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(5L, 6L), delivered);
+        assertEquals(List.of(TASK_ID), resynced);
+        sequencer.accept(item(7));
+        assertEquals(List.of(5L, 6L, 7L), delivered);
+    }
+
+    @Test
+    public void testGapTimeoutDeliversBufferedEventsAndResyncs() throws InterruptedException {
+        CountDownLatch resyncLatch = new CountDownLatch(1);
+        sequencer = new ReplicatedEventSequencer(Duration.ofMillis(50), 100,
+                item -> delivered.add(item.getSequence()), taskId -> {
+                    resynced.add(taskId);
+                    resyncLatch.countDown();
+                });
+
+        sequencer.accept(item(1));
+        sequencer.accept(item(3));
+
+        assertTrue(resyncLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 3L), delivered);
+        assertEquals(List.of(TASK_ID), resynced);
+
+        // The missing event arrives too late and is treated as a duplicate
+        sequencer.accept(item(2));
+        sequencer.accept(item(4));
+        assertEquals(List.of(1L, 3L, 4L), delivered);
+    }
+
+    @Test
+    public void testTooManyBufferedEventsResyncImmediately() {
+        createSequencer(Duration.ofHours(1), 2);
+
+        sequencer.accept(item(1));
+        sequencer.accept(item(3));
+        sequencer.accept(item(4));
+
+        assertEquals(List.of(1L, 3L, 4L), delivered);
+        assertEquals(List.of(TASK_ID), resynced);
+    }
+
+    @Test
+    public void testUnsequencedEventsAreDeliveredAsTheyArrive() {
+        createSequencer(Duration.ofHours(1), 100);
+
+        ReplicatedEventQueueItem unsequenced = item(0);
+        unsequenced.setOrigin(null);
+        sequencer.accept(unsequenced);
+        sequencer.accept(unsequenced);
+
+        assertEquals(List.of(0L, 0L), delivered);
+    }
+
+    @Test
+    public void testPoisonPillEndsTracking() {
+        createSequencer(Duration.ofHours(1), 100);
+
+        sequencer.accept(item(1));
+        ReplicatedEventQueueItem closed = new ReplicatedEventQueueItem(TASK_ID, new QueueClosedEvent(TASK_ID));
+        closed.setOrigin(ORIGIN);
+        closed.setSequence(2);
+        sequencer.accept(closed);
+
+        assertEquals(List.of(1L, 2L), delivered);
+        assertEquals(0, sequencer.trackedTaskCount());
+    }
+}
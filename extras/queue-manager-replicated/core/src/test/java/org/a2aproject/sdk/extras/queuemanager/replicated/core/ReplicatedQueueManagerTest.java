@@ -3,6 +3,7 @@ package org.a2aproject.sdk.extras.queuemanager.replicated.core;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -10,6 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -473,6 +477,48 @@ class ReplicatedQueueManagerTest {
     }
 
 
+    @Test
+    void testTaskActivityCacheAdmitsReplicatedEventsWithoutLookups() throws InterruptedException {
+        AtomicInteger lookups = new AtomicInteger();
+        MockTaskStateProvider stateProvider = new MockTaskStateProvider(true) {
+            @Override
+            public boolean isTaskActive(String taskId) {
+                lookups.incrementAndGet();
+                return super.isTaskActive(taskId);
+            }
+        };
+        queueManager = new ReplicatedQueueManager(new CountingReplicationStrategy(), stateProvider, mainEventBus);
+        queueManager.enableTaskActivityCache(Duration.ofHours(1), Duration.ZERO, 100);
+
+        String taskId = "cached-task";
+        EventQueue childQueue = queueManager.createOrTap(taskId);
+        for (int i = 0; i < 5; i++) {
+            ReplicatedEventQueueItem replicatedEvent = new ReplicatedEventQueueItem(taskId, createEventForTask(taskId));
+            assertNotNull(dequeueEventWithRetry(childQueue, () -> queueManager.onReplicatedEvent(replicatedEvent)));
+        }
+        // The local subscriber makes the task known as active
+        assertEquals(0, lookups.get());
+
+        // A replicated final event ends the task on this node, later events are skipped without a lookup
+        TaskStatusUpdateEvent finalEvent = TaskStatusUpdateEvent.builder()
+                .taskId(taskId)
+                .contextId("test-context")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                .build();
+        ReplicatedEventQueueItem finalItem = new ReplicatedEventQueueItem(taskId, finalEvent);
+        assertNotNull(dequeueEventWithRetry(childQueue, () -> queueManager.onReplicatedEvent(finalItem)));
+
+        queueManager.onReplicatedEvent(new ReplicatedEventQueueItem(taskId, createEventForTask(taskId)));
+        assertEquals(0, lookups.get());
+
+        // Tasks unknown to this node are looked up once, also when they are not active
+        stateProvider.setActive(false);
+        for (int i = 0; i < 5; i++) {
+            queueManager.onReplicatedEvent(new ReplicatedEventQueueItem("other-task", createEventForTask("other-task")));
+        }
+        assertEquals(1, lookups.get());
+    }
+
     @Test
     void testReplicatedEventToExistingQueueWhenTaskBecomesInactive() throws InterruptedException {
         // Create a task state provider that returns true initially
@@ -607,6 +653,138 @@ class ReplicatedQueueManagerTest {
                 "Second event should be QueueClosedEvent");
     }
 
+    @Test
+    void testInterestFilteringOnlyReplicatesToInterestedNodes() throws InterruptedException {
+        CountingReplicationStrategy strategy = new CountingReplicationStrategy();
+        queueManager = new ReplicatedQueueManager(strategy, new MockTaskStateProvider(true), mainEventBus);
+        queueManager.enableInterestFiltering("node-a", Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1));
+        try {
+            String taskId = "interest-task";
+            // The node producing the events of the task does not announce interest in it
+            EventQueue queue = queueManager.createOrTap(taskId);
+            assertEquals(0, strategy.getCallCount());
+
+            // No other node is interested, so the event is held
+            TaskStatusUpdateEvent event = createEventForTask(taskId);
+            waitForEventProcessing(() -> queue.enqueueEvent(event));
+            assertEquals(0, strategy.getCallCount());
+
+            // The held event is replicated when another node announces interest
+            queueManager.onReplicatedEvent(new ReplicatedEventQueueItem(taskId, new SubscriberInterestEvent("node-b", true)));
+            assertEquals(1, strategy.getCallCount());
+            assertEquals(event, strategy.getLastEvent());
+
+            waitForEventProcessing(() -> queue.enqueueEvent(event));
+            assertEquals(2, strategy.getCallCount());
+            assertEquals(event, strategy.getLastEvent());
+
+            queueManager.onReplicatedEvent(new ReplicatedEventQueueItem(taskId, new SubscriberInterestEvent("node-b", false)));
+            waitForEventProcessing(() -> queue.enqueueEvent(event));
+            assertEquals(2, strategy.getCallCount());
+
+            // The final state and the poison pill are always replicated
+            Task finalTask = Task.builder()
+                    .id(taskId)
+                    .contextId("test-context")
+                    .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                    .build();
+            queueManager.onTaskFinalized(new TaskFinalizedEvent(taskId, finalTask));
+            assertEquals(4, strategy.getCallCount());
+            assertInstanceOf(QueueClosedEvent.class, strategy.getLastEvent());
+        } finally {
+            queueManager.close();
+        }
+    }
+
+    @Test
+    void testInterestFilteringSkipsReplicatedEventsWithoutLocalSubscribers() {
+        queueManager = new ReplicatedQueueManager(new CountingReplicationStrategy(), new MockTaskStateProvider(true), mainEventBus);
+        queueManager.enableInterestFiltering("node-a", Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1));
+        try {
+            String taskId = "no-subscriber-task";
+
+            queueManager.onReplicatedEvent(new ReplicatedEventQueueItem(taskId, createEventForTask(taskId)));
+            queueManager.onReplicatedEvent(new ReplicatedEventQueueItem(taskId, new SubscriberInterestEvent("node-b", true)));
+
+            assertNull(queueManager.get(taskId), "Queue should not be created without local subscribers");
+            assertTrue(queueManager.getInterestRegistry().hasRemoteInterest(taskId));
+        } finally {
+            queueManager.close();
+        }
+    }
+
+    @Test
+    void testInterestFilteringAnnouncesSubscribersOnly() {
+        CountingReplicationStrategy strategy = new CountingReplicationStrategy();
+        queueManager = new ReplicatedQueueManager(strategy, new MockTaskStateProvider(true), mainEventBus);
+        queueManager.enableInterestFiltering("node-a", Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1));
+        try {
+            String taskId = "subscribed-task";
+
+            // A client subscribing to a task running on another node finds no queue, and recreates it
+            assertNull(queueManager.tap(taskId));
+            assertEquals(1, strategy.getCallCount());
+            assertInstanceOf(SubscriberInterestEvent.class, strategy.getLastEvent());
+            assertTrue(((SubscriberInterestEvent) strategy.getLastEvent()).isInterested());
+
+            assertNotNull(queueManager.createOrTap(taskId));
+            assertNotNull(queueManager.tap(taskId));
+            assertEquals(1, strategy.getCallCount());
+        } finally {
+            queueManager.close();
+        }
+    }
+
+    @Test
+    void testReplicatedEventsAreStampedWithSequence() throws InterruptedException {
+        List<ReplicatedEventQueueItem> sent = new CopyOnWriteArrayList<>();
+        ReplicationStrategy capturingStrategy = new ReplicationStrategy() {
+            @Override
+            public void send(String taskId, Event event) {
+                fail("Items should be sent with their sequence");
+            }
+
+            @Override
+            public void send(ReplicatedEventQueueItem item) {
+                sent.add(item);
+            }
+        };
+        queueManager = new ReplicatedQueueManager(capturingStrategy, new MockTaskStateProvider(true), mainEventBus);
+
+        String taskId = "sequence-task";
+        EventQueue queue = queueManager.createOrTap(taskId);
+        TaskStatusUpdateEvent event = createEventForTask(taskId);
+        waitForEventProcessing(() -> queue.enqueueEvent(event));
+        waitForEventProcessing(() -> queue.enqueueEvent(event));
+
+        assertEquals(2, sent.size());
+        assertNotNull(sent.get(0).getOrigin());
+        assertEquals(sent.get(0).getOrigin(), sent.get(1).getOrigin());
+        assertEquals(1, sent.get(0).getSequence());
+        assertEquals(2, sent.get(1).getSequence());
+    }
+
+    @Test
+    void testSequencingDropsDuplicateReplicatedEvents() throws Exception {
+        queueManager.enableSequencing(Duration.ofHours(1), 100);
+        try {
+            String taskId = "duplicate-task";
+            EventQueue queue = queueManager.createOrTap(taskId);
+            ReplicatedEventQueueItem replicatedEvent = new ReplicatedEventQueueItem(taskId, createEventForTask(taskId));
+            replicatedEvent.setOrigin("node-b/1");
+            replicatedEvent.setSequence(1);
+
+            EventQueueItem item = dequeueEventWithRetry(queue, () -> queueManager.onReplicatedEvent(replicatedEvent));
+            assertNotNull(item);
+
+            // Redelivery of the same record is dropped before reaching the queue
+            queueManager.onReplicatedEvent(replicatedEvent);
+            assertNull(queue.dequeueEventItem(200));
+        } finally {
+            queueManager.close();
+        }
+    }
+
     private TaskStatusUpdateEvent getTaskStatusUpdateEventWithNewId(String taskId) {
         return TaskStatusUpdateEvent.builder((TaskStatusUpdateEvent) testEvent).taskId(taskId).build();
     }
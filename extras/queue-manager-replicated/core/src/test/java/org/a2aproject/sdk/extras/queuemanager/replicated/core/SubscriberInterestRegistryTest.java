@@ -0,0 +1,169 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.a2aproject.sdk.spec.Event;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SubscriberInterestRegistryTest {
+
+    private final List<SubscriberInterestEvent> announcements = new CopyOnWriteArrayList<>();
+    private final List<Event> replicated = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> localSubscribers = new ConcurrentHashMap<>();
+    private SubscriberInterestRegistry registry;
+
+    private SubscriberInterestRegistry createRegistry(Duration ttl) {
+        return createRegistry(ttl, Duration.ofHours(1));
+    }
+
+    private SubscriberInterestRegistry createRegistry(Duration ttl, Duration replayWindow) {
+        registry = new SubscriberInterestRegistry("node-a", Duration.ofHours(1), ttl, replayWindow,
+                (taskId, event) -> announcements.add(event),
+                (taskId, event) -> replicated.add(event),
+                taskId -> localSubscribers.getOrDefault(taskId, -1));
+        return registry;
+    }
+
+    private static TaskStatusUpdateEvent createEvent(String taskId, String contextId) {
+        return TaskStatusUpdateEvent.builder()
+                .taskId(taskId)
+                .contextId(contextId)
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (registry != null) {
+            registry.close();
+        }
+    }
+
+    @Test
+    public void testRemoteInterestExpiresWithoutHeartbeat() throws InterruptedException {
+        createRegistry(Duration.ofMillis(50));
+
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-b", true));
+        assertTrue(registry.hasRemoteInterest("task-1"));
+        assertFalse(registry.hasRemoteInterest("task-2"));
+
+        Thread.sleep(100);
+        assertFalse(registry.hasRemoteInterest("task-1"));
+    }
+
+    @Test
+    public void testOwnAnnouncementsAreIgnored() {
+        createRegistry(Duration.ofHours(1));
+
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-a", true));
+
+        assertFalse(registry.hasRemoteInterest("task-1"));
+    }
+
+    @Test
+    public void testHeartbeatRefreshesAndWithdrawsLocalInterest() {
+        createRegistry(Duration.ofHours(1));
+        localSubscribers.put("task-1", 1);
+
+        registry.onLocalSubscriber("task-1");
+        registry.onLocalSubscriber("task-1");
+        assertEquals(1, announcements.size());
+
+        registry.heartbeat();
+        assertEquals(2, announcements.size());
+        assertTrue(announcements.get(1).isInterested());
+
+        // The last subscription was closed
+        localSubscribers.put("task-1", 0);
+        registry.heartbeat();
+        assertEquals(3, announcements.size());
+        assertFalse(announcements.get(2).isInterested());
+
+        registry.heartbeat();
+        assertEquals(3, announcements.size());
+    }
+
+    @Test
+    public void testNewInterestIsKeptUntilTheNextHeartbeat() {
+        createRegistry(Duration.ofHours(1));
+
+        // The subscription is not open yet
+        registry.onLocalSubscriber("task-1");
+        registry.heartbeat();
+        assertEquals(1, announcements.size());
+
+        registry.heartbeat();
+        assertEquals(2, announcements.size());
+        assertFalse(announcements.get(1).isInterested());
+    }
+
+    @Test
+    public void testEventsWithoutInterestAreReplayedOnAnnouncement() {
+        createRegistry(Duration.ofHours(1));
+        Event first = createEvent("task-1", "first");
+        Event second = createEvent("task-1", "second");
+        Event third = createEvent("task-1", "third");
+
+        registry.onLocalEvent("task-1", first);
+        registry.onLocalEvent("task-1", second);
+        assertTrue(replicated.isEmpty());
+
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-b", true));
+        assertEquals(List.of(first, second), replicated);
+
+        registry.onLocalEvent("task-1", third);
+        assertEquals(List.of(first, second, third), replicated);
+
+        // Replayed once only
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-b", true));
+        assertEquals(3, replicated.size());
+    }
+
+    @Test
+    public void testHeldEventsAreDroppedAfterTheReplayWindow() throws InterruptedException {
+        createRegistry(Duration.ofHours(1), Duration.ofMillis(50));
+
+        registry.onLocalEvent("task-1", createEvent("task-1", "old"));
+        Thread.sleep(100);
+        Event recent = createEvent("task-1", "recent");
+        registry.onLocalEvent("task-1", recent);
+
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-b", true));
+        assertEquals(List.of(recent), replicated);
+    }
+
+    @Test
+    public void testHeldEventsAreBounded() {
+        createRegistry(Duration.ofHours(1));
+
+        for (int i = 0; i < SubscriberInterestRegistry.MAX_HELD_EVENTS_PER_TASK + 10; i++) {
+            registry.onLocalEvent("task-1", createEvent("task-1", "event-" + i));
+        }
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-b", true));
+
+        assertEquals(SubscriberInterestRegistry.MAX_HELD_EVENTS_PER_TASK, replicated.size());
+    }
+
+    @Test
+    public void testForgottenTasksAreNotReplayed() {
+        createRegistry(Duration.ofHours(1));
+
+        registry.onLocalEvent("task-1", createEvent("task-1", "event"));
+        registry.forget("task-1");
+        registry.onInterestEvent("task-1", new SubscriberInterestEvent("node-b", true));
+
+        assertTrue(replicated.isEmpty());
+    }
+}
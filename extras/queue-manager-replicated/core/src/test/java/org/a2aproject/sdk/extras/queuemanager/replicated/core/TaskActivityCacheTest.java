@@ -0,0 +1,134 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.a2aproject.sdk.server.tasks.TaskStateProvider;
+import org.junit.jupiter.api.Test;
+
+public class TaskActivityCacheTest {
+
+    private static class CountingTaskStateProvider implements TaskStateProvider {
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile boolean exists = true;
+        private volatile boolean finalized;
+
+        @Override
+        public boolean isTaskActive(String taskId) {
+            lookups.incrementAndGet();
+            return exists && !finalized;
+        }
+
+        @Override
+        public boolean isTaskFinalized(String taskId) {
+            lookups.incrementAndGet();
+            return exists && finalized;
+        }
+    }
+
+    private final CountingTaskStateProvider provider = new CountingTaskStateProvider();
+
+    @Test
+    public void testActiveTaskIsLoadedOnce() {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofHours(1), Duration.ofHours(1), 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.isTaskActive("task"));
+        }
+        assertEquals(1, provider.lookups.get());
+    }
+
+    @Test
+    public void testActiveTaskIsReloadedAfterTtl() throws InterruptedException {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofMillis(10), Duration.ZERO, 100);
+
+        assertTrue(cache.isTaskActive("task"));
+        provider.finalized = true;
+        Thread.sleep(20);
+
+        assertFalse(cache.isTaskActive("task"));
+        int lookups = provider.lookups.get();
+        assertFalse(cache.isTaskActive("task"));
+        assertEquals(lookups, provider.lookups.get());
+    }
+
+    @Test
+    public void testFinalizedTaskIsActiveDuringGracePeriod() throws InterruptedException {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofHours(1), Duration.ofMillis(50), 100);
+
+        assertTrue(cache.isTaskActive("task"));
+        cache.onTaskFinalized("task");
+        assertTrue(cache.isTaskActive("task"));
+
+        Thread.sleep(100);
+        assertFalse(cache.isTaskActive("task"));
+        assertEquals(1, provider.lookups.get());
+    }
+
+    @Test
+    public void testInactiveTaskIsCachedForTtl() throws InterruptedException {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofMillis(50), Duration.ofHours(1), 100);
+        provider.exists = false;
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(cache.isTaskActive("task"));
+        }
+        assertEquals(1, provider.lookups.get());
+
+        provider.exists = true;
+        Thread.sleep(100);
+        assertTrue(cache.isTaskActive("task"));
+        assertEquals(2, provider.lookups.get());
+    }
+
+    @Test
+    public void testLocallyActiveTaskIsNotLoaded() {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofHours(1), Duration.ofHours(1), 100);
+        provider.exists = false;
+        assertFalse(cache.isTaskActive("remote-task"));
+
+        // A task created or subscribed to on this node replaces the cached negative result
+        cache.onTaskActive("remote-task");
+        cache.onTaskActive("local-task");
+        assertTrue(cache.isTaskActive("remote-task"));
+        assertTrue(cache.isTaskActive("local-task"));
+        assertEquals(1, provider.lookups.get());
+
+        // Finalization is not undone by later local events
+        cache.onTaskFinalized("local-task");
+        cache.onTaskActive("local-task");
+        assertTrue(cache.isTaskActive("local-task"));
+        assertEquals(1, provider.lookups.get());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofHours(1), Duration.ofHours(1), 10);
+
+        for (int i = 0; i < 100; i++) {
+            cache.isTaskActive("task-" + i);
+        }
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTaskIsEvicted() {
+        TaskActivityCache cache = new TaskActivityCache(provider, Duration.ofHours(1), Duration.ofHours(1), 2);
+
+        cache.isTaskActive("task-1");
+        cache.isTaskActive("task-2");
+        // task-1 is used again, so task-2 is evicted by task-3
+        cache.isTaskActive("task-1");
+        cache.isTaskActive("task-3");
+        int lookups = provider.lookups.get();
+
+        assertTrue(cache.isTaskActive("task-1"));
+        assertEquals(lookups, provider.lookups.get());
+        assertTrue(cache.isTaskActive("task-2"));
+        assertEquals(lookups + 1, provider.lookups.get());
+    }
+}
@@ -1,61 +1,237 @@
 package org.a2aproject.sdk.extras.queuemanager.replicated.mp_reactive;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventCodec;
 import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventQueueItem;
 import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicationStrategy;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+
+/**
+ * {@link ReplicationStrategy} using MicroProfile Reactive Messaging.
+ * <p>
+ * Outgoing records are keyed by task ID when the Kafka connector is on the classpath, so all
+ * events of a task go to the same partition and consumers can scale out across partitions.
+ * </p>
+ * <p>
+ * When {@code a2a.replication.batch.linger-ms} is greater than zero, events of a task are buffered
+ * for up to that time (or {@code a2a.replication.batch.max-events} events) and sent as a single
+ * record holding a JSON array of events. Final events and the poison pill are sent immediately.
+ * Batched records can only be read by nodes that include batching support, so all nodes must be
+ * upgraded before enabling it.
+ * </p>
+ * <p>
+ * Records are encoded with a {@link ReplicatedEventCodec}. {@code a2a.replication.codec} selects
+ * {@code json} (the default, readable by earlier releases) or the binary {@code protobuf} format,
+ * optionally gzip compressed above {@code a2a.replication.compression-threshold-bytes}. JSON
+ * records are sent as {@code String} payloads, as in earlier releases, and protobuf records as
+ * {@code byte[]} payloads, which need a binary serializer on the outgoing channel. Incoming
+ * records in either format are accepted, as {@code String} or {@code byte[]} payloads.
+ * </p>
+ */
 @ApplicationScoped
 public class ReactiveMessagingReplicationStrategy implements ReplicationStrategy {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMessagingReplicationStrategy.class);
 
+    private static final String A2A_REPLICATION_BATCH_LINGER_MS = "a2a.replication.batch.linger-ms";
+    private static final String A2A_REPLICATION_BATCH_MAX_EVENTS = "a2a.replication.batch.max-events";
+    private static final String A2A_REPLICATION_CODEC = "a2a.replication.codec";
+    private static final String A2A_REPLICATION_COMPRESSION_THRESHOLD = "a2a.replication.compression-threshold-bytes";
+
+    private static final boolean KAFKA_METADATA_AVAILABLE = isClassAvailable(
+            "io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata");
+
+    // String payloads for JSON, byte[] payloads for protobuf
     @Inject
     @Channel("replicated-events-out")
-    private Emitter<String> emitter;
+    private Emitter<Object> emitter;
 
     @Inject
     private Event<ReplicatedEventQueueItem> cdiEvent;
 
+    @Inject
+    A2AConfigProvider configProvider;
+
+    private volatile ReplicatedEventBatcher batcher;
+    private volatile ReplicatedEventCodec codec = new ReplicatedEventCodec(ReplicatedEventCodec.Format.JSON, -1);
+
+    @PostConstruct
+    void initConfig() {
+        if (configProvider == null) {
+            return;
+        }
+        long lingerMs = Long.parseLong(configProvider.getValue(A2A_REPLICATION_BATCH_LINGER_MS));
+        int maxEvents = Integer.parseInt(configProvider.getValue(A2A_REPLICATION_BATCH_MAX_EVENTS));
+        setBatching(Duration.ofMillis(lingerMs), maxEvents);
+        ReplicatedEventCodec.Format format = ReplicatedEventCodec.Format.valueOf(
+                configProvider.getValue(A2A_REPLICATION_CODEC).trim().toUpperCase(Locale.ROOT));
+        int compressionThreshold = Integer.parseInt(configProvider.getValue(A2A_REPLICATION_COMPRESSION_THRESHOLD));
+        setCodec(new ReplicatedEventCodec(format, compressionThreshold));
+    }
+
+    void setCodec(ReplicatedEventCodec codec) {
+        LOGGER.debug("Encoding replicated events as {}", codec.getFormat());
+        this.codec = codec;
+    }
+
+    @PreDestroy
+    void close() {
+        setBatching(Duration.ZERO, 0);
+    }
+
+    /**
+     * Configures micro-batching of outgoing events. A zero linger time disables batching;
+     * events already buffered are sent.
+     *
+     * @param linger how long events of a task are buffered before they are sent
+     * @param maxEvents the number of buffered events of a task that triggers a send
+     */
+    void setBatching(Duration linger, int maxEvents) {
+        ReplicatedEventBatcher previous = batcher;
+        if (linger.isZero() || linger.isNegative()) {
+            batcher = null;
+        } else {
+            LOGGER.debug("Batching replicated events with linger {} and max events {}", linger, maxEvents);
+            batcher = new ReplicatedEventBatcher(linger, maxEvents, this::sendBatch);
+        }
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
     @Override
     public void send(String taskId, org.a2aproject.sdk.spec.Event event) {
-        LOGGER.debug("Sending replicated event for task: {}, event: {}", taskId, event);
+        send(new ReplicatedEventQueueItem(taskId, event));
+    }
+
+    @Override
+    public void send(ReplicatedEventQueueItem replicatedEvent) {
+        String taskId = replicatedEvent.getTaskId();
+        LOGGER.debug("Sending replicated event for task: {}, event: {}", taskId, replicatedEvent.getEvent());
 
         try {
-            ReplicatedEventQueueItem replicatedEvent = new ReplicatedEventQueueItem(taskId, event);
-            String json = JsonUtil.toJson(replicatedEvent);
-            emitter.send(json);
+            ReplicatedEventBatcher currentBatcher = batcher;
+            if (currentBatcher != null) {
+                currentBatcher.add(taskId, replicatedEvent, isFinal(replicatedEvent));
+                return;
+            }
+            ReplicatedEventCodec currentCodec = codec;
+            Object payload = currentCodec.getFormat() == ReplicatedEventCodec.Format.JSON
+                    ? JsonUtil.toJson(replicatedEvent)
+                    : currentCodec.encode(replicatedEvent);
+            emitter.send(createMessage(taskId, payload));
             LOGGER.debug("Successfully sent replicated event for task: {}", taskId);
         } catch (Exception e) {
-            LOGGER.error("Failed to send replicated event for task: {}, event: {}", taskId, event, e);
+            LOGGER.error("Failed to send replicated event for task: {}, event: {}", taskId, replicatedEvent.getEvent(), e);
             throw new RuntimeException("Failed to send replicated event", e);
         }
     }
 
-    @Incoming("replicated-events-in")
-    public void onReplicatedEvent(String jsonMessage) {
-        LOGGER.debug("Received replicated event JSON: {}", jsonMessage);
+    private void sendBatch(String taskId, List<ReplicatedEventQueueItem> items) {
+        Object payload;
+        try {
+            ReplicatedEventCodec currentCodec = codec;
+            payload = currentCodec.getFormat() == ReplicatedEventCodec.Format.JSON
+                    ? ReplicatedEventCodec.toJson(items)
+                    : currentCodec.encodeBatch(items);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Failed to serialize batch of {} replicated events for task: {}", items.size(), taskId, e);
+            return;
+        }
+        emitter.send(createMessage(taskId, payload));
+        LOGGER.debug("Successfully sent batch of {} replicated events for task: {}", items.size(), taskId);
+    }
+
+    private static Message<Object> createMessage(String taskId, Object payload) {
+        Message<Object> message = Message.of(payload);
+        if (KAFKA_METADATA_AVAILABLE) {
+            message = KafkaKeys.withKey(message, taskId);
+        }
+        return message;
+    }
 
+    private static boolean isFinal(ReplicatedEventQueueItem item) {
+        return item.isClosedEvent()
+                || item.getStreamingEvent() instanceof TaskStatusUpdateEvent statusUpdate && statusUpdate.isFinal();
+    }
+
+    private static boolean isClassAvailable(String className) {
         try {
-            ReplicatedEventQueueItem replicatedEvent = JsonUtil.fromJson(jsonMessage, ReplicatedEventQueueItem.class);
-            LOGGER.debug("Deserialized replicated event for task: {}, event: {}",
-                    replicatedEvent.getTaskId(), replicatedEvent.getEvent());
+            Class.forName(className, false, ReactiveMessagingReplicationStrategy.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Receives a replicated event record, as a {@code String} from channels using a string
+     * deserializer, or as {@code byte[]} from channels using a binary one.
+     *
+     * @param message the record payload
+     */
+    @Incoming("replicated-events-in")
+    public void onReplicatedEvent(Object message) {
+        String description = message instanceof byte[] bytes ? bytes.length + " bytes" : String.valueOf(message);
+        LOGGER.debug("Received replicated event record: {}", description);
 
-            // Fire the CDI event directly
-            cdiEvent.fire(replicatedEvent);
-            LOGGER.debug("Successfully fired CDI event for task: {}", replicatedEvent.getTaskId());
+        try {
+            // A batch holds the events of one task, in the order they were sent
+            List<ReplicatedEventQueueItem> replicatedEvents;
+            if (message instanceof byte[] bytes) {
+                replicatedEvents = ReplicatedEventCodec.decode(bytes);
+            } else if (message instanceof String json) {
+                replicatedEvents = ReplicatedEventCodec.decode(json);
+            } else {
+                LOGGER.error("Unsupported replicated event record payload: {}", message.getClass().getName());
+                return;
+            }
+            for (ReplicatedEventQueueItem replicatedEvent : replicatedEvents) {
+                fireReplicatedEvent(replicatedEvent);
+            }
         } catch (Exception e) {
-            LOGGER.error("Failed to deserialize replicated event from JSON: {}", jsonMessage, e);
+            LOGGER.error("Failed to deserialize replicated event record: {}", description, e);
             // Don't throw - just log the error and continue processing other messages
             // This prevents one bad message from stopping the entire message processing
         }
     }
-}
\ No newline at end of file
+
+    private void fireReplicatedEvent(ReplicatedEventQueueItem replicatedEvent) {
+        LOGGER.debug("Deserialized replicated event for task: {}, event: {}",
+                replicatedEvent.getTaskId(), replicatedEvent.getEvent());
+
+        // Fire the CDI event directly
+        cdiEvent.fire(replicatedEvent);
+        LOGGER.debug("Successfully fired CDI event for task: {}", replicatedEvent.getTaskId());
+    }
+
+    /**
+     * Kafka specific metadata, kept in a separate class so it is only loaded when the Kafka
+     * connector is present.
+     */
+    private static final class KafkaKeys {
+        static Message<Object> withKey(Message<Object> message, String taskId) {
+            return message.addMetadata(OutgoingKafkaRecordMetadata.<String>builder().withKey(taskId).build());
+        }
+    }
+}
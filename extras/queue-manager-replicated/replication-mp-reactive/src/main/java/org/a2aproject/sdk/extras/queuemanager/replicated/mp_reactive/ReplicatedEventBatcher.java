@@ -0,0 +1,197 @@
+package org.a2aproject.sdk.extras.queuemanager.replicated.mp_reactive;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventQueueItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers replicated events per task and emits them as a single batch once the linger time
+ * elapses or the maximum number of events has been buffered.
+ * <p>
+ * Batches are emitted outside the batcher's lock. Only one batch of a task is emitted at a time;
+ * a batch that becomes due meanwhile is emitted by the same thread once the previous one is out,
+ * so the batches of a task are emitted in the order their events were added.
+ * </p>
+ * <p>
+ * A batch emitted by {@link #add} is emitted on the caller's thread, and a failure is thrown to
+ * the caller, as when events are sent unbatched. A batch emitted when the linger time elapses has
+ * no caller to report to: if it fails, its events are buffered again, ahead of newer events of
+ * the task, and retried after the linger time. Since they count towards the maximum number of
+ * events, a batch that keeps failing is eventually emitted by a caller of {@link #add}, which
+ * sees the failure.
+ * </p>
+ */
+class ReplicatedEventBatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicatedEventBatcher.class);
+
+    private final Duration linger;
+    private final int maxEvents;
+    private final BiConsumer<String, List<ReplicatedEventQueueItem>> batchSender;
+    private final ScheduledExecutorService scheduler;
+
+    // Guarded by this
+    private final Map<String, PendingBatch> pending = new HashMap<>();
+    // Tasks with a batch being emitted, guarded by this
+    private final Set<String> emitting = new HashSet<>();
+
+    private static final class PendingBatch {
+        private final List<ReplicatedEventQueueItem> items = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+        // Due while the previous batch of the task was being emitted
+        private boolean due;
+    }
+
+    ReplicatedEventBatcher(Duration linger, int maxEvents, BiConsumer<String, List<ReplicatedEventQueueItem>> batchSender) {
+        this.linger = linger;
+        this.maxEvents = maxEvents;
+        this.batchSender = batchSender;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "a2a-replication-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds an event to the batch of its task.
+     *
+     * @param taskId the task ID
+     * @param item the replicated event
+     * @param flushNow whether to emit the batch without waiting for the linger time, e.g. for
+     *                 final events and the poison pill
+     * @throws RuntimeException if the batch was emitted and emitting it failed
+     */
+    void add(String taskId, ReplicatedEventQueueItem item, boolean flushNow) {
+        synchronized (this) {
+            PendingBatch batch = pending.computeIfAbsent(taskId, k -> new PendingBatch());
+            batch.items.add(item);
+            if (!flushNow && batch.items.size() < maxEvents && !scheduler.isShutdown()) {
+                scheduleFlush(taskId, batch);
+                return;
+            }
+        }
+        flush(taskId);
+    }
+
+    /**
+     * Emits all buffered batches and stops the background thread.
+     */
+    void close() {
+        List<String> taskIds;
+        synchronized (this) {
+            scheduler.shutdownNow();
+            taskIds = new ArrayList<>(pending.keySet());
+        }
+        for (String taskId : taskIds) {
+            try {
+                flush(taskId);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to send batch of replicated events for task: {}", taskId, e);
+            }
+        }
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    // Must be called while holding the lock
+    private void scheduleFlush(String taskId, PendingBatch batch) {
+        if (batch.timer == null && !scheduler.isShutdown()) {
+            batch.timer = scheduler.schedule(() -> flushAfterLinger(taskId), linger.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flushAfterLinger(String taskId) {
+        List<ReplicatedEventQueueItem> failed = new ArrayList<>();
+        try {
+            flush(taskId, failed);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                LOGGER.warn("Failed to send batch of {} replicated events for task: {}, retrying in {}",
+                        failed.size(), taskId, linger, e);
+                PendingBatch batch = pending.computeIfAbsent(taskId, k -> new PendingBatch());
+                batch.items.addAll(0, failed);
+                scheduleFlush(taskId, batch);
+            }
+        }
+    }
+
+    private void flush(String taskId) {
+        flush(taskId, new ArrayList<>());
+    }
+
+    /**
+     * Emits the batch of a task, and the batches that become due while it is emitted.
+     *
+     * @param failed receives the events of the batch that failed
+     */
+    private void flush(String taskId, List<ReplicatedEventQueueItem> failed) {
+        List<ReplicatedEventQueueItem> items;
+        synchronized (this) {
+            if (emitting.contains(taskId)) {
+                // The thread emitting the previous batch emits this one next
+                PendingBatch batch = pending.get(taskId);
+                if (batch != null) {
+                    batch.due = true;
+                }
+                return;
+            }
+            items = takeBatch(taskId);
+            if (items == null) {
+                return;
+            }
+            emitting.add(taskId);
+        }
+        while (items != null) {
+            try {
+                batchSender.accept(taskId, items);
+            } catch (RuntimeException e) {
+                failed.addAll(items);
+                synchronized (this) {
+                    emitting.remove(taskId);
+                    PendingBatch next = pending.get(taskId);
+                    if (next != null && next.due) {
+                        // Its timer has run, emit it after the linger time instead
+                        next.due = false;
+                        scheduleFlush(taskId, next);
+                    }
+                }
+                throw e;
+            }
+            synchronized (this) {
+                PendingBatch next = pending.get(taskId);
+                items = next != null && next.due ? takeBatch(taskId) : null;
+                if (items == null) {
+                    emitting.remove(taskId);
+                }
+            }
+        }
+    }
+
+    // Must be called while holding the lock
+    private List<ReplicatedEventQueueItem> takeBatch(String taskId) {
+        PendingBatch batch = pending.remove(taskId);
+        if (batch == null) {
+            return null;
+        }
+        if (batch.timer != null) {
+            batch.timer.cancel(false);
+        }
+        return batch.items;
+    }
+}
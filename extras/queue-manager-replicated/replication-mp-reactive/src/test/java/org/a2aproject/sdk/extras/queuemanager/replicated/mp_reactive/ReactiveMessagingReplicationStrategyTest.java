@@ -2,14 +2,22 @@ package org.a2aproject.sdk.extras.queuemanager.replicated.mp_reactive;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
 import jakarta.enterprise.event.Event;
 
+import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventCodec;
 import org.a2aproject.sdk.extras.queuemanager.replicated.core.ReplicatedEventQueueItem;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
 import org.a2aproject.sdk.spec.StreamingEventKind;
@@ -17,9 +25,13 @@ import org.a2aproject.sdk.spec.TaskState;
 import org.a2aproject.sdk.spec.TaskStatus;
 import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,7 +40,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ReactiveMessagingReplicationStrategyTest {
 
     @Mock
-    private Emitter<String> emitter;
+    private Emitter<Object> emitter;
 
     @Mock
     private Event<ReplicatedEventQueueItem> cdiEvent;
@@ -65,7 +77,146 @@ class ReactiveMessagingReplicationStrategyTest {
         strategy.send(taskId, testEvent);
 
         // Verify that emitter.send was called (don't care about exact JSON format)
-        verify(emitter).send(any(String.class));
+        verify(emitter).send(any(Message.class));
+    }
+
+    @Test
+    public void testSendKeysRecordByTaskId() {
+        String taskId = "test-task-key";
+
+        strategy.send(taskId, testEvent);
+
+        ArgumentCaptor<Message<Object>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(emitter).send(captor.capture());
+        OutgoingKafkaRecordMetadata<?> metadata = captor.getValue().getMetadata(OutgoingKafkaRecordMetadata.class)
+                .orElseThrow();
+        assertEquals(taskId, metadata.getKey());
+    }
+
+    @Test
+    public void testJsonIsSentAsString() throws Exception {
+        String taskId = "test-task-json";
+
+        strategy.send(taskId, testEvent);
+
+        ArgumentCaptor<Message<Object>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(emitter).send(captor.capture());
+        String payload = assertInstanceOf(String.class, captor.getValue().getPayload());
+        assertEquals(taskId, JsonUtil.fromJson(payload, ReplicatedEventQueueItem.class).getTaskId());
+    }
+
+    @Test
+    public void testBatchingSendsEventsOfTaskInOneRecord() throws Exception {
+        String taskId = "test-task-batch";
+        strategy.setBatching(Duration.ofMinutes(10), 100);
+        try {
+            strategy.send(taskId, testEvent);
+            strategy.send(taskId, testEvent);
+            verify(emitter, never()).send(any(Message.class));
+
+            // A final event flushes the batch immediately
+            strategy.send(taskId, TaskStatusUpdateEvent.builder()
+                    .taskId(taskId)
+                    .contextId("test-context")
+                    .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                    .build());
+
+            ArgumentCaptor<Message<Object>> captor = ArgumentCaptor.forClass(Message.class);
+            verify(emitter).send(captor.capture());
+            List<ReplicatedEventQueueItem> items = ReplicatedEventCodec.decode((String) captor.getValue().getPayload());
+            assertEquals(3, items.size());
+            assertEquals(TaskState.TASK_STATE_COMPLETED,
+                    ((TaskStatusUpdateEvent) items.get(2).getEvent()).status().state());
+        } finally {
+            strategy.setBatching(Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testBatchingFlushesAfterLinger() {
+        strategy.setBatching(Duration.ofMillis(50), 100);
+        try {
+            strategy.send("test-task-linger", testEvent);
+            verify(emitter, timeout(5000)).send(any(Message.class));
+        } finally {
+            strategy.setBatching(Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testBatchingPropagatesEmitterExceptions() {
+        RuntimeException emitterException = new RuntimeException("Broker unavailable");
+        doThrow(emitterException).when(emitter).send(any(Message.class));
+        strategy.setBatching(Duration.ofMinutes(10), 100);
+        try {
+            RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                    strategy.send("test-task-batch-failure", TaskStatusUpdateEvent.builder()
+                            .taskId("test-task-batch-failure")
+                            .contextId("test-context")
+                            .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                            .build()));
+            assertEquals(emitterException, exception.getCause());
+        } finally {
+            strategy.setBatching(Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testBatchingRetriesBatchesFailedAfterLinger() throws Exception {
+        doThrow(new RuntimeException("Broker unavailable")).doNothing().when(emitter).send(any(Message.class));
+        strategy.setBatching(Duration.ofMillis(50), 100);
+        try {
+            strategy.send("test-task-retry", testEvent);
+
+            ArgumentCaptor<Message<Object>> captor = ArgumentCaptor.forClass(Message.class);
+            verify(emitter, timeout(5000).times(2)).send(captor.capture());
+            assertEquals(1, ReplicatedEventCodec.decode((String) captor.getAllValues().get(1).getPayload()).size());
+        } finally {
+            strategy.setBatching(Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testProtobufCodecRoundTrip() throws Exception {
+        String taskId = "test-task-protobuf";
+        strategy.setCodec(new ReplicatedEventCodec(ReplicatedEventCodec.Format.PROTOBUF, 0));
+
+        strategy.send(taskId, testEvent);
+
+        ArgumentCaptor<Message<Object>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(emitter).send(captor.capture());
+        byte[] payload = assertInstanceOf(byte[].class, captor.getValue().getPayload());
+        assertEquals(0, payload[0]);
+
+        strategy.onReplicatedEvent(payload);
+
+        ArgumentCaptor<ReplicatedEventQueueItem> fired = ArgumentCaptor.forClass(ReplicatedEventQueueItem.class);
+        verify(cdiEvent).fire(fired.capture());
+        assertEquals(taskId, fired.getValue().getTaskId());
+        assertEquals(TaskState.TASK_STATE_SUBMITTED,
+                ((TaskStatusUpdateEvent) fired.getValue().getEvent()).status().state());
+    }
+
+    @Test
+    public void testOnReplicatedEventWithBatch() throws Exception {
+        String batch = "[" + createValidJsonMessage("test-task-1", "test-context") + ","
+                + createValidJsonMessage("test-task-1", "test-context") + "]";
+
+        strategy.onReplicatedEvent(batch);
+
+        verify(cdiEvent, times(2)).fire(any(ReplicatedEventQueueItem.class));
+    }
+
+    @Test
+    public void testOnReplicatedEventWithJsonBytes() throws Exception {
+        // Channels configured with a binary deserializer deliver JSON records as bytes
+        byte[] message = createValidJsonMessage("test-task-bytes", "test-context").getBytes(StandardCharsets.UTF_8);
+
+        strategy.onReplicatedEvent(message);
+
+        ArgumentCaptor<ReplicatedEventQueueItem> fired = ArgumentCaptor.forClass(ReplicatedEventQueueItem.class);
+        verify(cdiEvent).fire(fired.capture());
+        assertEquals("test-task-bytes", fired.getValue().getTaskId());
     }
 
     @Test
@@ -73,7 +224,7 @@ class ReactiveMessagingReplicationStrategyTest {
         String taskId = "test-task-456";
         RuntimeException emitterException = new RuntimeException("Failed to send replicated event");
 
-        doThrow(emitterException).when(emitter).send(any(String.class));
+        doThrow(emitterException).when(emitter).send(any(Message.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () ->
                 strategy.send(taskId, testEvent)
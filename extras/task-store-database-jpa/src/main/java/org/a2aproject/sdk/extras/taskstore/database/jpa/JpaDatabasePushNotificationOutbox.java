@@ -0,0 +1,118 @@
+package org.a2aproject.sdk.extras.taskstore.database.jpa;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Transactional;
+
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutbox;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutboxEntry;
+import org.a2aproject.sdk.server.tasks.TaskPersistenceException;
+import org.a2aproject.sdk.server.tasks.TaskSerializationException;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JPA implementation of {@link PushNotificationOutbox} backed by the {@code a2a_push_outbox} table.
+ * <p>
+ * All methods join an active transaction if there is one. {@link JpaDatabaseTaskStore} relies on
+ * this to write the task and its outbox entry atomically.
+ * </p>
+ * <p>
+ * Due entries are claimed with {@code SELECT ... FOR UPDATE SKIP LOCKED}, so relays of several
+ * instances claim disjoint batches instead of failing on the rows another relay is claiming.
+ * </p>
+ * <p>
+ * Delivered and failed entries are kept in the table (with status {@code DELIVERED} or
+ * {@code FAILED}) for inspection and can be purged by operators as needed.
+ * </p>
+ */
+@ApplicationScoped
+@Alternative
+@Priority(50)
+public class JpaDatabasePushNotificationOutbox implements PushNotificationOutbox {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JpaDatabasePushNotificationOutbox.class);
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    // Hibernate's LockOptions.SKIP_LOCKED, rendered as SKIP LOCKED by databases supporting it
+    private static final int SKIP_LOCKED = -2;
+
+    @PersistenceContext(unitName = "a2a-java")
+    EntityManager em;
+
+    @Transactional
+    @Override
+    public void append(String taskId, StreamingEventKind event, Task taskSnapshot) {
+        LOGGER.debug("Recording push notification for task {} in outbox", taskId);
+        try {
+            em.persist(JpaPushOutboxEntry.create(taskId, event, taskSnapshot));
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Failed to serialize push notification for task {}", taskId, e);
+            throw new TaskSerializationException(taskId, "Failed to serialize push notification for outbox", e);
+        } catch (PersistenceException e) {
+            LOGGER.error("Failed to record push notification for task {} in outbox", taskId, e);
+            throw new TaskPersistenceException(taskId, "Failed to record push notification in outbox", e);
+        }
+    }
+
+    @Transactional
+    @Override
+    public List<PushNotificationOutboxEntry> claim(int maxEntries, Duration lease) {
+        Instant now = Instant.now();
+        List<JpaPushOutboxEntry> due = em.createQuery(
+                        "SELECT e FROM JpaPushOutboxEntry e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id",
+                        JpaPushOutboxEntry.class)
+                .setParameter("status", JpaPushOutboxEntry.STATUS_PENDING)
+                .setParameter("now", now)
+                .setMaxResults(maxEntries)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                .getResultList();
+
+        Instant leaseEnd = now.plus(lease);
+        List<PushNotificationOutboxEntry> claimed = new ArrayList<>(due.size());
+        for (JpaPushOutboxEntry jpaEntry : due) {
+            try {
+                claimed.add(jpaEntry.toEntry());
+                jpaEntry.claim(leaseEnd);
+            } catch (JsonProcessingException e) {
+                // Retrying cannot fix corrupted data, so give up on the entry straight away
+                LOGGER.error("Failed to deserialize outbox entry {} for task {}, marking as failed",
+                        jpaEntry.getId(), jpaEntry.getTaskId(), e);
+                jpaEntry.markFailed(null);
+            }
+        }
+        LOGGER.debug("Claimed {} push notification outbox entries", claimed.size());
+        return claimed;
+    }
+
+    @Transactional
+    @Override
+    public void markDelivered(long entryId) {
+        JpaPushOutboxEntry jpaEntry = em.find(JpaPushOutboxEntry.class, entryId);
+        if (jpaEntry != null) {
+            jpaEntry.markDelivered();
+        }
+    }
+
+    @Transactional
+    @Override
+    public void markFailed(long entryId, Instant nextAttemptAt) {
+        JpaPushOutboxEntry jpaEntry = em.find(JpaPushOutboxEntry.class, entryId);
+        if (jpaEntry != null) {
+            jpaEntry.markFailed(nextAttemptAt);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.a2aproject.sdk.extras.common.events.TaskFinalizedEvent;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
 import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutbox;
 import org.a2aproject.sdk.server.tasks.TaskStateProvider;
 import org.a2aproject.sdk.server.tasks.TaskStore;
 import org.a2aproject.sdk.server.tasks.TaskSerializationException;
@@ -28,6 +29,7 @@ import org.a2aproject.sdk.server.tasks.TaskPersistenceException;
 import org.a2aproject.sdk.spec.Artifact;
 import org.a2aproject.sdk.spec.ListTasksParams;
 import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.util.PageToken;
 import org.a2aproject.sdk.spec.Task;
 import org.slf4j.Logger;
@@ -98,6 +100,20 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
         }
     }
 
+    /**
+     * Saves the task and records the push notification in the same transaction.
+     * <p>
+     * When {@code outbox} is the {@link JpaDatabasePushNotificationOutbox} it joins this
+     * transaction, so either both the task update and the outbox entry are committed, or neither is.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public void save(Task task, boolean isReplicated, StreamingEventKind event, PushNotificationOutbox outbox) {
+        save(task, isReplicated);
+        outbox.append(task.id(), event, task);
+    }
+
     @Transactional
     @Override
     public Task get(String taskId) {
@@ -0,0 +1,138 @@
+package org.a2aproject.sdk.extras.taskstore.database.jpa;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutboxEntry;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+
+@Entity
+@Table(name = "a2a_push_outbox",
+        indexes = @Index(name = "idx_a2a_push_outbox_due", columnList = "status, next_attempt_at"))
+public class JpaPushOutboxEntry {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_DELIVERED = "DELIVERED";
+    static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private String taskId;
+
+    @Column(name = "event_data", columnDefinition = "TEXT", nullable = false)
+    private String eventJson;
+
+    @Column(name = "task_data", columnDefinition = "TEXT")
+    private String taskJson;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+
+    // Detects lost updates of an entry; claims lock the rows they select, see JpaDatabasePushNotificationOutbox#claim
+    @Version
+    @Column(name = "version")
+    private long version;
+
+    // Default constructor required by JPA
+    public JpaPushOutboxEntry() {
+    }
+
+    static JpaPushOutboxEntry create(String taskId, StreamingEventKind event, Task taskSnapshot)
+            throws JsonProcessingException {
+        JpaPushOutboxEntry entry = new JpaPushOutboxEntry();
+        entry.taskId = taskId;
+        entry.eventJson = JsonUtil.toJson(event);
+        entry.taskJson = taskSnapshot != null ? JsonUtil.toJson(taskSnapshot) : null;
+        entry.status = STATUS_PENDING;
+        entry.createdAt = Instant.now();
+        entry.nextAttemptAt = entry.createdAt;
+        return entry;
+    }
+
+    PushNotificationOutboxEntry toEntry() throws JsonProcessingException {
+        StreamingEventKind event = JsonUtil.fromJson(eventJson, StreamingEventKind.class);
+        Task taskSnapshot = taskJson != null ? JsonUtil.fromJson(taskJson, Task.class) : null;
+        return new PushNotificationOutboxEntry(id, taskId, event, taskSnapshot, attempts);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getEventJson() {
+        return eventJson;
+    }
+
+    public String getTaskJson() {
+        return taskJson;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    void claim(Instant leaseEnd) {
+        this.nextAttemptAt = leaseEnd;
+    }
+
+    void markDelivered() {
+        this.status = STATUS_DELIVERED;
+        this.deliveredAt = Instant.now();
+    }
+
+    void markFailed(Instant nextAttemptAt) {
+        this.attempts++;
+        if (nextAttemptAt == null) {
+            this.status = STATUS_FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
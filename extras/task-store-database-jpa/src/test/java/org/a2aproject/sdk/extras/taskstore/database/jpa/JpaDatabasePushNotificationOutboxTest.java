@@ -0,0 +1,109 @@
+package org.a2aproject.sdk.extras.taskstore.database.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import org.a2aproject.sdk.server.tasks.PushNotificationOutbox;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutboxEntry;
+import org.a2aproject.sdk.server.tasks.TaskStore;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+public class JpaDatabasePushNotificationOutboxTest {
+
+    @Inject
+    TaskStore taskStore;
+
+    @Inject
+    PushNotificationOutbox outbox;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    public void testIsJpaDatabasePushNotificationOutbox() {
+        assertInstanceOf(JpaDatabasePushNotificationOutbox.class, outbox);
+    }
+
+    @Test
+    @Transactional
+    public void testSaveRecordsTaskAndOutboxEntry() {
+        Task task = Task.builder()
+                .id("outbox-task-1")
+                .contextId("outbox-context")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                .build();
+        TaskStatusUpdateEvent event = TaskStatusUpdateEvent.builder()
+                .taskId(task.id())
+                .contextId(task.contextId())
+                .status(task.status())
+                .build();
+
+        taskStore.save(task, false, event, outbox);
+
+        assertNotNull(taskStore.get("outbox-task-1"));
+        PushNotificationOutboxEntry entry = claimForTask("outbox-task-1");
+        assertNotNull(entry);
+        assertInstanceOf(TaskStatusUpdateEvent.class, entry.event());
+        assertEquals(TaskState.TASK_STATE_COMPLETED, ((TaskStatusUpdateEvent) entry.event()).status().state());
+        assertNotNull(entry.taskSnapshot());
+        assertEquals("outbox-task-1", entry.taskSnapshot().id());
+        assertEquals(0, entry.attempts());
+
+        outbox.markDelivered(entry.id());
+
+        JpaPushOutboxEntry jpaEntry = entityManager.find(JpaPushOutboxEntry.class, entry.id());
+        assertEquals(JpaPushOutboxEntry.STATUS_DELIVERED, jpaEntry.getStatus());
+        assertNotNull(jpaEntry.getDeliveredAt());
+    }
+
+    @Test
+    @Transactional
+    public void testMarkFailed() {
+        Task task = Task.builder()
+                .id("outbox-task-2")
+                .contextId("outbox-context")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build();
+        outbox.append(task.id(), task, task);
+
+        PushNotificationOutboxEntry entry = claimForTask("outbox-task-2");
+        assertNotNull(entry);
+
+        // A failed entry becomes due again at nextAttemptAt
+        outbox.markFailed(entry.id(), Instant.now().minusSeconds(1));
+        PushNotificationOutboxEntry retried = claimForTask("outbox-task-2");
+        assertNotNull(retried);
+        assertEquals(1, retried.attempts());
+
+        // Giving up marks the entry as failed and it is never claimed again
+        outbox.markFailed(entry.id(), null);
+        JpaPushOutboxEntry jpaEntry = entityManager.find(JpaPushOutboxEntry.class, entry.id());
+        assertEquals(JpaPushOutboxEntry.STATUS_FAILED, jpaEntry.getStatus());
+        assertEquals(2, jpaEntry.getAttempts());
+        assertTrue(outbox.claim(100, Duration.ZERO).stream().noneMatch(e -> e.id() == entry.id()));
+    }
+
+    private PushNotificationOutboxEntry claimForTask(String taskId) {
+        List<PushNotificationOutboxEntry> claimed = outbox.claim(100, Duration.ofMinutes(1));
+        return claimed.stream()
+                .filter(e -> e.taskId().equals(taskId))
+                .findFirst()
+                .orElse(null);
+    }
+}
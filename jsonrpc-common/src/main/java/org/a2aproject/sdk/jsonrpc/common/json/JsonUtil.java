@@ -7,6 +7,8 @@ import static org.a2aproject.sdk.spec.TextPart.TEXT;
 import static java.lang.String.format;
 import static java.util.Collections.emptyMap;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -20,9 +22,8 @@ import java.util.Set;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
 import com.google.gson.ToNumberPolicy;
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
@@ -71,6 +72,8 @@ import org.jspecify.annotations.Nullable;
  */
 public class JsonUtil {
 
+    private static final TypeToken<Map<String, Object>> METADATA_TYPE = new TypeToken<Map<String, Object>>(){};
+
     private static GsonBuilder createBaseGsonBuilder() {
         return new GsonBuilder()
                 .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
@@ -110,7 +113,7 @@ public class JsonUtil {
         try {
             return OBJECT_MAPPER.fromJson(json, classOfT);
         } catch (JsonSyntaxException e) {
-            throw new JsonProcessingException("Failed to parse JSON", e);
+            throw toProcessingException(e);
         }
     }
 
@@ -127,8 +130,19 @@ public class JsonUtil {
         try {
             return OBJECT_MAPPER.fromJson(json, type);
         } catch (JsonSyntaxException e) {
-            throw new JsonProcessingException("Failed to parse JSON", e);
+            throw toProcessingException(e);
+        }
+    }
+
+    /**
+     * Converts a Gson parse failure to a {@link JsonProcessingException}, surfacing the
+     * {@link JsonMappingException} raised by a type adapter, if any.
+     */
+    private static JsonProcessingException toProcessingException(JsonSyntaxException e) {
+        if (e.getCause() instanceof JsonMappingException mappingException) {
+            return mappingException;
         }
+        return new JsonProcessingException("Failed to parse JSON", e);
     }
 
     /**
@@ -433,7 +447,7 @@ public class JsonUtil {
     public static void writeMetadata(JsonWriter out, @Nullable Map<String, Object> metadata) throws java.io.IOException {
         if (metadata != null && !metadata.isEmpty()) {
             out.name("metadata");
-            OBJECT_MAPPER.toJson(metadata, new TypeToken<Map<String, Object>>(){}.getType(), out);
+            OBJECT_MAPPER.toJson(metadata, METADATA_TYPE.getType(), out);
         }
     }
 
@@ -447,7 +461,7 @@ public class JsonUtil {
         if (metadata == null || metadata.isEmpty()) {
             return "";
         }
-        return OBJECT_MAPPER.toJson(metadata, new TypeToken<Map<String, Object>>(){}.getType());
+        return OBJECT_MAPPER.toJson(metadata, METADATA_TYPE.getType());
     }
 
     /**
@@ -458,13 +472,16 @@ public class JsonUtil {
      */
     public static Map<String, Object> readMetadata(com.google.gson.JsonObject jsonObject) {
         if (jsonObject.has("metadata")) {
-            return OBJECT_MAPPER.fromJson(jsonObject.get("metadata"), new TypeToken<Map<String, Object>>(){}.getType());
+            return OBJECT_MAPPER.fromJson(jsonObject.get("metadata"), METADATA_TYPE);
         }
         return Collections.emptyMap();
     }
 
     /**
      * Reads the "metadata" field from a JSON body string, if present.
+     * <p>
+     * The body is streamed: only the "metadata" value is materialized, the other members are
+     * skipped without building a JSON tree.
      *
      * @param json the JSON body string to parse
      * @return the metadata map, or an empty map if the input is null, blank, or has no "metadata" field
@@ -474,13 +491,29 @@ public class JsonUtil {
         if (json == null || json.isBlank()) {
             return Collections.emptyMap();
         }
+        // Lenient, like JsonParser.parseString
+        JsonReader in = new JsonReader(new StringReader(json));
+        in.setStrictness(Strictness.LENIENT);
         try {
-            JsonElement element = JsonParser.parseString(json);
-            if (!element.isJsonObject()) {
-                return Collections.emptyMap();
+            Map<String, Object> metadata = Collections.emptyMap();
+            if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    if (in.nextName().equals("metadata")) {
+                        metadata = OBJECT_MAPPER.fromJson(in, METADATA_TYPE);
+                    } else {
+                        in.skipValue();
+                    }
+                }
+                in.endObject();
+            } else {
+                in.skipValue();
             }
-            return readMetadata(element.getAsJsonObject());
-        } catch (JsonSyntaxException e) {
+            if (in.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("Did not consume the entire document.");
+            }
+            return metadata;
+        } catch (JsonSyntaxException | IOException e) {
             throw new JsonProcessingException("Failed to parse metadata JSON", e);
         }
     }
@@ -491,8 +524,9 @@ public class JsonUtil {
      * This adapter handles polymorphic deserialization, creating the
      * appropriate subclass instance (TextPart, FilePart, or DataPart) based on available fields.
      * <p>
-     * The adapter uses a two-pass approach: first reads the JSON as a tree to inspect the "kind"
-     * field, then deserializes to the appropriate concrete type.
+     * The members are streamed in a single pass without building a JSON tree: the candidate
+     * values are kept while reading, and the first content key with a non-null value selects the
+     * concrete type once the object has been read.
      *
      * @see Part
      * @see TextPart
@@ -505,18 +539,20 @@ public class JsonUtil {
         private static final String URL = "url";
         private static final String FILENAME = "filename";
         private static final String MEDIA_TYPE = "mediaType";
+        private static final String METADATA = "metadata";
         // The oneOf content-type discriminator keys in the flat JSON format.
         // Exactly one must be present (and non-null) in each Part object.
         private static final Set<String> VALID_KEYS = Set.of(TEXT, RAW, URL, DATA);
-        private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>(){}.getType();
 
         // Create separate Gson instance without the Part adapter to avoid recursion
         private final Gson delegateGson = createBaseGsonBuilder().create();
+        private final TypeAdapter<Map<String, Object>> metadataAdapter = delegateGson.getAdapter(METADATA_TYPE);
+        private final TypeAdapter<Object> dataAdapter = delegateGson.getAdapter(Object.class);
 
         private void writeMetadata(JsonWriter out, @Nullable Map<String, Object> metadata) throws java.io.IOException {
             if (metadata != null && !metadata.isEmpty()) {
-                out.name("metadata");
-                delegateGson.toJson(metadata, MAP_TYPE, out);
+                out.name(METADATA);
+                metadataAdapter.write(out, metadata);
             }
         }
 
@@ -554,8 +590,8 @@ public class JsonUtil {
 
             } else if (value instanceof DataPart dataPart) {
                 out.name(DATA);
-                delegateGson.toJson(dataPart.data(), Object.class, out);
-                JsonUtil.writeMetadata(out, dataPart.metadata());
+                dataAdapter.write(out, dataPart.data());
+                writeMetadata(out, dataPart.metadata());
             } else {
                 throw new JsonSyntaxException("Unknown Part subclass: " + value.getClass().getName());
             }
@@ -566,60 +602,97 @@ public class JsonUtil {
         @Override
         public @Nullable
         Part<?> read(JsonReader in) throws java.io.IOException {
-            if (in.peek() == JsonToken.NULL) {
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) {
                 in.nextNull();
                 return null;
             }
-
-            com.google.gson.JsonElement jsonElement = com.google.gson.JsonParser.parseReader(in);
-            if (!jsonElement.isJsonObject()) {
+            if (token != JsonToken.BEGIN_OBJECT) {
                 throw new JsonSyntaxException("Part must be a JSON object");
             }
 
-            com.google.gson.JsonObject jsonObject = jsonElement.getAsJsonObject();
-
-            // Extract metadata if present
-            Map<String, Object> metadata = JsonUtil.readMetadata(jsonObject);
-            Set<String> keys = jsonObject.keySet();
-
             // Find the oneOf discriminator, skipping null/empty values to tolerate formats
             // where multiple content keys may be present with only one populated
             // (e.g., proto serialization with alwaysPrintFieldsWithNoPresence).
             // Unknown extra fields are ignored.
-            String discriminator = keys.stream()
-                    .filter(VALID_KEYS::contains)
-                    .filter(key -> {
-                        com.google.gson.JsonElement el = jsonObject.get(key);
-                        return el != null && !el.isJsonNull();
-                    })
-                    .findFirst()
-                    .orElseThrow(() -> new JsonSyntaxException(format("Part must have one of: %s (found: %s)", VALID_KEYS, keys)));
+            String discriminator = null;
+            String text = null;
+            String raw = null;
+            String url = null;
+            Object data = null;
+            String filename = "";
+            String mediaType = "";
+            @Nullable Map<String, Object> metadata = Collections.emptyMap();
 
-            return switch (discriminator) {
-                case TEXT -> new TextPart(jsonObject.get(TEXT).getAsString(), metadata);
-                case RAW -> new FilePart(new FileWithBytes(
-                        stringOrEmpty(jsonObject, MEDIA_TYPE),
-                        stringOrEmpty(jsonObject, FILENAME),
-                        jsonObject.get(RAW).getAsString()), metadata);
-                case URL -> new FilePart(new FileWithUri(
-                        stringOrEmpty(jsonObject, MEDIA_TYPE),
-                        stringOrEmpty(jsonObject, FILENAME),
-                        jsonObject.get(URL).getAsString()), metadata);
-                case DATA -> {
-                    Object data = delegateGson.fromJson(jsonObject.get(DATA), Object.class);
-                    yield new DataPart(data, metadata);
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                switch (name) {
+                    case TEXT -> {
+                        text = nextStringOrNull(in, TEXT);
+                        if (discriminator == null && text != null) {
+                            discriminator = TEXT;
+                        }
+                    }
+                    case RAW -> {
+                        raw = nextStringOrNull(in, RAW);
+                        if (discriminator == null && raw != null) {
+                            discriminator = RAW;
+                        }
+                    }
+                    case URL -> {
+                        url = nextStringOrNull(in, URL);
+                        if (discriminator == null && url != null) {
+                            discriminator = URL;
+                        }
+                    }
+                    case DATA -> {
+                        data = dataAdapter.read(in);
+                        if (discriminator == null && data != null) {
+                            discriminator = DATA;
+                        }
+                    }
+                    case FILENAME -> filename = stringOrEmpty(in, FILENAME);
+                    case MEDIA_TYPE -> mediaType = stringOrEmpty(in, MEDIA_TYPE);
+                    case METADATA -> metadata = metadataAdapter.read(in);
+                    default -> in.skipValue();
                 }
-                default -> throw new JsonSyntaxException(format("Part must have one of: %s (found: %s)", VALID_KEYS, discriminator));
-            };
+            }
+            in.endObject();
+
+            if (text != null && TEXT.equals(discriminator)) {
+                return new TextPart(text, metadata);
+            } else if (raw != null && RAW.equals(discriminator)) {
+                return new FilePart(new FileWithBytes(mediaType, filename, raw), metadata);
+            } else if (url != null && URL.equals(discriminator)) {
+                return new FilePart(new FileWithUri(mediaType, filename, url), metadata);
+            } else if (data != null && DATA.equals(discriminator)) {
+                return new DataPart(data, metadata);
+            }
+            throw new JsonSyntaxException(format("Part must have one of: %s with a non-null value", VALID_KEYS));
         }
 
-        /** Returns the string value of the field, or an empty string if absent or null. */
-        private String stringOrEmpty(com.google.gson.JsonObject obj, String key) {
-            com.google.gson.JsonElement el = obj.get(key);
-            if (el == null || el.isJsonNull()) {
-                return "";
+        /**
+         * Returns the string value of the next token, or {@code null} if it is a JSON null.
+         * Any other token, such as a number or a boolean, is rejected rather than coerced.
+         */
+        private static @Nullable String nextStringOrNull(JsonReader in, String name) throws java.io.IOException {
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            if (token != JsonToken.STRING) {
+                throw new JsonSyntaxException(new JsonMappingException(name,
+                        format("Part field '%s' must be a string (found: %s)", name, token)));
             }
-            return el.getAsString();
+            return in.nextString();
+        }
+
+        /** Returns the string value of the next token, or an empty string if it is a JSON null. */
+        private static String stringOrEmpty(JsonReader in, String name) throws java.io.IOException {
+            String value = nextStringOrNull(in, name);
+            return value == null ? "" : value;
         }
     }
 
@@ -1,12 +1,20 @@
 package org.a2aproject.sdk.jsonrpc.common.json;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Map;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import org.a2aproject.sdk.spec.DataPart;
+import org.a2aproject.sdk.spec.FilePart;
+import org.a2aproject.sdk.spec.FileWithUri;
+import org.a2aproject.sdk.spec.Part;
+import org.a2aproject.sdk.spec.TextPart;
 import org.junit.jupiter.api.Test;
 
 public class JsonUtilTest {
@@ -58,4 +66,64 @@ public class JsonUtilTest {
 
         assertEquals(fromJsonObject, fromString);
     }
+
+    @Test
+    public void testReadMetadataStringSkipsOtherMembers() throws Exception {
+        String body = "{\"message\":{\"parts\":[{\"text\":\"hi\"}],\"metadata\":{\"inner\":true}},"
+                + "\"metadata\":{\"count\":3,\"tags\":[\"a\",\"b\"]}}";
+        Map<String, Object> metadata = JsonUtil.readMetadata(body);
+        assertEquals(Map.of("count", 3L, "tags", List.of("a", "b")), metadata);
+    }
+
+    @Test
+    public void testReadMetadataStringRejectsMalformedJson() {
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.readMetadata("{\"metadata\":{\"key\":"));
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.readMetadata("{\"metadata\":{}} {}"));
+    }
+
+    // PartTypeAdapter tests
+
+    @Test
+    public void testPartSkipsNullContentKeys() throws Exception {
+        Part<?> part = JsonUtil.fromJson(
+                "{\"text\":null,\"raw\":null,\"data\":{\"value\":1},\"extra\":[1,2],\"metadata\":{\"key\":\"value\"}}",
+                Part.class);
+        DataPart dataPart = assertInstanceOf(DataPart.class, part);
+        assertEquals(Map.of("value", 1L), dataPart.data());
+        assertEquals(Map.of("key", "value"), dataPart.metadata());
+    }
+
+    @Test
+    public void testPartReadsFileFieldsInAnyOrder() throws Exception {
+        Part<?> part = JsonUtil.fromJson(
+                "{\"mediaType\":\"text/plain\",\"metadata\":{},\"url\":\"https://example.com/a.txt\",\"filename\":\"a.txt\"}",
+                Part.class);
+        FilePart filePart = assertInstanceOf(FilePart.class, part);
+        FileWithUri file = assertInstanceOf(FileWithUri.class, filePart.file());
+        assertEquals("text/plain", file.mimeType());
+        assertEquals("a.txt", file.name());
+        assertEquals("https://example.com/a.txt", file.uri());
+    }
+
+    @Test
+    public void testPartRoundTrip() throws Exception {
+        TextPart part = new TextPart("hello", Map.of("nested", Map.of("key", "value")));
+        TextPart read = assertInstanceOf(TextPart.class, JsonUtil.fromJson(JsonUtil.toJson(part), Part.class));
+        assertEquals(part.text(), read.text());
+        assertEquals(part.metadata(), read.metadata());
+    }
+
+    @Test
+    public void testPartRejectsNonStringValues() {
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJson("{\"text\":true}", Part.class));
+        assertThrows(JsonMappingException.class, () -> JsonUtil.fromJson("{\"url\":42}", Part.class));
+        assertThrows(JsonMappingException.class,
+                () -> JsonUtil.fromJson("{\"url\":\"https://example.com/a.txt\",\"filename\":false}", Part.class));
+    }
+
+    @Test
+    public void testPartWithoutContentFails() {
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.fromJson("{\"text\":null,\"filename\":\"a.txt\"}", Part.class));
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.fromJson("[\"text\"]", Part.class));
+    }
 }
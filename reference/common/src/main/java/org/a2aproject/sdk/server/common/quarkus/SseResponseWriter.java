@@ -37,6 +37,7 @@ public final class SseResponseWriter {
 
     private static final Logger logger = LoggerFactory.getLogger(SseResponseWriter.class);
     private static final String SERVER_SENT_EVENTS = "text/event-stream";
+    private static final String SSE_STREAM_STARTED = ": SSE stream started\n\n";
 
     private SseResponseWriter() {
         // Utility class — no instances.
@@ -44,6 +45,27 @@ public final class SseResponseWriter {
 
     /**
      * Subscribes to {@code sseStrings} and writes each SSE event to the HTTP response.
+     * <p>
+     * Equivalent to {@link #writeSseBuffers} with each string encoded into a buffer.
+     *
+     * @param sseStrings the SSE-formatted event stream
+     * @param rc the Vert.x routing context
+     * @param context the A2A server call context (for EventConsumer cancellation)
+     * @param onSubscribedHook optional hook invoked once the subscriber is attached; used by tests
+     */
+    public static void writeSseStrings(
+            Multi<String> sseStrings,
+            RoutingContext rc,
+            ServerCallContext context,
+            @Nullable Runnable onSubscribedHook) {
+        writeSseBuffers(sseStrings.map(Buffer::buffer), rc, context, onSubscribedHook);
+    }
+
+    /**
+     * Subscribes to {@code sseBuffers} and writes each SSE event to the HTTP response.
+     * <p>
+     * Each buffer must hold one complete, UTF-8 encoded event, for instance wrapping the array
+     * returned by {@code SseFormatter.formatResponseAsSSEBytes}, and is written as is.
      *
      * <p><b>Error handling:</b>
      * <ul>
@@ -52,19 +74,19 @@ public final class SseResponseWriter {
      *   <li>Stream error → cancels upstream, fails routing context</li>
      * </ul>
      *
-     * @param sseStrings the SSE-formatted event stream
+     * @param sseBuffers the SSE-formatted event stream
      * @param rc the Vert.x routing context
      * @param context the A2A server call context (for EventConsumer cancellation)
      * @param onSubscribedHook optional hook invoked once the subscriber is attached; used by tests
      */
-    public static void writeSseStrings(
-            Multi<String> sseStrings,
+    public static void writeSseBuffers(
+            Multi<Buffer> sseBuffers,
             RoutingContext rc,
             ServerCallContext context,
             @Nullable Runnable onSubscribedHook) {
         HttpServerResponse response = rc.response();
 
-        sseStrings.subscribe().withSubscriber(new Flow.Subscriber<String>() {
+        sseBuffers.subscribe().withSubscriber(new Flow.Subscriber<Buffer>() {
             // Written in onSubscribe (EventConsumer / subscription thread), read inside
             // the write-failure callback (event loop thread) — volatile for visibility.
             volatile Flow.@Nullable Subscription upstream;
@@ -93,7 +115,7 @@ public final class SseResponseWriter {
             }
 
             @Override
-            public void onNext(String sseEvent) {
+            public void onNext(Buffer sseEvent) {
                 Buffer data;
                 if (!headersSet) {
                     headersSet = true;
@@ -108,9 +130,11 @@ public final class SseResponseWriter {
 
                     // Merge kickstart comment into first event to avoid an orphaned async write
                     // that could race with the error callback of the data write.
-                    data = Buffer.buffer(": SSE stream started\n\n").appendBuffer(Buffer.buffer(sseEvent));
+                    data = Buffer.buffer(SSE_STREAM_STARTED.length() + sseEvent.length())
+                            .appendString(SSE_STREAM_STARTED)
+                            .appendBuffer(sseEvent);
                 } else {
-                    data = Buffer.buffer(sseEvent);
+                    data = sseEvent;
                 }
 
                 response.write(data, ar -> {
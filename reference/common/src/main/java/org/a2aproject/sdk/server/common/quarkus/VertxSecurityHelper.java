@@ -1,7 +1,9 @@
 package org.a2aproject.sdk.server.common.quarkus;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
@@ -11,6 +13,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
+import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.http.runtime.security.ChallengeData;
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticator;
 import io.vertx.core.Context;
@@ -200,6 +203,107 @@ public final class VertxSecurityHelper {
         }
     }
 
+    /**
+     * Authenticates the request without blocking and executes a task within an active CDI request
+     * context.
+     *
+     * <p>This is the event loop counterpart of {@link #runInRequestContext}, for read-only
+     * operations that complete without blocking. Authentication is subscribed to instead of
+     * awaited, and the task runs on the thread that completes it, usually the event loop, so the
+     * task must not block. The request context is activated, the identity set and the context
+     * terminated around the task as in {@link #runInRequestContext}.
+     *
+     * <p>Errors are handled here rather than thrown: {@code UnauthorizedException} and
+     * {@code ForbiddenException}, from the authentication mechanism or from {@code @Authenticated}
+     * interceptors, are sent like {@link #handleAuthError} does but without blocking for the
+     * challenge; any other error results in {@link #handleGenericError}.
+     *
+     * @param ctx the Vert.x routing context containing the HTTP request
+     * @param task the non-blocking code to execute within the authenticated request context
+     */
+    public void runInRequestContextNonBlocking(RoutingContext ctx, Runnable task) {
+        Consumer<SecurityIdentity> run = identity -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            boolean wasActive = requestContext.isActive();
+            if (!wasActive) {
+                requestContext.activate();
+            }
+            try {
+                if (!httpAuthenticator.isUnsatisfied()) {
+                    currentIdentityAssociation.get().setIdentity(identity);
+                }
+                task.run();
+            } catch (Throwable t) {
+                handleErrorNonBlocking(ctx, t);
+            } finally {
+                if (!wasActive) {
+                    requestContext.terminate();
+                }
+            }
+        };
+        if (httpAuthenticator.isUnsatisfied()) {
+            run.accept(null);
+        } else {
+            httpAuthenticator.get().attemptAuthentication(ctx).subscribe().with(
+                    run, failure -> handleErrorNonBlocking(ctx, failure));
+        }
+    }
+
+    /**
+     * Wraps an executor so that its tasks run within the CDI request context active on the
+     * calling thread, and so with its authenticated identity.
+     *
+     * <p>This is required when a route hands work to an executor that does not propagate the
+     * request context itself, such as the members of a JSON-RPC batch. The context is activated
+     * around each task only if the executing thread has none active, and is only deactivated
+     * afterwards: destroying it remains the job of the method that activated it, e.g.
+     * {@link #runInRequestContextDeferred}, which must therefore keep it alive until the tasks
+     * are done.
+     *
+     * @param executor the executor to wrap
+     * @return an executor propagating the current request context, or {@code executor} itself
+     *         if no request context is active
+     */
+    public Executor propagateRequestContext(Executor executor) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (!requestContext.isActive()) {
+            return executor;
+        }
+        InjectableContext.ContextState state = requestContext.getState();
+        return task -> executor.execute(() -> {
+            if (requestContext.isActive()) {
+                task.run();
+                return;
+            }
+            requestContext.activate(state);
+            try {
+                task.run();
+            } finally {
+                requestContext.deactivate();
+            }
+        });
+    }
+
+    private void handleErrorNonBlocking(RoutingContext ctx, Throwable t) {
+        if (ctx.response().ended()) {
+            return;
+        }
+        if (t instanceof io.quarkus.security.ForbiddenException) {
+            ctx.response()
+                .setStatusCode(403)
+                .end();
+        } else if (t instanceof io.quarkus.security.UnauthorizedException) {
+            if (httpAuthenticator.isUnsatisfied()) {
+                sendChallenge(ctx, null);
+            } else {
+                httpAuthenticator.get().getChallenge(ctx).subscribe().with(
+                        challenge -> sendChallenge(ctx, challenge), failure -> handleGenericError(ctx));
+            }
+        } else {
+            handleGenericError(ctx);
+        }
+    }
+
     /**
      * Handles authentication or authorization errors by sending the appropriate HTTP error response.
      *
@@ -223,21 +327,26 @@ public final class VertxSecurityHelper {
                     .setStatusCode(403)
                     .end();
             } else {
-                int status = 401;
+                ChallengeData challenge = null;
                 if (!httpAuthenticator.isUnsatisfied()) {
-                    ChallengeData challenge = httpAuthenticator.get().getChallenge(ctx).await().indefinitely();
-                    if (challenge != null) {
-                        status = challenge.status;
-                        for(Map.Entry<CharSequence, String> header : challenge.getHeaders().entrySet()) {
-                            ctx.response().putHeader(header.getKey(), header.getValue());
-                        }
-                    }
+                    challenge = httpAuthenticator.get().getChallenge(ctx).await().indefinitely();
                 }
-                ctx.response()
-                    .setStatusCode(status)
-                    .end();
+                sendChallenge(ctx, challenge);
+            }
+        }
+    }
+
+    private static void sendChallenge(RoutingContext ctx, ChallengeData challenge) {
+        int status = 401;
+        if (challenge != null) {
+            status = challenge.status;
+            for(Map.Entry<CharSequence, String> header : challenge.getHeaders().entrySet()) {
+                ctx.response().putHeader(header.getKey(), header.getValue());
             }
         }
+        ctx.response()
+            .setStatusCode(status)
+            .end();
     }
 
     /**
@@ -12,6 +12,7 @@ import org.a2aproject.sdk.server.util.async.Internal;
 import org.a2aproject.sdk.spec.AgentCard;
 import org.a2aproject.sdk.transport.grpc.handler.CallContextFactory;
 import org.a2aproject.sdk.transport.grpc.handler.GrpcHandler;
+import org.a2aproject.sdk.transport.grpc.handler.RateLimitInterceptor;
 import io.quarkus.grpc.GrpcService;
 import io.quarkus.grpc.RegisterInterceptor;
 import io.quarkus.security.Authenticated;
@@ -48,7 +49,8 @@ import org.jspecify.annotations.Nullable;
  * <h2>Interceptor Registration</h2>
  * <p>The {@code @RegisterInterceptor} annotation automatically registers
  * {@link A2AExtensionsInterceptor} to capture A2A protocol headers and
- * metadata before service methods are invoked.
+ * metadata before service methods are invoked, and {@link RateLimitInterceptor}
+ * to reject calls of tenants exceeding their configured request rate.
  *
  * <h2>Extension Points</h2>
  * <p>To customize context creation, provide a CDI bean implementing
@@ -70,6 +72,7 @@ import org.jspecify.annotations.Nullable;
 @GrpcService
 @RegisterInterceptor(A2AExtensionsInterceptor.class)
 @RegisterInterceptor(BlockingOffloadInterceptor.class)
+@RegisterInterceptor(RateLimitInterceptor.class)
 @Authenticated
 @Blocking
 public class QuarkusGrpcHandler extends GrpcHandler {
@@ -0,0 +1,46 @@
+package org.a2aproject.sdk.server.grpc.quarkus;
+
+import jakarta.inject.Inject;
+
+import org.a2aproject.sdk.transport.grpc.handler.GrpcHandler;
+import org.a2aproject.sdk.transport.grpc.handler.RateLimitInterceptor;
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.grpc.RegisterInterceptor;
+import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.Blocking;
+
+/**
+ * Quarkus gRPC service of the multi-task subscription extension.
+ *
+ * <p>The extension has its own gRPC service, {@value GrpcHandler#TASK_SUBSCRIPTION_SERVICE_NAME},
+ * whose single bidirectional method streams the events of several tasks on one call. Calls are
+ * served by {@link QuarkusGrpcHandler}, with the same interceptors and security.
+ *
+ * @see GrpcHandler#taskSubscriptionService()
+ */
+@GrpcService
+@RegisterInterceptor(A2AExtensionsInterceptor.class)
+@RegisterInterceptor(RateLimitInterceptor.class)
+@Authenticated
+@Blocking
+public class QuarkusTaskSubscriptionService implements BindableService {
+
+    private final QuarkusGrpcHandler grpcHandler;
+
+    /**
+     * Constructs the service, delegating to the A2A gRPC service.
+     *
+     * @param grpcHandler the A2A gRPC service
+     */
+    @Inject
+    public QuarkusTaskSubscriptionService(@GrpcService QuarkusGrpcHandler grpcHandler) {
+        this.grpcHandler = grpcHandler;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return grpcHandler.taskSubscriptionService().bindService();
+    }
+}
@@ -1,16 +1,27 @@
 package org.a2aproject.sdk.server.apps.quarkus;
 
+import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static io.vertx.core.http.HttpHeaders.IF_MODIFIED_SINCE;
+import static io.vertx.core.http.HttpHeaders.IF_NONE_MATCH;
+import static io.vertx.core.http.HttpHeaders.RETRY_AFTER;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.a2aproject.sdk.server.ServerCallContext.TRANSPORT_KEY;
+import static org.a2aproject.sdk.spec.A2AMethods.GET_EXTENDED_AGENT_CARD_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.GET_TASK_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.LIST_TASK_METHOD;
+import static org.a2aproject.sdk.spec.A2AMethods.LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
 import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.HEADERS_KEY;
 import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.METHOD_NAME_KEY;
 import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.TENANT_KEY;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
@@ -21,22 +32,26 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import com.google.gson.JsonSyntaxException;
+import io.netty.buffer.Unpooled;
 import io.quarkus.security.Authenticated;
 import io.quarkus.security.ForbiddenException;
 import io.quarkus.security.UnauthorizedException;
 import io.smallrye.mutiny.Multi;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 import org.a2aproject.sdk.common.A2AHeaders;
 import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.grpc.utils.SpecJsonEncoder;
 import org.a2aproject.sdk.jsonrpc.common.json.IdJsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.json.InvalidParamsJsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
-import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
 import org.a2aproject.sdk.jsonrpc.common.json.MethodNotFoundJsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AErrorResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AMessage;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.A2ARequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskRequest;
@@ -62,12 +77,17 @@ import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.SubscribeToTaskRequest;
 import org.a2aproject.sdk.server.AgentCardCacheMetadata;
+import org.a2aproject.sdk.server.AgentCardResponse;
+import org.a2aproject.sdk.server.RateLimitExceededError;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.auth.User;
 import org.a2aproject.sdk.server.common.quarkus.SseResponseWriter;
 import org.a2aproject.sdk.server.common.quarkus.VertxSecurityHelper;
 import org.a2aproject.sdk.server.extensions.A2AExtensions;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
 import org.a2aproject.sdk.server.util.async.Internal;
 import org.a2aproject.sdk.server.util.sse.SseFormatter;
 import org.a2aproject.sdk.spec.A2AError;
@@ -110,12 +130,16 @@ import org.jspecify.annotations.Nullable;
  *   <li>{@code listTaskPushNotificationConfigs} - List push notification configs</li>
  *   <li>{@code deleteTaskPushNotificationConfig} - Delete push notification config</li>
  *   <li>{@code getExtendedAgentCard} - Get extended agent capabilities</li>
+ *   <li>{@code UpdateTaskSubscription} - Change the tasks of a multi-task subscription
+ *       (extension method)</li>
  * </ul>
  *
  * <p><b>Streaming (SSE responses):</b>
  * <ul>
  *   <li>{@code sendStreamingMessage} - Send message with streaming response</li>
  *   <li>{@code subscribeToTask} - Subscribe to task events</li>
+ *   <li>{@code SubscribeToTasks} - Subscribe to the events of several tasks on one stream
+ *       (extension method)</li>
  * </ul>
  *
  * <h2>JSON-RPC Request Format</h2>
@@ -168,6 +192,14 @@ import org.jspecify.annotations.Nullable;
 @Singleton
 public class A2AServerRoutes {
 
+    // Routing context key holding a request already parsed on the event loop
+    private static final String PARSED_REQUEST_KEY = "a2a.jsonrpc.request";
+    // Read-only requests are small; larger bodies, such as messages with files, are never
+    // parsed on the event loop
+    private static final int MAX_NON_BLOCKING_BODY_SIZE = 4096;
+    // Largest number of requests accepted in a single JSON-RPC batch
+    private static final int MAX_BATCH_SIZE = 100;
+
     @Inject
     JSONRPCHandler jsonRpcHandler;
 
@@ -189,6 +221,9 @@ public class A2AServerRoutes {
     @Inject
     VertxSecurityHelper vertxSecurityHelper;
 
+    @Inject
+    RateLimiter rateLimiter;
+
     /**
      * Configures Vert.x Web Router with JSON-RPC routes.
      *
@@ -205,6 +240,7 @@ public class A2AServerRoutes {
         router.post("/")
             .consumes(APPLICATION_JSON)
             .handler(BodyHandler.create())
+            .handler(this::dispatchNonBlockingRead)
             .blockingHandler(ctx -> {
                 try {
                     vertxSecurityHelper.runInRequestContextDeferred(ctx, () -> {
@@ -221,18 +257,65 @@ public class A2AServerRoutes {
         router.get("/.well-known/agent-card.json")
             .produces(APPLICATION_JSON)
             .handler(ctx -> {
+                AgentCardResponse agentCard;
                 try {
-                    String agentCard = getAgentCard(ctx);
-                    ctx.response()
-                        .setStatusCode(200)
-                        .putHeader(CONTENT_TYPE, APPLICATION_JSON)
-                        .end(agentCard);
-                } catch (JsonProcessingException e) {
+                    agentCard = getAgentCard(ctx);
+                } catch (RuntimeException e) {
                     ctx.response().setStatusCode(500).end("Internal Server Error");
+                    return;
+                }
+                HttpServerResponse response = ctx.response().setStatusCode(agentCard.getStatusCode());
+                agentCard.getHeaders().forEach(response::putHeader);
+                if (agentCard.isNotModified()) {
+                    response.end();
+                } else {
+                    // The rendered bytes are shared between requests and wrapped without copying
+                    response.putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                        .end(Buffer.buffer(Unpooled.wrappedBuffer(agentCard.getBody())));
                 }
             });
     }
 
+    /**
+     * Serves read-only requests that complete without blocking on the event loop, and passes all
+     * other requests to the blocking handler of the route.
+     *
+     * <p>The method of small bodies is read here in a single pass, and only requests for a
+     * non-blocking read are parsed, so that other requests such as {@code SendMessage} are
+     * parsed once, on the worker thread. The parsed request is kept in the routing context so
+     * that the blocking handler does not parse it again. Requests that cannot be read or parsed
+     * are passed on as well, so that errors are reported in one place.
+     *
+     * @param ctx the Vert.x routing context
+     */
+    private void dispatchNonBlockingRead(RoutingContext ctx) {
+        if (ctx.body().length() > MAX_NON_BLOCKING_BODY_SIZE) {
+            ctx.next();
+            return;
+        }
+        boolean taskReads = jsonRpcHandler.isNonBlockingTaskRead();
+        boolean pushConfigReads = jsonRpcHandler.isNonBlockingPushNotificationConfigRead();
+        String body = ctx.body().asString();
+        String method = JSONRPCUtils.peekMethod(body);
+        boolean nonBlocking = GET_EXTENDED_AGENT_CARD_METHOD.equals(method)
+                || (taskReads && (GET_TASK_METHOD.equals(method) || LIST_TASK_METHOD.equals(method)))
+                || (pushConfigReads && (GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD.equals(method)
+                        || LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD.equals(method)));
+        if (!nonBlocking) {
+            ctx.next();
+            return;
+        }
+        A2ARequest<?> request;
+        try {
+            request = JSONRPCUtils.parseRequestBody(body, extractTenant(ctx));
+        } catch (Throwable t) {
+            ctx.next();
+            return;
+        }
+        ctx.put(PARSED_REQUEST_KEY, request);
+        vertxSecurityHelper.runInRequestContextNonBlocking(ctx, () -> invokeJSONRPCHandler(body, ctx));
+    }
+
     /**
      * Main entry point for all JSON-RPC requests.
      *
@@ -294,9 +377,13 @@ public class A2AServerRoutes {
      *
      * <p><b>Processing Flow:</b>
      * <ol>
-     *   <li>Parse JSON-RPC request body using {@link JSONRPCUtils#parseRequestBody(String, String)}</li>
+     *   <li>Parse JSON-RPC request body using {@link JSONRPCUtils#parseRequestBody(String, String)},
+     *       unless it was already parsed on the event loop</li>
      *   <li>Create {@link ServerCallContext} from routing context</li>
-     *   <li>Route to streaming or non-streaming handler</li>
+     *   <li>Hand JSON-RPC batches (a JSON array body) to {@link #invokeBatch}</li>
+     *   <li>Route to streaming or non-streaming handler; {@code SendMessage} and
+     *       {@code CancelTask} use the asynchronous handlers, so the worker thread is released
+     *       while the agent runs</li>
      *   <li>Handle errors with appropriate JSON-RPC error codes</li>
      *   <li>Return JSON response or start SSE stream</li>
      * </ol>
@@ -310,56 +397,249 @@ public class A2AServerRoutes {
         boolean streaming = false;
         ServerCallContext context = createCallContext(rc);
         A2AResponse<?> nonStreamingResponse = null;
+        CompletableFuture<? extends A2AResponse<?>> pendingResponse = null;
         Multi<? extends A2AResponse<?>> streamingResponse = null;
+        String extensionResponse = null;
         A2AErrorResponse error = null;
+        if (rc.get(PARSED_REQUEST_KEY) == null && JSONRPCUtils.isBatchBody(body)) {
+            invokeBatch(body, rc, context);
+            return;
+        }
         try {
-            A2ARequest<?> request = JSONRPCUtils.parseRequestBody(body, extractTenant(rc));
+            A2ARequest<?> request = rc.get(PARSED_REQUEST_KEY);
+            if (request == null) {
+                try {
+                    request = JSONRPCUtils.parseRequestBody(body, extractTenant(rc));
+                } catch (MethodNotFoundJsonMappingException e) {
+                    // Extension methods are not A2A requests, so they are only looked for here
+                    String method = JSONRPCUtils.getMethod(body);
+                    boolean subscribe = MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD.equals(method);
+                    if (!subscribe && !MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD.equals(method)) {
+                        throw e;
+                    }
+                    context.getState().put(METHOD_NAME_KEY, method);
+                    try {
+                        rateLimiter.acquire(extractTenant(rc), method);
+                    } catch (RateLimitExceededError limited) {
+                        error = new A2AErrorResponse(e.getId(), limited);
+                        return;
+                    }
+                    if (subscribe) {
+                        streaming = true;
+                        streamingResponse = Multi.createFrom().publisher(jsonRpcHandler.onSubscribeToTasks(body, context));
+                    } else {
+                        extensionResponse = jsonRpcHandler.onUpdateTaskSubscription(body, context);
+                    }
+                    return;
+                }
+            }
             context.getState().put(METHOD_NAME_KEY, request.getMethod());
-            if (request instanceof NonStreamingJSONRPCRequest nonStreamingRequest) {
+            try {
+                rateLimiter.acquire(extractTenant(rc), request.getMethod());
+            } catch (RateLimitExceededError e) {
+                error = new A2AErrorResponse(request.getId(), e);
+                return;
+            }
+            // Requests waiting for the agent release the worker thread until the result is ready
+            if (request instanceof SendMessageRequest req) {
+                pendingResponse = jsonRpcHandler.onMessageSendAsync(req, context);
+            } else if (request instanceof CancelTaskRequest req) {
+                pendingResponse = jsonRpcHandler.onCancelTaskAsync(req, context);
+            } else if (request instanceof NonStreamingJSONRPCRequest nonStreamingRequest) {
                 nonStreamingResponse = processNonStreamingRequest(nonStreamingRequest, context);
             } else {
-                streaming = true;
-                streamingResponse = processStreamingRequest(request, context);
+                try {
+                    streamingResponse = processStreamingRequest(request, context);
+                    streaming = true;
+                } catch (ServerOverloadedError e) {
+                    // Rejected before the stream was opened, so it can still be answered with an HTTP status
+                    error = new A2AErrorResponse(request.getId(), e);
+                }
             }
-        } catch (A2AError e) {
-            error = new A2AErrorResponse(e);
-        } catch (InvalidParamsJsonMappingException e) {
-            error = new A2AErrorResponse(e.getId(), new org.a2aproject.sdk.spec.InvalidParamsError(null, e.getMessage(), null));
-        } catch (MethodNotFoundJsonMappingException e) {
-            error = new A2AErrorResponse(e.getId(), new org.a2aproject.sdk.spec.MethodNotFoundError(null, e.getMessage(), null));
-        } catch (IdJsonMappingException e) {
-            error = new A2AErrorResponse(e.getId(), new org.a2aproject.sdk.spec.InvalidRequestError(null, e.getMessage(), null));
-        } catch (JsonMappingException e) {
-            // General JsonMappingException - treat as InvalidRequest
-            error = new A2AErrorResponse(new org.a2aproject.sdk.spec.InvalidRequestError(null, e.getMessage(), null));
-        } catch (JsonSyntaxException | JsonProcessingException e) {
-            error = new A2AErrorResponse(new JSONParseError(e.getMessage()));
         } catch (Throwable t) {
-            error = new A2AErrorResponse(new InternalError(t.getMessage()));
+            error = toErrorResponse(t);
         } finally {
-            if (error != null) {
+            if (error != null && error.getError() instanceof ServerOverloadedError overloaded) {
+                endOverloaded(rc, overloaded, serializeResponse(error));
+            } else if (error != null) {
                 rc.response()
                         .setStatusCode(200)
                         .putHeader(CONTENT_TYPE, APPLICATION_JSON)
                         .end(serializeResponse(error));
             } else if (streaming) {
-                // Convert Multi<A2AResponse> to Multi<String> with SSE formatting
+                // Convert Multi<A2AResponse> to Multi<Buffer> with SSE formatting
                 // CRITICAL: Subscribe synchronously to avoid race condition where EventConsumer
                 // starts emitting events before the SSE subscriber is attached. The executor.execute()
                 // wrapper caused 100-600ms delays before subscription, causing events to be lost.
                 AtomicLong eventIdCounter = new AtomicLong(0);
-                Multi<String> sseEvents = streamingResponse
-                        .map(response -> SseFormatter.formatResponseAsSSE(response, eventIdCounter.getAndIncrement()));
-                // Write SSE-formatted strings to HTTP response
-                SseResponseWriter.writeSseStrings(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
+                Multi<Buffer> sseEvents = streamingResponse
+                        .map(response -> Buffer.buffer(Unpooled.wrappedBuffer(
+                                SseFormatter.formatResponseAsSSEBytes(response, eventIdCounter.getAndIncrement()))));
+                // Write SSE-formatted buffers to HTTP response
+                SseResponseWriter.writeSseBuffers(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
 
+            } else if (extensionResponse != null) {
+                rc.response()
+                        .setStatusCode(200)
+                        .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                        .end(extensionResponse);
+            } else if (pendingResponse != null) {
+                pendingResponse.whenComplete((response, t) -> {
+                    if (t == null && response.getError() instanceof ServerOverloadedError overloaded) {
+                        endOverloaded(rc, overloaded, serializeResponse(response));
+                        return;
+                    }
+                    rc.response()
+                            .setStatusCode(200)
+                            .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                            .end(responseBuffer(t == null ? response : new A2AErrorResponse(new InternalError(t.getMessage()))));
+                });
             } else {
                 rc.response()
                         .setStatusCode(200)
                         .putHeader(CONTENT_TYPE, APPLICATION_JSON)
-                        .end(serializeResponse(nonStreamingResponse));
+                        .end(responseBuffer(nonStreamingResponse));
+            }
+        }
+    }
+
+    /**
+     * Answers a request rejected by admission control or rate limiting like the REST binding does:
+     * {@code 503 Service Unavailable}, or {@code 429 Too Many Requests} for a
+     * {@link RateLimitExceededError}, with a {@code Retry-After} header. The body is still the
+     * JSON-RPC error response, so clients that ignore the status see the same error as before.
+     *
+     * @param rc the Vert.x routing context
+     * @param overloaded the error the request was rejected with
+     * @param body the serialized JSON-RPC error response
+     */
+    private static void endOverloaded(RoutingContext rc, ServerOverloadedError overloaded, String body) {
+        rc.response()
+                .setStatusCode(overloaded instanceof RateLimitExceededError ? 429 : 503)
+                .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                .putHeader(RETRY_AFTER, Integer.toString(overloaded.getRetryAfterSeconds()))
+                .end(body);
+    }
+
+    /**
+     * Handles a JSON-RPC 2.0 batch request.
+     *
+     * <p>Each member is parsed and rate limited on its own, and members that cannot be parsed
+     * are answered with their error in place. The remaining members are passed to
+     * {@link JSONRPCHandler#onBatchRequest}, which runs them concurrently within the request
+     * context of the batch, and the responses are written as a single JSON array in the order
+     * of the request.
+     *
+     * <p>Notifications, members without an {@code id}, are never answered: those that cannot be
+     * parsed or are rate limited are dropped, and a batch made only of notifications gets an
+     * empty {@code 204 No Content} response.
+     *
+     * <p>A malformed or empty batch, or one larger than {@value #MAX_BATCH_SIZE} members, is
+     * answered with a single error response, as required by the JSON-RPC 2.0 specification.
+     *
+     * @param body the raw JSON-RPC batch body
+     * @param rc the Vert.x routing context
+     * @param context the call context shared by the members of the batch
+     */
+    private void invokeBatch(String body, RoutingContext rc, ServerCallContext context) {
+        List<A2AMessage> batch = new ArrayList<>();
+        try {
+            List<String> members = JSONRPCUtils.splitBatchBody(body);
+            if (members.isEmpty() || members.size() > MAX_BATCH_SIZE) {
+                throw new org.a2aproject.sdk.spec.InvalidRequestError(null,
+                        "A batch must contain between 1 and " + MAX_BATCH_SIZE + " requests", null);
+            }
+            String tenant = extractTenant(rc);
+            for (String member : members) {
+                A2AMessage message = JSONRPCUtils.isNotification(member)
+                        ? parseBatchNotification(member, tenant)
+                        : parseBatchMember(member, tenant);
+                if (message != null) {
+                    batch.add(message);
+                }
+            }
+        } catch (Throwable t) {
+            rc.response()
+                    .setStatusCode(200)
+                    .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                    .end(serializeResponse(toErrorResponse(t)));
+            return;
+        }
+        Executor memberExecutor = vertxSecurityHelper.propagateRequestContext(executor);
+        jsonRpcHandler.onBatchRequest(batch, context, memberExecutor).whenComplete((responses, t) -> {
+            if (t != null) {
+                rc.response()
+                        .setStatusCode(200)
+                        .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                        .end(serializeResponse(new A2AErrorResponse(new InternalError(t.getMessage()))));
+                return;
+            }
+            if (responses.isEmpty()) {
+                rc.response().setStatusCode(204).end();
+                return;
+            }
+            Buffer buffer = Buffer.buffer().appendByte((byte) '[');
+            for (int i = 0; i < responses.size(); i++) {
+                if (i > 0) {
+                    buffer.appendByte((byte) ',');
+                }
+                buffer.appendBuffer(responseBuffer(responses.get(i)));
             }
+            rc.response()
+                    .setStatusCode(200)
+                    .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                    .end(buffer.appendByte((byte) ']'));
+        });
+    }
+
+    private A2AMessage parseBatchMember(String member, String tenant) {
+        A2ARequest<?> request;
+        try {
+            request = JSONRPCUtils.parseRequestBody(member, tenant);
+        } catch (Throwable t) {
+            return toErrorResponse(t);
+        }
+        try {
+            rateLimiter.acquire(tenant, request.getMethod());
+        } catch (RateLimitExceededError e) {
+            return new A2AErrorResponse(request.getId(), e);
+        }
+        return request;
+    }
+
+    private @Nullable A2ARequest<?> parseBatchNotification(String member, String tenant) {
+        try {
+            A2ARequest<?> notification = JSONRPCUtils.parseNotificationBody(member, tenant);
+            rateLimiter.acquire(tenant, notification.getMethod());
+            return notification;
+        } catch (Throwable t) {
+            // Notifications are never answered, not even with an error
+            return null;
+        }
+    }
+
+    /**
+     * Maps a failure while parsing or dispatching a request to its JSON-RPC error response.
+     *
+     * @param t the failure
+     * @return the error response, carrying the request id when it is known
+     */
+    private static A2AErrorResponse toErrorResponse(Throwable t) {
+        if (t instanceof A2AError e) {
+            return new A2AErrorResponse(e);
+        } else if (t instanceof InvalidParamsJsonMappingException e) {
+            return new A2AErrorResponse(e.getId(), new org.a2aproject.sdk.spec.InvalidParamsError(null, e.getMessage(), null));
+        } else if (t instanceof MethodNotFoundJsonMappingException e) {
+            return new A2AErrorResponse(e.getId(), new org.a2aproject.sdk.spec.MethodNotFoundError(null, e.getMessage(), null));
+        } else if (t instanceof IdJsonMappingException e) {
+            return new A2AErrorResponse(e.getId(), new org.a2aproject.sdk.spec.InvalidRequestError(null, e.getMessage(), null));
+        } else if (t instanceof JsonMappingException) {
+            // General JsonMappingException - treat as InvalidRequest
+            return new A2AErrorResponse(new org.a2aproject.sdk.spec.InvalidRequestError(null, t.getMessage(), null));
+        } else if (t instanceof JsonSyntaxException || t instanceof JsonProcessingException) {
+            return new A2AErrorResponse(new JSONParseError(t.getMessage()));
         }
+        return new A2AErrorResponse(new InternalError(t.getMessage()));
     }
 
     /**
@@ -399,15 +679,19 @@ public class A2AServerRoutes {
      * }
      * }</pre>
      *
+     * <p>The card is rendered once and reused: {@code If-None-Match} and
+     * {@code If-Modified-Since} are answered with {@code 304 Not Modified} when they match, and
+     * clients sending {@code Accept-Encoding: gzip} receive the precompressed variant.
+     *
      * @param rc the Vert.x routing context
-     * @return the agent card as a JSON string
-     * @throws JsonProcessingException if serialization fails
+     * @return the pre-rendered response, including the caching headers
      * @see JSONRPCHandler#getAgentCard()
+     * @see AgentCardCacheMetadata#respond
      */
-    public String getAgentCard(RoutingContext rc) throws JsonProcessingException {
-        // Add caching headers per A2A specification section 8.6
-        cacheMetadata.getHttpHeadersMap().forEach((k, v) -> rc.response().putHeader(k, v));
-        return JsonUtil.toJson(jsonRpcHandler.getAgentCard());
+    public AgentCardResponse getAgentCard(RoutingContext rc) {
+        // Caching headers per A2A specification section 8.6 are part of the response
+        return cacheMetadata.respond(jsonRpcHandler.getAgentCard(), rc.request().getHeader(IF_NONE_MATCH),
+                rc.request().getHeader(IF_MODIFIED_SINCE), rc.request().getHeader(ACCEPT_ENCODING));
     }
 
     /**
@@ -479,6 +763,7 @@ public class A2AServerRoutes {
      * @param request the streaming JSON-RPC request
      * @param context the server call context
      * @return a Multi stream of JSON-RPC responses
+     * @throws ServerOverloadedError if the stream was rejected by admission control
      */
     private Multi<? extends A2AResponse<?>> processStreamingRequest(
             A2ARequest<?> request, ServerCallContext context) throws A2AError {
@@ -497,6 +782,8 @@ public class A2AServerRoutes {
                 return Multi.createFrom().item(generateErrorResponse(request, new UnsupportedOperationError()));
             }
             return Multi.createFrom().publisher(publisher);
+        } catch (ServerOverloadedError error) {
+            throw error;
         } catch (A2AError error) {
             return Multi.createFrom().item(generateErrorResponse(request, error));
         }
@@ -670,6 +957,23 @@ public class A2AServerRoutes {
         return JSONRPCUtils.toJsonRPCResultResponse(response.getId(), protoMessage);
     }
 
+    /**
+     * Serializes a non-streaming response into a buffer for the HTTP response body.
+     *
+     * <p>Tasks and messages are encoded directly to UTF-8 bytes by {@link SpecJsonEncoder}, and
+     * the resulting array is wrapped without copying. Other responses are serialized with
+     * {@link #serializeResponse(A2AResponse)}.
+     *
+     * @param response the response to serialize
+     * @return the buffer holding the JSON-RPC response
+     */
+    private static Buffer responseBuffer(A2AResponse<?> response) {
+        if (SpecJsonEncoder.supports(response)) {
+            return Buffer.buffer(Unpooled.wrappedBuffer(SpecJsonEncoder.toJsonRPCResultResponse(response)));
+        }
+        return Buffer.buffer(serializeResponse(response));
+    }
+
     /**
      * Converts a domain response object to its protobuf representation.
      *
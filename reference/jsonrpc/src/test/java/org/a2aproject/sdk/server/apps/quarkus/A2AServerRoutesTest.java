@@ -14,16 +14,19 @@ import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.ME
 import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.TENANT_KEY;
 import static java.util.Collections.singletonList;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static io.vertx.core.http.HttpHeaders.RETRY_AFTER;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 
@@ -49,6 +52,8 @@ import org.a2aproject.sdk.jsonrpc.common.wrappers.CreateTaskPushNotificationConf
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CreateTaskPushNotificationConfigResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.SubscribeToTaskRequest;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
 import org.a2aproject.sdk.spec.AgentCapabilities;
 import org.a2aproject.sdk.spec.AgentCard;
 import org.a2aproject.sdk.spec.AgentInterface;
@@ -100,6 +105,7 @@ public class A2AServerRoutesTest {
         setField(routes, "jsonRpcHandler", mockJsonRpcHandler);
         setField(routes, "executor", mockExecutor);
         setField(routes, "callContextFactory", mockCallContextFactory);
+        setField(routes, "rateLimiter", new RateLimiter());
 
         // Setup common mock behavior
         when(mockCallContextFactory.isUnsatisfied()).thenReturn(true);
@@ -154,8 +160,8 @@ public class A2AServerRoutesTest {
                 .status(new TaskStatus(TaskState.TASK_STATE_SUBMITTED))
                 .build();
         SendMessageResponse realResponse = new SendMessageResponse("1", responseTask);
-        when(mockJsonRpcHandler.onMessageSend(any(SendMessageRequest.class), any(ServerCallContext.class)))
-                .thenReturn(realResponse);
+        when(mockJsonRpcHandler.onMessageSendAsync(any(SendMessageRequest.class), any(ServerCallContext.class)))
+                .thenReturn(CompletableFuture.completedFuture(realResponse));
 
         ArgumentCaptor<ServerCallContext> contextCaptor = ArgumentCaptor.forClass(ServerCallContext.class);
 
@@ -163,7 +169,7 @@ public class A2AServerRoutesTest {
         routes.invokeJSONRPCHandler(jsonRpcRequest, mockRoutingContext);
 
         // Assert
-        verify(mockJsonRpcHandler).onMessageSend(any(SendMessageRequest.class), contextCaptor.capture());
+        verify(mockJsonRpcHandler).onMessageSendAsync(any(SendMessageRequest.class), contextCaptor.capture());
         ServerCallContext capturedContext = contextCaptor.getValue();
         assertNotNull(capturedContext);
         assertEquals(SEND_MESSAGE_METHOD, capturedContext.getState().get(METHOD_NAME_KEY));
@@ -276,8 +282,8 @@ public class A2AServerRoutesTest {
                 .status(new TaskStatus(TaskState.TASK_STATE_CANCELED))
                 .build();
         CancelTaskResponse realResponse = new CancelTaskResponse("1", responseTask);
-        when(mockJsonRpcHandler.onCancelTask(any(CancelTaskRequest.class), any(ServerCallContext.class)))
-                .thenReturn(realResponse);
+        when(mockJsonRpcHandler.onCancelTaskAsync(any(CancelTaskRequest.class), any(ServerCallContext.class)))
+                .thenReturn(CompletableFuture.completedFuture(realResponse));
 
         ArgumentCaptor<ServerCallContext> contextCaptor = ArgumentCaptor.forClass(ServerCallContext.class);
 
@@ -285,7 +291,7 @@ public class A2AServerRoutesTest {
         routes.invokeJSONRPCHandler(jsonRpcRequest, mockRoutingContext);
 
         // Assert
-        verify(mockJsonRpcHandler).onCancelTask(any(CancelTaskRequest.class), contextCaptor.capture());
+        verify(mockJsonRpcHandler).onCancelTaskAsync(any(CancelTaskRequest.class), contextCaptor.capture());
         ServerCallContext capturedContext = contextCaptor.getValue();
         assertNotNull(capturedContext);
         assertEquals(CANCEL_TASK_METHOD, capturedContext.getState().get(METHOD_NAME_KEY));
@@ -748,6 +754,57 @@ public class A2AServerRoutesTest {
         verify(mockHttpResponse).putHeader(CONTENT_TYPE, APPLICATION_JSON);
     }
 
+    @Test
+    public void testServerOverloaded_SendMessageAnsweredWith503AndRetryAfter() {
+        String jsonRpcRequest = """
+            {
+             "jsonrpc": "2.0",
+             "id": "overloaded-1",
+             "method": "SendMessage",
+             "params": {
+              "message": {
+               "messageId": "message-1234",
+               "role": "ROLE_USER",
+               "parts": [{"text": "hello"}]
+              }
+             }
+            }""";
+        when(mockJsonRpcHandler.onMessageSendAsync(any(SendMessageRequest.class), any(ServerCallContext.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new SendMessageResponse("overloaded-1", new ServerOverloadedError("Server overloaded", 3))));
+
+        routes.invokeJSONRPCHandler(jsonRpcRequest, mockRoutingContext);
+
+        verify(mockHttpResponse).setStatusCode(503);
+        verify(mockHttpResponse).putHeader(RETRY_AFTER, "3");
+        verify(mockHttpResponse).putHeader(CONTENT_TYPE, APPLICATION_JSON);
+    }
+
+    @Test
+    public void testServerOverloaded_StreamAnsweredWith503BeforeStreaming() {
+        String jsonRpcRequest = """
+            {
+             "jsonrpc": "2.0",
+             "id": "overloaded-2",
+             "method": "SendStreamingMessage",
+             "params": {
+              "message": {
+               "messageId": "message-1234",
+               "role": "ROLE_USER",
+               "parts": [{"text": "hello"}]
+              }
+             }
+            }""";
+        when(mockJsonRpcHandler.onMessageSendStream(any(SendStreamingMessageRequest.class), any(ServerCallContext.class)))
+                .thenThrow(new ServerOverloadedError("Too many open streams", 2));
+
+        routes.invokeJSONRPCHandler(jsonRpcRequest, mockRoutingContext);
+
+        verify(mockHttpResponse).setStatusCode(503);
+        verify(mockHttpResponse).putHeader(RETRY_AFTER, "2");
+        verify(mockHttpResponse, never()).setChunked(true);
+    }
+
     /**
      * Helper method to set a field via reflection for testing purposes.
      */
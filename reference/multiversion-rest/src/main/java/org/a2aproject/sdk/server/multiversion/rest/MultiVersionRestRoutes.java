@@ -3,6 +3,7 @@ package org.a2aproject.sdk.server.multiversion.rest;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import jakarta.annotation.Priority;
@@ -17,9 +18,11 @@ import io.vertx.ext.web.handler.BodyHandler;
 import org.a2aproject.sdk.server.common.quarkus.VersionRouter;
 import org.a2aproject.sdk.server.common.quarkus.VertxSecurityHelper;
 import org.a2aproject.sdk.server.rest.quarkus.A2AServerRoutes;
+import org.a2aproject.sdk.transport.rest.handler.RestHandler;
 import org.a2aproject.sdk.compat03.server.rest.quarkus.A2AServerRoutes_v0_3;
 import org.a2aproject.sdk.spec.A2AError;
 import org.a2aproject.sdk.spec.A2AErrorCodes;
+import org.a2aproject.sdk.spec.MethodNotFoundError;
 import org.a2aproject.sdk.spec.VersionNotSupportedError;
 
 import io.quarkus.security.ForbiddenException;
@@ -34,6 +37,9 @@ public class MultiVersionRestRoutes {
     @Inject
     A2AServerRoutes_v0_3 v03Routes;
 
+    @Inject
+    RestHandler restHandler;
+
     @Inject
     VertxSecurityHelper vertxSecurityHelper;
 
@@ -56,9 +62,25 @@ public class MultiVersionRestRoutes {
                 (body, ctx) -> v10Routes.sendMessageStreaming(body, ctx),
                 (body, ctx) -> v03Routes.sendMessageStreaming(body, ctx)), false);
 
+        // GET /v1/tasks — v1.0 only, as v0.3 has no ListTasks
+        router.getWithRegex("^\\/v1\\/tasks\\/?$")
+            .order(-1)
+            .handler(nonBlockingV10When(restHandler::isNonBlockingTaskRead,
+                MultiVersionRestRoutes::bridgeTenant,
+                ctx -> v10Routes.listTasks(ctx)))
+            .blockingHandler(versionDispatchNoBody(
+                MultiVersionRestRoutes::bridgeTenant,
+                ctx -> v10Routes.listTasks(ctx),
+                ctx -> {
+                    throw new MethodNotFoundError(null, "ListTasks is not supported by protocol version 0.3", null);
+                }), false);
+
         // GET /v1/tasks/{taskId}
         router.getWithRegex("^\\/v1\\/tasks\\/(?<taskId>[^:^/]+)$")
             .order(-1)
+            .handler(nonBlockingV10When(restHandler::isNonBlockingTaskRead,
+                ctx -> { bridgeTenant(ctx); bridgeTaskId(ctx); },
+                ctx -> v10Routes.getTask(ctx)))
             .blockingHandler(versionDispatchNoBody(
                 ctx -> { bridgeTenant(ctx); bridgeTaskId(ctx); },
                 ctx -> v10Routes.getTask(ctx),
@@ -93,6 +115,9 @@ public class MultiVersionRestRoutes {
         // GET /v1/tasks/{taskId}/pushNotificationConfigs/{configId}
         router.getWithRegex("^\\/v1\\/tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^\\/]+)")
             .order(-1)
+            .handler(nonBlockingV10When(restHandler::isNonBlockingPushNotificationConfigRead,
+                ctx -> { bridgeTenant(ctx); bridgeTaskId(ctx); },
+                ctx -> v10Routes.getTaskPushNotificationConfiguration(ctx)))
             .blockingHandler(versionDispatchNoBody(
                 ctx -> { bridgeTenant(ctx); bridgeTaskId(ctx); },
                 ctx -> v10Routes.getTaskPushNotificationConfiguration(ctx),
@@ -101,6 +126,9 @@ public class MultiVersionRestRoutes {
         // GET /v1/tasks/{taskId}/pushNotificationConfigs
         router.getWithRegex("^\\/v1\\/tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/?$")
             .order(-1)
+            .handler(nonBlockingV10When(restHandler::isNonBlockingPushNotificationConfigRead,
+                ctx -> { bridgeTenant(ctx); bridgeTaskId(ctx); },
+                ctx -> v10Routes.listTaskPushNotificationConfigurations(ctx)))
             .blockingHandler(versionDispatchNoBody(
                 ctx -> { bridgeTenant(ctx); bridgeTaskId(ctx); },
                 ctx -> v10Routes.listTaskPushNotificationConfigurations(ctx),
@@ -142,6 +170,27 @@ public class MultiVersionRestRoutes {
         }
     }
 
+    /**
+     * Serves v1.0 requests on the event loop if {@code nonBlocking} holds, authenticating without
+     * blocking. Other requests are passed to the next handler of the route, which dispatches them
+     * by version on a worker thread.
+     */
+    private io.vertx.core.Handler<RoutingContext> nonBlockingV10When(
+            BooleanSupplier nonBlocking,
+            Consumer<RoutingContext> paramBridger,
+            Consumer<RoutingContext> v10Handler) {
+        return ctx -> {
+            if (nonBlocking.getAsBoolean() && VersionRouter.isV10(VersionRouter.resolveVersion(ctx))) {
+                vertxSecurityHelper.runInRequestContextNonBlocking(ctx, () -> {
+                    paramBridger.accept(ctx);
+                    v10Handler.accept(ctx);
+                });
+            } else {
+                ctx.next();
+            }
+        };
+    }
+
     private io.vertx.core.Handler<RoutingContext> versionDispatch(
             Consumer<RoutingContext> paramBridger,
             BiConsumer<String, RoutingContext> v10Handler,
@@ -5,16 +5,21 @@ import static org.a2aproject.sdk.spec.A2AMethods.CANCEL_TASK_METHOD;
 import static org.a2aproject.sdk.spec.A2AMethods.SEND_STREAMING_MESSAGE_METHOD;
 import static org.a2aproject.sdk.transport.rest.context.RestContextKeys.HEADERS_KEY;
 import static org.a2aproject.sdk.transport.rest.context.RestContextKeys.METHOD_NAME_KEY;
+import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static io.vertx.core.http.HttpHeaders.IF_MODIFIED_SINCE;
+import static io.vertx.core.http.HttpHeaders.IF_NONE_MATCH;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import org.a2aproject.sdk.server.util.sse.SseFormatter;
@@ -26,10 +31,14 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import org.a2aproject.sdk.common.A2AHeaders;
+import org.a2aproject.sdk.server.AgentCardResponse;
+import org.a2aproject.sdk.server.RateLimitExceededError;
 import org.a2aproject.sdk.server.ServerCallContext;
 import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.auth.User;
 import org.a2aproject.sdk.server.extensions.A2AExtensions;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
 import org.a2aproject.sdk.server.util.async.Internal;
 import org.a2aproject.sdk.spec.A2AError;
 import org.a2aproject.sdk.spec.ContentTypeNotSupportedError;
@@ -43,12 +52,15 @@ import org.a2aproject.sdk.transport.rest.handler.RestHandler.HTTPRestStreamingRe
 import org.a2aproject.sdk.server.common.quarkus.SseResponseWriter;
 import org.a2aproject.sdk.server.common.quarkus.VertxSecurityHelper;
 import org.a2aproject.sdk.util.Utils;
+import io.netty.buffer.Unpooled;
 import io.quarkus.security.Authenticated;
 import io.quarkus.security.ForbiddenException;
 import io.quarkus.security.UnauthorizedException;
 import io.smallrye.mutiny.Multi;
 import jakarta.annotation.security.PermitAll;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -82,6 +94,8 @@ import static org.a2aproject.sdk.transport.rest.context.RestContextKeys.TENANT_K
  * GET    /{tenant}/tasks/{taskId}         → getTask()
  * POST   /{tenant}/tasks/{taskId}:cancel  → cancelTask()
  * POST   /{tenant}/tasks/{taskId}:subscribe → subscribeToTask()
+ * POST   /{tenant}/extensions/taskSubscriptions/{subscriptionId}:subscribe → subscribeToTasks()
+ * POST   /{tenant}/extensions/taskSubscriptions/{subscriptionId}:update → updateTaskSubscription()
  * GET    /.well-known/agent-card.json     → getAgentCard()
  * GET    /{tenant}/extendedAgentCard      → getExtendedAgentCard()
  * </pre>
@@ -147,6 +161,9 @@ public class A2AServerRoutes {
     @Inject
     VertxSecurityHelper vertxSecurityHelper;
 
+    @Inject
+    RateLimiter rateLimiter;
+
     /**
      * Initializes Vert.x Web Router with all A2A REST endpoints.
      *
@@ -157,7 +174,7 @@ public class A2AServerRoutes {
      */
     void setupRouter(@Observes @Priority(10) Router router) {
         // Don't add a global BodyHandler - it interferes with gRPC routes
-        // Instead, BodyHandler is added per-route below
+        // Instead, BodyHandler is added per-route below, after the rate limit check
 
         // Message Routes
 
@@ -166,15 +183,19 @@ public class A2AServerRoutes {
         // request. ordered=true would serialize them, causing a 30s deadlock.
 
         // POST /{tenant}/message:send - Non-streaming message send
+        // The response is written asynchronously once the agent is done, so the request context
+        // is kept until the response ends, as for streaming
         router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)message:send$")
+            .handler(rateLimited(SEND_MESSAGE_METHOD))
             .handler(BodyHandler.create())
-            .blockingHandler(authenticated(ctx -> {
+            .blockingHandler(authenticatedStreaming(ctx -> {
                 String body = extractBody(ctx);
                 sendMessage(body, ctx);
             }), false);
 
         // POST /{tenant}/message:stream - Streaming message with SSE
         router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)message:stream$")
+            .handler(rateLimited(SEND_STREAMING_MESSAGE_METHOD))
             .handler(BodyHandler.create())
             .blockingHandler(authenticatedStreaming(ctx -> {
                 String body = extractBody(ctx);
@@ -183,21 +204,29 @@ public class A2AServerRoutes {
 
         // Task Routes
 
+        // Read-only routes are served on the event loop when the stores never block, and
+        // dispatched to a worker thread otherwise
+
         // GET /{tenant}/tasks - List tasks with query params
         router.getWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\??")
             .order(0)
+            .handler(rateLimited(LIST_TASK_METHOD))
+            .handler(nonBlockingWhen(jsonRestHandler::isNonBlockingTaskRead, this::listTasks))
             .blockingHandler(authenticated(this::listTasks), false);
 
         // GET /{tenant}/tasks/{taskId} - Get specific task
         router.getWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^:^/]+)$")
             .order(1)
+            .handler(rateLimited(GET_TASK_METHOD))
+            .handler(nonBlockingWhen(jsonRestHandler::isNonBlockingTaskRead, this::getTask))
             .blockingHandler(authenticated(this::getTask), false);
 
-        // POST /{tenant}/tasks/{taskId}:cancel - Cancel task
+        // POST /{tenant}/tasks/{taskId}:cancel - Cancel task, answered asynchronously like message:send
         router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):cancel$")
             .order(1)
+            .handler(rateLimited(CANCEL_TASK_METHOD))
             .handler(BodyHandler.create())
-            .blockingHandler(authenticated(ctx -> {
+            .blockingHandler(authenticatedStreaming(ctx -> {
                 String body = extractBody(ctx);
                 cancelTask(body, ctx);
             }), false);
@@ -205,13 +234,37 @@ public class A2AServerRoutes {
         // POST /{tenant}/tasks/{taskId}:subscribe - Subscribe to task updates (SSE)
         router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):subscribe$")
             .order(1)
+            .handler(rateLimited(SUBSCRIBE_TO_TASK_METHOD))
             .blockingHandler(authenticatedStreaming(this::subscribeToTask), false);
 
+        // Multi-task subscription extension
+
+        // POST /{tenant}/extensions/taskSubscriptions/{subscriptionId}:subscribe - Events of several tasks (SSE)
+        router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)extensions\\/taskSubscriptions\\/(?<subscriptionId>[^/]+):subscribe$")
+            .order(1)
+            .handler(rateLimited(MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD))
+            .handler(BodyHandler.create())
+            .blockingHandler(authenticatedStreaming(ctx -> {
+                String body = extractBody(ctx);
+                subscribeToTasks(body, ctx);
+            }), false);
+
+        // POST /{tenant}/extensions/taskSubscriptions/{subscriptionId}:update - Add and remove tasks
+        router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)extensions\\/taskSubscriptions\\/(?<subscriptionId>[^/]+):update$")
+            .order(1)
+            .handler(rateLimited(MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD))
+            .handler(BodyHandler.create())
+            .blockingHandler(authenticated(ctx -> {
+                String body = extractBody(ctx);
+                updateTaskSubscription(body, ctx);
+            }), false);
+
         // Push Notification Routes
 
         // POST /{tenant}/tasks/{taskId}/pushNotificationConfigs
         router.postWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs$")
             .order(1)
+            .handler(rateLimited(SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD))
             .handler(BodyHandler.create())
             .blockingHandler(authenticated(ctx -> {
                 String body = extractBody(ctx);
@@ -221,16 +274,23 @@ public class A2AServerRoutes {
         // GET /{tenant}/tasks/{taskId}/pushNotificationConfigs/{configId}
         router.getWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^\\/]+)")
             .order(2)
+            .handler(rateLimited(GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD))
+            .handler(nonBlockingWhen(jsonRestHandler::isNonBlockingPushNotificationConfigRead,
+                    this::getTaskPushNotificationConfiguration))
             .blockingHandler(authenticated(this::getTaskPushNotificationConfiguration), false);
 
         // GET /{tenant}/tasks/{taskId}/pushNotificationConfigs
         router.getWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/?$")
             .order(3)
+            .handler(rateLimited(LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD))
+            .handler(nonBlockingWhen(jsonRestHandler::isNonBlockingPushNotificationConfigRead,
+                    this::listTaskPushNotificationConfigurations))
             .blockingHandler(authenticated(this::listTaskPushNotificationConfigurations), false);
 
         // DELETE /{tenant}/tasks/{taskId}/pushNotificationConfigs/{configId}
         router.deleteWithRegex("^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^/]+)")
             .order(1)
+            .handler(rateLimited(DELETE_TASK_PUSH_NOTIFICATION_CONFIG_METHOD))
             .blockingHandler(authenticated(this::deleteTaskPushNotificationConfiguration), false);
 
         // Discovery Routes
@@ -241,11 +301,47 @@ public class A2AServerRoutes {
             .produces(APPLICATION_JSON)
             .handler(this::getAgentCard);
 
-        // GET /{tenant}/extendedAgentCard - Extended agent card (auth required)
+        // GET /{tenant}/extendedAgentCard - Extended agent card (auth required, never blocks)
         router.getWithRegex("^\\/(?<tenant>[^\\/]*\\/?)extendedAgentCard$")
             .order(1)
             .produces(APPLICATION_JSON)
-            .blockingHandler(authenticated(this::getExtendedAgentCard), false);
+            .handler(rateLimited(GET_EXTENDED_AGENT_CARD_METHOD))
+            .handler(nonBlockingWhen(() -> true, this::getExtendedAgentCard));
+    }
+
+    /**
+     * Rejects the request with {@code 429 Too Many Requests} if the tenant exceeded its rate for
+     * the method, and passes it to the next handler otherwise. It runs on the event loop before
+     * the body is read, so rejected requests cost neither a worker thread nor a buffered body.
+     */
+    private Handler<RoutingContext> rateLimited(String method) {
+        return ctx -> {
+            if (!rateLimiter.isEnabled()) {
+                ctx.next();
+                return;
+            }
+            try {
+                rateLimiter.acquire(extractTenant(ctx), method);
+            } catch (RateLimitExceededError e) {
+                sendResponse(ctx, jsonRestHandler.createErrorResponse(e));
+                return;
+            }
+            ctx.next();
+        };
+    }
+
+    /**
+     * Serves the request on the event loop if {@code nonBlocking} holds, authenticating without
+     * blocking; otherwise passes it to the next handler of the route, which runs on a worker.
+     */
+    private Handler<RoutingContext> nonBlockingWhen(BooleanSupplier nonBlocking, Consumer<RoutingContext> action) {
+        return ctx -> {
+            if (nonBlocking.getAsBoolean()) {
+                vertxSecurityHelper.runInRequestContextNonBlocking(ctx, () -> action.accept(ctx));
+            } else {
+                ctx.next();
+            }
+        };
     }
 
     private Handler<RoutingContext> authenticated(Consumer<RoutingContext> action) {
@@ -301,14 +397,13 @@ public class A2AServerRoutes {
             return;
         }
         ServerCallContext context = createCallContext(rc, SEND_MESSAGE_METHOD);
-        HTTPRestResponse response = null;
+        CompletableFuture<HTTPRestResponse> response;
         try {
-            response = jsonRestHandler.sendMessage(context, extractTenant(rc), body);
+            response = jsonRestHandler.sendMessageAsync(context, extractTenant(rc), body);
         } catch (Throwable t) {
-            response = jsonRestHandler.createErrorResponse(new InternalError(t.getMessage()));
-        } finally {
-            sendResponse(rc, response);
+            response = CompletableFuture.completedFuture(jsonRestHandler.createErrorResponse(new InternalError(t.getMessage())));
         }
+        sendResponseWhenReady(rc, response);
     }
 
     /**
@@ -350,15 +445,16 @@ public class A2AServerRoutes {
             if (error != null) {
                 sendResponse(rc, error);
             } else if (streamingResponse != null) {
-                // Convert Flow.Publisher<String> (JSON) to Multi<String> (SSE-formatted)
+                // Convert Flow.Publisher<String> (JSON) to Multi<Buffer> (SSE-formatted)
                 // CRITICAL: Subscribe synchronously to avoid race condition where EventConsumer
                 // starts emitting events before the SSE subscriber is attached. The executor.execute()
                 // wrapper caused 100-600ms delays before subscription, causing events to be lost.
                 AtomicLong eventIdCounter = new AtomicLong(0);
-                Multi<String> sseEvents = Multi.createFrom().publisher(streamingResponse.getPublisher())
-                        .map(json -> SseFormatter.formatJsonAsSSE(json, eventIdCounter.getAndIncrement()));
-                // Write SSE-formatted strings to HTTP response
-                SseResponseWriter.writeSseStrings(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
+                Multi<Buffer> sseEvents = Multi.createFrom().publisher(streamingResponse.getPublisher())
+                        .map(json -> Buffer.buffer(Unpooled.wrappedBuffer(
+                                SseFormatter.formatJsonAsSSEBytes(json, eventIdCounter.getAndIncrement()))));
+                // Write SSE-formatted buffers to HTTP response
+                SseResponseWriter.writeSseBuffers(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
             }
         }
     }
@@ -480,22 +576,33 @@ public class A2AServerRoutes {
         }
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, CANCEL_TASK_METHOD);
-        HTTPRestResponse response = null;
+        CompletableFuture<HTTPRestResponse> response;
         try {
             if (taskId == null || taskId.isEmpty()) {
-                response = jsonRestHandler.createErrorResponse(new InvalidParamsError("bad task id"));
+                response = CompletableFuture.completedFuture(jsonRestHandler.createErrorResponse(new InvalidParamsError("bad task id")));
             } else {
-                response = jsonRestHandler.cancelTask(context, extractTenant(rc), body, taskId);
+                response = jsonRestHandler.cancelTaskAsync(context, extractTenant(rc), body, taskId);
             }
         } catch (Throwable t) {
             if (t instanceof A2AError error) {
-                response = jsonRestHandler.createErrorResponse(error);
+                response = CompletableFuture.completedFuture(jsonRestHandler.createErrorResponse(error));
             } else {
-                response = jsonRestHandler.createErrorResponse(new InternalError(t.getMessage()));
+                response = CompletableFuture.completedFuture(jsonRestHandler.createErrorResponse(new InternalError(t.getMessage())));
             }
-        } finally {
-            sendResponse(rc, response);
         }
+        sendResponseWhenReady(rc, response);
+    }
+
+    /**
+     * Sends the HTTP response once it is ready, without holding the calling thread.
+     *
+     * @param rc the Vert.x routing context
+     * @param response the pending response
+     */
+    private void sendResponseWhenReady(RoutingContext rc, CompletableFuture<HTTPRestResponse> response) {
+        response.whenComplete((result, t) -> sendResponse(rc, t == null
+                ? result
+                : jsonRestHandler.createErrorResponse(new InternalError(t.getMessage()))));
     }
 
     /**
@@ -560,19 +667,69 @@ public class A2AServerRoutes {
             if (error != null) {
                 sendResponse(rc, error);
             } else if (streamingResponse != null) {
-                // Convert Flow.Publisher<String> (JSON) to Multi<String> (SSE-formatted)
+                // Convert Flow.Publisher<String> (JSON) to Multi<Buffer> (SSE-formatted)
                 // CRITICAL: Subscribe synchronously to avoid race condition where EventConsumer
                 // starts emitting events before the SSE subscriber is attached. The executor.execute()
                 // wrapper caused 100-600ms delays before subscription, causing events to be lost.
                 AtomicLong eventIdCounter = new AtomicLong(0);
-                Multi<String> sseEvents = Multi.createFrom().publisher(streamingResponse.getPublisher())
-                        .map(json -> SseFormatter.formatJsonAsSSE(json, eventIdCounter.getAndIncrement()));
-                // Write SSE-formatted strings to HTTP response
-                SseResponseWriter.writeSseStrings(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
+                Multi<Buffer> sseEvents = Multi.createFrom().publisher(streamingResponse.getPublisher())
+                        .map(json -> Buffer.buffer(Unpooled.wrappedBuffer(
+                                SseFormatter.formatJsonAsSSEBytes(json, eventIdCounter.getAndIncrement()))));
+                // Write SSE-formatted buffers to HTTP response
+                SseResponseWriter.writeSseBuffers(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
             }
         }
     }
 
+    /**
+     * Opens a multi-task subscription, streaming the events of several tasks via Server-Sent
+     * Events.
+     *
+     * <p>Maps {@code POST /{tenant}/extensions/taskSubscriptions/{subscriptionId}:subscribe} to
+     * {@link RestHandler#subscribeToTasks}. The optional body lists the tasks to start with.
+     *
+     * @param body the JSON request body, may be empty
+     * @param rc the Vert.x routing context (subscriptionId extracted from path)
+     */
+    @Authenticated
+    public void subscribeToTasks(String body, RoutingContext rc) {
+        if (!validateContentTypeForOptionalBody(rc, body)) {
+            return;
+        }
+        ServerCallContext context = createCallContext(rc, MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD);
+        HTTPRestResponse response = jsonRestHandler.subscribeToTasks(context, body, rc.pathParam("subscriptionId"));
+        if (response instanceof HTTPRestStreamingResponse streamingResponse) {
+            AtomicLong eventIdCounter = new AtomicLong(0);
+            Multi<Buffer> sseEvents = Multi.createFrom().publisher(streamingResponse.getPublisher())
+                    .map(json -> Buffer.buffer(Unpooled.wrappedBuffer(
+                            SseFormatter.formatJsonAsSSEBytes(json, eventIdCounter.getAndIncrement()))));
+            // Disconnecting the client closes the subscription through the call context
+            SseResponseWriter.writeSseBuffers(sseEvents, rc, context, streamingMultiSseSupportSubscribedRunnable);
+        } else {
+            sendResponse(rc, response);
+        }
+    }
+
+    /**
+     * Adds tasks to and removes tasks from a multi-task subscription.
+     *
+     * <p>Maps {@code POST /{tenant}/extensions/taskSubscriptions/{subscriptionId}:update} to
+     * {@link RestHandler#updateTaskSubscription}.
+     *
+     * <p><b>Request Body:</b> {@code {"add": [...], "remove": [...]}}
+     *
+     * @param body the JSON request body
+     * @param rc the Vert.x routing context (subscriptionId extracted from path)
+     */
+    @Authenticated
+    public void updateTaskSubscription(String body, RoutingContext rc) {
+        if (!validateContentTypeForOptionalBody(rc, body)) {
+            return;
+        }
+        ServerCallContext context = createCallContext(rc, MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD);
+        sendResponse(rc, jsonRestHandler.updateTaskSubscription(context, body, rc.pathParam("subscriptionId")));
+    }
+
     /**
      * Creates a push notification configuration for a task.
      *
@@ -806,12 +963,31 @@ public class A2AServerRoutes {
      *   <li>Communication interfaces and protocols</li>
      * </ul>
      *
+     * <p>The card is pre-rendered: {@code If-None-Match} and {@code If-Modified-Since} are
+     * answered with {@code 304 Not Modified} when they match, and clients sending
+     * {@code Accept-Encoding: gzip} receive the precompressed variant.
+     *
      * @param rc the Vert.x routing context
      */
     @PermitAll
     public void getAgentCard(RoutingContext rc) {
-        HTTPRestResponse response = jsonRestHandler.getAgentCard();
-        sendResponse(rc, response);
+        AgentCardResponse response;
+        try {
+            response = jsonRestHandler.getAgentCard(rc.request().getHeader(IF_NONE_MATCH),
+                    rc.request().getHeader(IF_MODIFIED_SINCE), rc.request().getHeader(ACCEPT_ENCODING));
+        } catch (Throwable t) {
+            sendResponse(rc, jsonRestHandler.createErrorResponse(new InternalError(t.getMessage())));
+            return;
+        }
+        HttpServerResponse httpResponse = rc.response().setStatusCode(response.getStatusCode());
+        response.getHeaders().forEach(httpResponse::putHeader);
+        if (response.isNotModified()) {
+            httpResponse.end();
+        } else {
+            // The rendered bytes are shared between requests and wrapped without copying
+            httpResponse.putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                    .end(Buffer.buffer(Unpooled.wrappedBuffer(response.getBody())));
+        }
     }
 
     /**
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import jakarta.enterprise.inject.Instance;
@@ -99,7 +100,7 @@ public class A2AServerRoutesTest {
         when(mockHttpResponse.getStatusCode()).thenReturn(200);
         when(mockHttpResponse.getContentType()).thenReturn(APPLICATION_JSON);
         when(mockHttpResponse.getBody()).thenReturn("{}");
-        when(mockRestHandler.sendMessage(any(ServerCallContext.class), anyString(), anyString())).thenReturn(mockHttpResponse);
+        when(mockRestHandler.sendMessageAsync(any(ServerCallContext.class), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         ArgumentCaptor<ServerCallContext> contextCaptor = ArgumentCaptor.forClass(ServerCallContext.class);
 
@@ -107,7 +108,7 @@ public class A2AServerRoutesTest {
         routes.sendMessage("{}", mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).sendMessage(contextCaptor.capture(), anyString(), eq("{}"));
+        verify(mockRestHandler).sendMessageAsync(contextCaptor.capture(), anyString(), eq("{}"));
         ServerCallContext capturedContext = contextCaptor.getValue();
         assertNotNull(capturedContext);
         assertEquals(SEND_MESSAGE_METHOD, capturedContext.getState().get(METHOD_NAME_KEY));
@@ -165,7 +166,7 @@ public class A2AServerRoutesTest {
         when(mockHttpResponse.getStatusCode()).thenReturn(200);
         when(mockHttpResponse.getContentType()).thenReturn(APPLICATION_JSON);
         when(mockHttpResponse.getBody()).thenReturn("{}");
-        when(mockRestHandler.cancelTask(any(ServerCallContext.class), anyString(), anyString(), anyString())).thenReturn(mockHttpResponse);
+        when(mockRestHandler.cancelTaskAsync(any(ServerCallContext.class), anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         ArgumentCaptor<ServerCallContext> contextCaptor = ArgumentCaptor.forClass(ServerCallContext.class);
 
@@ -173,7 +174,7 @@ public class A2AServerRoutesTest {
         routes.cancelTask("{\"id\":\"task123\"}", mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).cancelTask(contextCaptor.capture(), anyString(), eq("{\"id\":\"task123\"}"), eq("task123"));
+        verify(mockRestHandler).cancelTaskAsync(contextCaptor.capture(), anyString(), eq("{\"id\":\"task123\"}"), eq("task123"));
         ServerCallContext capturedContext = contextCaptor.getValue();
         assertNotNull(capturedContext);
         assertEquals(CANCEL_TASK_METHOD, capturedContext.getState().get(METHOD_NAME_KEY));
@@ -199,14 +200,14 @@ public class A2AServerRoutesTest {
             """;
 
         ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
-        when(mockRestHandler.cancelTask(any(ServerCallContext.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockHttpResponse);
+        when(mockRestHandler.cancelTaskAsync(any(ServerCallContext.class), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         // Act
         routes.cancelTask(requestBody, mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).cancelTask(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task456"));
+        verify(mockRestHandler).cancelTaskAsync(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task456"));
         String capturedBody = bodyCaptor.getValue();
         assertNotNull(capturedBody);
         assertEquals(requestBody, capturedBody);
@@ -228,14 +229,14 @@ public class A2AServerRoutesTest {
             """;
 
         ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
-        when(mockRestHandler.cancelTask(any(ServerCallContext.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockHttpResponse);
+        when(mockRestHandler.cancelTaskAsync(any(ServerCallContext.class), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         // Act
         routes.cancelTask(requestBody, mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).cancelTask(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task789"));
+        verify(mockRestHandler).cancelTaskAsync(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task789"));
         String capturedBody = bodyCaptor.getValue();
         assertNotNull(capturedBody);
         assertEquals(requestBody, capturedBody);
@@ -253,14 +254,14 @@ public class A2AServerRoutesTest {
         String requestBody = "{}";
 
         ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
-        when(mockRestHandler.cancelTask(any(ServerCallContext.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockHttpResponse);
+        when(mockRestHandler.cancelTaskAsync(any(ServerCallContext.class), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         // Act
         routes.cancelTask(requestBody, mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).cancelTask(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task999"));
+        verify(mockRestHandler).cancelTaskAsync(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task999"));
         String capturedBody = bodyCaptor.getValue();
         assertNotNull(capturedBody);
         assertEquals(requestBody, capturedBody);
@@ -276,14 +277,14 @@ public class A2AServerRoutesTest {
         when(mockHttpResponse.getBody()).thenReturn("{\"id\":\"task111\"}");
 
         ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
-        when(mockRestHandler.cancelTask(any(ServerCallContext.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockHttpResponse);
+        when(mockRestHandler.cancelTaskAsync(any(ServerCallContext.class), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         // Act
         routes.cancelTask(null, mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).cancelTask(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task111"));
+        verify(mockRestHandler).cancelTaskAsync(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task111"));
         String capturedBody = bodyCaptor.getValue();
         assertNull(capturedBody);
     }
@@ -313,14 +314,14 @@ public class A2AServerRoutesTest {
             """;
 
         ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
-        when(mockRestHandler.cancelTask(any(ServerCallContext.class), anyString(), anyString(), anyString()))
-                .thenReturn(mockHttpResponse);
+        when(mockRestHandler.cancelTaskAsync(any(ServerCallContext.class), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockHttpResponse));
 
         // Act
         routes.cancelTask(requestBody, mockRoutingContext);
 
         // Assert
-        verify(mockRestHandler).cancelTask(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task222"));
+        verify(mockRestHandler).cancelTaskAsync(any(ServerCallContext.class), anyString(), bodyCaptor.capture(), eq("task222"));
         String capturedBody = bodyCaptor.getValue();
         assertNotNull(capturedBody);
         assertEquals(requestBody, capturedBody);
@@ -457,7 +458,7 @@ public class A2AServerRoutesTest {
 
         // Assert: createErrorResponse called with ContentTypeNotSupportedError, sendMessage NOT called
         verify(mockRestHandler).createErrorResponse(any(ContentTypeNotSupportedError.class));
-        verify(mockRestHandler, never()).sendMessage(any(ServerCallContext.class), anyString(), anyString());
+        verify(mockRestHandler, never()).sendMessageAsync(any(ServerCallContext.class), anyString(), anyString());
     }
 
     @Test
@@ -486,14 +487,14 @@ public class A2AServerRoutesTest {
         when(mockErrorResponse.getContentType()).thenReturn(APPLICATION_JSON);
         when(mockErrorResponse.getBody()).thenReturn("{\"error\":{\"code\":400,\"status\":\"UNIMPLEMENTED\",\"message\":\"Protocol version not supported\",\"details\":[{\"reason\":\"VERSION_NOT_SUPPORTED\",\"domain\":\"a2a-protocol.org\"}]}}");
         when(mockRequest.getHeader(any(CharSequence.class))).thenReturn(APPLICATION_JSON);
-        when(mockRestHandler.sendMessage(any(ServerCallContext.class), anyString(), anyString()))
-                .thenReturn(mockErrorResponse);
+        when(mockRestHandler.sendMessageAsync(any(ServerCallContext.class), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mockErrorResponse));
 
         // Act
         routes.sendMessage("{}", mockRoutingContext);
 
         // Assert: sendMessage was called and error response forwarded
-        verify(mockRestHandler).sendMessage(any(ServerCallContext.class), anyString(), eq("{}"));
+        verify(mockRestHandler).sendMessageAsync(any(ServerCallContext.class), anyString(), eq("{}"));
         verify(mockResponse).setStatusCode(400);
     }
 
@@ -0,0 +1,188 @@
+package org.a2aproject.sdk.server.websocket.quarkus;
+
+import static org.a2aproject.sdk.server.ServerCallContext.TRANSPORT_KEY;
+import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.HEADERS_KEY;
+import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.TENANT_KEY;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.security.Authenticated;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.a2aproject.sdk.common.A2AHeaders;
+import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
+import org.a2aproject.sdk.server.auth.User;
+import org.a2aproject.sdk.server.common.quarkus.VertxSecurityHelper;
+import org.a2aproject.sdk.server.extensions.A2AExtensions;
+import org.a2aproject.sdk.server.util.async.Internal;
+import org.a2aproject.sdk.spec.TransportProtocol;
+import org.a2aproject.sdk.transport.websocket.handler.WebSocketHandler;
+import org.a2aproject.sdk.transport.websocket.handler.WebSocketSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Quarkus routing configuration for the WebSocket A2A transport.
+ *
+ * <p>This class upgrades {@code GET /ws[/tenant]} requests to WebSocket connections and serves
+ * each connection with a {@link WebSocketSession}. The handshake is authenticated like any other
+ * A2A request, and its user, headers, requested extensions and protocol version apply to every
+ * request sent on the connection.
+ *
+ * <h2>Request Flow</h2>
+ * <pre>
+ * HTTP GET /ws (Upgrade: websocket) → upgrade()
+ *     ↓
+ * Authenticate the handshake, create the ServerCallContext
+ *     ↓
+ * WebSocketHandler.openSession()
+ *     ↓
+ * Each text message → WebSocketSession → JSONRPCHandler → RequestHandler → AgentExecutor
+ * </pre>
+ *
+ * <p>Text messages are handed to the internal executor, so the event loop is never blocked by
+ * request handling; messages the executor rejects are answered with a server overloaded error.
+ * The session is closed with the connection, cancelling its streams.
+ *
+ * @see WebSocketHandler
+ * @see WebSocketSession
+ */
+@Singleton
+public class A2AWebSocketRoutes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(A2AWebSocketRoutes.class);
+
+    /**
+     * Path of the WebSocket endpoint; the tenant, if any, follows it.
+     */
+    static final String WEBSOCKET_PATH = "/ws";
+
+    @Inject
+    WebSocketHandler webSocketHandler;
+
+    @Inject
+    @Internal
+    Executor executor;
+
+    @Inject
+    VertxSecurityHelper vertxSecurityHelper;
+
+    /**
+     * Registers the WebSocket endpoint routes.
+     *
+     * @param router the Vert.x Web Router instance to configure
+     */
+    void setupRoutes(@Observes Router router) {
+        // Upgrading only registers handlers on the connection, so the handshake is served on the event loop
+        router.get(WEBSOCKET_PATH)
+            .handler(ctx -> vertxSecurityHelper.runInRequestContextNonBlocking(ctx, () -> upgrade(ctx)));
+        router.get(WEBSOCKET_PATH + "/*")
+            .handler(ctx -> vertxSecurityHelper.runInRequestContextNonBlocking(ctx, () -> upgrade(ctx)));
+    }
+
+    /**
+     * Upgrades an authenticated request to a WebSocket connection and opens its session.
+     *
+     * @param rc the Vert.x routing context of the handshake
+     */
+    @Authenticated
+    public void upgrade(RoutingContext rc) {
+        ServerCallContext context = createCallContext(rc);
+        String tenant = extractTenant(rc);
+        rc.request().toWebSocket()
+            .onSuccess(ws -> serve(ws, context, tenant))
+            .onFailure(t -> LOGGER.debug("WebSocket handshake failed: {}", t.getMessage()));
+    }
+
+    private void serve(ServerWebSocket ws, ServerCallContext context, String tenant) {
+        WebSocketSession session = webSocketHandler.openSession(context, tenant,
+                message -> ws.writeTextMessage(message).toCompletionStage());
+        ws.textMessageHandler(message -> {
+            try {
+                executor.execute(() -> session.onTextMessage(message));
+            } catch (RejectedExecutionException e) {
+                session.onRejectedTextMessage(message);
+            }
+        });
+        ws.exceptionHandler(t -> LOGGER.debug("WebSocket connection error: {}", t.getMessage()));
+        ws.closeHandler(v -> session.close());
+    }
+
+    /**
+     * Creates the call context of a connection from its handshake request.
+     *
+     * <p>The context mirrors the one of the JSON-RPC transport: the requests of a connection are
+     * JSON-RPC requests, so they are identified as {@link TransportProtocol#JSONRPC}.
+     *
+     * @param rc the Vert.x routing context of the handshake
+     * @return the server call context
+     */
+    private ServerCallContext createCallContext(RoutingContext rc) {
+        User user;
+        if (rc.user() == null) {
+            user = UnauthenticatedUser.INSTANCE;
+        } else {
+            user = new User() {
+                @Override
+                public boolean isAuthenticated() {
+                    return rc.userContext().authenticated();
+                }
+
+                @Override
+                public String getUsername() {
+                    return rc.user().subject();
+                }
+            };
+        }
+        Map<String, Object> state = new HashMap<>();
+        Map<String, String> headers = new HashMap<>();
+        rc.request().headers().names().forEach(name -> headers.put(name, rc.request().getHeader(name)));
+        state.put(HEADERS_KEY, headers);
+        state.put(TENANT_KEY, extractTenant(rc));
+        state.put(TRANSPORT_KEY, TransportProtocol.JSONRPC);
+
+        String requestedVersion = rc.request().getHeader(A2AHeaders.A2A_VERSION);
+        List<String> extensionHeaderValues = rc.request().headers().getAll(A2AHeaders.A2A_EXTENSIONS);
+        Set<String> requestedExtensions = A2AExtensions.getRequestedExtensions(extensionHeaderValues);
+
+        return new ServerCallContext(user, state, requestedExtensions, requestedVersion);
+    }
+
+    /**
+     * Extracts the tenant identifier from the path following the WebSocket endpoint.
+     *
+     * <ul>
+     *   <li>{@code /ws} → empty tenant</li>
+     *   <li>{@code /ws/tenant1} → "tenant1"</li>
+     *   <li>{@code /ws/org/team/} → "org/team"</li>
+     * </ul>
+     *
+     * @param rc the routing context
+     * @return the tenant identifier, or empty string if no tenant in path
+     */
+    private String extractTenant(RoutingContext rc) {
+        String tenantPath = rc.normalizedPath();
+        if (tenantPath == null || !tenantPath.startsWith(WEBSOCKET_PATH)) {
+            return "";
+        }
+        tenantPath = tenantPath.substring(WEBSOCKET_PATH.length());
+        if (tenantPath.startsWith("/")) {
+            tenantPath = tenantPath.substring(1);
+        }
+        if (tenantPath.endsWith("/")) {
+            tenantPath = tenantPath.substring(0, tenantPath.length() - 1);
+        }
+        return tenantPath;
+    }
+}
@@ -0,0 +1,26 @@
+package org.a2aproject.sdk.server.websocket.quarkus;
+
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.a2aproject.sdk.server.TransportMetadata;
+
+/**
+ * Transport metadata provider for the Quarkus WebSocket reference implementation.
+ *
+ * <p>This class identifies the transport protocol used by the WebSocket server implementation,
+ * so that the agent card can be checked to declare it.
+ *
+ * @see org.a2aproject.sdk.server.TransportMetadata
+ * @see org.a2aproject.sdk.common.WebSocketProtocol
+ */
+public class QuarkusWebSocketTransportMetadata implements TransportMetadata {
+
+    /**
+     * Returns the protocol binding of the WebSocket transport.
+     *
+     * @return {@value org.a2aproject.sdk.common.WebSocketProtocol#PROTOCOL_BINDING}
+     */
+    @Override
+    public String getTransportProtocol() {
+        return WebSocketProtocol.PROTOCOL_BINDING;
+    }
+}
@@ -0,0 +1,49 @@
+package org.a2aproject.sdk.server.websocket.quarkus;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.vertx.http.HttpServerOptionsCustomizer;
+import io.vertx.core.http.HttpServerOptions;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.transport.websocket.handler.WebSocketHandler;
+
+/**
+ * Configures the WebSocket support of the Quarkus HTTP servers for the A2A WebSocket transport.
+ *
+ * <p>The {@code permessage-deflate} extension is enabled: A2A messages are JSON, and the events of
+ * a stream repeat most of their content, so compressing them reduces the traffic of long-lived
+ * connections considerably. The extension is only used when the client offers it in the
+ * handshake.
+ *
+ * <p>The maximum size of the messages and frames received is set to
+ * {@code a2a.websocket.max-message-size}, as a whole task or artifact event is sent as one message
+ * and the Vert.x default of 256 KiB is easily exceeded. Frames are limited like messages because
+ * clients such as browsers send every message as a single frame.
+ */
+@Singleton
+public class WebSocketServerCustomizer implements HttpServerOptionsCustomizer {
+
+    @Inject
+    A2AConfigProvider configProvider;
+
+    @Override
+    public void customizeHttpServer(HttpServerOptions options) {
+        customize(options);
+    }
+
+    @Override
+    public void customizeHttpsServer(HttpServerOptions options) {
+        customize(options);
+    }
+
+    private void customize(HttpServerOptions options) {
+        int maxMessageSize = Integer.parseInt(configProvider.getValue(WebSocketHandler.MAX_MESSAGE_SIZE_PROPERTY));
+        if (maxMessageSize < 1) {
+            throw new IllegalArgumentException(WebSocketHandler.MAX_MESSAGE_SIZE_PROPERTY + " must be at least 1");
+        }
+        options.setPerMessageWebSocketCompressionSupported(true)
+                .setMaxWebSocketMessageSize(maxMessageSize)
+                .setMaxWebSocketFrameSize(maxMessageSize);
+    }
+}
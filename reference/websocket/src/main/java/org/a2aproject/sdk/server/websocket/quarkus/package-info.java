@@ -0,0 +1,23 @@
+/**
+ * Quarkus WebSocket reference implementation for the A2A protocol.
+ *
+ * <p>This package serves JSON-RPC 2.0 requests over persistent WebSocket connections, built on
+ * Quarkus and Vert.x Web. A connection is opened with {@code GET /ws[/tenant]} and carries one
+ * JSON-RPC message per WebSocket text message; see
+ * {@link org.a2aproject.sdk.transport.websocket.handler.WebSocketHandler WebSocketHandler} for
+ * the framing.
+ *
+ * <h2>Core Components</h2>
+ * <ul>
+ *   <li>{@link org.a2aproject.sdk.server.websocket.quarkus.A2AWebSocketRoutes A2AWebSocketRoutes} - Handshake and connection handling</li>
+ *   <li>{@link org.a2aproject.sdk.server.websocket.quarkus.WebSocketServerCustomizer WebSocketServerCustomizer} - Enables {@code permessage-deflate} and sets the message size limit</li>
+ *   <li>{@link org.a2aproject.sdk.server.websocket.quarkus.QuarkusWebSocketTransportMetadata QuarkusWebSocketTransportMetadata} - Transport protocol identification</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <pre>
+ * a2a.websocket.max-concurrent-requests=100
+ * a2a.websocket.max-message-size=67108864
+ * </pre>
+ */
+package org.a2aproject.sdk.server.websocket.quarkus;
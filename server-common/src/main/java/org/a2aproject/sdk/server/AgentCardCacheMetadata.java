@@ -1,15 +1,19 @@
 package org.a2aproject.sdk.server;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.Map;
-import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -36,8 +40,15 @@ import org.a2aproject.sdk.spec.AgentCard;
  *   <li><b>Last-Modified:</b> Timestamp when the bean was initialized (RFC 1123 format)</li>
  * </ul>
  *
+ * <p>The Agent Card is also rendered once into immutable UTF-8 bytes, together with a gzip
+ * variant, and {@link #respond} serves them with conditional GET support: requests whose
+ * {@code If-None-Match} or {@code If-Modified-Since} validators match are answered with
+ * {@code 304 Not Modified} and no body.
+ *
  * <p>Since the Agent Card is {@code @ApplicationScoped}, these values remain stable
- * throughout the application lifecycle unless the application is restarted.
+ * throughout the application lifecycle unless the application is restarted. If a different
+ * Agent Card instance is passed to {@link #respond}, it is rendered again and the validators
+ * are updated.
  *
  * @see <a href="https://github.com/a2aproject/A2A/blob/main/docs/specification.md#86-caching">A2A Specification - Agent Card Caching</a>
  */
@@ -47,6 +58,8 @@ public class AgentCardCacheMetadata {
     private static final String CONFIG_KEY_MAX_AGE = "a2a.agent-card.cache.max-age";
     private static final String DEFAULT_MAX_AGE = "3600"; // 1 hour
     private static final DateTimeFormatter RFC_1123_FORMATTER = DateTimeFormatter.RFC_1123_DATE_TIME;
+    private static final String GZIP = "gzip";
+    private static final byte[] NO_BODY = new byte[0];
 
     @Inject
     @PublicAgentCard
@@ -58,12 +71,10 @@ public class AgentCardCacheMetadata {
     private @Nullable AgentCard agentCard;
     private @Nullable A2AConfigProvider config;
 
-    @SuppressWarnings("NullAway") // Initialized in @PostConstruct when agentCard is available
-    private String etag;
-    @SuppressWarnings("NullAway") // Initialized in @PostConstruct when agentCard is available
-    private String lastModified;
     @SuppressWarnings("NullAway") // Initialized in @PostConstruct when agentCard is available
     private String cacheControl;
+    // Replaced as a whole when a different Agent Card instance is rendered
+    private volatile @Nullable Rendering rendering;
 
     /**
      * Package-private no-arg constructor for CDI.
@@ -105,15 +116,12 @@ public class AgentCardCacheMetadata {
             return;
         }
 
-        // Calculate ETag from the serialized JSON representation
-        this.etag = calculateETag(agentCard);
-
-        // Set Last-Modified to the initialization time
-        this.lastModified = RFC_1123_FORMATTER.format(Instant.now().atZone(ZoneOffset.UTC));
-
         // Configure Cache-Control with max-age directive
         String maxAge = config.getOptionalValue(CONFIG_KEY_MAX_AGE).orElse(DEFAULT_MAX_AGE);
         this.cacheControl = "public, max-age=" + maxAge;
+
+        // Render the JSON and calculate the ETag and Last-Modified validators
+        this.rendering = render(agentCard);
     }
 
     /**
@@ -123,8 +131,10 @@ public class AgentCardCacheMetadata {
      *
      * @return the ETag header value (e.g., {@code "a1b2c3d4..."})
      */
+    @SuppressWarnings("NullAway") // Initialized in @PostConstruct when agentCard is available
     public String getETag() {
-        return etag;
+        Rendering current = rendering;
+        return current == null ? null : current.etag();
     }
 
     /**
@@ -134,8 +144,10 @@ public class AgentCardCacheMetadata {
      *
      * @return the Last-Modified header value (e.g., {@code "Mon, 17 Mar 2025 10:00:00 GMT"})
      */
+    @SuppressWarnings("NullAway") // Initialized in @PostConstruct when agentCard is available
     public String getLastModified() {
-        return lastModified;
+        Rendering current = rendering;
+        return current == null ? null : current.lastModified();
     }
 
     /**
@@ -151,22 +163,165 @@ public class AgentCardCacheMetadata {
     }
 
     /**
-     * Calculates an MD5 hash of the Agent Card JSON for use as an ETag.
+     * Returns the pre-rendered Agent Card response for a GET request.
+     *
+     * <p>The validators are evaluated as specified by RFC 9110: if {@code If-None-Match} is
+     * present, the response is {@code 304 Not Modified} when one of its entity tags matches
+     * (weak comparison), and {@code If-Modified-Since} is ignored; otherwise the response is
+     * {@code 304} when the card has not been modified since the given date. The body is
+     * gzip-compressed when the client accepts it and compression makes it smaller.
      *
-     * @param card the agent card to hash
-     * @return the hex-encoded MD5 hash, quoted per HTTP specification
+     * <p>The card is rendered again only if {@code card} is not the instance that was rendered
+     * last.
+     *
+     * @param card the public Agent Card to serve
+     * @param ifNoneMatch the {@code If-None-Match} request header, if any
+     * @param ifModifiedSince the {@code If-Modified-Since} request header, if any
+     * @param acceptEncoding the {@code Accept-Encoding} request header, if any
+     * @return the response to send
      */
-    private String calculateETag(AgentCard card) {
+    public AgentCardResponse respond(AgentCard card, @Nullable String ifNoneMatch,
+                                     @Nullable String ifModifiedSince, @Nullable String acceptEncoding) {
+        Rendering current = rendering;
+        if (current == null || current.card() != card) {
+            current = rerender(card);
+        }
+        byte[] gzipBody = current.gzip() != null && acceptsGzip(acceptEncoding) ? current.gzip() : null;
+        String etag = gzipBody != null ? current.gzipETag() : current.etag();
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Cache-Control", cacheControl != null ? cacheControl : "public, max-age=" + DEFAULT_MAX_AGE);
+        headers.put("ETag", etag);
+        headers.put("Last-Modified", current.lastModified());
+        if (current.gzip() != null) {
+            headers.put("Vary", "Accept-Encoding");
+        }
+
+        if (isNotModified(current, ifNoneMatch, ifModifiedSince)) {
+            return new AgentCardResponse(304, NO_BODY, headers);
+        }
+        if (gzipBody != null) {
+            headers.put("Content-Encoding", GZIP);
+            return new AgentCardResponse(200, gzipBody, headers);
+        }
+        return new AgentCardResponse(200, current.json(), headers);
+    }
+
+    private synchronized Rendering rerender(AgentCard card) {
+        Rendering current = rendering;
+        if (current == null || current.card() != card) {
+            current = render(card);
+            rendering = current;
+        }
+        return current;
+    }
+
+    /**
+     * Renders the Agent Card to JSON and gzip bytes, and calculates the validators.
+     *
+     * <p>The ETag is an MD5 hash of the Agent Card JSON, quoted per HTTP specification. The gzip
+     * variant has its own ETag, with a {@code -gzip} suffix, since its bytes differ.
+     *
+     * @param card the agent card to render
+     * @return the rendering
+     */
+    private static Rendering render(AgentCard card) {
+        byte[] json;
+        try {
+            json = JsonUtil.toJson(card).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize Agent Card for ETag calculation", e);
+        }
+        String hash;
         try {
-            String json = JsonUtil.toJson(card);
             MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] hash = md.digest(json.getBytes(StandardCharsets.UTF_8));
-            return "\"" + HexFormat.of().formatHex(hash) + "\"";
+            hash = HexFormat.of().formatHex(md.digest(json));
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("MD5 algorithm not available", e);
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Failed to serialize Agent Card for ETag calculation", e);
         }
+        byte[] gzip = gzip(json);
+        // Set Last-Modified to the rendering time, in whole seconds like the header
+        Instant now = Instant.now();
+        return new Rendering(card, json, gzip.length < json.length ? gzip : null,
+                "\"" + hash + "\"", "\"" + hash + "-" + GZIP + "\"",
+                now.getEpochSecond(), RFC_1123_FORMATTER.format(now.atZone(ZoneOffset.UTC)));
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress Agent Card", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isNotModified(Rendering current, @Nullable String ifNoneMatch, @Nullable String ifModifiedSince) {
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.equals("*")) {
+                    return true;
+                }
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals(current.etag()) || candidate.equals(current.gzipETag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ifModifiedSince != null) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince.trim(), RFC_1123_FORMATTER).toEpochSecond();
+                return current.lastModifiedSeconds() <= since;
+            } catch (DateTimeParseException e) {
+                // Invalid dates are ignored, as required by RFC 9110
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the {@code Accept-Encoding} header allows a gzip-encoded response, either
+     * explicitly or through {@code *}, with a non-zero quality value.
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim();
+            boolean gzip = name.equalsIgnoreCase(GZIP) || name.equalsIgnoreCase("x-gzip");
+            if (!gzip && !name.equals("*")) {
+                continue;
+            }
+            boolean accepted = true;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (gzip) {
+                return accepted;
+            }
+            wildcard = accepted;
+        }
+        return wildcard;
+    }
+
+    private record Rendering(AgentCard card, byte[] json, byte @Nullable [] gzip, String etag, String gzipETag,
+                             long lastModifiedSeconds, String lastModified) {
     }
 
     /**
@@ -179,11 +334,10 @@ public class AgentCardCacheMetadata {
         if (cacheControl != null) {
             headers.put("Cache-Control", cacheControl);
         }
-        if (lastModified != null) {
-            headers.put("Last-Modified", lastModified);
-        }
-        if (etag != null) {
-            headers.put("ETag", etag);
+        Rendering current = rendering;
+        if (current != null) {
+            headers.put("Last-Modified", current.lastModified());
+            headers.put("ETag", current.etag());
         }
         return headers;
     }
@@ -0,0 +1,63 @@
+package org.a2aproject.sdk.server;
+
+import java.util.Map;
+
+/**
+ * A pre-rendered HTTP response for the public Agent Card endpoint.
+ *
+ * <p>Instances are produced by {@link AgentCardCacheMetadata#respond} and are independent of any
+ * HTTP framework: the transport only copies the status code, headers and body to its own
+ * response. The body is shared between requests and must not be modified.
+ *
+ * @see AgentCardCacheMetadata
+ */
+public final class AgentCardResponse {
+
+    private final int statusCode;
+    private final byte[] body;
+    private final Map<String, String> headers;
+
+    AgentCardResponse(int statusCode, byte[] body, Map<String, String> headers) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.headers = Map.copyOf(headers);
+    }
+
+    /**
+     * Returns the HTTP status code, {@code 200} or {@code 304 Not Modified}.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns whether the client's cached copy is still valid.
+     *
+     * @return {@code true} for a {@code 304 Not Modified} response
+     */
+    public boolean isNotModified() {
+        return statusCode == 304;
+    }
+
+    /**
+     * Returns the response body: the UTF-8 encoded Agent Card JSON, compressed if a
+     * {@code Content-Encoding} header is present, or an empty array for a {@code 304} response.
+     *
+     * @return the body, which must not be modified
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the HTTP headers to set, including the caching headers and, for compressed bodies,
+     * {@code Content-Encoding}.
+     *
+     * @return the headers map
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+}
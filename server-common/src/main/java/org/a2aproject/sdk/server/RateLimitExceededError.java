@@ -0,0 +1,24 @@
+package org.a2aproject.sdk.server;
+
+/**
+ * Error indicating that a tenant exceeded its request rate for a method.
+ * <p>
+ * Raised by {@link org.a2aproject.sdk.server.ratelimit.RateLimiter} before the request is
+ * processed. Like {@link ServerOverloadedError}, the suggested retry delay is carried in the
+ * {@value #RETRY_AFTER_SECONDS} detail, but transports report it as a client-side condition:
+ * HTTP {@code 429 Too Many Requests} with a {@code Retry-After} header for REST and JSON-RPC,
+ * and {@code RESOURCE_EXHAUSTED} with {@code RetryInfo} for gRPC.
+ * </p>
+ */
+public class RateLimitExceededError extends ServerOverloadedError {
+
+    /**
+     * Creates the error.
+     *
+     * @param message the error message
+     * @param retryAfterSeconds the number of seconds after which the client may retry
+     */
+    public RateLimitExceededError(String message, int retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,47 @@
+package org.a2aproject.sdk.server;
+
+import java.util.Map;
+
+import org.a2aproject.sdk.spec.InternalError;
+
+/**
+ * Error indicating that the server rejected a request because it is at capacity.
+ * <p>
+ * Raised by admission control before any queue or task state is created for the request, so the
+ * request can safely be retried later. The A2A protocol has no dedicated error code for this
+ * condition, so the JSON-RPC error code is the one of {@link InternalError}; the suggested retry
+ * delay is carried in the {@value #RETRY_AFTER_SECONDS} detail. Transports map this error to
+ * their own overload signal: HTTP {@code 503} with a {@code Retry-After} header for REST and
+ * JSON-RPC, where the body is still the JSON-RPC error response, and {@code UNAVAILABLE} with
+ * {@code RetryInfo} for gRPC.
+ * </p>
+ */
+public class ServerOverloadedError extends InternalError {
+
+    /**
+     * Name of the error detail holding the suggested retry delay in seconds.
+     */
+    public static final String RETRY_AFTER_SECONDS = "retryAfterSeconds";
+
+    private final int retryAfterSeconds;
+
+    /**
+     * Creates the error.
+     *
+     * @param message the error message
+     * @param retryAfterSeconds the number of seconds after which the client may retry
+     */
+    public ServerOverloadedError(String message, int retryAfterSeconds) {
+        super(null, message, Map.of(RETRY_AFTER_SECONDS, retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns the number of seconds after which the client may retry the request.
+     *
+     * @return the retry delay in seconds
+     */
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -284,6 +284,22 @@ public abstract class EventQueue implements AutoCloseable {
     @Nullable
     public abstract EventQueueItem dequeueEventItem(int waitMilliSeconds) throws EventQueueClosedException;
 
+    /**
+     * Sets a listener invoked whenever an item becomes available to {@link #dequeueEventItem(int)}
+     * and when the queue is closed.
+     * <p>
+     * This lets a single thread consume several queues: it polls them without waiting and waits
+     * for any listener to fire, instead of blocking in {@link #dequeueEventItem(int)} on each
+     * queue. The listener runs on the thread distributing the event, so it must not block.
+     * </p>
+     *
+     * @param listener the listener, or {@code null} to remove it
+     * @throws UnsupportedOperationException if called on MainQueue
+     */
+    public void setItemListener(@Nullable Runnable listener) {
+        throw new UnsupportedOperationException("MainQueue cannot be consumed directly - use tap() to create a ChildQueue for consumption");
+    }
+
     /**
      * Placeholder method for task completion notification.
      * Currently not used as BlockingQueue.poll()/take() automatically remove events.
@@ -676,6 +692,7 @@ public abstract class EventQueue implements AutoCloseable {
         private final BlockingQueue<EventQueueItem> queue = new LinkedBlockingDeque<>();
         private volatile boolean immediateClose = false;
         private volatile boolean awaitingFinalEvent = false;
+        private volatile @Nullable Runnable itemListener;
 
         public ChildQueue(MainQueue parent) {
             this.parent = parent;
@@ -713,6 +730,14 @@ public abstract class EventQueue implements AutoCloseable {
                     awaitingFinalEvent = false;
                     LOGGER.debug("ChildQueue {} received awaited final event", System.identityHashCode(this));
                 }
+                notifyItemListener();
+            }
+        }
+
+        private void notifyItemListener() {
+            Runnable listener = itemListener;
+            if (listener != null) {
+                listener.run();
             }
         }
 
@@ -781,6 +806,11 @@ public abstract class EventQueue implements AutoCloseable {
             throw new IllegalStateException("Can only tap the main queue");
         }
 
+        @Override
+        public void setItemListener(@Nullable Runnable listener) {
+            this.itemListener = listener;
+        }
+
         @Override
         public int size() {
             // Return size of local consumption queue
@@ -813,6 +843,7 @@ public abstract class EventQueue implements AutoCloseable {
                 LOGGER.debug("Cleared {} events from ChildQueue for immediate close: {}", clearedCount, this);
             }
             // For graceful close, let the queue drain naturally through normal consumption
+            notifyItemListener();
         }
 
         /**
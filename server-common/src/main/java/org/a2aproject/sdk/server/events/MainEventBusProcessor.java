@@ -1,5 +1,6 @@
 package org.a2aproject.sdk.server.events;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -7,8 +8,12 @@ import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutbox;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutboxRelay;
 import org.a2aproject.sdk.server.tasks.PushNotificationSender;
 import org.a2aproject.sdk.server.tasks.TaskManager;
 import org.a2aproject.sdk.server.tasks.TaskPersistenceException;
@@ -17,6 +22,7 @@ import org.a2aproject.sdk.server.tasks.TaskStore;
 import org.a2aproject.sdk.spec.A2AError;
 import org.a2aproject.sdk.spec.Event;
 import org.a2aproject.sdk.spec.InternalError;
+import org.a2aproject.sdk.spec.Message;
 import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.spec.Task;
 import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
@@ -54,6 +60,13 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Processing continues after errors - the failed event is distributed as InternalError
  * to all ChildQueues, and the MainEventBusProcessor continues consuming subsequent events.</p>
+ *
+ * <h2>Push Notification Outbox</h2>
+ * By default push notifications are sent directly after persistence and are lost if the
+ * instance stops before they are delivered. With {@code a2a.push-notification.outbox.enabled=true}
+ * each notification is instead recorded in the {@link PushNotificationOutbox} together with the
+ * task update, and a {@link PushNotificationOutboxRelay} owned by this processor delivers it with
+ * retries.
  */
 @ApplicationScoped
 public class MainEventBusProcessor implements Runnable {
@@ -75,6 +88,31 @@ public class MainEventBusProcessor implements Runnable {
      */
     private volatile @Nullable java.util.concurrent.Executor pushNotificationExecutor = null;
 
+    private static final String A2A_PUSH_OUTBOX_ENABLED = "a2a.push-notification.outbox.enabled";
+    private static final String A2A_PUSH_OUTBOX_BATCH_SIZE = "a2a.push-notification.outbox.batch-size";
+    private static final String A2A_PUSH_OUTBOX_POLL_INTERVAL_MS = "a2a.push-notification.outbox.poll-interval-ms";
+    private static final String A2A_PUSH_OUTBOX_MAX_ATTEMPTS = "a2a.push-notification.outbox.max-attempts";
+    private static final String A2A_PUSH_OUTBOX_RETRY_INITIAL_DELAY_MS = "a2a.push-notification.outbox.retry-initial-delay-ms";
+    private static final String A2A_PUSH_OUTBOX_RETRY_MAX_DELAY_MS = "a2a.push-notification.outbox.retry-max-delay-ms";
+    private static final String A2A_PUSH_OUTBOX_LEASE_MS = "a2a.push-notification.outbox.lease-ms";
+
+    /**
+     * Configuration provider, used to decide whether push notification outbox mode is enabled.
+     * Null when the processor is created outside CDI (e.g. in tests).
+     */
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
+
+    @Inject
+    @Nullable Instance<PushNotificationOutbox> outboxInstance;
+
+    /**
+     * Outbox push notifications are recorded in when outbox mode is enabled, null otherwise.
+     */
+    private volatile @Nullable PushNotificationOutbox pushNotificationOutbox = null;
+
+    private volatile @Nullable PushNotificationOutboxRelay outboxRelay = null;
+
     private MainEventBus eventBus;
 
     private TaskStore taskStore;
@@ -135,9 +173,24 @@ public class MainEventBusProcessor implements Runnable {
         this.pushNotificationExecutor = executor;
     }
 
+    /**
+     * Enable or disable push notification outbox mode (primarily for testing).
+     * <p>
+     * When an outbox is set, push notifications are recorded in it instead of being sent
+     * directly. No relay is started by this method, so the caller is responsible for delivering
+     * the recorded notifications, e.g. with {@link PushNotificationOutboxRelay#drain()}.
+     * </p>
+     *
+     * @param outbox the outbox to record push notifications in, or null to send them directly
+     */
+    public void setPushNotificationOutbox(@Nullable PushNotificationOutbox outbox) {
+        this.pushNotificationOutbox = outbox;
+    }
+
     @SuppressWarnings("NullAway.Init")
     @PostConstruct
     void start() {
+        initPushNotificationOutbox();
         processorThread = new Thread(this, "MainEventBusProcessor");
         processorThread.setDaemon(true); // Allow JVM to exit even if this thread is running
         processorThread.start();
@@ -152,10 +205,40 @@ public class MainEventBusProcessor implements Runnable {
         // Method intentionally empty - just forces proxy resolution
     }
 
+    private void initPushNotificationOutbox() {
+        A2AConfigProvider config = configProvider;
+        Instance<PushNotificationOutbox> outboxes = outboxInstance;
+        if (config == null || outboxes == null
+                || !Boolean.parseBoolean(config.getOptionalValue(A2A_PUSH_OUTBOX_ENABLED).orElse("false"))) {
+            return;
+        }
+        if (!outboxes.isResolvable()) {
+            LOGGER.warn("{} is enabled but no PushNotificationOutbox is available - sending push notifications directly",
+                    A2A_PUSH_OUTBOX_ENABLED);
+            return;
+        }
+        PushNotificationOutbox outbox = outboxes.get();
+        PushNotificationOutboxRelay relay = new PushNotificationOutboxRelay(outbox, pushSender,
+                Integer.parseInt(config.getValue(A2A_PUSH_OUTBOX_BATCH_SIZE)),
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_PUSH_OUTBOX_POLL_INTERVAL_MS))),
+                Integer.parseInt(config.getValue(A2A_PUSH_OUTBOX_MAX_ATTEMPTS)),
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_PUSH_OUTBOX_RETRY_INITIAL_DELAY_MS))),
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_PUSH_OUTBOX_RETRY_MAX_DELAY_MS))),
+                Duration.ofMillis(Long.parseLong(config.getValue(A2A_PUSH_OUTBOX_LEASE_MS))));
+        pushNotificationOutbox = outbox;
+        outboxRelay = relay;
+        relay.start();
+        LOGGER.info("Push notification outbox mode enabled using {}", outbox.getClass().getName());
+    }
+
     @PreDestroy
     void stop() {
         LOGGER.info("MainEventBusProcessor stopping...");
         running = false;
+        PushNotificationOutboxRelay relay = outboxRelay;
+        if (relay != null) {
+            relay.stop();
+        }
         if (processorThread != null) {
             processorThread.interrupt();
             try {
@@ -205,12 +288,19 @@ public class MainEventBusProcessor implements Runnable {
         Event eventToDistribute = null;
         UpdateResult updateResult = null;
         boolean isReplicated = context.eventQueueItem().isReplicated();
+        // Replicated events never trigger push notifications, so they are never recorded in the outbox
+        PushNotificationOutbox outbox = isReplicated ? null : pushNotificationOutbox;
+        // Neither are the events of tasks without push notification configs
+        boolean skipPushNotification = outbox != null && !hasPushNotificationConfigs(taskId);
+        if (skipPushNotification) {
+            outbox = null;
+        }
         try {
             // Step 1: Update TaskStore FIRST (persistence before clients see it)
             // If this throws, we distribute an error to ensure "persist before client visibility"
 
             try {
-                updateResult = updateTaskStore(taskId, event, isReplicated);
+                updateResult = updateTaskStore(taskId, event, isReplicated, outbox);
                 boolean isFinal = updateResult.isFinal();
 
                 eventToDistribute = event; // Success - distribute original event
@@ -242,9 +332,15 @@ public class MainEventBusProcessor implements Runnable {
             // Skip push notifications for replicated events to avoid duplicate notifications in multi-instance deployments
             // Push notifications are sent for all StreamingEventKind events (Task, Message, TaskStatusUpdateEvent, TaskArtifactUpdateEvent)
             // per A2A spec section 4.3.3
-            if (!isReplicated && eventToDistribute == event && event instanceof StreamingEventKind streamingEvent) {
-                // Send the streaming event directly - it will be wrapped in StreamResponse format by PushNotificationSender
-                sendPushNotification(taskId, streamingEvent, updateResult != null ? updateResult.taskSnapshot() : null);
+            if (!isReplicated && !skipPushNotification && eventToDistribute == event
+                    && event instanceof StreamingEventKind streamingEvent) {
+                if (outbox != null) {
+                    // Task updates were recorded in the outbox together with the TaskStore update
+                    recordPushNotification(outbox, taskId, streamingEvent);
+                } else {
+                    // Send the streaming event directly - it will be wrapped in StreamResponse format by PushNotificationSender
+                    sendPushNotification(taskId, streamingEvent, updateResult != null ? updateResult.taskSnapshot() : null);
+                }
             }
 
             // Step 3: Then distribute to ChildQueues (clients see either event or error AFTER persistence attempt)
@@ -295,10 +391,12 @@ public class MainEventBusProcessor implements Runnable {
      *
      * @param taskId the task ID
      * @param event the event to persist
+     * @param outbox the push notification outbox to record the event in, or null
      * @return true if the task reached a final state, false otherwise
      * @throws InternalError if persistence fails
      */
-    private UpdateResult updateTaskStore(String taskId, Event event, boolean isReplicated) throws InternalError {
+    private UpdateResult updateTaskStore(String taskId, Event event, boolean isReplicated,
+                                         @Nullable PushNotificationOutbox outbox) throws InternalError {
         try {
             // Extract contextId from event (all relevant events have it)
             String contextId = extractContextId(event);
@@ -308,7 +406,7 @@ public class MainEventBusProcessor implements Runnable {
 
             // Use TaskManager.process() - handles all event types with existing logic
             AtomicReference<Task> taskSnapshot = new AtomicReference<>();
-            boolean isFinal = taskManager.process(event, isReplicated, taskSnapshot);
+            boolean isFinal = taskManager.process(event, isReplicated, taskSnapshot, outbox);
             LOGGER.debug("TaskStore updated via TaskManager.process() for task {}: {} (final: {}, replicated: {})",
                         taskId, event.getClass().getSimpleName(), isFinal, isReplicated);
             return new UpdateResult(isFinal, taskSnapshot.get());
@@ -391,6 +489,49 @@ public class MainEventBusProcessor implements Runnable {
         }
     }
 
+    /**
+     * Checks whether push notifications may have to be sent for the task, assuming they do if
+     * the push notification configs cannot be read.
+     *
+     * @param taskId the task ID
+     * @return false if the task has no push notification configs
+     */
+    private boolean hasPushNotificationConfigs(String taskId) {
+        try {
+            return pushSender.hasPushNotificationConfigs(taskId);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to read push notification configs for task {}, recording the push notification", taskId, e);
+            return true;
+        }
+    }
+
+    /**
+     * Completes recording of a push notification in outbox mode and wakes up the relay.
+     * <p>
+     * Task, TaskStatusUpdateEvent and TaskArtifactUpdateEvent notifications have already been
+     * recorded by the TaskStore in the same transaction as the task update. Message events do
+     * not update the TaskStore, so they are appended to the outbox here.
+     * </p>
+     *
+     * @param outbox the push notification outbox
+     * @param taskId the task ID
+     * @param event the streaming event
+     */
+    private void recordPushNotification(PushNotificationOutbox outbox, String taskId, StreamingEventKind event) {
+        if (event instanceof Message) {
+            try {
+                outbox.append(taskId, event, null);
+            } catch (Exception e) {
+                LOGGER.error("Error recording push notification in outbox for task {}", taskId, e);
+                return;
+            }
+        }
+        PushNotificationOutboxRelay relay = outboxRelay;
+        if (relay != null) {
+            relay.wakeUp();
+        }
+    }
+
     /**
      * Extracts contextId from an event.
      * Returns null if the event type doesn't have a contextId (e.g., Message).
@@ -0,0 +1,269 @@
+package org.a2aproject.sdk.server.ratelimit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.a2aproject.sdk.server.RateLimitExceededError;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.spec.A2AMethods;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the request rate of each tenant, separately for each A2A method.
+ * <p>
+ * Every (tenant, method) pair has its own lock-free {@link TokenBucket}, so a tenant exhausting
+ * its budget does not affect other tenants, and a burst of cheap reads does not use up the budget
+ * for sending messages. Transports call {@link #acquire} once they know the tenant and the method
+ * of a request, before processing it, and answer a {@link RateLimitExceededError} with their
+ * "too many requests" response.
+ * </p>
+ * <p>
+ * The number of streams a tenant keeps open is limited as well. Streams outlive the request that
+ * opened them, so they are counted rather than rated: {@link #acquireStream} is called when a
+ * stream is opened and the returned {@link StreamPermit} is released when the stream completes,
+ * fails or is cancelled.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li>{@code a2a.rate-limit.requests-per-second} - sustained rate per tenant and method
+ *       (default: 0, unlimited)</li>
+ *   <li>{@code a2a.rate-limit.burst} - requests allowed at once above the sustained rate
+ *       (default: 0, one second worth of requests)</li>
+ *   <li>{@code a2a.rate-limit.<method>.requests-per-second} and {@code a2a.rate-limit.<method>.burst}
+ *       - override the limit of one method, e.g. {@code a2a.rate-limit.SendMessage.requests-per-second}</li>
+ *   <li>{@code a2a.rate-limit.max-open-streams-per-tenant} - streaming messages and task
+ *       subscriptions a tenant may keep open at once (default: 0, unlimited)</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class RateLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final String A2A_RATE_LIMIT_PREFIX = "a2a.rate-limit.";
+    private static final String REQUESTS_PER_SECOND = "requests-per-second";
+    private static final String BURST = "burst";
+    private static final String MAX_OPEN_STREAMS_PER_TENANT = "max-open-streams-per-tenant";
+    // Streams close at no predictable time, so rejected clients are asked to retry soon
+    private static final int STREAM_RETRY_AFTER_SECONDS = 1;
+    private static final List<String> METHODS = List.of(
+            A2AMethods.SEND_MESSAGE_METHOD,
+            A2AMethods.SEND_STREAMING_MESSAGE_METHOD,
+            A2AMethods.GET_TASK_METHOD,
+            A2AMethods.LIST_TASK_METHOD,
+            A2AMethods.CANCEL_TASK_METHOD,
+            A2AMethods.SUBSCRIBE_TO_TASK_METHOD,
+            A2AMethods.SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+            A2AMethods.GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+            A2AMethods.LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+            A2AMethods.DELETE_TASK_PUSH_NOTIFICATION_CONFIG_METHOD,
+            A2AMethods.GET_EXTENDED_AGENT_CARD_METHOD);
+    // Buckets not used for a while are full and can be dropped once there are this many
+    private static final int MAX_IDLE_BUCKETS = 10_000;
+    private static final long SWEEP_INTERVAL_NANOS = SECONDS.toNanos(1);
+
+    /**
+     * A sustained rate and a burst size; a rate of zero or less means unlimited.
+     */
+    private record Limit(double requestsPerSecond, int burst) {
+        boolean isLimited() {
+            return requestsPerSecond > 0;
+        }
+    }
+
+    private record BucketKey(String tenant, String method) {
+    }
+
+    private static final Limit UNLIMITED = new Limit(0, 0);
+
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
+
+    private volatile Limit defaultLimit = UNLIMITED;
+    private volatile Map<String, Limit> methodLimits = Map.of();
+    private volatile boolean enabled;
+    private final ConcurrentMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private volatile int maxOpenStreamsPerTenant;
+    private final ConcurrentMap<String, Integer> openStreams = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initConfig() {
+        A2AConfigProvider config = configProvider;
+        if (config == null) {
+            return;
+        }
+        setLimit(null, readLimit(config, A2A_RATE_LIMIT_PREFIX));
+        for (String method : METHODS) {
+            String prefix = A2A_RATE_LIMIT_PREFIX + method + ".";
+            if (config.getOptionalValue(prefix + REQUESTS_PER_SECOND).isPresent()) {
+                setLimit(method, readLimit(config, prefix));
+            }
+        }
+        config.getOptionalValue(A2A_RATE_LIMIT_PREFIX + MAX_OPEN_STREAMS_PER_TENANT)
+                .map(Integer::parseInt)
+                .ifPresent(this::setMaxOpenStreamsPerTenant);
+    }
+
+    private static Limit readLimit(A2AConfigProvider config, String prefix) {
+        double requestsPerSecond = config.getOptionalValue(prefix + REQUESTS_PER_SECOND)
+                .map(Double::parseDouble).orElse(0.0);
+        int burst = config.getOptionalValue(prefix + BURST).map(Integer::parseInt).orElse(0);
+        return new Limit(requestsPerSecond, burst);
+    }
+
+    /**
+     * Sets the limit of a method, or the default limit of all methods without their own limit.
+     *
+     * @param method the A2A method name, or {@code null} for the default limit
+     * @param requestsPerSecond the sustained rate per tenant, zero or less for unlimited
+     * @param burst the number of requests allowed at once, zero or less for one second worth
+     */
+    public void setLimit(@Nullable String method, double requestsPerSecond, int burst) {
+        setLimit(method, new Limit(requestsPerSecond, burst));
+    }
+
+    private synchronized void setLimit(@Nullable String method, Limit limit) {
+        if (method == null) {
+            defaultLimit = limit;
+        } else {
+            Map<String, Limit> limits = new HashMap<>(methodLimits);
+            limits.put(method, limit);
+            methodLimits = Map.copyOf(limits);
+        }
+        enabled = defaultLimit.isLimited() || methodLimits.values().stream().anyMatch(Limit::isLimited);
+        buckets.clear();
+        if (limit.isLimited()) {
+            LOGGER.debug("Rate limit for {}: {} requests per second, burst {}",
+                    method == null ? "all methods" : method, limit.requestsPerSecond(), limit.burst());
+        }
+    }
+
+    /**
+     * Returns whether any limit is configured. Transports may skip extracting the tenant and
+     * method of requests otherwise.
+     *
+     * @return {@code true} if requests may be rejected
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes a token from the bucket of the tenant and method.
+     *
+     * @param tenant the tenant of the request, {@code null} or empty for the default tenant
+     * @param method the A2A method name of the request
+     * @throws RateLimitExceededError if the tenant exceeded its rate for the method
+     */
+    public void acquire(@Nullable String tenant, String method) throws RateLimitExceededError {
+        Limit limit = methodLimits.getOrDefault(method, defaultLimit);
+        if (!limit.isLimited()) {
+            return;
+        }
+        long now = System.nanoTime();
+        BucketKey key = new BucketKey(tenant == null ? "" : tenant, method);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            sweepIdleBuckets(now);
+            int burst = limit.burst() > 0 ? limit.burst() : (int) Math.ceil(limit.requestsPerSecond());
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit.requestsPerSecond(), burst, now));
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            int retryAfterSeconds = (int) Math.max(1, (waitNanos + SECONDS.toNanos(1) - 1) / SECONDS.toNanos(1));
+            LOGGER.debug("Rate limit of tenant '{}' exceeded for {}, retry after {}s", key.tenant(), method, retryAfterSeconds);
+            throw new RateLimitExceededError("Rate limit exceeded for " + method, retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Sets the number of streams a tenant may keep open at once.
+     *
+     * @param maxOpenStreamsPerTenant the limit, zero or less for unlimited
+     */
+    public void setMaxOpenStreamsPerTenant(int maxOpenStreamsPerTenant) {
+        this.maxOpenStreamsPerTenant = maxOpenStreamsPerTenant;
+    }
+
+    /**
+     * Admits a stream opened by the tenant.
+     *
+     * @param tenant the tenant of the request, {@code null} or empty for the default tenant
+     * @return the permit, to be released when the stream is closed
+     * @throws RateLimitExceededError if the tenant has reached its limit of open streams
+     */
+    public StreamPermit acquireStream(@Nullable String tenant) throws RateLimitExceededError {
+        String key = tenant == null ? "" : tenant;
+        int max = maxOpenStreamsPerTenant;
+        AtomicBoolean admitted = new AtomicBoolean();
+        openStreams.compute(key, (k, count) -> {
+            int open = count == null ? 0 : count;
+            if (max > 0 && open >= max) {
+                return count;
+            }
+            admitted.set(true);
+            return open + 1;
+        });
+        if (!admitted.get()) {
+            LOGGER.debug("Limit of {} open streams of tenant '{}' reached", max, key);
+            throw new RateLimitExceededError("Limit of open streams reached", STREAM_RETRY_AFTER_SECONDS);
+        }
+        return new StreamPermit(key);
+    }
+
+    /**
+     * Returns the number of open streams of a tenant.
+     *
+     * @param tenant the tenant, {@code null} or empty for the default tenant
+     * @return the open streams of the tenant
+     */
+    public int getOpenStreams(@Nullable String tenant) {
+        return openStreams.getOrDefault(tenant == null ? "" : tenant, 0);
+    }
+
+    private void sweepIdleBuckets(long now) {
+        long lastSweep = lastSweepNanos.get();
+        if (buckets.size() < MAX_IDLE_BUCKETS || now - lastSweep < SWEEP_INTERVAL_NANOS
+                || !lastSweepNanos.compareAndSet(lastSweep, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * An admitted stream, released once when the stream is closed.
+     */
+    public final class StreamPermit {
+
+        private final String tenant;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private StreamPermit(String tenant) {
+            this.tenant = tenant;
+        }
+
+        /**
+         * Releases the permit. Further calls have no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                openStreams.computeIfPresent(tenant, (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+}
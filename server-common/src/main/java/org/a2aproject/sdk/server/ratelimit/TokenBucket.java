@@ -0,0 +1,52 @@
+package org.a2aproject.sdk.server.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Instead of a token count, the bucket stores the time at which it will be full again, which
+ * lets a single compare-and-set both refill and take a token. A request at time {@code now} is
+ * allowed if taking its token leaves that time no more than {@code burst} intervals ahead of
+ * {@code now}; this is the generic cell rate algorithm, equivalent to a bucket of {@code burst}
+ * tokens refilled at {@code ratePerSecond}.
+ * </p>
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAtNanos;
+
+    TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / ratePerSecond));
+        this.capacityNanos = intervalNanos * Math.max(1, burst);
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt - nowNanos, 0) + intervalNanos;
+            if (next > capacityNanos) {
+                return next - capacityNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, nowNanos + next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket holds all its tokens, i.e. it has not been used recently.
+     */
+    boolean isFull(long nowNanos) {
+        return fullAtNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Per-tenant request rate limiting shared by the transports.
+ */
+@NullMarked
+package org.a2aproject.sdk.server.ratelimit;
+
+import org.jspecify.annotations.NullMarked;
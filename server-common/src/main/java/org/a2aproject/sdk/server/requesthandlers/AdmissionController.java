@@ -0,0 +1,213 @@
+package org.a2aproject.sdk.server.requesthandlers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.a2aproject.sdk.server.ServerOverloadedError;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of agent executions a node accepts, overall and per tenant.
+ * <p>
+ * {@link DefaultRequestHandler} acquires a {@link Permit} before it creates any queue or task
+ * state for a message, and rejects the message with a {@link ServerOverloadedError} if a limit is
+ * reached. An admitted execution is <em>pending</em> until an agent-executor thread starts it,
+ * and <em>running</em> until the agent returns. The time between handing an execution to the
+ * agent executor and the agent starting is recorded and exposed as the queue wait time.
+ * </p>
+ * <p>
+ * Limits of {@code 0} or less are not enforced. The counts and the queue wait time are tracked
+ * either way.
+ * </p>
+ */
+public final class AdmissionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
+
+    private final int maxConcurrentExecutions;
+    private final int maxPendingExecutions;
+    private final int maxConcurrentExecutionsPerTenant;
+    private final int retryAfterSeconds;
+
+    // Guarded by this
+    private int pending;
+    private int running;
+    private final Map<String, Integer> perTenant = new HashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    AdmissionController(int maxConcurrentExecutions, int maxPendingExecutions,
+                        int maxConcurrentExecutionsPerTenant, int retryAfterSeconds) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.maxPendingExecutions = maxPendingExecutions;
+        this.maxConcurrentExecutionsPerTenant = maxConcurrentExecutionsPerTenant;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns a controller that enforces no limits.
+     */
+    static AdmissionController unlimited() {
+        return new AdmissionController(0, 0, 0, 1);
+    }
+
+    /**
+     * Admits an agent execution for the tenant.
+     *
+     * @param tenant the tenant of the request, {@code null} for the default tenant
+     * @return the permit, to be released when the execution ends
+     * @throws ServerOverloadedError if a limit is reached
+     */
+    Permit acquire(@Nullable String tenant) throws ServerOverloadedError {
+        String key = tenant == null ? "" : tenant;
+        synchronized (this) {
+            String limit = null;
+            if (maxConcurrentExecutions > 0 && pending + running >= maxConcurrentExecutions) {
+                limit = "concurrent executions";
+            } else if (maxPendingExecutions > 0 && pending >= maxPendingExecutions) {
+                limit = "pending executions";
+            } else if (maxConcurrentExecutionsPerTenant > 0
+                    && perTenant.getOrDefault(key, 0) >= maxConcurrentExecutionsPerTenant) {
+                limit = "concurrent executions of the tenant";
+            }
+            if (limit != null) {
+                rejected.increment();
+                LOGGER.debug("Rejecting execution for tenant '{}': limit of {} reached (pending={}, running={})",
+                        key, limit, pending, running);
+                throw new ServerOverloadedError("Server overloaded: limit of " + limit + " reached", retryAfterSeconds);
+            }
+            pending++;
+            perTenant.merge(key, 1, Integer::sum);
+        }
+        return new Permit(key);
+    }
+
+    int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Returns the number of admitted executions waiting for an agent-executor thread.
+     *
+     * @return the pending executions
+     */
+    public synchronized int getPendingExecutions() {
+        return pending;
+    }
+
+    /**
+     * Returns the number of executions whose agent is running.
+     *
+     * @return the running executions
+     */
+    public synchronized int getRunningExecutions() {
+        return running;
+    }
+
+    /**
+     * Returns the number of pending and running executions of a tenant.
+     *
+     * @param tenant the tenant, {@code null} for the default tenant
+     * @return the admitted executions of the tenant
+     */
+    public synchronized int getExecutions(@Nullable String tenant) {
+        return perTenant.getOrDefault(tenant == null ? "" : tenant, 0);
+    }
+
+    /**
+     * Returns the number of executions rejected since startup.
+     *
+     * @return the rejected executions
+     */
+    public long getRejectedExecutions() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the average time started executions waited for an agent-executor thread.
+     *
+     * @return the average queue wait time, zero if no execution started yet
+     */
+    public Duration getAverageQueueWait() {
+        long count = started.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalQueueWaitNanos.sum() / count);
+    }
+
+    /**
+     * Returns the longest time an execution waited for an agent-executor thread.
+     *
+     * @return the maximum queue wait time
+     */
+    public Duration getMaxQueueWait() {
+        return Duration.ofNanos(maxQueueWaitNanos.get());
+    }
+
+    /**
+     * An admitted execution. Once the agent is handed to the executor, {@link #submitted()} is
+     * called, then {@link #started()} when the agent starts and {@link #release()} when it returns.
+     * If the request fails earlier, {@link #abandon()} releases the permit.
+     */
+    final class Permit {
+
+        private final String tenant;
+        private volatile boolean isSubmitted;
+        private volatile long submittedNanos;
+        // Guarded by AdmissionController.this
+        private boolean isStarted;
+        private boolean released;
+
+        private Permit(String tenant) {
+            this.tenant = tenant;
+        }
+
+        void submitted() {
+            submittedNanos = System.nanoTime();
+            isSubmitted = true;
+        }
+
+        void abandon() {
+            if (!isSubmitted) {
+                release();
+            }
+        }
+
+        void started() {
+            long waitNanos = System.nanoTime() - submittedNanos;
+            synchronized (AdmissionController.this) {
+                if (released || isStarted) {
+                    return;
+                }
+                isStarted = true;
+                pending--;
+                running++;
+            }
+            started.increment();
+            totalQueueWaitNanos.add(waitNanos);
+            maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+            LOGGER.debug("Execution for tenant '{}' started after waiting {} ms", tenant, waitNanos / 1_000_000);
+        }
+
+        void release() {
+            synchronized (AdmissionController.this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                if (isStarted) {
+                    running--;
+                } else {
+                    pending--;
+                }
+                perTenant.computeIfPresent(tenant, (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+}
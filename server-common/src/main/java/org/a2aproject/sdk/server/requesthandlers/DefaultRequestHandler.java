@@ -3,8 +3,10 @@ package org.a2aproject.sdk.server.requesthandlers;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.a2aproject.sdk.server.util.async.AsyncUtils.convertingProcessor;
 import static org.a2aproject.sdk.server.util.async.AsyncUtils.createTubeConfig;
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.terminatingProcessor;
 import static org.a2aproject.sdk.server.util.async.AsyncUtils.insertingProcessor;
 import static org.a2aproject.sdk.server.util.async.AsyncUtils.processor;
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.unwrapCompletionException;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -13,10 +15,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -27,6 +32,7 @@ import jakarta.inject.Inject;
 
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.agentexecution.AgentExecutor;
 import org.a2aproject.sdk.server.agentexecution.RequestContext;
 import org.a2aproject.sdk.server.agentexecution.SimpleRequestContextBuilder;
@@ -37,6 +43,7 @@ import org.a2aproject.sdk.server.events.EventQueue;
 import org.a2aproject.sdk.server.events.EventQueueItem;
 import org.a2aproject.sdk.server.events.MainEventBusProcessor;
 import org.a2aproject.sdk.server.events.QueueManager;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
 import org.a2aproject.sdk.server.tasks.AgentEmitter;
 import org.a2aproject.sdk.server.tasks.PushNotificationConfigStore;
 import org.a2aproject.sdk.server.tasks.PushNotificationSender;
@@ -67,6 +74,7 @@ import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
 import org.a2aproject.sdk.spec.TaskQueryParams;
 import org.a2aproject.sdk.spec.TaskState;
 import org.a2aproject.sdk.spec.UnsupportedOperationError;
+import org.a2aproject.sdk.util.Utils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -100,7 +108,7 @@ import org.slf4j.LoggerFactory;
  *   <li>Initialize {@link TaskManager} and {@link RequestContext}</li>
  *   <li>Create or tap {@link EventQueue} via {@link QueueManager}</li>
  *   <li>Execute {@link AgentExecutor#execute(RequestContext, AgentEmitter)} asynchronously in background thread pool</li>
- *   <li>Consume events from queue on Vert.x worker thread via {@link EventConsumer}</li>
+ *   <li>Consume events from queue on the event consumer executor via {@link EventConsumer}</li>
  *   <li>For blocking=true: wait for agent completion and full event consumption</li>
  *   <li>Return {@link Task} or {@link Message} to transport</li>
  *   <li>Cleanup queue and agent future in background</li>
@@ -133,6 +141,11 @@ import org.slf4j.LoggerFactory;
  *   <li><b>Background cleanup:</b> {@link java.util.concurrent.CompletableFuture CompletableFuture} async tasks</li>
  * </ul>
  * <p>
+ * {@link #onMessageSendAsync} and {@link #onCancelTaskAsync} chain the waits for the agent and
+ * the event consumption as continuations, so transports using them hold no thread while the
+ * agent runs. The synchronous methods wait for the same futures on the calling thread.
+ * </p>
+ * <p>
  * <b>Important:</b> Avoid blocking operations on Vert.x worker threads - they are limited
  * and shared across all requests.
  * </p>
@@ -189,6 +202,15 @@ public class DefaultRequestHandler implements RequestHandler {
 
     private static final String A2A_BLOCKING_AGENT_TIMEOUT_SECONDS = "a2a.blocking.agent.timeout.seconds";
     private static final String A2A_BLOCKING_CONSUMPTION_TIMEOUT_SECONDS = "a2a.blocking.consumption.timeout.seconds";
+    private static final String A2A_ADMISSION_MAX_CONCURRENT_EXECUTIONS = "a2a.admission.max-concurrent-executions";
+    private static final String A2A_ADMISSION_MAX_PENDING_EXECUTIONS = "a2a.admission.max-pending-executions";
+    private static final String A2A_ADMISSION_MAX_CONCURRENT_EXECUTIONS_PER_TENANT = "a2a.admission.max-concurrent-executions-per-tenant";
+    private static final String A2A_ADMISSION_RETRY_AFTER_SECONDS = "a2a.admission.retry-after-seconds";
+    private static final String A2A_TASK_READ_COALESCING_ENABLED = "a2a.task-read.coalescing.enabled";
+    private static final String A2A_TASK_READ_MAX_STALENESS_MILLIS = "a2a.task-read.max-staleness-ms";
+    private static final String A2A_TASK_SUBSCRIPTION_MAX_TASKS = "a2a.task-subscription.max-tasks";
+    private static final String A2A_EXECUTOR_MAX_POOL_SIZE = "a2a.executor.max-pool-size";
+    private static final String A2A_EXECUTOR_QUEUE_CAPACITY = "a2a.executor.queue-capacity";
 
     @Inject
     A2AConfigProvider configProvider;
@@ -215,6 +237,45 @@ public class DefaultRequestHandler implements RequestHandler {
      */
     int consumptionCompletionTimeoutSeconds;
 
+    /**
+     * Admission control for agent executions, checked before any queue or task state is created.
+     * <p>
+     * Properties: {@code a2a.admission.max-concurrent-executions} (default: -1, derived from the
+     * agent executor's maximum pool size plus queue capacity),
+     * {@code a2a.admission.max-pending-executions} and
+     * {@code a2a.admission.max-concurrent-executions-per-tenant} (default: 0, unlimited), and
+     * {@code a2a.admission.retry-after-seconds} (default: 1).
+     */
+    AdmissionController admissionController = AdmissionController.unlimited();
+
+    /**
+     * Limits the streams each tenant keeps open, which streaming messages and task subscriptions
+     * acquire when they are opened.
+     * <p>
+     * Property: {@code a2a.rate-limit.max-open-streams-per-tenant} (default: 0, unlimited).
+     */
+    @Inject
+    RateLimiter rateLimiter = new RateLimiter();
+
+    /**
+     * Coalescing of concurrent GetTask and ListTasks reads of the same task or query, so that
+     * polling clients share one task store load instead of each loading and deserializing the
+     * task again. Reads from a non-blocking task store are never coalesced.
+     * <p>
+     * Properties: {@code a2a.task-read.coalescing.enabled} (default: true) and
+     * {@code a2a.task-read.max-staleness-ms} (default: 0, only loads in flight are shared).
+     */
+    @Nullable ReadCoalescer<String, @Nullable Task> taskReads = new ReadCoalescer<>(0);
+    @Nullable ReadCoalescer<ListTasksParams, ListTasksResult> taskListReads = new ReadCoalescer<>(0);
+
+    /**
+     * Maximum number of tasks carried by one subscription of the multi-task subscription
+     * extension.
+     * <p>
+     * Property: {@code a2a.task-subscription.max-tasks} (default: 1000).
+     */
+    int maxTasksPerSubscription = 1000;
+
     // Fields set by constructor injection cannot be final. We need a noargs constructor for
     // Jakarta compatibility, and it seems that making fields set by constructor injection
     // final, is not proxyable in all runtimes
@@ -226,6 +287,8 @@ public class DefaultRequestHandler implements RequestHandler {
     private Supplier<RequestContext.Builder> requestContextBuilder;
 
     private final ConcurrentMap<String, CompletableFuture<Void>> runningAgents = new ConcurrentHashMap<>();
+    // Multi-task subscriptions opened with an ID, which are updated by later requests
+    private final ConcurrentMap<TaskSubscriptionKey, MultiTaskSubscription> taskSubscriptions = new ConcurrentHashMap<>();
 
 
     private Executor executor;
@@ -276,6 +339,40 @@ public class DefaultRequestHandler implements RequestHandler {
                 configProvider.getValue(A2A_BLOCKING_AGENT_TIMEOUT_SECONDS));
         consumptionCompletionTimeoutSeconds = Integer.parseInt(
                 configProvider.getValue(A2A_BLOCKING_CONSUMPTION_TIMEOUT_SECONDS));
+
+        int maxConcurrentExecutions = Integer.parseInt(
+                configProvider.getValue(A2A_ADMISSION_MAX_CONCURRENT_EXECUTIONS));
+        if (maxConcurrentExecutions < 0) {
+            // Reject before the agent executor would, i.e. once all threads are busy and its queue is full
+            maxConcurrentExecutions = Integer.parseInt(configProvider.getValue(A2A_EXECUTOR_MAX_POOL_SIZE))
+                    + Integer.parseInt(configProvider.getValue(A2A_EXECUTOR_QUEUE_CAPACITY));
+        }
+        admissionController = new AdmissionController(
+                maxConcurrentExecutions,
+                Integer.parseInt(configProvider.getValue(A2A_ADMISSION_MAX_PENDING_EXECUTIONS)),
+                Integer.parseInt(configProvider.getValue(A2A_ADMISSION_MAX_CONCURRENT_EXECUTIONS_PER_TENANT)),
+                Integer.parseInt(configProvider.getValue(A2A_ADMISSION_RETRY_AFTER_SECONDS)));
+
+        if (Boolean.parseBoolean(configProvider.getValue(A2A_TASK_READ_COALESCING_ENABLED))) {
+            long maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(
+                    Long.parseLong(configProvider.getValue(A2A_TASK_READ_MAX_STALENESS_MILLIS)));
+            taskReads = new ReadCoalescer<>(maxStalenessNanos);
+            taskListReads = new ReadCoalescer<>(maxStalenessNanos);
+        } else {
+            taskReads = null;
+            taskListReads = null;
+        }
+        maxTasksPerSubscription = Integer.parseInt(configProvider.getValue(A2A_TASK_SUBSCRIPTION_MAX_TASKS));
+    }
+
+    /**
+     * Returns the admission control of agent executions, which exposes the number of pending and
+     * running executions and the time executions wait for an agent-executor thread.
+     *
+     * @return the admission controller
+     */
+    public AdmissionController getAdmissionController() {
+        return admissionController;
     }
 
 
@@ -298,7 +395,11 @@ public class DefaultRequestHandler implements RequestHandler {
     @Override
     public Task onGetTask(TaskQueryParams params, ServerCallContext context) throws A2AError {
         LOGGER.debug("onGetTask {}", params.id());
-        Task task = taskStore.get(params.id());
+        // The whole task is loaded once for all readers, each applies its own history length
+        ReadCoalescer<String, @Nullable Task> coalescer = taskReads;
+        Task task = coalescer == null || taskStore.isNonBlocking()
+                ? taskStore.get(params.id())
+                : coalescer.get(params.id(), () -> taskStore.get(params.id()));
         if (task == null) {
             LOGGER.debug("No task found for {}. Throwing TaskNotFoundError", params.id());
             throw new TaskNotFoundError();
@@ -353,13 +454,29 @@ public class DefaultRequestHandler implements RequestHandler {
             }
         }
 
-        ListTasksResult result = taskStore.list(params);
+        ReadCoalescer<ListTasksParams, ListTasksResult> coalescer = taskListReads;
+        ListTasksResult result = coalescer == null || taskStore.isNonBlocking()
+                ? taskStore.list(params)
+                : coalescer.get(params, () -> taskStore.list(params));
         LOGGER.debug("Found {} tasks (total: {})", result.pageSize(), result.totalSize());
         return result;
     }
 
     @Override
     public Task onCancelTask(CancelTaskParams params, ServerCallContext context) throws A2AError {
+        return await(onCancelTaskAsync(params, context));
+    }
+
+    @Override
+    public CompletableFuture<Task> onCancelTaskAsync(CancelTaskParams params, ServerCallContext context) {
+        try {
+            return cancelTask(params, context);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Task> cancelTask(CancelTaskParams params, ServerCallContext context) throws A2AError {
         Task task = taskStore.get(params.id());
         if (task == null) {
             throw new TaskNotFoundError();
@@ -415,27 +532,67 @@ public class DefaultRequestHandler implements RequestHandler {
                 .ifPresent(cf -> cf.cancel(true));
 
         // Consume events with blocking=true to wait for CANCELED state
-        // The latch in consumeAndBreakOnInterrupt ensures EventConsumer starts before we wait
         // CANCELED is a final state, so loop will break naturally when event arrives
         // If agentExecutor.cancel() threw TaskNotCancelableError, that A2AError event will also break the loop
-        ResultAggregator.EventTypeAndInterrupt etai = resultAggregator.consumeAndBreakOnInterrupt(consumer, true);
+        return resultAggregator.consumeAndBreakOnInterruptAsync(consumer, true).thenApply(etai -> {
+            if (!(etai.eventType() instanceof Task tempTask)) {
+                throw new InternalError("Agent did not return valid response for cancel");
+            }
 
-        if (!(etai.eventType() instanceof Task tempTask)) {
-            throw new InternalError("Agent did not return valid response for cancel");
-        }
+            // Verify task was actually canceled (not completed concurrently)
+            if (tempTask.status().state() != TaskState.TASK_STATE_CANCELED) {
+                throw new TaskNotCancelableError(
+                        "Task cannot be canceled - current state: " + tempTask.status().state());
+            }
 
-        // Verify task was actually canceled (not completed concurrently)
-        if (tempTask.status().state() != TaskState.TASK_STATE_CANCELED) {
-            throw new TaskNotCancelableError(
-                    "Task cannot be canceled - current state: " + tempTask.status().state());
-        }
+            return tempTask;
+        });
+    }
 
-        return tempTask;
+    @Override
+    public EventKind onMessageSend(MessageSendParams params, ServerCallContext context) throws A2AError {
+        // The first result is consumed on the calling thread, which then waits for the rest
+        return await(sendMessage(params, context, (resultAggregator, consumer, blocking) -> {
+            try {
+                return CompletableFuture.completedFuture(resultAggregator.consumeAndBreakOnInterrupt(consumer, blocking));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }));
     }
 
     @Override
+    public CompletableFuture<EventKind> onMessageSendAsync(MessageSendParams params, ServerCallContext context) {
+        try {
+            return sendMessage(params, context, ResultAggregator::consumeAndBreakOnInterruptAsync);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Consumes the first result of a non-streaming send.
+     */
+    @FunctionalInterface
+    private interface FirstResultConsumer {
+        CompletableFuture<ResultAggregator.EventTypeAndInterrupt> consume(
+                ResultAggregator resultAggregator, EventConsumer consumer, boolean blocking);
+    }
+
+    private CompletableFuture<EventKind> sendMessage(MessageSendParams params, ServerCallContext context,
+            FirstResultConsumer firstResultConsumer) throws A2AError {
+        AdmissionController.Permit permit = admissionController.acquire(params.tenant());
+        try {
+            return sendAdmittedMessage(params, context, firstResultConsumer, permit);
+        } catch (RuntimeException e) {
+            permit.abandon();
+            throw e;
+        }
+    }
+
     @SuppressWarnings("NullAway")
-    public EventKind onMessageSend(MessageSendParams params, ServerCallContext context) throws A2AError {
+    private CompletableFuture<EventKind> sendAdmittedMessage(MessageSendParams params, ServerCallContext context,
+            FirstResultConsumer firstResultConsumer, AdmissionController.Permit permit) throws A2AError {
         LOGGER.debug("onMessageSend - task: {}; context {}", params.message().taskId(), params.message().contextId());
 
         // Build MessageSendSetup which creates RequestContext with real taskId (auto-generated if needed)
@@ -467,36 +624,28 @@ public class DefaultRequestHandler implements RequestHandler {
         }
         LOGGER.debug("DefaultRequestHandler: Final blocking decision: {} for task {}", blocking, taskId.get());
 
-        boolean interruptedOrNonBlocking = false;
-
         // Create consumer BEFORE starting agent - callback is registered inside registerAndExecuteAgentAsync
         EventConsumer consumer = new EventConsumer(queue, eventConsumerExecutor);
 
-        EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(queueTaskId, mss.requestContext, queue, consumer.createAgentRunnableDoneCallback());
+        EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(queueTaskId, mss.requestContext, queue, consumer.createAgentRunnableDoneCallback(), permit);
 
-        ResultAggregator.EventTypeAndInterrupt etai = null;
-        EventKind kind = null;  // Declare outside try block so it's in scope for return
-        try {
-
-            // Get agent future before consuming (for blocking calls to wait for agent completion)
-            CompletableFuture<Void> agentFuture = runningAgents.get(queueTaskId);
-            etai = resultAggregator.consumeAndBreakOnInterrupt(consumer, blocking);
+        // Get agent future before consuming (for blocking calls to wait for agent completion)
+        CompletableFuture<Void> agentFuture = runningAgents.get(queueTaskId);
+        AtomicReference<ResultAggregator.@Nullable EventTypeAndInterrupt> etaiRef = new AtomicReference<>();
 
+        // Each step below is a continuation of the previous one, running on the thread that
+        // completes it, so onMessageSendAsync parks no thread while the agent runs
+        return firstResultConsumer.consume(resultAggregator, consumer, blocking).thenCompose(etai -> {
             if (etai == null) {
                 LOGGER.debug("No result, throwing InternalError");
                 throw new InternalError("No result");
             }
-            interruptedOrNonBlocking = etai.interrupted();
+            etaiRef.set(etai);
+            boolean interruptedOrNonBlocking = etai.interrupted();
+            EventKind kind = etai.eventType();
             LOGGER.debug("DefaultRequestHandler: interruptedOrNonBlocking={} (blocking={}, eventType={})",
                 interruptedOrNonBlocking, blocking, kind != null ? kind.getClass().getSimpleName() : null);
 
-            // For blocking calls that were interrupted (returned on first event),
-            // wait for agent execution and event processing BEFORE returning to client.
-            // This ensures the returned Task has all artifacts and current state.
-            // We do this HERE (not in ResultAggregator) to avoid blocking Vert.x worker threads
-            // during the consumption loop itself.
-            kind = etai.eventType();
-
             // No ID switching needed - agent uses context.getTaskId() which is the same as queue key
 
             // Store push notification config for newly created tasks (mirrors streaming logic)
@@ -520,125 +669,181 @@ public class DefaultRequestHandler implements RequestHandler {
             }
 
             if (blocking && interruptedOrNonBlocking && !requiresImmediateReturn) {
-                // For blocking calls: ensure all consumed events are persisted to TaskStore before returning
-                // Order of operations is critical to avoid circular dependency and race conditions:
-                // 1. Wait for agent to finish enqueueing events (or timeout)
-                // 2. Close the queue to signal consumption can complete
-                // 3. Wait for consumption to finish processing events
-                // 4. (Implicit) MainEventBusProcessor persistence guarantee via consumption completion
-                // 5. Fetch current task state from TaskStore (includes all consumed & persisted events)
-                LOGGER.debug("DefaultRequestHandler: Entering blocking fire-and-forget handling for task {}", taskId.get());
-
-                try {
-                    // Step 1: Wait for agent to finish (with configurable timeout)
-                    if (agentFuture != null) {
-                        try {
-                            agentFuture.get(agentCompletionTimeoutSeconds, SECONDS);
-                            LOGGER.debug("DefaultRequestHandler: Step 1 - Agent completed for task {}", taskId.get());
-                        } catch (java.util.concurrent.TimeoutException e) {
-                            // Agent still running after timeout - that's fine, events already being processed
-                            LOGGER.debug("DefaultRequestHandler: Step 1 - Agent still running for task {} after {}s timeout",
-                                taskId.get(), agentCompletionTimeoutSeconds);
-                        }
-                    }
-
-                    // Step 2: Close the queue to signal consumption can complete
-                    // For fire-and-forget tasks, there's no final event, so we need to close the queue
-                    // This allows EventConsumer.consumeAll() to exit
-                    queue.close(false, false);  // graceful close, don't notify parent yet
-                    LOGGER.debug("DefaultRequestHandler: Step 2 - Closed queue for task {} to allow consumption completion", taskId.get());
-
-                    // Step 3: Wait for consumption to complete (now that queue is closed)
-                    if (etai.consumptionFuture() != null) {
-                        etai.consumptionFuture().get(consumptionCompletionTimeoutSeconds, SECONDS);
-                        LOGGER.debug("DefaultRequestHandler: Step 3 - Consumption completed for task {}", taskId.get());
-                    }
-
-                    // Step 4: Implicit guarantee of persistence via consumption completion
-                    // We do NOT add an explicit wait for MainEventBusProcessor here because:
-                    // 1. MainEventBusProcessor persists BEFORE distributing to ChildQueues
-                    // 2. Step 3 (consumption completion) already guarantees all consumed events are persisted
-                    // 3. Adding another explicit synchronization point would require exposing
-                    //    MainEventBusProcessor internals and blocking event loop threads
-                    //
-                    // Note: For fire-and-forget tasks, if the agent is still running after Step 1 timeout,
-                    // it may enqueue additional events. These will be persisted asynchronously but won't
-                    // be included in the task state returned to the client (already consumed in Step 3).
-
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    String msg = String.format("Error waiting for task %s completion", taskId.get());
-                    LOGGER.warn(msg, e);
-                    throw new InternalError(msg);
-                } catch (java.util.concurrent.ExecutionException e) {
-                    String msg = String.format("Error during task %s execution", taskId.get());
-                    LOGGER.warn(msg, e.getCause());
-                    throw new InternalError(msg);
-                } catch (TimeoutException e) {
-                    // Timeout from consumption future.get() - different from finalization timeout
-                    String msg = String.format("Timeout waiting for task %s consumption", taskId.get());
-                    LOGGER.warn(msg, e);
-                    throw new InternalError(msg);
-                }
-
-                // Step 5: Fetch the current task state from TaskStore
-                // All events consumed in Step 3 are guaranteed persisted (MainEventBusProcessor
-                // ordering: persist → distribute → consume). This returns the persisted state
-                // including all consumed events and artifacts.
-                String nonNullTaskId = Objects.requireNonNull(taskId.get(), "taskId cannot be null");
-                Task updatedTask = taskStore.get(nonNullTaskId);
-                if (updatedTask != null) {
-                    kind = updatedTask;
-                    LOGGER.debug("DefaultRequestHandler: Step 5 - Fetched current task for {} with state {} and {} artifacts",
-                        taskId.get(), updatedTask.status().state(),
-                        updatedTask.artifacts().size());
-                } else {
-                    LOGGER.warn("DefaultRequestHandler: Step 5 - Task {} not found in TaskStore!", taskId.get());
-                }
+                // For blocking calls that were interrupted (returned on first event), wait for
+                // agent execution and event processing BEFORE returning to client.
+                // This ensures the returned Task has all artifacts and current state.
+                return awaitBlockingResult(agentFuture, etai, queue, Objects.requireNonNull(taskId.get()), kind);
             }
+            return CompletableFuture.completedFuture(kind);
+        }).thenApply(kind -> {
             String finalTaskId = Objects.requireNonNull(taskId.get(), "taskId cannot be null");
             if (kind instanceof Task taskResult && !finalTaskId.equals(taskResult.id())) {
                 throw new InternalError("Task ID mismatch in agent response");
             }
-        } finally {
+            if (kind instanceof Task task) {
+                Integer historyLength = params.configuration() != null ? params.configuration().historyLength() : null;
+                kind = limitTaskHistory(task, historyLength);
+            }
+            LOGGER.debug("Returning: {}", kind);
+            return kind;
+        }).whenComplete((kind, error) -> {
+            ResultAggregator.EventTypeAndInterrupt etai = etaiRef.get();
             // For non-blocking calls: close ChildQueue IMMEDIATELY to free EventConsumer thread
             // CRITICAL: Must use immediate=true to clear the local queue, otherwise EventConsumer
             // continues polling until queue drains naturally, holding executor thread.
             // Immediate close clears pending events and triggers EventQueueClosedException on next poll.
             // Events continue flowing through MainQueue → MainEventBus → TaskStore.
             if (!blocking && etai != null && etai.interrupted()) {
-                LOGGER.debug("DefaultRequestHandler: Non-blocking call in finally - closing ChildQueue IMMEDIATELY for task {} to free EventConsumer", taskId.get());
+                LOGGER.debug("DefaultRequestHandler: Non-blocking call - closing ChildQueue IMMEDIATELY for task {} to free EventConsumer", taskId.get());
                 queue.close(true);  // immediate=true: clear queue and free EventConsumer
             }
 
             // Remove agent from map immediately to prevent accumulation
-            CompletableFuture<Void> agentFuture = runningAgents.remove(queueTaskId);
+            CompletableFuture<Void> runningAgent = runningAgents.remove(queueTaskId);
             String cleanupTaskId = Objects.requireNonNull(taskId.get(), "taskId cannot be null");
-            LOGGER.debug("Removed agent for task {} from runningAgents in finally block, size after: {}", cleanupTaskId, runningAgents.size());
+            LOGGER.debug("Removed agent for task {} from runningAgents on completion, size after: {}", cleanupTaskId, runningAgents.size());
 
             // Cleanup as background task to avoid blocking Vert.x threads
             // Pass the consumption future to ensure cleanup waits for background consumption to complete
-            cleanupProducer(agentFuture, etai != null ? etai.consumptionFuture() : null, cleanupTaskId, queue, false)
+            cleanupProducer(runningAgent, etai != null ? etai.consumptionFuture() : null, cleanupTaskId, queue, false)
                     .whenComplete((res, err) -> {
                         if (err != null) {
                             LOGGER.error("Error during async cleanup for task {}", taskId.get(), err);
                         }
                     });
-        }
+        });
+    }
 
-        if (kind instanceof Task task) {
-            Integer historyLength = params.configuration() != null ? params.configuration().historyLength() : null;
-            kind = limitTaskHistory(task, historyLength);
-        }
+    /**
+     * Ensures all consumed events are persisted to the TaskStore before a blocking call returns.
+     * <p>
+     * Order of operations is critical to avoid circular dependency and race conditions:
+     * <ol>
+     *   <li>Wait for agent to finish enqueueing events (or timeout)</li>
+     *   <li>Close the queue to signal consumption can complete</li>
+     *   <li>Wait for consumption to finish processing events</li>
+     *   <li>(Implicit) MainEventBusProcessor persistence guarantee via consumption completion</li>
+     *   <li>Fetch current task state from TaskStore (includes all consumed &amp; persisted events)</li>
+     * </ol>
+     * Each wait is a continuation of the agent and consumption futures, so no thread is held.
+     * The continuations run on the event consumer executor: a timeout completes the futures on
+     * the JDK's single delayer thread, which must not run the task store read or anything else
+     * that can block.
+     */
+    @SuppressWarnings("NullAway")
+    private CompletableFuture<EventKind> awaitBlockingResult(@Nullable CompletableFuture<Void> agentFuture,
+            ResultAggregator.EventTypeAndInterrupt etai, EventQueue queue, String taskId, EventKind kind) {
+        LOGGER.debug("DefaultRequestHandler: Entering blocking fire-and-forget handling for task {}", taskId);
+
+        // Step 1: Wait for agent to finish (with configurable timeout)
+        CompletableFuture<Void> agentDone = agentFuture == null
+                ? CompletableFuture.completedFuture(null)
+                : agentFuture.copy().orTimeout(agentCompletionTimeoutSeconds, SECONDS).handleAsync((ignored, error) -> {
+                    Throwable cause = error == null ? null : unwrapCompletionException(error);
+                    if (cause == null) {
+                        LOGGER.debug("DefaultRequestHandler: Step 1 - Agent completed for task {}", taskId);
+                    } else if (cause instanceof TimeoutException) {
+                        // Agent still running after timeout - that's fine, events already being processed
+                        LOGGER.debug("DefaultRequestHandler: Step 1 - Agent still running for task {} after {}s timeout",
+                                taskId, agentCompletionTimeoutSeconds);
+                    } else {
+                        String msg = String.format("Error during task %s execution", taskId);
+                        LOGGER.warn(msg, cause);
+                        throw new InternalError(msg);
+                    }
+                    return null;
+                }, eventConsumerExecutor);
+
+        return agentDone.thenCompose(ignored -> {
+            // Step 2: Close the queue to signal consumption can complete
+            // For fire-and-forget tasks, there's no final event, so we need to close the queue
+            // This allows EventConsumer.consumeAll() to exit
+            queue.close(false, false);  // graceful close, don't notify parent yet
+            LOGGER.debug("DefaultRequestHandler: Step 2 - Closed queue for task {} to allow consumption completion", taskId);
+
+            // Step 3: Wait for consumption to complete (now that queue is closed)
+            if (etai.consumptionFuture() == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return etai.consumptionFuture().copy().orTimeout(consumptionCompletionTimeoutSeconds, SECONDS)
+                    .handleAsync((unused, error) -> {
+                        Throwable cause = error == null ? null : unwrapCompletionException(error);
+                        if (cause instanceof TimeoutException) {
+                            // Timeout from consumption future - different from finalization timeout
+                            String msg = String.format("Timeout waiting for task %s consumption", taskId);
+                            LOGGER.warn(msg, cause);
+                            throw new InternalError(msg);
+                        } else if (cause != null) {
+                            String msg = String.format("Error during task %s execution", taskId);
+                            LOGGER.warn(msg, cause);
+                            throw new InternalError(msg);
+                        }
+                        LOGGER.debug("DefaultRequestHandler: Step 3 - Consumption completed for task {}", taskId);
+                        return null;
+                    }, eventConsumerExecutor);
+        }).thenApplyAsync(ignored -> {
+            // Step 4: Implicit guarantee of persistence via consumption completion
+            // We do NOT add an explicit wait for MainEventBusProcessor here because:
+            // 1. MainEventBusProcessor persists BEFORE distributing to ChildQueues
+            // 2. Step 3 (consumption completion) already guarantees all consumed events are persisted
+            // 3. Adding another explicit synchronization point would require exposing
+            //    MainEventBusProcessor internals and blocking event loop threads
+            //
+            // Note: For fire-and-forget tasks, if the agent is still running after Step 1 timeout,
+            // it may enqueue additional events. These will be persisted asynchronously but won't
+            // be included in the task state returned to the client (already consumed in Step 3).
+
+            // Step 5: Fetch the current task state from TaskStore
+            // All events consumed in Step 3 are guaranteed persisted (MainEventBusProcessor
+            // ordering: persist → distribute → consume). This returns the persisted state
+            // including all consumed events and artifacts.
+            Task updatedTask = taskStore.get(taskId);
+            if (updatedTask != null) {
+                LOGGER.debug("DefaultRequestHandler: Step 5 - Fetched current task for {} with state {} and {} artifacts",
+                    taskId, updatedTask.status().state(),
+                    updatedTask.artifacts().size());
+                return updatedTask;
+            }
+            LOGGER.warn("DefaultRequestHandler: Step 5 - Task {} not found in TaskStore!", taskId);
+            return kind;
+        }, eventConsumerExecutor);
+    }
 
-        LOGGER.debug("Returning: {}", kind);
-        return kind;
+    /**
+     * Waits for the result of an asynchronous operation, rethrowing its failure unwrapped.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws A2AError {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Utils.rethrow(unwrapCompletionException(e));
+            throw e;
+        }
     }
 
     @Override
-    @SuppressWarnings("NullAway")
     public Flow.Publisher<StreamingEventKind> onMessageSendStream(
             MessageSendParams params, ServerCallContext context) throws A2AError {
+        RateLimiter.StreamPermit streamPermit = rateLimiter.acquireStream(params.tenant());
+        AdmissionController.Permit permit;
+        try {
+            permit = admissionController.acquire(params.tenant());
+        } catch (RuntimeException e) {
+            streamPermit.release();
+            throw e;
+        }
+        try {
+            return terminatingProcessor(sendAdmittedMessageStream(params, context, permit), streamPermit::release);
+        } catch (RuntimeException e) {
+            permit.abandon();
+            streamPermit.release();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("NullAway")
+    private Flow.Publisher<StreamingEventKind> sendAdmittedMessageStream(
+            MessageSendParams params, ServerCallContext context, AdmissionController.Permit permit) throws A2AError {
         LOGGER.debug("onMessageSendStream START - task: {}; context: {}; runningAgents: {}",
                 params.message().taskId(), params.message().contextId(), runningAgents.size());
 
@@ -673,7 +878,7 @@ public class DefaultRequestHandler implements RequestHandler {
         // Create consumer BEFORE starting agent - callback is registered inside registerAndExecuteAgentAsync
         EventConsumer consumer = new EventConsumer(queue, eventConsumerExecutor);
 
-        EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(queueTaskId, mss.requestContext, queue, consumer.createAgentRunnableDoneCallback());
+        EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(queueTaskId, mss.requestContext, queue, consumer.createAgentRunnableDoneCallback(), permit);
 
         // Store cancel callback in context for closeHandler to access
         // When client disconnects, closeHandler can call this to stop EventConsumer polling loop
@@ -852,6 +1057,16 @@ public class DefaultRequestHandler implements RequestHandler {
                     null);
         }
 
+        RateLimiter.StreamPermit streamPermit = rateLimiter.acquireStream(params.tenant());
+        try {
+            return terminatingProcessor(subscribeToTask(task), streamPermit::release);
+        } catch (RuntimeException e) {
+            streamPermit.release();
+            throw e;
+        }
+    }
+
+    private Flow.Publisher<StreamingEventKind> subscribeToTask(Task task) {
         TaskManager taskManager = new TaskManager(task.id(), task.contextId(), taskStore, null);
         ResultAggregator resultAggregator = new ResultAggregator(taskManager, null, executor, eventConsumerExecutor);
         EventQueue queue = queueManager.tap(task.id());
@@ -871,13 +1086,59 @@ public class DefaultRequestHandler implements RequestHandler {
         // directly to the Publisher stream, ensuring synchronous delivery to subscriber
         EventConsumer consumer = new EventConsumer(queue, eventConsumerExecutor);
         Flow.Publisher<EventQueueItem> results = resultAggregator.consumeAndEmit(consumer);
-        LOGGER.debug("onSubscribeToTask - prepending initial task snapshot to stream, taskId: {}", params.id());
+        LOGGER.debug("onSubscribeToTask - prepending initial task snapshot to stream, taskId: {}", task.id());
         return insertingProcessor(
             convertingProcessor(results, item -> (StreamingEventKind) item.getEvent()),
             task
         );
     }
 
+    @Override
+    public MultiTaskSubscription onSubscribeToTasks(TaskSubscriptionParams params, ServerCallContext context)
+            throws A2AError {
+        LOGGER.debug("onSubscribeToTasks - id: {}, taskIds: {}", params.id(), params.add());
+        String id = params.id();
+        MultiTaskSubscription subscription;
+        if (id == null) {
+            subscription = new MultiTaskSubscription(null, taskStore, queueManager, eventConsumerExecutor,
+                    maxTasksPerSubscription, closed -> { });
+        } else {
+            TaskSubscriptionKey key = new TaskSubscriptionKey(context.getUser().getUsername(), id);
+            subscription = new MultiTaskSubscription(id, taskStore, queueManager, eventConsumerExecutor,
+                    maxTasksPerSubscription, closed -> taskSubscriptions.remove(key, closed));
+            if (taskSubscriptions.putIfAbsent(key, subscription) != null) {
+                throw new InvalidParamsError("Subscription '" + id + "' already exists");
+            }
+        }
+        // Closing the stream, e.g. on client disconnect, releases the subscription
+        context.setEventConsumerCancelCallback(subscription::close);
+        try {
+            subscription.update(params);
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e;
+        }
+        return subscription;
+    }
+
+    @Override
+    public MultiTaskSubscription onUpdateTaskSubscription(TaskSubscriptionParams params, ServerCallContext context)
+            throws A2AError {
+        LOGGER.debug("onUpdateTaskSubscription - id: {}, add: {}, remove: {}", params.id(), params.add(), params.remove());
+        String id = params.id();
+        if (id == null) {
+            throw new InvalidParamsError("Missing subscription ID");
+        }
+        // Subscriptions are looked up per user, so they cannot be changed by anyone else
+        MultiTaskSubscription subscription = taskSubscriptions.get(
+                new TaskSubscriptionKey(context.getUser().getUsername(), id));
+        if (subscription == null) {
+            throw new InvalidParamsError("Subscription '" + id + "' not found");
+        }
+        subscription.update(params);
+        return subscription;
+    }
+
     @Override
     public ListTaskPushNotificationConfigsResult onListTaskPushNotificationConfigs(
             ListTaskPushNotificationConfigsParams params, ServerCallContext context) throws A2AError {
@@ -922,13 +1183,17 @@ public class DefaultRequestHandler implements RequestHandler {
      * eliminating cascading delays when Vert.x worker threads are busy.
      *
      * @param doneCallback Callback to invoke when agent completes - MUST be added before starting CompletableFuture
+     * @param permit Admission of the execution, released when the agent completes
      */
-    private EnhancedRunnable registerAndExecuteAgentAsync(String taskId, RequestContext requestContext, EventQueue queue, EnhancedRunnable.DoneCallback doneCallback) {
+    private EnhancedRunnable registerAndExecuteAgentAsync(String taskId, RequestContext requestContext, EventQueue queue,
+                                                          EnhancedRunnable.DoneCallback doneCallback,
+                                                          AdmissionController.Permit permit) {
         LOGGER.debug("Registering agent execution for task {}, runningAgents.size() before: {}", taskId, runningAgents.size());
         logThreadStats("AGENT START");
         EnhancedRunnable runnable = new EnhancedRunnable() {
             @Override
             public void run() {
+                permit.started();
                 LOGGER.debug("Agent execution starting for task {}", taskId);
                 AgentEmitter emitter = new AgentEmitter(requestContext, queue);
                 try {
@@ -969,8 +1234,21 @@ public class DefaultRequestHandler implements RequestHandler {
                 : null;
         Runnable wrappedRunnable = wrapper != null ? wrapper.apply(runnable) : runnable;
 
-        CompletableFuture<Void> cf = CompletableFuture.runAsync(wrappedRunnable, executor)
+        permit.submitted();
+        CompletableFuture<Void> agentRun;
+        try {
+            agentRun = CompletableFuture.runAsync(wrappedRunnable, executor);
+        } catch (RejectedExecutionException e) {
+            // Admission control normally rejects before the executor is saturated
+            LOGGER.warn("Agent executor rejected execution for task {}", taskId);
+            permit.release();
+            queue.close(true);
+            throw new ServerOverloadedError("Server overloaded: agent executor is saturated",
+                    admissionController.getRetryAfterSeconds());
+        }
+        CompletableFuture<Void> cf = agentRun
                 .whenComplete((v, err) -> {
+                    permit.release();
                     if (err != null) {
                         LOGGER.error("Agent execution failed for task {}", taskId, err);
                         runnable.setError(err);
@@ -1095,6 +1373,17 @@ public class DefaultRequestHandler implements RequestHandler {
         }
     }
 
+    @Override
+    public boolean isNonBlockingTaskRead() {
+        return taskStore.isNonBlocking();
+    }
+
+    @Override
+    public boolean isNonBlockingPushNotificationConfigRead() {
+        // Reads also look up the task; without a config store they fail immediately
+        return taskStore.isNonBlocking() && (pushConfigStore == null || pushConfigStore.isNonBlocking());
+    }
+
     private @Nullable Task validateRequestedTask(MessageSendParams params, ServerCallContext context) throws A2AError {
         String requestedTaskId = params.message().taskId();
         if (requestedTaskId == null) {
@@ -1206,5 +1495,7 @@ public class DefaultRequestHandler implements RequestHandler {
         THREAD_STATS_LOGGER.debug("=== END THREAD STATS ===");
     }
 
+    private record TaskSubscriptionKey(String user, String id) {}
+
     private record MessageSendSetup(TaskManager taskManager, @Nullable Task task, RequestContext requestContext) {}
 }
@@ -0,0 +1,381 @@
+package org.a2aproject.sdk.server.requesthandlers;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.a2aproject.sdk.server.events.EventQueue;
+import org.a2aproject.sdk.server.events.EventQueueClosedException;
+import org.a2aproject.sdk.server.events.EventQueueItem;
+import org.a2aproject.sdk.server.events.QueueClosedEvent;
+import org.a2aproject.sdk.server.events.QueueManager;
+import org.a2aproject.sdk.server.tasks.TaskStore;
+import org.a2aproject.sdk.server.util.async.AsyncUtils;
+import org.a2aproject.sdk.spec.A2AError;
+import org.a2aproject.sdk.spec.Event;
+import org.a2aproject.sdk.spec.InvalidParamsError;
+import org.a2aproject.sdk.spec.InvalidRequestError;
+import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskNotFoundError;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import mutiny.zero.Tube;
+import mutiny.zero.ZeroPublisher;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single stream carrying the events of a changing set of tasks, for the multi-task
+ * subscription extension.
+ * <p>
+ * Each {@link RequestHandler#onSubscribeToTask} call taps the task's event queue and polls it
+ * from its own event consumer thread, and the transport gives it its own stream. A multi-task
+ * subscription taps the queues of all its tasks and polls them from one event consumer thread,
+ * so watching many tasks takes one stream and one thread. Tasks are added and removed while the
+ * stream is open; every event carries the ID of its task.
+ * </p>
+ * <p>
+ * As with {@link RequestHandler#onSubscribeToTask}, adding a task first delivers its current
+ * state as a {@link Task}, and a task leaves the subscription once it reaches a terminal state.
+ * Unlike it, adding a task that is already in a terminal state is not an error: its final state
+ * is delivered and it is not kept. The stream stays open when no task is left, until the
+ * subscription is closed or the client goes away.
+ * </p>
+ * <p>
+ * Events are only taken from the task queues while the subscriber has outstanding demand, so
+ * the backlog of a slow subscriber stays in the queues of its tasks.
+ * </p>
+ *
+ * @see DefaultRequestHandler#onSubscribeToTasks(TaskSubscriptionParams, org.a2aproject.sdk.server.ServerCallContext)
+ */
+public final class MultiTaskSubscription implements AutoCloseable {
+
+    /**
+     * URI of the multi-task subscription extension.
+     */
+    public static final String EXTENSION_URI = "urn:a2a-java:extension:multi-task-subscription:v1";
+
+    /**
+     * Method opening a subscription stream.
+     */
+    public static final String SUBSCRIBE_TO_TASKS_METHOD = "SubscribeToTasks";
+
+    /**
+     * Method changing the tasks carried by a subscription.
+     */
+    public static final String UPDATE_TASK_SUBSCRIPTION_METHOD = "UpdateTaskSubscription";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiTaskSubscription.class);
+    private static final int NO_WAIT = -1;
+    // Items taken from one task's queue per pass, so a busy task cannot delay the others
+    private static final int MAX_ITEMS_PER_TASK = 16;
+    // The polling loop wakes up at least this often, even if no listener fires
+    private static final int IDLE_WAIT_MILLISECONDS = 500;
+    // Items are only sent against outstanding demand, so the buffer is a safety margin
+    private static final int BUFFER_SIZE = 1024;
+
+    private final @Nullable String id;
+    private final TaskStore taskStore;
+    private final QueueManager queueManager;
+    private final Executor executor;
+    private final int maxTasks;
+    private final Consumer<MultiTaskSubscription> onClose;
+    private final ConcurrentMap<String, SubscribedTask> tasks = new ConcurrentHashMap<>();
+    // Final states of tasks added after they finished, delivered by the polling loop
+    private final Queue<Task> finishedTasks = new ConcurrentLinkedQueue<>();
+    private final Semaphore signal = new Semaphore(0);
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // Delivered to the subscriber instead of completing the stream
+    private volatile @Nullable Throwable failure;
+
+    private static final class SubscribedTask {
+        private final EventQueue queue;
+        // Only accessed by the polling loop, which sends it before the first event of the queue
+        private @Nullable Task snapshot;
+
+        private SubscribedTask(EventQueue queue, Task snapshot) {
+            this.queue = queue;
+            this.snapshot = snapshot;
+        }
+    }
+
+    MultiTaskSubscription(@Nullable String id, TaskStore taskStore, QueueManager queueManager, Executor executor,
+                          int maxTasks, Consumer<MultiTaskSubscription> onClose) {
+        this.id = id;
+        this.taskStore = taskStore;
+        this.queueManager = queueManager;
+        this.executor = executor;
+        this.maxTasks = maxTasks;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Returns the identifier chosen by the client when opening the subscription.
+     *
+     * @return the identifier, or {@code null} if the subscription is only updated on its stream
+     */
+    public @Nullable String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the IDs of the tasks currently carried by the subscription.
+     *
+     * @return a snapshot of the task IDs
+     */
+    public Set<String> getTaskIds() {
+        return Set.copyOf(tasks.keySet());
+    }
+
+    /**
+     * Applies the removals and then the additions of the parameters, in order. If adding a task
+     * fails, the changes applied before it are kept.
+     *
+     * @param params the tasks to add and remove
+     * @throws A2AError if a task to add does not exist, the subscription would carry too many
+     *                  tasks, or the subscription is closed
+     */
+    public void update(TaskSubscriptionParams params) throws A2AError {
+        for (String taskId : params.remove()) {
+            remove(taskId);
+        }
+        for (String taskId : params.add()) {
+            add(taskId);
+        }
+    }
+
+    /**
+     * Adds a task to the subscription. Adding a task that is already carried does nothing.
+     *
+     * @param taskId the ID of the task
+     * @throws A2AError if the task does not exist, the subscription would carry too many tasks,
+     *                  or the subscription is closed
+     */
+    public void add(String taskId) throws A2AError {
+        if (closed.get()) {
+            throw new InvalidRequestError("The subscription is closed");
+        }
+        if (tasks.containsKey(taskId)) {
+            return;
+        }
+        if (tasks.size() >= maxTasks) {
+            throw new InvalidParamsError("A subscription can carry at most " + maxTasks + " tasks");
+        }
+        Task task = taskStore.get(taskId);
+        if (task == null) {
+            throw new TaskNotFoundError();
+        }
+        if (task.status().state().isFinal()) {
+            finishedTasks.add(task);
+            signal.release();
+            return;
+        }
+
+        EventQueue queue = queueManager.tap(taskId);
+        if (queue == null) {
+            // As for SubscribeToTask, recreate the queue of an active task for its future events
+            queue = queueManager.createOrTap(taskId);
+        }
+        SubscribedTask subscribedTask = new SubscribedTask(queue, task);
+        if (tasks.putIfAbsent(taskId, subscribedTask) != null) {
+            // Added concurrently
+            queue.close(true);
+            return;
+        }
+        queue.setItemListener(signal::release);
+        if (closed.get()) {
+            // Closed while adding, after the tasks were released
+            remove(taskId);
+        }
+        signal.release();
+        LOGGER.debug("Subscription {} added task {}, now carrying {} tasks", id, taskId, tasks.size());
+    }
+
+    /**
+     * Removes a task from the subscription; its events that were not delivered yet are dropped.
+     * Removing a task that is not carried does nothing.
+     *
+     * @param taskId the ID of the task
+     */
+    public void remove(String taskId) {
+        SubscribedTask subscribedTask = tasks.remove(taskId);
+        if (subscribedTask != null) {
+            release(subscribedTask, true);
+            LOGGER.debug("Subscription {} removed task {}", id, taskId);
+        }
+    }
+
+    /**
+     * Returns the events of the subscription. The events are polled from the event consumer
+     * executor once a subscriber subscribes, and the stream completes when the subscription is
+     * closed. Cancelling the subscriber's subscription closes the subscription.
+     *
+     * @return the publisher of the events, which accepts a single subscriber
+     * @throws IllegalStateException if the events were already requested
+     */
+    public Flow.Publisher<StreamingEventKind> events() {
+        if (!subscribed.compareAndSet(false, true)) {
+            throw new IllegalStateException("The events of a subscription can only be consumed once");
+        }
+        return ZeroPublisher.create(AsyncUtils.createTubeConfig(BUFFER_SIZE), tube -> {
+            tube.whenCancelled(this::close);
+            tube.whenRequested(n -> signal.release());
+            executor.execute(() -> poll(tube));
+        });
+    }
+
+    /**
+     * Closes the subscription, releasing the queues of its tasks and completing its stream.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (String taskId : tasks.keySet()) {
+            remove(taskId);
+        }
+        signal.release();
+        onClose.accept(this);
+        LOGGER.debug("Subscription {} closed", id);
+    }
+
+    /**
+     * Closes the subscription and fails its stream with the given error, for transports that
+     * cannot answer a failed update on its own, such as a bidirectional gRPC stream.
+     *
+     * @param cause the error delivered to the subscriber of the events
+     */
+    public void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+        close();
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    private void poll(Tube<StreamingEventKind> tube) {
+        try {
+            while (!closed.get()) {
+                boolean received = false;
+                Task finished;
+                while (tube.outstandingRequests() > 0 && (finished = finishedTasks.poll()) != null) {
+                    tube.send(finished);
+                    received = true;
+                }
+                for (Map.Entry<String, SubscribedTask> entry : tasks.entrySet()) {
+                    received |= drain(entry.getKey(), entry.getValue(), tube);
+                }
+                if (!received) {
+                    // An item enqueued or a request made after the pass above released a
+                    // permit, and one after the permits are drained is seen by the next pass
+                    signal.tryAcquire(IDLE_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS);
+                    signal.drainPermits();
+                }
+            }
+            Throwable cause = failure;
+            if (cause != null) {
+                tube.fail(cause);
+            } else {
+                tube.complete();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tube.complete();
+        } catch (Throwable t) {
+            LOGGER.debug("Subscription {} failed", id, t);
+            tube.fail(t);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Delivers the pending events of a task, as far as the subscriber requested them.
+     *
+     * @return whether anything was delivered or the task left the subscription
+     */
+    private boolean drain(String taskId, SubscribedTask subscribedTask, Tube<StreamingEventKind> tube) {
+        boolean received = false;
+        Task snapshot = subscribedTask.snapshot;
+        if (snapshot != null && tube.outstandingRequests() > 0) {
+            subscribedTask.snapshot = null;
+            tube.send(snapshot);
+            received = true;
+        }
+        for (int i = 0; i < MAX_ITEMS_PER_TASK && tube.outstandingRequests() > 0; i++) {
+            EventQueueItem item;
+            try {
+                item = subscribedTask.queue.dequeueEventItem(NO_WAIT);
+            } catch (EventQueueClosedException e) {
+                // The queue was closed, e.g. when the task was finalized on another node
+                end(taskId, subscribedTask);
+                return true;
+            }
+            if (item == null) {
+                return received;
+            }
+            received = true;
+            Event event = item.getEvent();
+            if (event instanceof QueueClosedEvent) {
+                end(taskId, subscribedTask);
+                return true;
+            }
+            if (event instanceof Throwable) {
+                // Errors carry no task ID; the task was failed and persisted before the error
+                // was distributed, so deliver its final state instead
+                Task task = taskStore.get(taskId);
+                if (task != null) {
+                    tube.send(task);
+                }
+                end(taskId, subscribedTask);
+                return true;
+            }
+            if (event instanceof StreamingEventKind streamingEvent) {
+                tube.send(streamingEvent);
+            }
+            if (isFinal(event)) {
+                end(taskId, subscribedTask);
+                return true;
+            }
+        }
+        return received;
+    }
+
+    private void end(String taskId, SubscribedTask subscribedTask) {
+        if (tasks.remove(taskId, subscribedTask)) {
+            release(subscribedTask, false);
+            LOGGER.debug("Task {} left subscription {}", taskId, id);
+        }
+    }
+
+    private static void release(SubscribedTask subscribedTask, boolean immediate) {
+        subscribedTask.queue.setItemListener(null);
+        subscribedTask.queue.close(immediate);
+    }
+
+    private static boolean isFinal(Event event) {
+        if (event instanceof TaskStatusUpdateEvent statusUpdate) {
+            return statusUpdate.isFinal();
+        }
+        if (event instanceof Task task) {
+            return task.status().state().isFinal();
+        }
+        return event instanceof Message;
+    }
+}
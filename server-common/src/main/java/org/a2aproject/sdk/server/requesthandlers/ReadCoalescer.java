@@ -0,0 +1,103 @@
+package org.a2aproject.sdk.server.requesthandlers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Coalesces concurrent reads of the same key into a single load.
+ * <p>
+ * The first caller for a key runs the load on its own thread; callers arriving while it is in
+ * flight wait for it and share its result, or its exception. With a staleness window greater
+ * than zero, the result is also handed to callers arriving up to that long after the load
+ * completed, otherwise the next caller starts a new load.
+ * </p>
+ * <p>
+ * A caller joining a load in flight may miss a write that completed after the load started, so
+ * the staleness of a shared result is bounded by the duration of the load plus the window.
+ * </p>
+ *
+ * @param <K> the key type; keys must implement {@code equals} and {@code hashCode}
+ * @param <V> the result type, shared between callers, so it should be immutable
+ */
+final class ReadCoalescer<K, V extends @Nullable Object> {
+
+    // Completed results are kept until the next load of their key; expired ones are dropped once
+    // there are this many
+    private static final int MAX_COMPLETED_FLIGHTS = 1_000;
+
+    private final long maxStalenessNanos;
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private static final class Flight<V extends @Nullable Object> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile long completedAtNanos;
+
+        private boolean isShareable(long nowNanos, long maxStalenessNanos) {
+            return !result.isDone()
+                    || (!result.isCompletedExceptionally() && nowNanos - completedAtNanos <= maxStalenessNanos);
+        }
+    }
+
+    /**
+     * @param maxStalenessNanos how long a completed result is shared, zero to share loads in
+     *                          flight only
+     */
+    ReadCoalescer(long maxStalenessNanos) {
+        this.maxStalenessNanos = Math.max(0, maxStalenessNanos);
+    }
+
+    /**
+     * Returns the result of the load in flight for the key, or of a recent one within the
+     * staleness window, or runs {@code loader} on the calling thread.
+     *
+     * @param key the key identifying the read
+     * @param loader the load to run if no result can be shared
+     * @return the loaded value
+     */
+    V get(K key, Supplier<? extends V> loader) {
+        Flight<V> own = new Flight<>();
+        Flight<V> flight = flights.compute(key, (k, existing) ->
+                existing != null && existing.isShareable(System.nanoTime(), maxStalenessNanos) ? existing : own);
+        if (flight != own) {
+            return join(flight);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, own);
+            own.result.completeExceptionally(e);
+            throw e;
+        }
+        own.completedAtNanos = System.nanoTime();
+        own.result.complete(value);
+        if (maxStalenessNanos == 0) {
+            flights.remove(key, own);
+        } else if (flights.size() > MAX_COMPLETED_FLIGHTS) {
+            long now = System.nanoTime();
+            flights.values().removeIf(f -> !f.isShareable(now, maxStalenessNanos));
+        }
+        return value;
+    }
+
+    private static <V extends @Nullable Object> V join(Flight<V> flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            // Rethrow the exception of the load as is, so callers see the same errors either way
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.a2aproject.sdk.server.requesthandlers;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
 
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
@@ -18,6 +20,7 @@ import org.a2aproject.sdk.spec.Task;
 import org.a2aproject.sdk.spec.TaskIdParams;
 import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
 import org.a2aproject.sdk.spec.TaskQueryParams;
+import org.a2aproject.sdk.spec.UnsupportedOperationError;
 import org.jspecify.annotations.Nullable;
 
 public interface RequestHandler {
@@ -62,4 +65,101 @@ public interface RequestHandler {
             ServerCallContext context) throws A2AError;
 
     void validateRequestedTask(@Nullable String requestedTaskId) throws A2AError;
+
+    /**
+     * Asynchronous variant of {@link #onMessageSend}, letting transports release the request
+     * thread until the result is ready.
+     * <p>
+     * Errors, including validation errors, are reported by completing the stage exceptionally.
+     * The default implementation runs {@link #onMessageSend} on the calling thread.
+     * </p>
+     *
+     * @param params the message send parameters
+     * @param context the server call context
+     * @return a stage completed with the resulting task or message
+     */
+    default CompletionStage<EventKind> onMessageSendAsync(MessageSendParams params, ServerCallContext context) {
+        try {
+            return CompletableFuture.completedFuture(onMessageSend(params, context));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #onCancelTask}, letting transports release the request
+     * thread while the agent processes the cancellation.
+     * <p>
+     * Errors are reported by completing the stage exceptionally. The default implementation runs
+     * {@link #onCancelTask} on the calling thread.
+     * </p>
+     *
+     * @param params the cancel task parameters
+     * @param context the server call context
+     * @return a stage completed with the canceled task
+     */
+    default CompletionStage<Task> onCancelTaskAsync(CancelTaskParams params, ServerCallContext context) {
+        try {
+            return CompletableFuture.completedFuture(onCancelTask(params, context));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Returns whether {@link #onGetTask} and {@link #onListTasks} complete without blocking, so
+     * that transports may invoke them on an I/O (event loop) thread instead of a worker thread.
+     *
+     * @return {@code true} if task reads never block; {@code false} by default
+     */
+    default boolean isNonBlockingTaskRead() {
+        return false;
+    }
+
+    /**
+     * Returns whether {@link #onGetTaskPushNotificationConfig} and
+     * {@link #onListTaskPushNotificationConfigs} complete without blocking, so that transports may
+     * invoke them on an I/O (event loop) thread instead of a worker thread.
+     *
+     * @return {@code true} if push notification config reads never block; {@code false} by default
+     */
+    default boolean isNonBlockingPushNotificationConfigRead() {
+        return false;
+    }
+
+    /**
+     * Opens a subscription of the multi-task subscription extension, carrying the events of the
+     * tasks in {@link TaskSubscriptionParams#add()} on a single stream.
+     * <p>
+     * A subscription with an {@linkplain TaskSubscriptionParams#id() ID} can be updated with
+     * {@link #onUpdateTaskSubscription} until it is closed; transports whose stream also carries
+     * the updates, such as gRPC, open it without one. The default implementation throws
+     * {@link UnsupportedOperationError}.
+     * </p>
+     *
+     * @param params the subscription ID and the tasks to subscribe to
+     * @param context the server call context
+     * @return the subscription; closing it, or cancelling the subscription to its events,
+     *         releases it
+     * @see MultiTaskSubscription
+     */
+    default MultiTaskSubscription onSubscribeToTasks(TaskSubscriptionParams params, ServerCallContext context)
+            throws A2AError {
+        throw new UnsupportedOperationError();
+    }
+
+    /**
+     * Adds tasks to and removes tasks from a subscription opened by the same user with
+     * {@link #onSubscribeToTasks}. The default implementation throws
+     * {@link UnsupportedOperationError}.
+     *
+     * @param params the subscription ID and the tasks to add and remove
+     * @param context the server call context
+     * @return the updated subscription
+     * @see MultiTaskSubscription#update(TaskSubscriptionParams)
+     */
+    default MultiTaskSubscription onUpdateTaskSubscription(TaskSubscriptionParams params, ServerCallContext context)
+            throws A2AError {
+        throw new UnsupportedOperationError();
+    }
 }
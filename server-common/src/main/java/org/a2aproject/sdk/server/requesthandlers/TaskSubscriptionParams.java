@@ -0,0 +1,109 @@
+package org.a2aproject.sdk.server.requesthandlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import org.a2aproject.sdk.spec.InvalidParamsError;
+import org.a2aproject.sdk.util.Assert;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parameters of the multi-task subscription extension, used both to open a subscription and to
+ * change the set of tasks it carries.
+ * <p>
+ * On the wire, the parameters are a JSON object, or the equivalent {@code google.protobuf.Struct}
+ * for gRPC, with an optional string member {@code id} and optional string array members
+ * {@code add} and {@code remove}.
+ * </p>
+ *
+ * @param id the subscription identifier chosen by the client, required to update the
+ *           subscription from another request; {@code null} for subscriptions updated on their
+ *           own stream
+ * @param add the IDs of the tasks to add to the subscription
+ * @param remove the IDs of the tasks to remove from the subscription
+ * @see MultiTaskSubscription
+ */
+public record TaskSubscriptionParams(@Nullable String id, List<String> add, List<String> remove) {
+
+    private static final String ID = "id";
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String TASK_IDS = "taskIds";
+
+    /**
+     * Compact constructor for validation.
+     *
+     * @param id the subscription identifier
+     * @param add the IDs of the tasks to add
+     * @param remove the IDs of the tasks to remove
+     */
+    public TaskSubscriptionParams {
+        Assert.checkNotNullParam("add", add);
+        Assert.checkNotNullParam("remove", remove);
+        add = List.copyOf(add);
+        remove = List.copyOf(remove);
+    }
+
+    /**
+     * Reads the parameters from their wire form.
+     *
+     * @param struct the parameters
+     * @return the parameters
+     * @throws InvalidParamsError if a member has the wrong type
+     */
+    public static TaskSubscriptionParams fromStruct(Struct struct) throws InvalidParamsError {
+        String id = null;
+        if (struct.containsFields(ID)) {
+            Value value = struct.getFieldsOrThrow(ID);
+            if (value.getKindCase() != Value.KindCase.STRING_VALUE) {
+                throw new InvalidParamsError("'" + ID + "' must be a string");
+            }
+            id = value.getStringValue();
+        }
+        return new TaskSubscriptionParams(id, taskIds(struct, ADD), taskIds(struct, REMOVE));
+    }
+
+    /**
+     * Returns the wire form of the state of a subscription, the result of an update: an object
+     * with the member {@code id}, if the subscription has one, and the string array member
+     * {@code taskIds} of the tasks it carries.
+     *
+     * @param subscription the subscription
+     * @return the state of the subscription
+     */
+    public static Struct toStruct(MultiTaskSubscription subscription) {
+        Struct.Builder builder = Struct.newBuilder();
+        String id = subscription.getId();
+        if (id != null) {
+            builder.putFields(ID, Value.newBuilder().setStringValue(id).build());
+        }
+        ListValue.Builder taskIds = ListValue.newBuilder();
+        for (String taskId : new TreeSet<>(subscription.getTaskIds())) {
+            taskIds.addValues(Value.newBuilder().setStringValue(taskId));
+        }
+        builder.putFields(TASK_IDS, Value.newBuilder().setListValue(taskIds).build());
+        return builder.build();
+    }
+
+    private static List<String> taskIds(Struct struct, String name) {
+        if (!struct.containsFields(name)) {
+            return List.of();
+        }
+        Value value = struct.getFieldsOrThrow(name);
+        if (value.getKindCase() != Value.KindCase.LIST_VALUE) {
+            throw new InvalidParamsError("'" + name + "' must be an array of task IDs");
+        }
+        List<String> taskIds = new ArrayList<>(value.getListValue().getValuesCount());
+        for (Value taskId : value.getListValue().getValuesList()) {
+            if (taskId.getKindCase() != Value.KindCase.STRING_VALUE || taskId.getStringValue().isEmpty()) {
+                throw new InvalidParamsError("'" + name + "' must be an array of task IDs");
+            }
+            taskIds.add(taskId.getStringValue());
+        }
+        return taskIds;
+    }
+}
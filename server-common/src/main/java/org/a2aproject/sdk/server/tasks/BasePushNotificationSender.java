@@ -4,21 +4,31 @@ import static org.a2aproject.sdk.client.http.A2AHttpClient.APPLICATION_JSON;
 import static org.a2aproject.sdk.client.http.A2AHttpClient.CONTENT_TYPE;
 import static org.a2aproject.sdk.common.A2AHeaders.X_A2A_NOTIFICATION_TOKEN;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.a2aproject.sdk.client.http.A2AHttpClient;
 import org.a2aproject.sdk.client.http.A2AHttpClientFactory;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
 import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsParams;
 import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsResult;
 import org.a2aproject.sdk.spec.Message;
@@ -26,16 +36,63 @@ import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.spec.Task;
 import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
 import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
+import org.a2aproject.sdk.spec.TaskState;
 import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Default {@link PushNotificationSender} that POSTs notifications to the webhook URLs stored in the
+ * {@link PushNotificationConfigStore}.
+ *
+ * <h2>Caching</h2>
+ * <ul>
+ *   <li>The push notification configurations and protocol versions of a task are cached, so that
+ *       a stream of events for the same task does not query the store for every event. Cached
+ *       entries are invalidated when the store reports a change (see
+ *       {@link PushNotificationConfigStore#addChangeListener}) and expire after
+ *       {@code a2a.push-notification.config-cache.ttl-ms} to pick up changes made by other
+ *       server instances. Stores that do not support change listeners are never cached.</li>
+ *   <li>A task without configurations is only cached if the store reports every change
+ *       (see {@link PushNotificationConfigStore#reportsAllChanges}), so that a configuration
+ *       registered through another server instance is used for the next event.</li>
+ *   <li>Each event is serialized at most once per protocol version, and the payload is shared by
+ *       all configurations using that version.</li>
+ * </ul>
+ *
+ * <h2>Coalescing</h2>
+ * When {@code a2a.push-notification.coalescing.window-ms} is greater than zero, notifications sent
+ * with {@link #sendNotification} are buffered per task. Once the window elapses, or
+ * {@code a2a.push-notification.coalescing.max-events} events have been buffered, a single
+ * notification carrying the latest {@link Task} snapshot is sent to every configured endpoint.
+ * Final and interrupted states (e.g. {@code INPUT_REQUIRED}) are sent immediately. Events without
+ * a task snapshot, such as messages, are sent as-is after any buffered notification of the task.
+ * Coalesced notifications are sent on a dedicated pool of
+ * {@code a2a.push-notification.coalescing.delivery-threads} threads.
+ * {@link #deliverNotification} is never coalesced, since callers rely on its result.
+ */
 @ApplicationScoped
 public class BasePushNotificationSender implements PushNotificationSender {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BasePushNotificationSender.class);
     public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final Duration DEFAULT_CONFIG_CACHE_TTL = Duration.ofSeconds(5);
+
+    private static final String A2A_PUSH_CONFIG_CACHE_TTL_MS = "a2a.push-notification.config-cache.ttl-ms";
+    private static final String A2A_PUSH_COALESCING_WINDOW_MS = "a2a.push-notification.coalescing.window-ms";
+    private static final String A2A_PUSH_COALESCING_MAX_EVENTS = "a2a.push-notification.coalescing.max-events";
+    private static final String A2A_PUSH_COALESCING_DELIVERY_THREADS = "a2a.push-notification.coalescing.delivery-threads";
+    public static final int DEFAULT_COALESCING_MAX_EVENTS = 100;
+    public static final int DEFAULT_COALESCING_DELIVERY_THREADS = 4;
+    // Upper bound on cached tasks, no entry is added beyond it until some have expired. Entries of finished
+    // tasks are normally dropped when their final event is sent
+    private static final int MAX_CACHED_TASKS = 10_000;
+    // Payload cache key for events serialized with JsonUtil rather than a version-specific formatter
+    private static final String DEFAULT_FORMAT = "";
+
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
 
     // Fields set by constructor injection cannot be final. We need a noargs constructor for
     // Jakarta compatibility, and it seems that making fields set by constructor injection
@@ -44,6 +101,31 @@ public class BasePushNotificationSender implements PushNotificationSender {
     private PushNotificationConfigStore configStore;
     private Map<String, PushNotificationPayloadFormatter> formattersByVersion;
 
+    private final Map<String, TaskPushConfigs> configCache = new ConcurrentHashMap<>();
+    // Incremented on every invalidation, so that a load racing with a config change is not cached
+    private final AtomicLong configCacheGeneration = new AtomicLong();
+    private volatile boolean configCacheEnabled;
+    private volatile boolean cacheEmptyConfigs;
+    private volatile long configCacheTtlNanos = DEFAULT_CONFIG_CACHE_TTL.toNanos();
+    private volatile @Nullable PushNotificationCoalescer coalescer;
+    // Sends the notifications of the coalescer, owned by it
+    private volatile @Nullable ExecutorService coalescerDeliveryExecutor;
+
+    private record TaskPushConfigs(List<TaskPushNotificationConfig> configs,
+                                   Map<String, String> versionsByConfigId,
+                                   long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * An event formatted for one protocol version. A null body without failure means the
+     * formatter chose to skip the notification.
+     */
+    private record Payload(@Nullable String body, boolean failed) {
+    }
 
     /**
      * No-args constructor for CDI proxy creation.
@@ -62,6 +144,7 @@ public class BasePushNotificationSender implements PushNotificationSender {
         this.httpClient = A2AHttpClientFactory.create();
         this.configStore = configStore;
         this.formattersByVersion = Map.of();
+        initConfigCache();
     }
 
     @Inject
@@ -73,12 +156,14 @@ public class BasePushNotificationSender implements PushNotificationSender {
         for (PushNotificationPayloadFormatter f : formatters) {
             this.formattersByVersion.put(f.targetVersion(), f);
         }
+        initConfigCache();
     }
 
     public BasePushNotificationSender(PushNotificationConfigStore configStore, A2AHttpClient httpClient) {
         this.configStore = configStore;
         this.httpClient = httpClient;
         this.formattersByVersion = Map.of();
+        initConfigCache();
     }
 
     public BasePushNotificationSender(PushNotificationConfigStore configStore, A2AHttpClient httpClient,
@@ -89,33 +174,140 @@ public class BasePushNotificationSender implements PushNotificationSender {
         for (PushNotificationPayloadFormatter f : formatters) {
             formattersByVersion.put(f.targetVersion(), f);
         }
+        initConfigCache();
+    }
+
+    private void initConfigCache() {
+        configCacheEnabled = configStore.addChangeListener(this::invalidateConfigs);
+        cacheEmptyConfigs = configStore.reportsAllChanges();
+    }
+
+    @PostConstruct
+    void initConfig() {
+        A2AConfigProvider config = configProvider;
+        if (config != null) {
+            config.getOptionalValue(A2A_PUSH_CONFIG_CACHE_TTL_MS)
+                    .ifPresent(ttl -> setConfigCacheTtl(Duration.ofMillis(Long.parseLong(ttl))));
+            long windowMs = config.getOptionalValue(A2A_PUSH_COALESCING_WINDOW_MS).map(Long::parseLong).orElse(0L);
+            int maxEvents = config.getOptionalValue(A2A_PUSH_COALESCING_MAX_EVENTS).map(Integer::parseInt)
+                    .orElse(DEFAULT_COALESCING_MAX_EVENTS);
+            int deliveryThreads = config.getOptionalValue(A2A_PUSH_COALESCING_DELIVERY_THREADS)
+                    .map(Integer::parseInt).orElse(DEFAULT_COALESCING_DELIVERY_THREADS);
+            setCoalescing(Duration.ofMillis(windowMs), maxEvents, deliveryThreads);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        setCoalescing(Duration.ZERO, DEFAULT_COALESCING_MAX_EVENTS);
+    }
+
+    /**
+     * Configures coalescing of notifications sent with {@link #sendNotification}.
+     * A zero window disables coalescing; notifications already buffered are sent.
+     *
+     * @param window how long events of a task are buffered before a notification is sent
+     * @param maxEvents the number of buffered events of a task that triggers a notification
+     */
+    public void setCoalescing(Duration window, int maxEvents) {
+        setCoalescing(window, maxEvents, DEFAULT_COALESCING_DELIVERY_THREADS);
+    }
+
+    /**
+     * Configures coalescing of notifications sent with {@link #sendNotification}.
+     * A zero window disables coalescing; notifications already buffered are sent.
+     *
+     * @param window how long events of a task are buffered before a notification is sent
+     * @param maxEvents the number of buffered events of a task that triggers a notification
+     * @param deliveryThreads the number of threads sending coalesced notifications
+     */
+    public synchronized void setCoalescing(Duration window, int maxEvents, int deliveryThreads) {
+        PushNotificationCoalescer previous = coalescer;
+        ExecutorService previousExecutor = coalescerDeliveryExecutor;
+        if (!window.isZero() && !window.isNegative()) {
+            LOGGER.debug("Coalescing push notifications with window {}, max events {} and {} delivery threads",
+                    window, maxEvents, deliveryThreads);
+            // Sending blocks until every endpoint has answered, so it gets its own bounded pool
+            // rather than a shared one such as the common pool
+            ExecutorService deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, new DeliveryThreadFactory());
+            coalescerDeliveryExecutor = deliveryExecutor;
+            coalescer = new PushNotificationCoalescer(window, maxEvents, deliveryExecutor,
+                    snapshot -> deliverNotification(snapshot, snapshot));
+        } else {
+            coalescerDeliveryExecutor = null;
+            coalescer = null;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+        if (previousExecutor != null) {
+            previousExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Sets how long the push notification configurations of a task are cached.
+     * A zero duration disables caching.
+     *
+     * @param ttl the time to live of cached configurations
+     */
+    public void setConfigCacheTtl(Duration ttl) {
+        this.configCacheTtlNanos = ttl.toNanos();
+        configCache.clear();
     }
 
     @Override
     public void sendNotification(StreamingEventKind event, @Nullable Task taskSnapshot) {
+        PushNotificationCoalescer currentCoalescer = coalescer;
+        String taskId = currentCoalescer != null ? extractTaskId(event) : null;
+        if (currentCoalescer == null || taskId == null) {
+            deliverNotification(event, taskSnapshot);
+            return;
+        }
+
+        if (taskSnapshot != null && taskId.equals(taskSnapshot.id())) {
+            TaskState state = taskSnapshot.status().state();
+            currentCoalescer.submit(taskId, taskSnapshot, state.isFinal() || state.isInterrupted());
+        } else {
+            currentCoalescer.flushThen(taskId, () -> deliverNotification(event, taskSnapshot));
+        }
+    }
+
+    @Override
+    public boolean deliverNotification(StreamingEventKind event, @Nullable Task taskSnapshot) {
         String taskId = extractTaskId(event);
         if (taskId == null) {
             LOGGER.warn("Cannot send push notification: event does not contain taskId");
-            return;
+            return true;
         }
 
-        List<TaskPushNotificationConfig> configs = new ArrayList<>();
-        String nextPageToken = null;
-        do {
-          ListTaskPushNotificationConfigsResult pageResult = configStore.getInfo(new ListTaskPushNotificationConfigsParams(taskId,
-              DEFAULT_PAGE_SIZE, nextPageToken == null ? "" : nextPageToken, ""));
-          if (!pageResult.configs().isEmpty()) {
-            configs.addAll(pageResult.configs());
-          }
-          nextPageToken = pageResult.nextPageToken();
-        } while (nextPageToken != null);
+        TaskPushConfigs taskConfigs = getConfigs(taskId);
+        if (isFinalEvent(event)) {
+            // No further notifications are expected for this task
+            configCache.remove(taskId);
+        }
+        if (taskConfigs.configs().isEmpty()) {
+            return true;
+        }
 
-        Map<String, String> versionsByConfigId = configStore.getProtocolVersions(taskId);
+        // Serialize the event at most once per protocol version and share the payload between configs
+        Map<String, Payload> payloadsByFormat = new HashMap<>();
+        List<CompletableFuture<Boolean>> dispatchResults = new ArrayList<>(taskConfigs.configs().size());
+        for (TaskPushNotificationConfig pushConfig : taskConfigs.configs()) {
+            String version = taskConfigs.versionsByConfigId().get(pushConfig.id());
+            PushNotificationPayloadFormatter formatter = version != null ? formattersByVersion.get(version) : null;
+            Payload payload = payloadsByFormat.computeIfAbsent(formatter != null ? version : DEFAULT_FORMAT,
+                    key -> formatPayload(event, taskSnapshot, formatter));
+            if (payload.failed()) {
+                dispatchResults.add(CompletableFuture.completedFuture(false));
+            } else if (payload.body() == null) {
+                LOGGER.debug("Formatter for version {} returned null, skipping notification for {}",
+                        version, pushConfig.url());
+            } else {
+                dispatchResults.add(dispatch(payload.body(), pushConfig));
+            }
+        }
 
-        List<CompletableFuture<Boolean>> dispatchResults = configs
-                .stream()
-                .map(pushConfig -> dispatch(event, taskSnapshot, pushConfig, versionsByConfigId))
-                .toList();
         CompletableFuture<Void> allFutures = CompletableFuture.allOf(dispatchResults.toArray(new CompletableFuture[0]));
         CompletableFuture<Boolean> dispatchResult = allFutures.thenApply(v -> dispatchResults.stream()
                 .allMatch(CompletableFuture::join));
@@ -124,11 +316,18 @@ public class BasePushNotificationSender implements PushNotificationSender {
             if (!allSent) {
                 LOGGER.warn("Some push notifications failed to send for taskId: " + taskId);
             }
+            return allSent;
         } catch (InterruptedException | ExecutionException e) {
             LOGGER.warn("Some push notifications failed to send for taskId " + taskId + ": {}", e.getMessage(), e);
+            return false;
         }
     }
 
+    @Override
+    public boolean hasPushNotificationConfigs(String taskId) {
+        return !getConfigs(taskId).configs().isEmpty();
+    }
+
     /**
      * Extracts the task ID from a StreamingEventKind event.
      *
@@ -151,46 +350,97 @@ public class BasePushNotificationSender implements PushNotificationSender {
         throw new IllegalStateException("Unknown StreamingEventKind: " + event);
     }
 
-    private CompletableFuture<Boolean> dispatch(StreamingEventKind event,
-                                                 @Nullable Task taskSnapshot,
-                                                 TaskPushNotificationConfig pushInfo,
-                                                 Map<String, String> versionsByConfigId) {
-        return CompletableFuture.supplyAsync(() -> dispatchNotification(event, taskSnapshot, pushInfo, versionsByConfigId));
+    private TaskPushConfigs getConfigs(String taskId) {
+        long ttlNanos = configCacheTtlNanos;
+        boolean useCache = configCacheEnabled && ttlNanos > 0;
+        if (useCache) {
+            TaskPushConfigs cached = configCache.get(taskId);
+            if (cached != null) {
+                if (!cached.isExpired(System.nanoTime())) {
+                    return cached;
+                }
+                configCache.remove(taskId, cached);
+            }
+        }
+
+        long generation = configCacheGeneration.get();
+        TaskPushConfigs loaded = loadConfigs(taskId, ttlNanos);
+        // Configs registered through another instance are not reported, so only a store that reports
+        // every change may keep a task without configs cached
+        if (useCache && (cacheEmptyConfigs || !loaded.configs().isEmpty()) && hasCacheCapacity()) {
+            configCache.put(taskId, loaded);
+            if (configCacheGeneration.get() != generation) {
+                // A config changed while loading - the loaded value may be stale
+                configCache.remove(taskId, loaded);
+            }
+        }
+        return loaded;
     }
 
-    private boolean dispatchNotification(StreamingEventKind event,
-                                          @Nullable Task taskSnapshot,
-                                          TaskPushNotificationConfig pushInfo,
-                                          Map<String, String> versionsByConfigId) {
-        String url = pushInfo.url();
-        String token = pushInfo.token();
+    private boolean hasCacheCapacity() {
+        if (configCache.size() < MAX_CACHED_TASKS) {
+            return true;
+        }
+        long now = System.nanoTime();
+        configCache.values().removeIf(cached -> cached.isExpired(now));
+        return configCache.size() < MAX_CACHED_TASKS;
+    }
 
-        String version = versionsByConfigId.get(pushInfo.id());
-        PushNotificationPayloadFormatter formatter = version != null
-                ? formattersByVersion.get(version) : null;
+    private TaskPushConfigs loadConfigs(String taskId, long ttlNanos) {
+        List<TaskPushNotificationConfig> configs = new ArrayList<>();
+        String nextPageToken = null;
+        do {
+          ListTaskPushNotificationConfigsResult pageResult = configStore.getInfo(new ListTaskPushNotificationConfigsParams(taskId,
+              DEFAULT_PAGE_SIZE, nextPageToken == null ? "" : nextPageToken, ""));
+          if (!pageResult.configs().isEmpty()) {
+            configs.addAll(pageResult.configs());
+          }
+          nextPageToken = pageResult.nextPageToken();
+        } while (nextPageToken != null);
+
+        // Only needed to pick a formatter, so skip the lookup for tasks without configs
+        Map<String, String> versionsByConfigId = configs.isEmpty() ? Map.of() : configStore.getProtocolVersions(taskId);
+        return new TaskPushConfigs(List.copyOf(configs), Map.copyOf(versionsByConfigId), System.nanoTime() + ttlNanos);
+    }
+
+    private void invalidateConfigs(String taskId) {
+        configCacheGeneration.incrementAndGet();
+        configCache.remove(taskId);
+    }
+
+    private static boolean isFinalEvent(StreamingEventKind event) {
+        if (event instanceof Task task) {
+            return task.status().state().isFinal();
+        }
+        return event instanceof TaskStatusUpdateEvent statusUpdate && statusUpdate.isFinal();
+    }
 
-        String body;
+    private Payload formatPayload(StreamingEventKind event, @Nullable Task taskSnapshot,
+                                  @Nullable PushNotificationPayloadFormatter formatter) {
         if (formatter != null) {
             try {
-                body = formatter.formatPayload(event, taskSnapshot);
+                return new Payload(formatter.formatPayload(event, taskSnapshot), false);
             } catch (Throwable throwable) {
                 LOGGER.error("Error formatting payload with {} formatter: {}",
-                        version, throwable.getMessage(), throwable);
-                return false;
-            }
-            if (body == null) {
-                LOGGER.debug("Formatter for version {} returned null, skipping notification for {}",
-                        version, url);
-                return true;
-            }
-        } else {
-            try {
-                body = JsonUtil.toJson(event);
-            } catch (Throwable throwable) {
-                LOGGER.error("Error serializing StreamingEventKind to JSON: {}", throwable.getMessage(), throwable);
-                return false;
+                        formatter.targetVersion(), throwable.getMessage(), throwable);
+                return new Payload(null, true);
             }
         }
+        try {
+            return new Payload(JsonUtil.toJson(event), false);
+        } catch (Throwable throwable) {
+            LOGGER.error("Error serializing StreamingEventKind to JSON: {}", throwable.getMessage(), throwable);
+            return new Payload(null, true);
+        }
+    }
+
+    private CompletableFuture<Boolean> dispatch(String body, TaskPushNotificationConfig pushInfo) {
+        return CompletableFuture.supplyAsync(() -> dispatchNotification(body, pushInfo));
+    }
+
+    private boolean dispatchNotification(String body, TaskPushNotificationConfig pushInfo) {
+        String url = pushInfo.url();
+        String token = pushInfo.token();
 
         A2AHttpClient.PostBuilder postBuilder = httpClient.createPost();
         if (token != null && !token.isBlank()) {
@@ -213,4 +463,15 @@ public class BasePushNotificationSender implements PushNotificationSender {
         }
         return true;
     }
+
+    private static class DeliveryThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "a2a-push-notification-delivery-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
 }
@@ -6,6 +6,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -19,13 +23,24 @@ import org.jspecify.annotations.Nullable;
 /**
  * In-memory implementation of the PushNotificationConfigStore interface.
  *
- * Stores push notification configurations in memory
+ * Stores push notification configurations in memory, indexed by task ID. The configurations and
+ * protocol versions of each task are held in an immutable snapshot that is replaced on every
+ * update, so lookups for a task never lock and do not depend on the number of other tasks.
  */
 @ApplicationScoped
 public class InMemoryPushNotificationConfigStore implements PushNotificationConfigStore {
 
-    private final Map<String, List<TaskPushNotificationConfig>> pushNotificationInfos = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String, String> protocolVersions = Collections.synchronizedMap(new HashMap<>());
+    /**
+     * Immutable snapshot of the push notification configurations of a task.
+     *
+     * @param configs the configurations, in insertion order
+     * @param protocolVersions the protocol versions, keyed by configuration ID
+     */
+    private record TaskConfigs(List<TaskPushNotificationConfig> configs, Map<String, String> protocolVersions) {
+    }
+
+    private final ConcurrentMap<String, TaskConfigs> configsByTaskId = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
 
     @Inject
     public InMemoryPushNotificationConfigStore() {
@@ -33,40 +48,52 @@ public class InMemoryPushNotificationConfigStore implements PushNotificationConf
 
     @Override
     public TaskPushNotificationConfig setInfo(TaskPushNotificationConfig notificationConfig) {
+        return updateInfo(notificationConfig, null);
+    }
+
+    @Override
+    public TaskPushNotificationConfig setInfo(TaskPushNotificationConfig config, @Nullable String protocolVersion) {
+        return updateInfo(config, PushNotificationConfigStore.resolveProtocolVersion(protocolVersion));
+    }
+
+    // A null protocolVersion keeps the version previously stored for the config, if any
+    private TaskPushNotificationConfig updateInfo(TaskPushNotificationConfig notificationConfig,
+                                                  @Nullable String protocolVersion) {
         String taskId = Assert.checkNotNullParam("taskId", notificationConfig.taskId());
-        List<TaskPushNotificationConfig> notificationConfigList = pushNotificationInfos.getOrDefault(taskId, new ArrayList<>());
         TaskPushNotificationConfig.Builder builder = TaskPushNotificationConfig.builder(notificationConfig);
         if (notificationConfig.id().isEmpty()) {
             builder.id(taskId);
         }
-        notificationConfig = builder.build();
-
-        Iterator<TaskPushNotificationConfig> notificationConfigIterator = notificationConfigList.iterator();
-        while (notificationConfigIterator.hasNext()) {
-            TaskPushNotificationConfig config = notificationConfigIterator.next();
-            if (config.id() != null  && config.id().equals(notificationConfig.id())) {
-                notificationConfigIterator.remove();
-                break;
-            }
-        }
-        notificationConfigList.add(notificationConfig);
-        pushNotificationInfos.put(taskId, notificationConfigList);
-        return notificationConfig;
-    }
+        TaskPushNotificationConfig newConfig = builder.build();
 
-    @Override
-    public TaskPushNotificationConfig setInfo(TaskPushNotificationConfig config, @Nullable String protocolVersion) {
-        TaskPushNotificationConfig result = setInfo(config);
-        protocolVersions.put(result.taskId() + ":" + result.id(), PushNotificationConfigStore.resolveProtocolVersion(protocolVersion));
-        return result;
+        configsByTaskId.compute(taskId, (id, current) -> {
+            List<TaskPushNotificationConfig> configs = new ArrayList<>();
+            Map<String, String> versions = new HashMap<>();
+            if (current != null) {
+                for (TaskPushNotificationConfig config : current.configs()) {
+                    if (!newConfig.id().equals(config.id())) {
+                        configs.add(config);
+                    }
+                }
+                versions.putAll(current.protocolVersions());
+            }
+            configs.add(newConfig);
+            if (protocolVersion != null) {
+                versions.put(newConfig.id(), protocolVersion);
+            }
+            return new TaskConfigs(List.copyOf(configs), Map.copyOf(versions));
+        });
+        notifyChanged(taskId);
+        return newConfig;
     }
 
     @Override
     public ListTaskPushNotificationConfigsResult getInfo(ListTaskPushNotificationConfigsParams params) {
-        List<TaskPushNotificationConfig> configs = pushNotificationInfos.get(params.id());
-        if (configs == null) {
+        TaskConfigs taskConfigs = configsByTaskId.get(params.id());
+        if (taskConfigs == null) {
             return new ListTaskPushNotificationConfigsResult(Collections.emptyList());
         }
+        List<TaskPushNotificationConfig> configs = taskConfigs.configs();
         if (params.pageSize() <= 0) {
             return new ListTaskPushNotificationConfigsResult(new ArrayList<>(configs), null);
         }
@@ -84,6 +111,11 @@ public class InMemoryPushNotificationConfigStore implements PushNotificationConf
         return new ListTaskPushNotificationConfigsResult(new ArrayList<>(configs.subList(0, params.pageSize())), newToken);
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
     private int findFirstIndex(List<TaskPushNotificationConfig> configs, String id) {
         //find first index
         Iterator<TaskPushNotificationConfig> iter = configs.iterator();
@@ -102,40 +134,58 @@ public class InMemoryPushNotificationConfigStore implements PushNotificationConf
         if (configId == null) {
             configId = taskId;
         }
-        List<TaskPushNotificationConfig> notificationConfigList = pushNotificationInfos.get(taskId);
-        if (notificationConfigList == null || notificationConfigList.isEmpty()) {
+        String deletedId = configId;
+        if (!configsByTaskId.containsKey(taskId)) {
             return;
         }
 
-        Iterator<TaskPushNotificationConfig> notificationConfigIterator = notificationConfigList.iterator();
-        while (notificationConfigIterator.hasNext()) {
-            TaskPushNotificationConfig config = notificationConfigIterator.next();
-            if (configId.equals(config.id())) {
-                notificationConfigIterator.remove();
-                break;
+        configsByTaskId.computeIfPresent(taskId, (id, current) -> {
+            List<TaskPushNotificationConfig> configs = new ArrayList<>(current.configs().size());
+            for (TaskPushNotificationConfig config : current.configs()) {
+                if (!deletedId.equals(config.id())) {
+                    configs.add(config);
+                }
             }
-        }
-        protocolVersions.remove(taskId + ":" + configId);
-        if (notificationConfigList.isEmpty()) {
-            pushNotificationInfos.remove(taskId);
-        }
+            if (configs.isEmpty()) {
+                return null;
+            }
+            Map<String, String> versions = new HashMap<>(current.protocolVersions());
+            versions.remove(deletedId);
+            return new TaskConfigs(List.copyOf(configs), Map.copyOf(versions));
+        });
+        notifyChanged(taskId);
     }
 
     @Override
     public String getProtocolVersion(String taskId, String configId) {
-        String version = protocolVersions.get(taskId + ":" + configId);
+        TaskConfigs taskConfigs = configsByTaskId.get(taskId);
+        String version = taskConfigs != null ? taskConfigs.protocolVersions().get(configId) : null;
         return PushNotificationConfigStore.resolveProtocolVersion(version);
     }
 
     @Override
     public Map<String, String> getProtocolVersions(String taskId) {
-        String prefix = taskId + ":";
-        Map<String, String> result = new HashMap<>();
-        protocolVersions.forEach((key, version) -> {
-            if (key.startsWith(prefix)) {
-                result.put(key.substring(prefix.length()), version);
-            }
-        });
-        return result;
+        TaskConfigs taskConfigs = configsByTaskId.get(taskId);
+        return taskConfigs != null ? taskConfigs.protocolVersions() : Map.of();
+    }
+
+    @Override
+    public boolean addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+        return true;
+    }
+
+    /**
+     * The configs are only held in memory, so every change goes through this instance.
+     */
+    @Override
+    public boolean reportsAllChanges() {
+        return true;
+    }
+
+    private void notifyChanged(String taskId) {
+        for (Consumer<String> listener : changeListeners) {
+            listener.accept(taskId);
+        }
     }
 }
@@ -0,0 +1,102 @@
+package org.a2aproject.sdk.server.tasks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-memory implementation of {@link PushNotificationOutbox}.
+ * <p>
+ * Entries are lost on application restart, so this implementation does not make push
+ * notifications durable. It exists so that outbox mode and {@link PushNotificationOutboxRelay}
+ * can be exercised without a database, e.g. in tests. For durable delivery use the JPA
+ * implementation in extras/task-store-database-jpa.
+ * </p>
+ * <p>
+ * Delivered entries and entries that were given up on are removed immediately.
+ * </p>
+ */
+@ApplicationScoped
+public class InMemoryPushNotificationOutbox implements PushNotificationOutbox {
+
+    private final Map<Long, MutableEntry> entries = new TreeMap<>();
+    private long nextId = 1;
+
+    @Override
+    public synchronized void append(String taskId, StreamingEventKind event, @Nullable Task taskSnapshot) {
+        long id = nextId++;
+        entries.put(id, new MutableEntry(id, taskId, event, taskSnapshot));
+    }
+
+    @Override
+    public synchronized List<PushNotificationOutboxEntry> claim(int maxEntries, Duration lease) {
+        Instant now = Instant.now();
+        List<PushNotificationOutboxEntry> claimed = new ArrayList<>();
+        for (MutableEntry entry : entries.values()) {
+            if (claimed.size() >= maxEntries) {
+                break;
+            }
+            if (!entry.nextAttemptAt.isAfter(now)) {
+                entry.nextAttemptAt = now.plus(lease);
+                claimed.add(entry.toEntry());
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized void markDelivered(long entryId) {
+        entries.remove(entryId);
+    }
+
+    @Override
+    public synchronized void markFailed(long entryId, @Nullable Instant nextAttemptAt) {
+        if (nextAttemptAt == null) {
+            entries.remove(entryId);
+            return;
+        }
+        MutableEntry entry = entries.get(entryId);
+        if (entry != null) {
+            entry.attempts++;
+            entry.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    /**
+     * Returns the number of entries that have not been delivered or given up on yet.
+     *
+     * @return the number of pending entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class MutableEntry {
+        private final long id;
+        private final String taskId;
+        private final StreamingEventKind event;
+        private final @Nullable Task taskSnapshot;
+        private int attempts;
+        private Instant nextAttemptAt = Instant.EPOCH;
+
+        MutableEntry(long id, String taskId, StreamingEventKind event, @Nullable Task taskSnapshot) {
+            this.id = id;
+            this.taskId = taskId;
+            this.event = event;
+            this.taskSnapshot = taskSnapshot;
+        }
+
+        PushNotificationOutboxEntry toEntry() {
+            return new PushNotificationOutboxEntry(id, taskId, event, taskSnapshot, attempts);
+        }
+    }
+}
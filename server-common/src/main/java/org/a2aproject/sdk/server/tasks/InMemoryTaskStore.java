@@ -217,6 +217,11 @@ public class InMemoryTaskStore implements TaskStore, TaskStateProvider {
                 .build();
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
     @Override
     public boolean isTaskActive(String taskId) {
         Task task = tasks.get(taskId);
@@ -0,0 +1,203 @@
+package org.a2aproject.sdk.server.tasks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.a2aproject.sdk.spec.Task;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers push notifications per task and sends a single notification carrying the latest task
+ * snapshot once the time window elapses or the maximum number of events has been buffered.
+ * <p>
+ * A single background thread only decides when the notifications of a task are due. Sending them
+ * is handed off to the delivery executor, so a slow endpoint only delays the notifications of its
+ * own tasks. The notifications of a task are chained, so they are still sent one at a time in the
+ * order they were submitted. Since every configured endpoint of a task receives the same events,
+ * buffering per task is equivalent to buffering per (endpoint, task) pair.
+ * </p>
+ */
+class PushNotificationCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PushNotificationCoalescer.class);
+    private static final CompletableFuture<Void> NO_DELIVERY = CompletableFuture.completedFuture(null);
+
+    private final Duration window;
+    private final int maxEvents;
+    private final Executor deliveryExecutor;
+    private final Consumer<Task> snapshotSender;
+    private final ScheduledExecutorService scheduler;
+
+    // Guarded by this
+    private final Map<String, PendingNotification> pending = new HashMap<>();
+    // Last notification of each task being sent or waiting to be sent, guarded by this
+    private final Map<String, CompletableFuture<Void>> deliveries = new HashMap<>();
+    // Guarded by this
+    private boolean closed;
+
+    private static final class PendingNotification {
+        private Task snapshot;
+        private int events;
+        private @Nullable ScheduledFuture<?> timer;
+
+        private PendingNotification(Task snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    PushNotificationCoalescer(Duration window, int maxEvents, Executor deliveryExecutor,
+                              Consumer<Task> snapshotSender) {
+        this.window = window;
+        this.maxEvents = maxEvents;
+        this.deliveryExecutor = deliveryExecutor;
+        this.snapshotSender = snapshotSender;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "a2a-push-notification-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Records an event for the task. The notification is sent immediately if {@code flushNow} is
+     * true or the maximum number of buffered events has been reached, otherwise when the window
+     * started by the first buffered event elapses.
+     *
+     * @param taskId the task ID
+     * @param snapshot the task snapshot after the event was applied
+     * @param flushNow whether to send the notification without waiting for the window to elapse
+     */
+    synchronized void submit(String taskId, Task snapshot, boolean flushNow) {
+        PendingNotification notification = pending.get(taskId);
+        if (notification == null) {
+            notification = new PendingNotification(snapshot);
+            pending.put(taskId, notification);
+        }
+        notification.snapshot = snapshot;
+        notification.events++;
+
+        if (flushNow || notification.events >= maxEvents || closed) {
+            Task latest = take(taskId);
+            if (latest != null) {
+                execute(taskId, () -> send(latest));
+            }
+        } else if (notification.timer == null) {
+            notification.timer = scheduler.schedule(() -> flush(taskId), window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends any buffered notification for the task, followed by the given notification which
+     * cannot be coalesced.
+     *
+     * @param taskId the task ID
+     * @param notification sends the notification that cannot be coalesced
+     */
+    synchronized void flushThen(String taskId, Runnable notification) {
+        Task latest = take(taskId);
+        execute(taskId, () -> {
+            if (latest != null) {
+                send(latest);
+            }
+            try {
+                notification.run();
+            } catch (Throwable t) {
+                LOGGER.error("Error sending push notification for task {}", taskId, t);
+            }
+        });
+    }
+
+    /**
+     * Sends all buffered notifications, stops the background thread and waits for the
+     * notifications being sent.
+     */
+    void close() {
+        CompletableFuture<Void> remaining;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            scheduler.shutdownNow();
+            for (String taskId : new ArrayList<>(pending.keySet())) {
+                Task latest = take(taskId);
+                if (latest != null) {
+                    execute(taskId, () -> send(latest));
+                }
+            }
+            remaining = CompletableFuture.allOf(deliveries.values().toArray(new CompletableFuture[0]));
+        }
+        try {
+            remaining.get(10, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Timed out sending buffered push notifications on shutdown");
+        } catch (ExecutionException e) {
+            LOGGER.warn("Error sending buffered push notifications on shutdown", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    private synchronized void flush(String taskId) {
+        Task latest = take(taskId);
+        if (latest != null) {
+            execute(taskId, () -> send(latest));
+        }
+    }
+
+    // Must be called while holding the lock
+    private @Nullable Task take(String taskId) {
+        PendingNotification notification = pending.remove(taskId);
+        if (notification == null) {
+            return null;
+        }
+        if (notification.timer != null) {
+            notification.timer.cancel(false);
+        }
+        return notification.snapshot;
+    }
+
+    // Must be called while holding the lock
+    private void execute(String taskId, Runnable runnable) {
+        CompletableFuture<Void> previous = deliveries.getOrDefault(taskId, NO_DELIVERY);
+        // Runs even if the previous notification could not be sent, so one failure does not stall the task
+        CompletableFuture<Void> delivery = previous.handleAsync((result, error) -> {
+            runnable.run();
+            return null;
+        }, deliveryExecutor);
+        deliveries.put(taskId, delivery);
+        delivery.whenComplete((result, error) -> {
+            if (error != null) {
+                LOGGER.error("Error sending coalesced push notification for task {}", taskId, error);
+            }
+            synchronized (this) {
+                deliveries.remove(taskId, delivery);
+            }
+        });
+    }
+
+    private void send(Task snapshot) {
+        try {
+            snapshotSender.accept(snapshot);
+        } catch (Throwable t) {
+            LOGGER.error("Error sending coalesced push notification for task {}", snapshot.id(), t);
+        }
+    }
+}
@@ -131,6 +131,17 @@ public interface PushNotificationConfigStore {
      */
     ListTaskPushNotificationConfigsResult getInfo(ListTaskPushNotificationConfigsParams params);
 
+    /**
+     * Returns whether {@link #getInfo(ListTaskPushNotificationConfigsParams)} completes without
+     * blocking the calling thread, so that transports may serve push notification config reads
+     * on an I/O (event loop) thread. Defaults to {@code false}.
+     *
+     * @return {@code true} if reads never block
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
     /**
      * Deletes a push notification configuration for a task.
      * <p>
@@ -164,4 +175,42 @@ public interface PushNotificationConfigStore {
         return java.util.Map.of();
     }
 
+    /**
+     * Registers a listener that is called with the task ID whenever the push notification
+     * configurations of a task are changed through this store instance
+     * ({@link #setInfo(TaskPushNotificationConfig)}, {@link #setInfo(TaskPushNotificationConfig, String)}
+     * or {@link #deleteInfo(String, String)}).
+     * <p>
+     * {@link BasePushNotificationSender} uses this to invalidate its per-task configuration cache.
+     * Stores that do not support change listeners return {@code false}, in which case callers
+     * must not cache configurations.
+     * </p>
+     * <p>
+     * Listeners only see changes made through this instance. Changes made by other server
+     * instances sharing the same database are not reported.
+     * </p>
+     *
+     * @param listener the listener, called with the affected task ID
+     * @return {@code true} if the listener was registered, {@code false} if change listeners are not supported
+     */
+    default boolean addChangeListener(java.util.function.Consumer<String> listener) {
+        return false;
+    }
+
+    /**
+     * Returns whether the change listeners registered with {@link #addChangeListener} are called
+     * for every change of the configurations, including the ones made by other server instances.
+     * This holds for stores that are not shared between instances.
+     * <p>
+     * {@link BasePushNotificationSender} only caches the absence of configurations for a task when
+     * this returns {@code true}, since a configuration added elsewhere would otherwise go unnoticed
+     * until the cache entry expires.
+     * </p>
+     *
+     * @return {@code true} if every change is reported to the change listeners
+     */
+    default boolean reportsAllChanges() {
+        return false;
+    }
+
 }
@@ -0,0 +1,88 @@
+package org.a2aproject.sdk.server.tasks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Durable store of push notifications that still have to be delivered.
+ * <p>
+ * When outbox mode is enabled ({@code a2a.push-notification.outbox.enabled=true}),
+ * {@link org.a2aproject.sdk.server.events.MainEventBusProcessor} does not call the
+ * {@link PushNotificationSender} directly. Instead each notification is appended to the outbox
+ * together with the task update that produced it (see
+ * {@link TaskStore#save(Task, boolean, StreamingEventKind, PushNotificationOutbox)}), and a
+ * {@link PushNotificationOutboxRelay} drains the outbox in batches, retrying failed deliveries.
+ * This gives at-least-once delivery across restarts and crashes.
+ * </p>
+ *
+ * <h2>Entry Lifecycle</h2>
+ * <ol>
+ *   <li>{@link #append(String, StreamingEventKind, Task)} records a pending entry.</li>
+ *   <li>{@link #claim(int, Duration)} hands due entries to a relay and hides them from other
+ *       relays for the lease duration.</li>
+ *   <li>{@link #markDelivered(long)} or {@link #markFailed(long, Instant)} records the outcome.
+ *       A failed entry with a {@code nextAttemptAt} becomes due again at that time; a failed entry
+ *       without one is never retried.</li>
+ * </ol>
+ *
+ * <h2>Default Implementation</h2>
+ * {@link InMemoryPushNotificationOutbox} keeps entries in memory and is mainly intended for tests.
+ *
+ * <h2>Alternative Implementations</h2>
+ * <ul>
+ *   <li><b>extras/task-store-database-jpa:</b> Stores entries in the {@code a2a_push_outbox} table,
+ *       in the same transaction as the task update</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * Implementations must be thread-safe. Several relays (e.g. one per server instance) may claim
+ * entries concurrently.
+ *
+ * @see PushNotificationOutboxRelay
+ * @see PushNotificationSender
+ */
+public interface PushNotificationOutbox {
+
+    /**
+     * Records a push notification that must be delivered for {@code event}.
+     *
+     * @param taskId the task the event belongs to
+     * @param event the streaming event to deliver
+     * @param taskSnapshot the task state after the event was applied, or null if there is none
+     *                     (e.g. for {@link org.a2aproject.sdk.spec.Message} events)
+     */
+    void append(String taskId, StreamingEventKind event, @Nullable Task taskSnapshot);
+
+    /**
+     * Claims up to {@code maxEntries} entries that are due for delivery, oldest first.
+     * <p>
+     * Claimed entries are not returned again by this or other callers until {@code lease}
+     * has elapsed, unless their outcome is recorded first.
+     * </p>
+     *
+     * @param maxEntries the maximum number of entries to return
+     * @param lease how long the entries stay reserved for the caller
+     * @return the claimed entries (empty list if none are due)
+     */
+    List<PushNotificationOutboxEntry> claim(int maxEntries, Duration lease);
+
+    /**
+     * Marks an entry as delivered. Delivered entries are never claimed again.
+     *
+     * @param entryId the entry ID
+     */
+    void markDelivered(long entryId);
+
+    /**
+     * Records a failed delivery attempt for an entry.
+     *
+     * @param entryId the entry ID
+     * @param nextAttemptAt when the entry becomes due again, or null to give up on it
+     */
+    void markFailed(long entryId, @Nullable Instant nextAttemptAt);
+}
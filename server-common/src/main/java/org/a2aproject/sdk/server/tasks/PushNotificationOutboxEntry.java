@@ -0,0 +1,18 @@
+package org.a2aproject.sdk.server.tasks;
+
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A push notification held in a {@link PushNotificationOutbox}.
+ *
+ * @param id the outbox-assigned entry ID
+ * @param taskId the task the notification belongs to
+ * @param event the streaming event to deliver
+ * @param taskSnapshot the task state after the event was applied, if any
+ * @param attempts the number of delivery attempts that have failed so far
+ */
+public record PushNotificationOutboxEntry(long id, String taskId, StreamingEventKind event,
+                                          @Nullable Task taskSnapshot, int attempts) {
+}
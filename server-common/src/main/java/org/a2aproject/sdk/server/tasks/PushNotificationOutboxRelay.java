@@ -0,0 +1,211 @@
+package org.a2aproject.sdk.server.tasks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drains a {@link PushNotificationOutbox} and delivers its entries through a
+ * {@link PushNotificationSender}.
+ * <p>
+ * The relay runs in a dedicated background thread. It claims due entries in batches, delivers
+ * each one with {@link PushNotificationSender#deliverNotification}, and records the outcome:
+ * </p>
+ * <ul>
+ *   <li>Successful deliveries are marked as delivered.</li>
+ *   <li>Failed deliveries are retried with exponential backoff, starting at
+ *       {@code initialRetryDelay} and capped at {@code maxRetryDelay}.</li>
+ *   <li>After {@code maxAttempts} failed attempts the entry is given up on and logged at ERROR level.</li>
+ * </ul>
+ * <p>
+ * Delivery is at-least-once: a crash between a successful POST and {@code markDelivered} results
+ * in the notification being sent again. Ordering per task is preserved as long as deliveries
+ * succeed; a retried entry may arrive after later entries for the same task.
+ * </p>
+ * <p>
+ * The relay polls the outbox every {@code pollInterval}. {@link #wakeUp()} can be called after
+ * appending an entry to have it delivered without waiting for the next poll.
+ * </p>
+ */
+public class PushNotificationOutboxRelay implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PushNotificationOutboxRelay.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+    public static final Duration DEFAULT_INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_RETRY_DELAY = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_LEASE = Duration.ofMinutes(1);
+
+    private final PushNotificationOutbox outbox;
+    private final PushNotificationSender sender;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration lease;
+
+    private final Object signal = new Object();
+    private boolean signalled;
+    private volatile boolean running;
+    private @Nullable Thread relayThread;
+
+    public PushNotificationOutboxRelay(PushNotificationOutbox outbox, PushNotificationSender sender) {
+        this(outbox, sender, DEFAULT_BATCH_SIZE, DEFAULT_POLL_INTERVAL, DEFAULT_MAX_ATTEMPTS,
+                DEFAULT_INITIAL_RETRY_DELAY, DEFAULT_MAX_RETRY_DELAY, DEFAULT_LEASE);
+    }
+
+    public PushNotificationOutboxRelay(PushNotificationOutbox outbox, PushNotificationSender sender,
+                                       int batchSize, Duration pollInterval, int maxAttempts,
+                                       Duration initialRetryDelay, Duration maxRetryDelay, Duration lease) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        this.outbox = outbox;
+        this.sender = sender;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = initialRetryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.lease = lease;
+    }
+
+    /**
+     * Starts the background relay thread.
+     */
+    public synchronized void start() {
+        if (relayThread != null) {
+            return;
+        }
+        running = true;
+        relayThread = new Thread(this, "PushNotificationOutboxRelay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+        LOGGER.info("PushNotificationOutboxRelay started");
+    }
+
+    /**
+     * Stops the background relay thread, waiting up to 5 seconds for it to finish.
+     * Undelivered entries stay in the outbox.
+     */
+    public synchronized void stop() {
+        running = false;
+        Thread thread = relayThread;
+        relayThread = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while waiting for PushNotificationOutboxRelay thread to stop");
+            }
+        }
+        LOGGER.info("PushNotificationOutboxRelay stopped");
+    }
+
+    /**
+     * Requests an immediate drain instead of waiting for the next poll.
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                drain();
+                awaitSignal();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                LOGGER.error("Error draining push notification outbox", e);
+                try {
+                    awaitSignal();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Delivers all entries that are currently due, batch by batch.
+     *
+     * @return the number of entries that were delivered successfully
+     */
+    public int drain() {
+        int delivered = 0;
+        List<PushNotificationOutboxEntry> batch;
+        do {
+            batch = outbox.claim(batchSize, lease);
+            for (PushNotificationOutboxEntry entry : batch) {
+                if (deliver(entry)) {
+                    delivered++;
+                }
+            }
+        } while (batch.size() == batchSize);
+        return delivered;
+    }
+
+    private boolean deliver(PushNotificationOutboxEntry entry) {
+        boolean sent;
+        try {
+            sent = sender.deliverNotification(entry.event(), entry.taskSnapshot());
+        } catch (Exception e) {
+            LOGGER.debug("Error delivering push notification {} for task {}: {}",
+                    entry.id(), entry.taskId(), e.getMessage(), e);
+            sent = false;
+        }
+
+        if (sent) {
+            outbox.markDelivered(entry.id());
+            return true;
+        }
+
+        int attempts = entry.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            LOGGER.error("Giving up on push notification {} for task {} after {} attempts",
+                    entry.id(), entry.taskId(), attempts);
+            outbox.markFailed(entry.id(), null);
+        } else {
+            Instant nextAttemptAt = Instant.now().plus(retryDelay(attempts));
+            LOGGER.warn("Push notification {} for task {} failed (attempt {}), retrying at {}",
+                    entry.id(), entry.taskId(), attempts, nextAttemptAt);
+            outbox.markFailed(entry.id(), nextAttemptAt);
+        }
+        return false;
+    }
+
+    private Duration retryDelay(int attempts) {
+        // Exponential backoff: initialRetryDelay * 2^(attempts - 1), capped at maxRetryDelay
+        int shift = Math.min(attempts - 1, 30);
+        Duration delay = initialRetryDelay.multipliedBy(1L << shift);
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        synchronized (signal) {
+            if (!signalled) {
+                signal.wait(pollInterval.toMillis());
+            }
+            signalled = false;
+        }
+    }
+}
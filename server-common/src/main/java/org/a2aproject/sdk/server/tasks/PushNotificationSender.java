@@ -115,4 +115,38 @@ public interface PushNotificationSender {
      *                     the full task state in notifications.
      */
     void sendNotification(StreamingEventKind event, @Nullable Task taskSnapshot);
+
+    /**
+     * Sends a push notification and reports whether it reached every configured endpoint.
+     * <p>
+     * Used by {@link PushNotificationOutboxRelay} to decide whether an outbox entry can be marked
+     * as delivered or must be retried. The default implementation delegates to
+     * {@link #sendNotification(StreamingEventKind, Task)} and reports success, so senders that
+     * cannot detect failures are never retried.
+     * </p>
+     *
+     * @param event the streaming event to send.
+     * @param taskSnapshot the current state of the task after the event has been applied.
+     * @return {@code true} if the notification was delivered to all endpoints, {@code false} if
+     *         any delivery failed and should be retried
+     */
+    default boolean deliverNotification(StreamingEventKind event, @Nullable Task taskSnapshot) {
+        sendNotification(event, taskSnapshot);
+        return true;
+    }
+
+    /**
+     * Reports whether notifications for the task may have to be sent.
+     * <p>
+     * Used in outbox mode to avoid recording notifications for tasks that have no push
+     * notification configuration, which would only be discarded by the relay. The default
+     * implementation returns {@code true}, so every notification is recorded.
+     * </p>
+     *
+     * @param taskId the task ID
+     * @return {@code false} if no notification would be sent for the task, {@code true} otherwise
+     */
+    default boolean hasPushNotificationConfigs(String taskId) {
+        return true;
+    }
 }
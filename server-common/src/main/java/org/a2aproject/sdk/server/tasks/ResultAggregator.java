@@ -65,6 +65,32 @@ public class ResultAggregator {
     }
 
     public EventTypeAndInterrupt consumeAndBreakOnInterrupt(EventConsumer consumer, boolean blocking) throws A2AError {
+        // Wait for completion or interruption
+        try {
+            return consumeAndBreakOnInterruptAsync(consumer, blocking).join();
+        } catch (CompletionException e) {
+            // CompletionException wraps the actual exception
+            Throwable cause = e.getCause();
+            if (cause != null) {
+                Utils.rethrow(cause);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #consumeAndBreakOnInterrupt(EventConsumer, boolean)}.
+     * <p>
+     * Consumption starts on the event consumer executor and the returned future completes when
+     * the first result is available, so the calling thread is never parked. The future completes
+     * exceptionally with the {@link A2AError} or other failure reported by the consumer.
+     * </p>
+     *
+     * @param consumer the consumer of the task's event queue
+     * @param blocking whether the request waits for the task to finish
+     * @return a future completed with the result and whether consumption was interrupted
+     */
+    public CompletableFuture<EventTypeAndInterrupt> consumeAndBreakOnInterruptAsync(EventConsumer consumer, boolean blocking) {
         Flow.Publisher<EventQueueItem> allItems = consumer.consumeAll();
         AtomicReference<Message> message = new AtomicReference<>();
         AtomicReference<Task> capturedTask = new AtomicReference<>();  // Capture Task events
@@ -73,9 +99,12 @@ public class ResultAggregator {
         CompletableFuture<Void> completionFuture = new CompletableFuture<>();
         // Separate future for tracking background consumption completion
         CompletableFuture<Void> consumptionCompletionFuture = new CompletableFuture<>();
-        // Latch to ensure EventConsumer starts polling before we wait on completionFuture
-        java.util.concurrent.CountDownLatch pollingStarted = new java.util.concurrent.CountDownLatch(1);
 
+        // No latch waits for the polling loop to start: the ChildQueue of the consumer exists before
+        // the agent is started and buffers its events, and the agent done callback only sets a flag
+        // read by the polling loop, so nothing is lost if the agent runs before polling starts.
+        // The returned future completes from the polling loop, so it always follows its start.
+        //
         // CRITICAL: The subscription itself must run on a background thread to avoid blocking
         // the Vert.x worker thread. EventConsumer.consumeAll() starts a polling loop that
         // blocks in dequeueEventItem(), so we must subscribe from a background thread.
@@ -83,8 +112,6 @@ public class ResultAggregator {
         // on demand for I/O-bound polling. Using the @Internal executor caused deadlock when
         // pool exhausted (100+ concurrent queues but maxPoolSize=50).
         CompletableFuture.runAsync(() -> {
-            // Signal that polling is about to start
-            pollingStarted.countDown();
             consumer(
                 createTubeConfig(),
                 allItems,
@@ -204,59 +231,38 @@ public class ResultAggregator {
             );
         }, eventConsumerExecutor);
 
-        // Wait for EventConsumer to start polling before we wait for events
-        // This prevents race where agent enqueues events before EventConsumer starts
-        try {
-            pollingStarted.await(5, java.util.concurrent.TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new org.a2aproject.sdk.spec.InternalError("Interrupted waiting for EventConsumer to start");
-        }
-
-        // Wait for completion or interruption
-        try {
-            completionFuture.join();
-        } catch (CompletionException e) {
-            // CompletionException wraps the actual exception
-            Throwable cause = e.getCause();
-            if (cause != null) {
-                Utils.rethrow(cause);
-            } else {
-                throw e;
-            }
-        }
-
-        // Note: For blocking calls that were interrupted, the wait logic has been moved
-        // to DefaultRequestHandler.onMessageSend() to avoid blocking Vert.x worker threads.
+        // Note: For blocking calls that were interrupted, the wait for agent completion is done by
+        // DefaultRequestHandler.onMessageSendAsync() by composing on the returned futures.
         // Queue lifecycle is managed by DefaultRequestHandler.cleanupProducer()
+        return completionFuture.thenApply(ignored -> {
+            Throwable error = errorRef.get();
+            if (error != null) {
+                Utils.rethrow(error);
+            }
 
-        Throwable error = errorRef.get();
-        if (error != null) {
-            Utils.rethrow(error);
-        }
-
-        // Return Message if captured, otherwise Task if captured, otherwise fetch from TaskStore
-        EventKind eventKind = message.get();
-        if (eventKind == null) {
-            eventKind = capturedTask.get();
-            if (LOGGER.isDebugEnabled() && eventKind instanceof Task t) {
-                LOGGER.debug("Returning capturedTask: id={}, state={}", t.id(), t.status().state());
+            // Return Message if captured, otherwise Task if captured, otherwise fetch from TaskStore
+            EventKind eventKind = message.get();
+            if (eventKind == null) {
+                eventKind = capturedTask.get();
+                if (LOGGER.isDebugEnabled() && eventKind instanceof Task t) {
+                    LOGGER.debug("Returning capturedTask: id={}, state={}", t.id(), t.status().state());
+                }
             }
-        }
-        if (eventKind == null) {
-            eventKind = taskManager.getTask();
-            if (LOGGER.isDebugEnabled() && eventKind instanceof Task t) {
-                LOGGER.debug("Returning task from TaskStore: id={}, state={}", t.id(), t.status().state());
+            if (eventKind == null) {
+                eventKind = taskManager.getTask();
+                if (LOGGER.isDebugEnabled() && eventKind instanceof Task t) {
+                    LOGGER.debug("Returning task from TaskStore: id={}, state={}", t.id(), t.status().state());
+                }
+            }
+            if (eventKind == null) {
+                throw new InternalError("Could not find a Task/Message for " + taskManager.getTaskId());
             }
-        }
-        if (eventKind == null) {
-            throw new InternalError("Could not find a Task/Message for " + taskManager.getTaskId());
-        }
 
-        return new EventTypeAndInterrupt(
-                eventKind,
-                interrupted.get(),
-                consumptionCompletionFuture);
+            return new EventTypeAndInterrupt(
+                    eventKind,
+                    interrupted.get(),
+                    consumptionCompletionFuture);
+        });
     }
 
     private String taskIdForLogging() {
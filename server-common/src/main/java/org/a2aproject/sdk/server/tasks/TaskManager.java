@@ -17,6 +17,7 @@ import org.a2aproject.sdk.spec.A2AServerException;
 import org.a2aproject.sdk.spec.Event;
 import org.a2aproject.sdk.spec.InternalError;
 import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.spec.Task;
 import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
 import org.a2aproject.sdk.spec.TaskStatus;
@@ -68,8 +69,13 @@ public class TaskManager {
 
     boolean saveTaskEvent(Task task, boolean isReplicated, @Nullable AtomicReference<Task> taskSnapshot)
             throws A2AServerException {
+        return saveTaskEvent(task, isReplicated, taskSnapshot, null);
+    }
+
+    private boolean saveTaskEvent(Task task, boolean isReplicated, @Nullable AtomicReference<Task> taskSnapshot,
+                                  @Nullable PushNotificationOutbox outbox) throws A2AServerException {
         checkIdsAndUpdateIfNecessary(task.id(), task.contextId());
-        Task savedTask = saveTask(task, isReplicated);
+        Task savedTask = saveTask(task, isReplicated, task, outbox);
         if (taskSnapshot != null) {
             taskSnapshot.set(savedTask);
         }
@@ -82,6 +88,12 @@ public class TaskManager {
 
     boolean saveTaskEvent(TaskStatusUpdateEvent event, boolean isReplicated, @Nullable AtomicReference<Task> taskSnapshot)
             throws A2AServerException {
+        return saveTaskEvent(event, isReplicated, taskSnapshot, null);
+    }
+
+    private boolean saveTaskEvent(TaskStatusUpdateEvent event, boolean isReplicated,
+                                  @Nullable AtomicReference<Task> taskSnapshot,
+                                  @Nullable PushNotificationOutbox outbox) throws A2AServerException {
         checkIdsAndUpdateIfNecessary(event.taskId(), event.contextId());
         Task task = ensureTask(event.taskId(), event.contextId());
 
@@ -103,7 +115,7 @@ public class TaskManager {
         }
 
         task = builder.build();
-        Task savedTask = saveTask(task, isReplicated);
+        Task savedTask = saveTask(task, isReplicated, event, outbox);
         if (taskSnapshot != null) {
             taskSnapshot.set(savedTask);
         }
@@ -116,6 +128,12 @@ public class TaskManager {
 
     boolean saveTaskEvent(TaskArtifactUpdateEvent event, boolean isReplicated, @Nullable AtomicReference<Task> taskSnapshot)
             throws A2AServerException {
+        return saveTaskEvent(event, isReplicated, taskSnapshot, null);
+    }
+
+    private boolean saveTaskEvent(TaskArtifactUpdateEvent event, boolean isReplicated,
+                                  @Nullable AtomicReference<Task> taskSnapshot,
+                                  @Nullable PushNotificationOutbox outbox) throws A2AServerException {
         checkIdsAndUpdateIfNecessary(event.taskId(), event.contextId());
         Task task = ensureTask(event.taskId(), event.contextId());
         // taskId is guaranteed to be non-null after checkIdsAndUpdateIfNecessary
@@ -124,7 +142,7 @@ public class TaskManager {
             throw new IllegalStateException("taskId should not be null after checkIdsAndUpdateIfNecessary");
         }
         task = appendArtifactToTask(task, event, nonNullTaskId);
-        Task savedTask = saveTask(task, isReplicated);
+        Task savedTask = saveTask(task, isReplicated, event, outbox);
         if (taskSnapshot != null) {
             taskSnapshot.set(savedTask);
         }
@@ -137,13 +155,34 @@ public class TaskManager {
 
     public boolean process(Event event, boolean isReplicated, @Nullable AtomicReference<Task> taskSnapshot)
             throws A2AServerException {
+        return process(event, isReplicated, taskSnapshot, null);
+    }
+
+    /**
+     * Applies an event to the task and persists the result.
+     * <p>
+     * If {@code outbox} is not null, a push notification for the event is recorded together with
+     * the task update via {@link TaskStore#save(Task, boolean, org.a2aproject.sdk.spec.StreamingEventKind, PushNotificationOutbox)}.
+     * Only {@link Task}, {@link TaskStatusUpdateEvent} and {@link TaskArtifactUpdateEvent} events
+     * are recorded this way.
+     * </p>
+     *
+     * @param event the event to apply
+     * @param isReplicated true if the event came from another instance
+     * @param taskSnapshot if not null, receives the task state after the event was applied
+     * @param outbox the push notification outbox, or null if outbox mode is disabled
+     * @return true if the task reached a final state
+     * @throws A2AServerException if the event does not belong to this task
+     */
+    public boolean process(Event event, boolean isReplicated, @Nullable AtomicReference<Task> taskSnapshot,
+                           @Nullable PushNotificationOutbox outbox) throws A2AServerException {
         boolean isFinal = false;
         if (event instanceof Task task) {
-            isFinal = saveTaskEvent(task, isReplicated, taskSnapshot);
+            isFinal = saveTaskEvent(task, isReplicated, taskSnapshot, outbox);
         } else if (event instanceof TaskStatusUpdateEvent taskStatusUpdateEvent) {
-            isFinal = saveTaskEvent(taskStatusUpdateEvent, isReplicated, taskSnapshot);
+            isFinal = saveTaskEvent(taskStatusUpdateEvent, isReplicated, taskSnapshot, outbox);
         } else if (event instanceof TaskArtifactUpdateEvent taskArtifactUpdateEvent) {
-            isFinal = saveTaskEvent(taskArtifactUpdateEvent, isReplicated, taskSnapshot);
+            isFinal = saveTaskEvent(taskArtifactUpdateEvent, isReplicated, taskSnapshot, outbox);
         } else if (event instanceof A2AError) {
             // A2AError events trigger automatic transition to FAILED state
             // Error details are NOT persisted in TaskStore (client-specific)
@@ -243,7 +282,16 @@ public class TaskManager {
     }
 
     private Task saveTask(Task task, boolean isReplicated) {
-        taskStore.save(task, isReplicated);
+        return saveTask(task, isReplicated, null, null);
+    }
+
+    private Task saveTask(Task task, boolean isReplicated, @Nullable StreamingEventKind pushEvent,
+                          @Nullable PushNotificationOutbox outbox) {
+        if (pushEvent != null && outbox != null) {
+            taskStore.save(task, isReplicated, pushEvent, outbox);
+        } else {
+            taskStore.save(task, isReplicated);
+        }
         if (taskId == null) {
             taskId = task.id();
             contextId = task.contextId();
@@ -2,6 +2,7 @@ package org.a2aproject.sdk.server.tasks;
 
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
 import org.a2aproject.sdk.spec.ListTasksParams;
+import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.spec.Task;
 import org.jspecify.annotations.Nullable;
 
@@ -164,6 +165,29 @@ public interface TaskStore {
      */
     void save(Task task, boolean isReplicated);
 
+    /**
+     * Saves or updates a task and records a push notification for {@code event} in {@code outbox}.
+     * <p>
+     * Used when push notification outbox mode is enabled. Database implementations should
+     * override this to write the task and the outbox entry in a single transaction, so that
+     * a notification is recorded if and only if the task update is persisted. The default
+     * implementation saves the task and then appends to the outbox.
+     * </p>
+     *
+     * @param task the task to save
+     * @param isReplicated true if this task update came from a replicated event
+     * @param event the streaming event that produced this task update
+     * @param outbox the outbox to record the push notification in
+     * @throws TaskSerializationException if the task cannot be serialized to storage format
+     * @throws TaskPersistenceException if the storage system fails
+     * @throws TaskStoreException for other persistence failures not covered by specific subclasses
+     * @see PushNotificationOutbox
+     */
+    default void save(Task task, boolean isReplicated, StreamingEventKind event, PushNotificationOutbox outbox) {
+        save(task, isReplicated);
+        outbox.append(task.id(), event, task);
+    }
+
     /**
      * Retrieves a task by its ID.
      *
@@ -199,4 +223,19 @@ public interface TaskStore {
      * @throws TaskStoreException for other listing failures not covered by specific subclasses
      */
     ListTasksResult list(ListTasksParams params);
+
+    /**
+     * Returns whether {@link #get(String)} and {@link #list(ListTasksParams)} complete without
+     * blocking the calling thread, for example because tasks are held in memory.
+     * <p>
+     * Transports use this to serve read-only requests such as GetTask and ListTasks directly on
+     * an I/O (event loop) thread instead of dispatching them to a worker thread. Implementations
+     * that perform database or network I/O must return {@code false}, which is the default.
+     * </p>
+     *
+     * @return {@code true} if reads never block
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
 }
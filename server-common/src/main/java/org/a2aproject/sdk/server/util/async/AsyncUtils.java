@@ -1,5 +1,6 @@
 package org.a2aproject.sdk.server.util.async;
 
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -26,7 +27,7 @@ public class AsyncUtils {
     public static TubeConfiguration createTubeConfig(int bufferSize) {
         return new TubeConfiguration()
                 .withBackpressureStrategy(BackpressureStrategy.BUFFER)
-                .withBufferSize(256);
+                .withBufferSize(bufferSize);
     }
 
     public static <T> void consumer(
@@ -91,6 +92,78 @@ public class AsyncUtils {
         return new Transform<>(source, converterFunction);
     }
 
+    /**
+     * Creates a publisher that emits the items of the source publisher and runs an action once
+     * the stream completes, fails or is cancelled by its subscriber.
+     * <p>
+     * The action runs at most once, and before the completion or failure is forwarded, so that
+     * resources held by the stream are released by the time the subscriber sees it end.
+     * </p>
+     *
+     * @param source the source publisher
+     * @param onTermination the action to run when the stream ends
+     * @param <T> the type of items
+     * @return a new publisher that emits the items of the source publisher
+     */
+    public static <T> Flow.Publisher<T> terminatingProcessor(Flow.Publisher<T> source, Runnable onTermination) {
+        AtomicBoolean terminated = new AtomicBoolean();
+        Runnable terminate = () -> {
+            if (terminated.compareAndSet(false, true)) {
+                onTermination.run();
+            }
+        };
+        return subscriber -> source.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        terminate.run();
+                        subscription.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(T item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                terminate.run();
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                terminate.run();
+                subscriber.onComplete();
+            }
+        });
+    }
+
+    /**
+     * Returns the failure wrapped by {@link CompletionException}s, as seen by the callers of a
+     * {@link java.util.concurrent.CompletableFuture} stage, so that it can be reported like an
+     * exception thrown by a synchronous call.
+     *
+     * @param error the failure of an asynchronous stage
+     * @return the innermost cause of the completion exceptions, or the failure itself if it is not one
+     */
+    public static Throwable unwrapCompletionException(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     /**
      * Creates a publisher that first emits the given items, then emits all items from the source publisher.
      * <p>
@@ -1,6 +1,9 @@
 package org.a2aproject.sdk.server.util.sse;
 
+import java.nio.charset.StandardCharsets;
+
 import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.grpc.utils.SpecJsonEncoder;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AErrorResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskResponse;
@@ -32,6 +35,14 @@ import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageResponse;
  * sseEvents.subscribe().with(sseEvent -> httpResponse.write(Buffer.buffer(sseEvent)));
  * }</pre>
  * <p>
+ * The {@code Bytes} variants return the complete UTF-8 encoded event in a single array, which
+ * can be wrapped by a network buffer without further copies:
+ * <pre>{@code
+ * Multi<Buffer> sseEvents = Multi.createFrom().publisher(responses)
+ *     .map(response -> Buffer.buffer(Unpooled.wrappedBuffer(
+ *             SseFormatter.formatResponseAsSSEBytes(response, eventId.getAndIncrement()))));
+ * }</pre>
+ * <p>
  * <b>Example usage (Jakarta/WildFly with custom reactive library):</b>
  * <pre>{@code
  * Flow.Publisher<String> jsonStrings = restHandler.getJsonPublisher();
@@ -43,6 +54,8 @@ import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageResponse;
  */
 public class SseFormatter {
 
+    private static final byte[] DATA_PREFIX = "data: ".getBytes(StandardCharsets.US_ASCII);
+
     private SseFormatter() {
         // Utility class - prevent instantiation
     }
@@ -87,6 +100,63 @@ public class SseFormatter {
         return "data: " + jsonString + "\nid: " + eventId + "\n\n";
     }
 
+    /**
+     * Format an A2A response as a UTF-8 encoded SSE event.
+     * <p>
+     * Produces the same event as {@link #formatResponseAsSSE(A2AResponse, long)}. Tasks, messages
+     * and update events are encoded directly into the returned array, without intermediate
+     * strings.
+     *
+     * @param response the A2A response to format
+     * @param eventId  the SSE event ID
+     * @return the UTF-8 encoded SSE event (ready to write to HTTP response)
+     */
+    public static byte[] formatResponseAsSSEBytes(A2AResponse<?> response, long eventId) {
+        if (!(response instanceof A2AErrorResponse) && SpecJsonEncoder.supports(response)) {
+            return SpecJsonEncoder.toJsonRPCResultResponse(response, DATA_PREFIX, eventSuffix(eventId));
+        }
+        return frame(serializeResponse(response).getBytes(StandardCharsets.UTF_8), eventId);
+    }
+
+    /**
+     * Format a pre-serialized JSON string as a UTF-8 encoded SSE event.
+     * <p>
+     * Produces the same event as {@link #formatJsonAsSSE(String, long)}.
+     *
+     * @param jsonString the JSON string to wrap
+     * @param eventId    the SSE event ID
+     * @return the UTF-8 encoded SSE event (ready to write to HTTP response)
+     */
+    public static byte[] formatJsonAsSSEBytes(String jsonString, long eventId) {
+        return frame(jsonString.getBytes(StandardCharsets.UTF_8), eventId);
+    }
+
+    /**
+     * Serialize an A2A response to its JSON-RPC form, without SSE framing.
+     * <p>
+     * Use this for transports that frame messages themselves, such as WebSocket, so that they
+     * send the same JSON as the SSE events.
+     *
+     * @param response the A2A response to serialize
+     * @return the JSON-RPC response
+     */
+    public static String formatResponseAsJson(A2AResponse<?> response) {
+        return serializeResponse(response);
+    }
+
+    private static byte[] frame(byte[] json, long eventId) {
+        byte[] suffix = eventSuffix(eventId);
+        byte[] event = new byte[DATA_PREFIX.length + json.length + suffix.length];
+        System.arraycopy(DATA_PREFIX, 0, event, 0, DATA_PREFIX.length);
+        System.arraycopy(json, 0, event, DATA_PREFIX.length, json.length);
+        System.arraycopy(suffix, 0, event, DATA_PREFIX.length + json.length, suffix.length);
+        return event;
+    }
+
+    private static byte[] eventSuffix(long eventId) {
+        return ("\nid: " + eventId + "\n\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
     /**
      * Serialize an A2AResponse to JSON string.
      */
@@ -99,6 +169,11 @@ public class SseFormatter {
             return JSONRPCUtils.toJsonRPCErrorResponse(response.getId(), response.getError());
         }
 
+        // Tasks, messages and update events are written directly, without protobuf messages
+        if (SpecJsonEncoder.supports(response)) {
+            return new String(SpecJsonEncoder.toJsonRPCResultResponse(response), StandardCharsets.UTF_8);
+        }
+
         // Convert domain response to protobuf message and serialize
         com.google.protobuf.MessageOrBuilder protoMessage = convertToProto(response);
         return JSONRPCUtils.toJsonRPCResultResponse(response.getId(), protoMessage);
@@ -0,0 +1,139 @@
+package org.a2aproject.sdk.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.spec.AgentCapabilities;
+import org.a2aproject.sdk.spec.AgentCard;
+import org.a2aproject.sdk.spec.AgentInterface;
+import org.a2aproject.sdk.spec.TransportProtocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AgentCardCacheMetadataTest {
+
+    private static final A2AConfigProvider CONFIG = new A2AConfigProvider() {
+        @Override
+        public String getValue(String name) {
+            throw new IllegalArgumentException(name);
+        }
+
+        @Override
+        public Optional<String> getOptionalValue(String name) {
+            return Optional.empty();
+        }
+    };
+
+    private AgentCard agentCard;
+    private AgentCardCacheMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        agentCard = createAgentCard("1.0.0");
+        metadata = new AgentCardCacheMetadata(agentCard, CONFIG);
+    }
+
+    private static AgentCard createAgentCard(String version) {
+        return AgentCard.builder()
+                .name("Test Agent")
+                .description("Test Description ".repeat(20))
+                .supportedInterfaces(Collections.singletonList(
+                        new AgentInterface(TransportProtocol.JSONRPC.asString(), "http://localhost:9999")))
+                .version(version)
+                .capabilities(AgentCapabilities.builder().build())
+                .defaultInputModes(Collections.singletonList("text"))
+                .defaultOutputModes(Collections.singletonList("text"))
+                .skills(Collections.emptyList())
+                .build();
+    }
+
+    @Test
+    void testRespondWithJson() throws Exception {
+        AgentCardResponse response = metadata.respond(agentCard, null, null, null);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(JsonUtil.toJson(agentCard), new String(response.getBody(), StandardCharsets.UTF_8));
+        assertEquals(metadata.getETag(), response.getHeaders().get("ETag"));
+        assertEquals(metadata.getLastModified(), response.getHeaders().get("Last-Modified"));
+        assertEquals("public, max-age=3600", response.getHeaders().get("Cache-Control"));
+        assertEquals("Accept-Encoding", response.getHeaders().get("Vary"));
+        assertNull(response.getHeaders().get("Content-Encoding"));
+        // The rendered bytes are reused between requests
+        assertSame(response.getBody(), metadata.respond(agentCard, null, null, null).getBody());
+    }
+
+    @Test
+    void testRespondWithGzip() throws Exception {
+        AgentCardResponse response = metadata.respond(agentCard, null, null, "deflate, gzip;q=0.8");
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().get("Content-Encoding"));
+        assertNotEquals(metadata.getETag(), response.getHeaders().get("ETag"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertArrayEquals(metadata.respond(agentCard, null, null, null).getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testNotModifiedWithMatchingETag() {
+        AgentCardResponse response = metadata.respond(agentCard, metadata.getETag(), null, null);
+        assertTrue(response.isNotModified());
+        assertEquals(0, response.getBody().length);
+        assertEquals(metadata.getETag(), response.getHeaders().get("ETag"));
+
+        String gzipETag = metadata.respond(agentCard, null, null, "gzip").getHeaders().get("ETag");
+        assertTrue(metadata.respond(agentCard, "\"other\", W/" + gzipETag, null, "gzip").isNotModified());
+        assertTrue(metadata.respond(agentCard, "*", null, null).isNotModified());
+        assertFalse(metadata.respond(agentCard, "\"other\"", null, null).isNotModified());
+    }
+
+    @Test
+    void testIfNoneMatchTakesPrecedenceOverIfModifiedSince() {
+        AgentCardResponse response = metadata.respond(agentCard, "\"other\"", metadata.getLastModified(), null);
+        assertEquals(200, response.getStatusCode());
+    }
+
+    @Test
+    void testNotModifiedSince() {
+        assertTrue(metadata.respond(agentCard, null, metadata.getLastModified(), null).isNotModified());
+        assertFalse(metadata.respond(agentCard, null, "Mon, 17 Mar 2025 10:00:00 GMT", null).isNotModified());
+        assertFalse(metadata.respond(agentCard, null, "not a date", null).isNotModified());
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(AgentCardCacheMetadata.acceptsGzip("gzip"));
+        assertTrue(AgentCardCacheMetadata.acceptsGzip("br, GZIP"));
+        assertTrue(AgentCardCacheMetadata.acceptsGzip("x-gzip"));
+        assertTrue(AgentCardCacheMetadata.acceptsGzip("*"));
+        assertFalse(AgentCardCacheMetadata.acceptsGzip(null));
+        assertFalse(AgentCardCacheMetadata.acceptsGzip("identity"));
+        assertFalse(AgentCardCacheMetadata.acceptsGzip("gzip;q=0"));
+        assertFalse(AgentCardCacheMetadata.acceptsGzip("*, gzip; q=0.0"));
+    }
+
+    @Test
+    void testRerenderForNewAgentCard() throws Exception {
+        String etag = metadata.getETag();
+        AgentCard updated = createAgentCard("2.0.0");
+
+        AgentCardResponse response = metadata.respond(updated, etag, null, null);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(JsonUtil.toJson(updated), new String(response.getBody(), StandardCharsets.UTF_8));
+        assertNotEquals(etag, metadata.getETag());
+    }
+}
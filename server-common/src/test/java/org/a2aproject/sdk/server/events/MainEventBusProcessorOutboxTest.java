@@ -0,0 +1,159 @@
+package org.a2aproject.sdk.server.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.a2aproject.sdk.server.tasks.InMemoryPushNotificationOutbox;
+import org.a2aproject.sdk.server.tasks.InMemoryTaskStore;
+import org.a2aproject.sdk.server.tasks.PushNotificationOutboxEntry;
+import org.a2aproject.sdk.server.tasks.PushNotificationSender;
+import org.a2aproject.sdk.spec.Event;
+import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.a2aproject.sdk.spec.TextPart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for MainEventBusProcessor in push notification outbox mode.
+ */
+public class MainEventBusProcessorOutboxTest {
+
+    private static final String TASK_ID = "outbox-task";
+
+    private final List<StreamingEventKind> directlySent = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean hasPushNotificationConfigs = true;
+    private MainEventBusProcessor mainEventBusProcessor;
+    private InMemoryPushNotificationOutbox outbox;
+    private EventQueue eventQueue;
+
+    @BeforeEach
+    public void setUp() {
+        MainEventBus mainEventBus = new MainEventBus();
+        InMemoryQueueManager queueManager = new InMemoryQueueManager(null, mainEventBus);
+        PushNotificationSender sender = new PushNotificationSender() {
+            @Override
+            public void sendNotification(StreamingEventKind event, Task taskSnapshot) {
+                directlySent.add(event);
+            }
+
+            @Override
+            public boolean hasPushNotificationConfigs(String taskId) {
+                return hasPushNotificationConfigs;
+            }
+        };
+        mainEventBusProcessor = new MainEventBusProcessor(mainEventBus, new InMemoryTaskStore(), sender, queueManager);
+        mainEventBusProcessor.setPushNotificationExecutor(Runnable::run);
+        outbox = new InMemoryPushNotificationOutbox();
+        mainEventBusProcessor.setPushNotificationOutbox(outbox);
+        EventQueueUtil.start(mainEventBusProcessor);
+
+        eventQueue = EventQueueUtil.getEventQueueBuilder(mainEventBus)
+                .taskId(TASK_ID)
+                .mainEventBus(mainEventBus)
+                .build().tap();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mainEventBusProcessor.setCallback(null);
+        EventQueueUtil.stop(mainEventBusProcessor);
+    }
+
+    @Test
+    public void testEventsAreRecordedInOutboxInsteadOfSent() throws InterruptedException {
+        Task task = Task.builder()
+                .id(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build();
+        TaskStatusUpdateEvent completed = TaskStatusUpdateEvent.builder()
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                .build();
+
+        processEvents(task, completed);
+
+        assertTrue(directlySent.isEmpty(), "Push notifications should not be sent directly in outbox mode");
+        List<PushNotificationOutboxEntry> entries = outbox.claim(10, Duration.ofMinutes(1));
+        assertEquals(2, entries.size());
+        assertInstanceOf(Task.class, entries.get(0).event());
+        assertInstanceOf(TaskStatusUpdateEvent.class, entries.get(1).event());
+        assertEquals(TaskState.TASK_STATE_COMPLETED, entries.get(1).taskSnapshot().status().state());
+    }
+
+    @Test
+    public void testMessageEventsAreRecordedWithoutSnapshot() throws InterruptedException {
+        Message message = Message.builder()
+                .role(Message.Role.ROLE_AGENT)
+                .parts(List.of(new TextPart("hi")))
+                .messageId("msg-1")
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .build();
+
+        processEvents(message);
+
+        assertTrue(directlySent.isEmpty());
+        List<PushNotificationOutboxEntry> entries = outbox.claim(10, Duration.ofMinutes(1));
+        assertEquals(1, entries.size());
+        assertInstanceOf(Message.class, entries.get(0).event());
+        assertEquals(null, entries.get(0).taskSnapshot());
+    }
+
+    @Test
+    public void testEventsOfTasksWithoutPushConfigsAreNotRecorded() throws InterruptedException {
+        hasPushNotificationConfigs = false;
+        Task task = Task.builder()
+                .id(TASK_ID)
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .build();
+        Message message = Message.builder()
+                .role(Message.Role.ROLE_AGENT)
+                .parts(List.of(new TextPart("hi")))
+                .messageId("msg-1")
+                .taskId(TASK_ID)
+                .contextId("ctx")
+                .build();
+
+        processEvents(task, message);
+
+        assertTrue(directlySent.isEmpty());
+        assertTrue(outbox.claim(10, Duration.ofMinutes(1)).isEmpty(),
+                "Nothing should be recorded for a task without push notification configs");
+    }
+
+    private void processEvents(Event... events) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(events.length);
+        mainEventBusProcessor.setCallback(new MainEventBusProcessorCallback() {
+            @Override
+            public void onEventProcessed(String taskId, Event event) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onTaskFinalized(String taskId) {
+                // No-op for this test
+            }
+        });
+        for (Event event : events) {
+            eventQueue.enqueueEvent(event);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Event processing should complete within timeout");
+    }
+}
@@ -0,0 +1,98 @@
+package org.a2aproject.sdk.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.a2aproject.sdk.server.RateLimitExceededError;
+import org.a2aproject.sdk.server.ServerOverloadedError;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.spec.A2AMethods;
+import org.junit.jupiter.api.Test;
+
+public class RateLimiterTest {
+
+    @Test
+    void testUnlimitedByDefault() {
+        RateLimiter limiter = new RateLimiter();
+        assertFalse(limiter.isEnabled());
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquire("tenant", A2AMethods.SEND_MESSAGE_METHOD);
+        }
+    }
+
+    @Test
+    void testOpenStreamLimit() {
+        RateLimiter limiter = new RateLimiter();
+        limiter.setMaxOpenStreamsPerTenant(1);
+        RateLimiter.StreamPermit permit = limiter.acquireStream("tenant-a");
+        RateLimitExceededError error = assertThrows(RateLimitExceededError.class,
+                () -> limiter.acquireStream("tenant-a"));
+        assertEquals(1, error.getRetryAfterSeconds());
+        limiter.acquireStream("tenant-b");
+        // Streams do not count against the request rate
+        assertFalse(limiter.isEnabled());
+        assertEquals(1, limiter.getOpenStreams("tenant-a"));
+
+        permit.release();
+        permit.release();
+        assertEquals(0, limiter.getOpenStreams("tenant-a"));
+        assertEquals(1, limiter.getOpenStreams("tenant-b"));
+        limiter.acquireStream("tenant-a");
+    }
+
+    @Test
+    void testBucketsPerTenantAndMethod() {
+        RateLimiter limiter = new RateLimiter();
+        limiter.setLimit(null, 0.1, 2);
+        assertTrue(limiter.isEnabled());
+
+        limiter.acquire("a", A2AMethods.SEND_MESSAGE_METHOD);
+        limiter.acquire("a", A2AMethods.SEND_MESSAGE_METHOD);
+        RateLimitExceededError error = assertThrows(RateLimitExceededError.class,
+                () -> limiter.acquire("a", A2AMethods.SEND_MESSAGE_METHOD));
+        assertTrue(error.getRetryAfterSeconds() >= 9 && error.getRetryAfterSeconds() <= 10, error.getMessage());
+        assertEquals(error.getRetryAfterSeconds(), error.getDetails().get(ServerOverloadedError.RETRY_AFTER_SECONDS));
+
+        // Other tenants and methods have their own budget
+        assertDoesNotThrow(() -> limiter.acquire("b", A2AMethods.SEND_MESSAGE_METHOD));
+        assertDoesNotThrow(() -> limiter.acquire(null, A2AMethods.SEND_MESSAGE_METHOD));
+        assertDoesNotThrow(() -> limiter.acquire("a", A2AMethods.GET_TASK_METHOD));
+    }
+
+    @Test
+    void testMethodLimitsFromConfig() {
+        Map<String, String> values = Map.of(
+                "a2a.rate-limit.requests-per-second", "0",
+                "a2a.rate-limit.SendMessage.requests-per-second", "0.5",
+                "a2a.rate-limit.SendMessage.burst", "1",
+                "a2a.rate-limit.max-open-streams-per-tenant", "1");
+        RateLimiter limiter = new RateLimiter();
+        limiter.configProvider = new A2AConfigProvider() {
+            @Override
+            public String getValue(String name) {
+                return getOptionalValue(name).orElseThrow(() -> new IllegalArgumentException(name));
+            }
+
+            @Override
+            public Optional<String> getOptionalValue(String name) {
+                return Optional.ofNullable(values.get(name));
+            }
+        };
+        limiter.initConfig();
+
+        assertTrue(limiter.isEnabled());
+        limiter.acquire("a", A2AMethods.SEND_MESSAGE_METHOD);
+        assertThrows(RateLimitExceededError.class, () -> limiter.acquire("a", A2AMethods.SEND_MESSAGE_METHOD));
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("a", A2AMethods.GET_TASK_METHOD);
+        }
+        limiter.acquireStream("a");
+        assertThrows(RateLimitExceededError.class, () -> limiter.acquireStream("a"));
+    }
+}
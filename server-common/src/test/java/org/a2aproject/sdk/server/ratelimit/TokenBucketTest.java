@@ -0,0 +1,44 @@
+package org.a2aproject.sdk.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testBurstThenSustainedRate() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(10, 3, now);
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        // Empty: the next token is available after one interval
+        assertEquals(SECOND / 10, bucket.tryAcquire(now));
+
+        assertEquals(0, bucket.tryAcquire(now + SECOND / 10));
+        assertTrue(bucket.tryAcquire(now + SECOND / 10) > 0);
+    }
+
+    @Test
+    void testRefillsUpToBurst() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(1, 2, now);
+        assertEquals(0, bucket.tryAcquire(now));
+        assertFalse(bucket.isFull(now));
+
+        // A long pause refills the bucket, but not beyond its capacity
+        long later = now + 60 * SECOND;
+        assertTrue(bucket.isFull(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(SECOND, bucket.tryAcquire(later));
+    }
+}
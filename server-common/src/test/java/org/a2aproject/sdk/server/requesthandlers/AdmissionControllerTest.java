@@ -0,0 +1,83 @@
+package org.a2aproject.sdk.server.requesthandlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.a2aproject.sdk.server.ServerOverloadedError;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControllerTest {
+
+    @Test
+    void testNodeLimit() {
+        AdmissionController controller = new AdmissionController(2, 0, 0, 3);
+        AdmissionController.Permit first = controller.acquire("a");
+        controller.acquire("b");
+
+        ServerOverloadedError error = assertThrows(ServerOverloadedError.class, () -> controller.acquire("c"));
+        assertEquals(3, error.getRetryAfterSeconds());
+        assertEquals(3, error.getDetails().get(ServerOverloadedError.RETRY_AFTER_SECONDS));
+        assertEquals(1, controller.getRejectedExecutions());
+
+        first.release();
+        controller.acquire("c");
+        assertEquals(2, controller.getPendingExecutions());
+    }
+
+    @Test
+    void testPendingLimit() {
+        AdmissionController controller = new AdmissionController(0, 1, 0, 1);
+        AdmissionController.Permit first = controller.acquire(null);
+        assertThrows(ServerOverloadedError.class, () -> controller.acquire(null));
+
+        // Running executions do not count against the pending limit
+        first.submitted();
+        first.started();
+        controller.acquire(null);
+        assertEquals(1, controller.getRunningExecutions());
+        assertEquals(1, controller.getPendingExecutions());
+    }
+
+    @Test
+    void testTenantLimit() {
+        AdmissionController controller = new AdmissionController(0, 0, 1, 1);
+        AdmissionController.Permit permit = controller.acquire("tenant-a");
+        assertThrows(ServerOverloadedError.class, () -> controller.acquire("tenant-a"));
+        controller.acquire("tenant-b");
+        controller.acquire(null);
+        assertEquals(1, controller.getExecutions("tenant-a"));
+
+        permit.release();
+        assertEquals(0, controller.getExecutions("tenant-a"));
+        controller.acquire("tenant-a");
+    }
+
+    @Test
+    void testPermitLifecycle() throws Exception {
+        AdmissionController controller = AdmissionController.unlimited();
+        AdmissionController.Permit permit = controller.acquire(null);
+        permit.submitted();
+        Thread.sleep(20);
+        permit.started();
+        assertEquals(0, controller.getPendingExecutions());
+        assertEquals(1, controller.getRunningExecutions());
+        assertTrue(controller.getMaxQueueWait().compareTo(Duration.ofMillis(20)) >= 0);
+        assertFalse(controller.getAverageQueueWait().isZero());
+
+        // Submitted executions are released by the agent, not by the failing request
+        permit.abandon();
+        assertEquals(1, controller.getRunningExecutions());
+        permit.release();
+        permit.release();
+        assertEquals(0, controller.getRunningExecutions());
+        assertEquals(0, controller.getExecutions(null));
+
+        AdmissionController.Permit abandoned = controller.acquire(null);
+        abandoned.abandon();
+        assertEquals(0, controller.getPendingExecutions());
+    }
+}
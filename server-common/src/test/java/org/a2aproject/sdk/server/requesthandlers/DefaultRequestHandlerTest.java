@@ -4,28 +4,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
+import org.a2aproject.sdk.server.RateLimitExceededError;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.agentexecution.AgentExecutor;
 import org.a2aproject.sdk.server.agentexecution.RequestContext;
+import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.events.EventQueue;
 import org.a2aproject.sdk.server.events.EventQueueItem;
 import org.a2aproject.sdk.server.events.EventQueueUtil;
 import org.a2aproject.sdk.server.events.InMemoryQueueManager;
 import org.a2aproject.sdk.server.events.MainEventBus;
 import org.a2aproject.sdk.server.events.MainEventBusProcessor;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
 import org.a2aproject.sdk.server.tasks.AgentEmitter;
 import org.a2aproject.sdk.server.tasks.InMemoryPushNotificationConfigStore;
 import org.a2aproject.sdk.server.tasks.InMemoryTaskStore;
@@ -36,12 +44,14 @@ import org.a2aproject.sdk.spec.A2AError;
 import org.a2aproject.sdk.spec.Event;
 import org.a2aproject.sdk.spec.EventKind;
 import org.a2aproject.sdk.spec.InvalidParamsError;
+import org.a2aproject.sdk.spec.ListTasksParams;
 import org.a2aproject.sdk.spec.Message;
 import org.a2aproject.sdk.spec.MessageSendConfiguration;
 import org.a2aproject.sdk.spec.MessageSendParams;
 import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.spec.Task;
 import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
+import org.a2aproject.sdk.spec.TaskIdParams;
 import org.a2aproject.sdk.spec.TaskNotFoundError;
 import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
 import org.a2aproject.sdk.spec.TaskState;
@@ -1120,4 +1130,342 @@ public class DefaultRequestHandlerTest {
         assertEquals("1.0", pushConfigStore.getProtocolVersion(taskId, taskId),
             "Protocol version should be stored when push config is provided via onMessageSendStream");
     }
+
+    /**
+     * A blocking send through onMessageSendAsync returns a pending future instead of parking the
+     * calling thread, and completes with the final task once the agent finishes.
+     */
+    @Test
+    void testSendMessageAsync_CompletesWhenAgentFinishes() throws Exception {
+        CountDownLatch working = new CountDownLatch(1);
+        CountDownLatch continueAgent = new CountDownLatch(1);
+        agentExecutorExecute = (context, emitter) -> {
+            emitter.startWork();
+            working.countDown();
+            try {
+                continueAgent.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            emitter.addArtifact(List.of(new TextPart("result")));
+            emitter.complete();
+        };
+
+        MessageSendParams params = MessageSendParams.builder()
+            .message(MESSAGE)
+            .configuration(MessageSendConfiguration.builder()
+                .returnImmediately(false)
+                .acceptedOutputModes(List.of())
+                .build())
+            .build();
+
+        CompletableFuture<EventKind> result = requestHandler.onMessageSendAsync(params, NULL_CONTEXT).toCompletableFuture();
+
+        assertTrue(working.await(2, TimeUnit.SECONDS), "Agent should have started");
+        Thread.sleep(200);
+        assertFalse(result.isDone(), "Blocking send should wait for the agent");
+
+        continueAgent.countDown();
+        Task task = assertInstanceOf(Task.class, result.get(5, TimeUnit.SECONDS));
+        assertEquals(TaskState.TASK_STATE_COMPLETED, task.status().state());
+        assertEquals(1, task.artifacts().size());
+    }
+
+    @Test
+    void testSendMessageAsync_ReportsErrorsThroughFuture() {
+        Message message = Message.builder()
+            .messageId("msg-unknown-task")
+            .role(Message.Role.ROLE_USER)
+            .taskId("does-not-exist-99999")
+            .parts(new TextPart("hello"))
+            .build();
+        MessageSendParams params = MessageSendParams.builder()
+            .message(message)
+            .configuration(DEFAULT_CONFIG)
+            .build();
+
+        CompletableFuture<EventKind> result = requestHandler.onMessageSendAsync(params, NULL_CONTEXT).toCompletableFuture();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TaskNotFoundError.class, e.getCause());
+    }
+
+    @Test
+    void testSendMessage_RejectedWhenOverloaded() throws Exception {
+        DefaultRequestHandler handler = (DefaultRequestHandler) requestHandler;
+        handler.admissionController = new AdmissionController(1, 0, 0, 7);
+        CountDownLatch working = new CountDownLatch(1);
+        CountDownLatch continueAgent = new CountDownLatch(1);
+        agentExecutorExecute = (context, emitter) -> {
+            emitter.startWork();
+            working.countDown();
+            try {
+                continueAgent.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            emitter.complete();
+        };
+        MessageSendParams params = MessageSendParams.builder()
+            .message(MESSAGE)
+            .configuration(DEFAULT_CONFIG)
+            .build();
+
+        CompletableFuture<EventKind> first = requestHandler.onMessageSendAsync(params, NULL_CONTEXT).toCompletableFuture();
+        assertTrue(working.await(2, TimeUnit.SECONDS), "Agent should have started");
+
+        Message second = Message.builder(MESSAGE).messageId("msg-overloaded").taskId("task-overloaded").build();
+        MessageSendParams secondParams = MessageSendParams.builder()
+            .message(second)
+            .configuration(DEFAULT_CONFIG)
+            .build();
+        // Rejected before any task or queue is created for it
+        ServerOverloadedError error = assertThrows(ServerOverloadedError.class,
+            () -> requestHandler.onMessageSend(secondParams, NULL_CONTEXT));
+        assertEquals(7, error.getRetryAfterSeconds());
+        assertNull(taskStore.get("task-overloaded"));
+        assertNull(queueManager.get("task-overloaded"));
+        assertThrows(ServerOverloadedError.class, () -> requestHandler.onMessageSendStream(secondParams, NULL_CONTEXT));
+        assertEquals(2, handler.getAdmissionController().getRejectedExecutions());
+
+        continueAgent.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        assertEquals(0, handler.getAdmissionController().getRunningExecutions());
+        assertEquals(0, handler.getAdmissionController().getPendingExecutions());
+    }
+
+    @Test
+    void testSendMessage_PermitReleasedWhenRequestFails() {
+        DefaultRequestHandler handler = (DefaultRequestHandler) requestHandler;
+        handler.admissionController = new AdmissionController(1, 0, 0, 1);
+        Message message = Message.builder()
+            .messageId("msg-unknown-task")
+            .role(Message.Role.ROLE_USER)
+            .taskId("does-not-exist-99999")
+            .parts(new TextPart("hello"))
+            .build();
+        MessageSendParams params = MessageSendParams.builder()
+            .message(message)
+            .configuration(DEFAULT_CONFIG)
+            .build();
+
+        // A request failing before the agent starts does not keep its admission
+        assertThrows(TaskNotFoundError.class, () -> requestHandler.onMessageSend(params, NULL_CONTEXT));
+        assertThrows(TaskNotFoundError.class, () -> requestHandler.onMessageSend(params, NULL_CONTEXT));
+        assertEquals(0, handler.getAdmissionController().getExecutions(null));
+    }
+
+    @Test
+    void testSubscribeToTask_OpenStreamsLimitedPerTenant() throws Exception {
+        DefaultRequestHandler handler = (DefaultRequestHandler) requestHandler;
+        handler.rateLimiter = new RateLimiter();
+        handler.rateLimiter.setMaxOpenStreamsPerTenant(1);
+        taskStore.save(new Task("stream-limit", "ctx", new TaskStatus(TaskState.TASK_STATE_WORKING), null, null, null), false);
+        TaskIdParams params = new TaskIdParams("stream-limit", "tenant-a");
+
+        Flow.Publisher<StreamingEventKind> first = requestHandler.onSubscribeToTask(params, NULL_CONTEXT);
+        assertEquals(1, handler.rateLimiter.getOpenStreams("tenant-a"));
+        assertThrows(RateLimitExceededError.class, () -> requestHandler.onSubscribeToTask(params, NULL_CONTEXT));
+        // Other tenants have their own limit
+        requestHandler.onSubscribeToTask(new TaskIdParams("stream-limit", "tenant-b"), NULL_CONTEXT);
+
+        // Cancelling the stream releases its permit
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        first.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onNext(StreamingEventKind item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+        subscription.get().cancel();
+        assertEquals(0, handler.rateLimiter.getOpenStreams("tenant-a"));
+        requestHandler.onSubscribeToTask(params, NULL_CONTEXT);
+    }
+
+    @Test
+    void testNonBlockingReadsFollowStores() {
+        assertTrue(requestHandler.isNonBlockingTaskRead());
+        assertTrue(requestHandler.isNonBlockingPushNotificationConfigRead());
+
+        // A store that does not declare itself non-blocking, like a database store
+        TaskStore blockingStore = new TaskStore() {
+            @Override
+            public void save(Task task, boolean isReplicated) {
+                taskStore.save(task, isReplicated);
+            }
+
+            @Override
+            public Task get(String taskId) {
+                return taskStore.get(taskId);
+            }
+
+            @Override
+            public void delete(String taskId) {
+                taskStore.delete(taskId);
+            }
+
+            @Override
+            public ListTasksResult list(ListTasksParams params) {
+                return taskStore.list(params);
+            }
+        };
+        RequestHandler blockingHandler = DefaultRequestHandler.create(
+            executor, blockingStore, queueManager, pushConfigStore, mainEventBusProcessor, internalExecutor, internalExecutor);
+        assertFalse(blockingHandler.isNonBlockingTaskRead());
+        assertFalse(blockingHandler.isNonBlockingPushNotificationConfigRead());
+    }
+
+    @Test
+    void testSubscribeToTasksCarriesSeveralTasks() throws Exception {
+        for (String taskId : List.of("multi-1", "multi-2")) {
+            taskStore.save(new Task(taskId, "ctx", new TaskStatus(TaskState.TASK_STATE_WORKING), null, null, null), false);
+        }
+        taskStore.save(new Task("multi-done", "ctx", new TaskStatus(TaskState.TASK_STATE_COMPLETED), null, null, null), false);
+        EventQueue producer = queueManager.createOrTap("multi-1");
+        ServerCallContext context = new ServerCallContext(UnauthenticatedUser.INSTANCE, Map.of(), Set.of());
+
+        MultiTaskSubscription subscription = requestHandler.onSubscribeToTasks(
+            new TaskSubscriptionParams("sub", List.of("multi-1", "multi-2", "multi-done"), List.of()), context);
+        assertEquals(Set.of("multi-1", "multi-2"), subscription.getTaskIds());
+        assertThrows(InvalidParamsError.class, () -> requestHandler.onSubscribeToTasks(
+            new TaskSubscriptionParams("sub", List.of(), List.of()), context));
+
+        List<StreamingEventKind> events = new java.util.concurrent.CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(4);
+        CountDownLatch completed = new CountDownLatch(1);
+        subscription.events().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(StreamingEventKind item) {
+                events.add(item);
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        producer.enqueueEvent(TaskStatusUpdateEvent.builder()
+            .taskId("multi-1")
+            .contextId("ctx")
+            .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+            .build());
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+
+        // The current state of each task, then the events of each task, tagged by task
+        assertTrue(events.contains(taskStore.get("multi-done")));
+        int snapshot = events.indexOf(events.stream()
+            .filter(e -> e instanceof Task task && task.id().equals("multi-1")).findFirst().orElseThrow());
+        int update = events.indexOf(events.stream()
+            .filter(e -> e instanceof TaskStatusUpdateEvent u && u.taskId().equals("multi-1")).findFirst().orElseThrow());
+        assertTrue(snapshot < update);
+
+        // A task leaves the subscription once final, others are removed on request
+        long deadline = System.currentTimeMillis() + 5000;
+        while (subscription.getTaskIds().contains("multi-1") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Set.of("multi-2"), subscription.getTaskIds());
+        requestHandler.onUpdateTaskSubscription(new TaskSubscriptionParams("sub", List.of(), List.of("multi-2")), context);
+        assertEquals(Set.of(), subscription.getTaskIds());
+        assertThrows(TaskNotFoundError.class, () -> requestHandler.onUpdateTaskSubscription(
+            new TaskSubscriptionParams("sub", List.of("unknown"), List.of()), context));
+
+        // Closing the stream releases the subscription
+        context.invokeEventConsumerCancelCallback();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertThrows(InvalidParamsError.class, () -> requestHandler.onUpdateTaskSubscription(
+            new TaskSubscriptionParams("sub", List.of(), List.of()), context));
+    }
+
+    @Test
+    void testSubscribeToTasksFollowsSubscriberDemand() throws Exception {
+        int eventCount = 2000;
+        taskStore.save(new Task("slow-1", "ctx", new TaskStatus(TaskState.TASK_STATE_WORKING), null, null, null), false);
+        EventQueue producer = queueManager.createOrTap("slow-1");
+        ServerCallContext context = new ServerCallContext(UnauthenticatedUser.INSTANCE, Map.of(), Set.of());
+        MultiTaskSubscription subscription = requestHandler.onSubscribeToTasks(
+            new TaskSubscriptionParams("slow", List.of("slow-1"), List.of()), context);
+
+        List<StreamingEventKind> events = new java.util.concurrent.CopyOnWriteArrayList<>();
+        AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch snapshotReceived = new CountDownLatch(1);
+        CountDownLatch allReceived = new CountDownLatch(eventCount + 1);
+        subscription.events().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                upstream.set(s);
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(StreamingEventKind item) {
+                events.add(item);
+                snapshotReceived.countDown();
+                allReceived.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(snapshotReceived.await(5, TimeUnit.SECONDS));
+
+        // More events than the stream buffers are left in the task's queue until requested
+        for (int i = 0; i < eventCount; i++) {
+            producer.enqueueEvent(TaskStatusUpdateEvent.builder()
+                .taskId("slow-1")
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.TASK_STATE_WORKING))
+                .metadata(Map.of("index", i))
+                .build());
+        }
+        Thread.sleep(200);
+        assertEquals(1, events.size());
+        assertNull(error.get());
+
+        for (int i = 0; i < eventCount; i += 100) {
+            upstream.get().request(100);
+        }
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+        assertNull(error.get());
+        for (int i = 0; i < eventCount; i++) {
+            assertEquals(i, ((TaskStatusUpdateEvent) events.get(i + 1)).metadata().get("index"));
+        }
+        subscription.close();
+    }
 }
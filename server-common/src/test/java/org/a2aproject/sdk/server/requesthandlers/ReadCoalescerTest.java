@@ -0,0 +1,105 @@
+package org.a2aproject.sdk.server.requesthandlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.a2aproject.sdk.spec.TaskNotFoundError;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+public class ReadCoalescerTest {
+
+    @Test
+    void testConcurrentReadsShareOneLoad() throws Exception {
+        ReadCoalescer<String, String> coalescer = new ReadCoalescer<>(0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coalescer.get("task", () -> {
+            loading.countDown();
+            await(release);
+            return "value-" + loads.incrementAndGet();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> follower = new CompletableFuture<>();
+        Thread followerThread = startWaitingReader(
+                () -> follower.complete(coalescer.get("task", () -> "value-" + loads.incrementAndGet())));
+        // Another key is loaded independently
+        assertEquals("other", coalescer.get("other-task", () -> "other"));
+
+        release.countDown();
+        followerThread.join();
+        assertEquals("value-1", leader.get());
+        assertEquals("value-1", follower.get());
+        assertEquals(1, loads.get());
+
+        // Without a staleness window, the next read loads again
+        assertEquals("value-2", coalescer.get("task", () -> "value-" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void testFailureIsSharedAndNotCached() throws Exception {
+        ReadCoalescer<String, String> coalescer = new ReadCoalescer<>(TimeUnit.MINUTES.toNanos(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TaskNotFoundError error = new TaskNotFoundError();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coalescer.get("task", () -> {
+            loading.countDown();
+            await(release);
+            throw error;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = new CompletableFuture<>();
+        Thread followerThread = startWaitingReader(() -> {
+            try {
+                follower.complete(coalescer.get("task", () -> "loaded"));
+            } catch (RuntimeException e) {
+                follower.completeExceptionally(e);
+            }
+        });
+
+        release.countDown();
+        followerThread.join();
+        assertSame(error, assertThrows(Exception.class, leader::join).getCause());
+        assertSame(error, assertThrows(Exception.class, follower::join).getCause());
+        assertEquals("loaded", coalescer.get("task", () -> "loaded"));
+    }
+
+    @Test
+    void testStalenessWindow() {
+        ReadCoalescer<String, String> coalescer = new ReadCoalescer<>(TimeUnit.MINUTES.toNanos(1));
+        assertEquals("first", coalescer.get("task", () -> "first"));
+        assertEquals("first", coalescer.get("task", () -> "second"));
+    }
+
+    /**
+     * Starts a reader and returns once it waits for the load in flight.
+     */
+    private static Thread startWaitingReader(Runnable reader) throws InterruptedException {
+        Thread thread = new Thread(reader);
+        thread.start();
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
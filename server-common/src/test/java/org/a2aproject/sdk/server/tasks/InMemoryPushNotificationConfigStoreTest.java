@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 
 import org.a2aproject.sdk.client.http.A2AHttpClient;
 import org.a2aproject.sdk.client.http.A2AHttpResponse;
@@ -622,6 +623,26 @@ class InMemoryPushNotificationConfigStoreTest {
         assertEquals(AgentInterface.CURRENT_PROTOCOL_VERSION, configStore.getProtocolVersion(taskId, configId));
     }
 
+    @Test
+    public void testGetProtocolVersionsIsScopedToTask() {
+        configStore.setInfo(TaskPushNotificationConfig.builder()
+                .id("cfg1").taskId("task1").url("http://example.com/hook").build(), "0.3");
+        configStore.setInfo(TaskPushNotificationConfig.builder()
+                .id("cfg2").taskId("task1").url("http://example.com/hook2").build(), "1.0");
+        // Same config ID on a different task, and a task ID sharing the "task1" prefix
+        configStore.setInfo(TaskPushNotificationConfig.builder()
+                .id("cfg1").taskId("task10").url("http://example.com/other").build(), "1.0");
+
+        assertEquals(Map.of("cfg1", "0.3", "cfg2", "1.0"), configStore.getProtocolVersions("task1"));
+        assertEquals(Map.of("cfg1", "1.0"), configStore.getProtocolVersions("task10"));
+        assertTrue(configStore.getProtocolVersions("unknown").isEmpty());
+
+        // Updating a config without a version keeps its stored version
+        configStore.setInfo(TaskPushNotificationConfig.builder()
+                .id("cfg1").taskId("task1").url("http://example.com/updated").build());
+        assertEquals("0.3", configStore.getProtocolVersion("task1", "cfg1"));
+    }
+
     @Test
     public void testGetProtocolVersionReturnsDefaultForUnknownConfig() {
         assertEquals(AgentInterface.CURRENT_PROTOCOL_VERSION, configStore.getProtocolVersion("nonexistent", "nonexistent"));
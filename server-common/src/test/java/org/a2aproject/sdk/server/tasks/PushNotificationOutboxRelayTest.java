@@ -0,0 +1,147 @@
+package org.a2aproject.sdk.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PushNotificationOutboxRelayTest {
+
+    private InMemoryPushNotificationOutbox outbox;
+    private RecordingSender sender;
+
+    private static class RecordingSender implements PushNotificationSender {
+        final List<StreamingEventKind> delivered = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger failuresLeft = new AtomicInteger();
+
+        @Override
+        public void sendNotification(StreamingEventKind event, @Nullable Task taskSnapshot) {
+            deliverNotification(event, taskSnapshot);
+        }
+
+        @Override
+        public boolean deliverNotification(StreamingEventKind event, @Nullable Task taskSnapshot) {
+            if (failuresLeft.getAndDecrement() > 0) {
+                return false;
+            }
+            delivered.add(event);
+            return true;
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        outbox = new InMemoryPushNotificationOutbox();
+        sender = new RecordingSender();
+    }
+
+    private PushNotificationOutboxRelay createRelay(int batchSize, int maxAttempts) {
+        return new PushNotificationOutboxRelay(outbox, sender, batchSize, Duration.ofMillis(50), maxAttempts,
+                Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1));
+    }
+
+    private Task createTask(String taskId, TaskState state) {
+        return Task.builder()
+                .id(taskId)
+                .contextId("ctx")
+                .status(new TaskStatus(state))
+                .build();
+    }
+
+    @Test
+    public void testDrainDeliversAllEntriesInOrderAcrossBatches() {
+        for (int i = 0; i < 5; i++) {
+            Task task = createTask("task-" + i, TaskState.TASK_STATE_WORKING);
+            outbox.append(task.id(), task, task);
+        }
+
+        int delivered = createRelay(2, 3).drain();
+
+        assertEquals(5, delivered);
+        assertEquals(0, outbox.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("task-" + i, ((Task) sender.delivered.get(i)).id());
+        }
+    }
+
+    @Test
+    public void testFailedDeliveryIsRetried() {
+        Task task = createTask("task-retry", TaskState.TASK_STATE_COMPLETED);
+        outbox.append(task.id(), task, task);
+        sender.failuresLeft.set(2);
+
+        PushNotificationOutboxRelay relay = createRelay(10, 5);
+        assertEquals(0, relay.drain());
+        assertEquals(1, outbox.size());
+        assertEquals(0, relay.drain());
+        assertEquals(1, outbox.size());
+        assertEquals(1, relay.drain());
+
+        assertEquals(0, outbox.size());
+        assertEquals(1, sender.delivered.size());
+    }
+
+    @Test
+    public void testEntryIsGivenUpAfterMaxAttempts() {
+        Task task = createTask("task-give-up", TaskState.TASK_STATE_FAILED);
+        outbox.append(task.id(), task, task);
+        sender.failuresLeft.set(Integer.MAX_VALUE);
+
+        PushNotificationOutboxRelay relay = createRelay(10, 2);
+        relay.drain();
+        relay.drain();
+
+        assertEquals(0, outbox.size());
+        assertTrue(sender.delivered.isEmpty());
+    }
+
+    @Test
+    public void testClaimedEntriesAreHiddenUntilLeaseExpires() {
+        Task task = createTask("task-lease", TaskState.TASK_STATE_WORKING);
+        outbox.append(task.id(), task, task);
+
+        List<PushNotificationOutboxEntry> first = outbox.claim(10, Duration.ofMinutes(1));
+        List<PushNotificationOutboxEntry> second = outbox.claim(10, Duration.ofMinutes(1));
+
+        assertEquals(1, first.size());
+        assertEquals("task-lease", first.get(0).taskId());
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    public void testBackgroundRelayDeliversAfterWakeUp() throws InterruptedException {
+        PushNotificationOutboxRelay relay = createRelay(10, 3);
+        relay.start();
+        try {
+            TaskStatusUpdateEvent event = TaskStatusUpdateEvent.builder()
+                    .taskId("task-bg")
+                    .contextId("ctx")
+                    .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED))
+                    .build();
+            outbox.append("task-bg", event, createTask("task-bg", TaskState.TASK_STATE_COMPLETED));
+            relay.wakeUp();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sender.delivered.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, sender.delivered.size());
+            assertEquals(0, outbox.size());
+        } finally {
+            relay.stop();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.a2aproject.sdk.client.http.A2AHttpClient;
@@ -23,6 +24,8 @@ import org.a2aproject.sdk.common.A2AHeaders;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
 import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsParams;
+import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsResult;
 import org.a2aproject.sdk.spec.Message;
 import org.a2aproject.sdk.spec.StreamingEventKind;
 import org.a2aproject.sdk.spec.Task;
@@ -516,4 +519,241 @@ public class PushNotificationSenderTest {
 
         assertTrue(testHttpClient.rawBodies.isEmpty());
     }
+
+    @Test
+    public void testConfigsAreCachedAndInvalidatedOnChange() throws InterruptedException {
+        String taskId = "task_config_cache";
+        AtomicInteger lookups = new AtomicInteger();
+        InMemoryPushNotificationConfigStore countingStore = new InMemoryPushNotificationConfigStore() {
+            @Override
+            public ListTaskPushNotificationConfigsResult getInfo(ListTaskPushNotificationConfigsParams params) {
+                lookups.incrementAndGet();
+                return super.getInfo(params);
+            }
+        };
+        countingStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/first", "cfg1", null));
+        BasePushNotificationSender cachingSender = new BasePushNotificationSender(countingStore, testHttpClient);
+
+        testHttpClient.latch = new CountDownLatch(2);
+        cachingSender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING), null);
+        cachingSender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING), null);
+        assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, lookups.get(), "Configs should be looked up once and then served from the cache");
+
+        // Adding a config must be visible to the next notification
+        countingStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/second", "cfg2", null));
+        testHttpClient.latch = new CountDownLatch(2);
+        cachingSender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING), null);
+        assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, lookups.get());
+        assertTrue(testHttpClient.urls.contains("http://notify.me/second"));
+
+        // Deleting a config must be visible to the next notification
+        countingStore.deleteInfo(taskId, "cfg1");
+        testHttpClient.urls.clear();
+        testHttpClient.latch = new CountDownLatch(1);
+        cachingSender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING), null);
+        assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("http://notify.me/second"), testHttpClient.urls);
+    }
+
+    @Test
+    public void testTasksWithoutConfigsAreOnlyCachedIfTheStoreReportsAllChanges() {
+        String taskId = "task_without_configs";
+        AtomicInteger lookups = new AtomicInteger();
+        InMemoryPushNotificationConfigStore localStore = new InMemoryPushNotificationConfigStore() {
+            @Override
+            public ListTaskPushNotificationConfigsResult getInfo(ListTaskPushNotificationConfigsParams params) {
+                lookups.incrementAndGet();
+                return super.getInfo(params);
+            }
+        };
+        BasePushNotificationSender localSender = new BasePushNotificationSender(localStore, testHttpClient);
+        assertFalse(localSender.hasPushNotificationConfigs(taskId));
+        assertFalse(localSender.hasPushNotificationConfigs(taskId));
+        assertEquals(1, lookups.get());
+
+        // A shared store does not report configs registered through other instances
+        AtomicInteger sharedLookups = new AtomicInteger();
+        InMemoryPushNotificationConfigStore sharedStore = new InMemoryPushNotificationConfigStore() {
+            @Override
+            public ListTaskPushNotificationConfigsResult getInfo(ListTaskPushNotificationConfigsParams params) {
+                sharedLookups.incrementAndGet();
+                return super.getInfo(params);
+            }
+
+            @Override
+            public boolean reportsAllChanges() {
+                return false;
+            }
+        };
+        BasePushNotificationSender sharedSender = new BasePushNotificationSender(sharedStore, testHttpClient);
+        assertFalse(sharedSender.hasPushNotificationConfigs(taskId));
+        assertFalse(sharedSender.hasPushNotificationConfigs(taskId));
+        assertEquals(2, sharedLookups.get());
+    }
+
+    @Test
+    public void testConfigCacheCanBeDisabled() throws InterruptedException {
+        String taskId = "task_config_cache_disabled";
+        AtomicInteger lookups = new AtomicInteger();
+        InMemoryPushNotificationConfigStore countingStore = new InMemoryPushNotificationConfigStore() {
+            @Override
+            public ListTaskPushNotificationConfigsResult getInfo(ListTaskPushNotificationConfigsParams params) {
+                lookups.incrementAndGet();
+                return super.getInfo(params);
+            }
+        };
+        countingStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/here", "cfg1", null));
+        BasePushNotificationSender uncachedSender = new BasePushNotificationSender(countingStore, testHttpClient);
+        uncachedSender.setConfigCacheTtl(java.time.Duration.ZERO);
+
+        testHttpClient.latch = new CountDownLatch(2);
+        uncachedSender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING), null);
+        uncachedSender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING), null);
+        assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testPayloadIsFormattedOncePerVersion() throws InterruptedException {
+        String taskId = "task_formatter_once";
+        Task taskData = createSampleTask(taskId, TaskState.TASK_STATE_COMPLETED);
+        configStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/a", "cfg1", null), "0.3");
+        configStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/b", "cfg2", null), "0.3");
+        configStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/c", "cfg3", null), "0.3");
+
+        AtomicInteger formatCalls = new AtomicInteger();
+        PushNotificationPayloadFormatter formatter = new PushNotificationPayloadFormatter() {
+            @Override
+            public String targetVersion() { return "0.3"; }
+
+            @Override
+            public @Nullable String formatPayload(StreamingEventKind event, @Nullable Task snapshot) {
+                formatCalls.incrementAndGet();
+                return "{\"id\":\"" + taskId + "\",\"kind\":\"task\",\"formatted\":true}";
+            }
+        };
+
+        BasePushNotificationSender formatterSender = new BasePushNotificationSender(
+                configStore, testHttpClient, List.of(formatter));
+        testHttpClient.latch = new CountDownLatch(3);
+
+        formatterSender.sendNotification(taskData, taskData);
+
+        assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(3, testHttpClient.rawBodies.size());
+        assertEquals(1, formatCalls.get(), "The payload should be formatted once and shared between configs");
+    }
+
+    @Test
+    public void testCoalescingSendsLatestSnapshotOncePerWindow() throws InterruptedException {
+        String taskId = "task_coalesce_window";
+        configStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/here", "cfg1", null));
+        sender.setCoalescing(java.time.Duration.ofMillis(200), 1000);
+        try {
+            testHttpClient.latch = new CountDownLatch(1);
+            for (int i = 0; i < 20; i++) {
+                Task snapshot = Task.builder(createSampleTask(taskId, TaskState.TASK_STATE_WORKING))
+                        .metadata(Map.of("chunk", i))
+                        .build();
+                TaskArtifactUpdateEvent chunk = TaskArtifactUpdateEvent.builder()
+                        .taskId(taskId)
+                        .contextId("ctx456")
+                        .artifact(Artifact.builder()
+                                .artifactId("artifact-1")
+                                .parts(List.of(new TextPart("chunk " + i)))
+                                .build())
+                        .build();
+                sender.sendNotification(chunk, snapshot);
+            }
+
+            assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+            // Give a possible extra notification time to arrive
+            Thread.sleep(300);
+            assertEquals(1, testHttpClient.events.size());
+            Task sentTask = (Task) testHttpClient.events.get(0);
+            assertEquals(19, ((Number) sentTask.metadata().get("chunk")).intValue());
+        } finally {
+            sender.setCoalescing(java.time.Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testCoalescingFlushesFinalStateImmediately() throws InterruptedException {
+        String taskId = "task_coalesce_final";
+        configStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/here", "cfg1", null));
+        // A window far longer than the test timeout, so only the final state can trigger the send
+        sender.setCoalescing(java.time.Duration.ofMinutes(10), 1000);
+        try {
+            testHttpClient.latch = new CountDownLatch(1);
+            sender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING),
+                    createSampleTask(taskId, TaskState.TASK_STATE_WORKING));
+            Task completed = createSampleTask(taskId, TaskState.TASK_STATE_COMPLETED);
+            sender.sendNotification(TaskStatusUpdateEvent.builder()
+                    .taskId(taskId)
+                    .contextId("ctx456")
+                    .status(completed.status())
+                    .build(), completed);
+
+            assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, testHttpClient.events.size());
+            assertEquals(TaskState.TASK_STATE_COMPLETED, ((Task) testHttpClient.events.get(0)).status().state());
+        } finally {
+            sender.setCoalescing(java.time.Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testCoalescingSendsBufferedSnapshotBeforeMessage() throws InterruptedException {
+        String taskId = "task_coalesce_message";
+        configStore.setInfo(createSamplePushConfig(taskId, "http://notify.me/here", "cfg1", null));
+        sender.setCoalescing(java.time.Duration.ofMinutes(10), 1000);
+        try {
+            testHttpClient.latch = new CountDownLatch(2);
+            sender.sendNotification(createSampleTask(taskId, TaskState.TASK_STATE_WORKING),
+                    createSampleTask(taskId, TaskState.TASK_STATE_WORKING));
+            sender.sendNotification(Message.builder()
+                    .taskId(taskId)
+                    .contextId("ctx456")
+                    .messageId("msg-1")
+                    .role(Message.Role.ROLE_AGENT)
+                    .parts(List.of(new TextPart("hello")))
+                    .build(), null);
+
+            assertTrue(testHttpClient.latch.await(5, TimeUnit.SECONDS));
+            assertTrue(testHttpClient.events.get(0) instanceof Task);
+            assertTrue(testHttpClient.events.get(1) instanceof Message);
+        } finally {
+            sender.setCoalescing(java.time.Duration.ZERO, 0);
+        }
+    }
+
+    @Test
+    public void testCoalescingSlowTaskDoesNotDelayOtherTasks() throws InterruptedException {
+        CountDownLatch slowTaskReleased = new CountDownLatch(1);
+        CountDownLatch otherTaskSent = new CountDownLatch(1);
+        PushNotificationCoalescer coalescer = new PushNotificationCoalescer(java.time.Duration.ofMinutes(10), 1000,
+                java.util.concurrent.ForkJoinPool.commonPool(), snapshot -> {
+                    try {
+                        if (snapshot.id().equals("task_slow")) {
+                            slowTaskReleased.await(10, TimeUnit.SECONDS);
+                        } else {
+                            otherTaskSent.countDown();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        try {
+            coalescer.submit("task_slow", createSampleTask("task_slow", TaskState.TASK_STATE_COMPLETED), true);
+            coalescer.submit("task_other", createSampleTask("task_other", TaskState.TASK_STATE_COMPLETED), true);
+
+            assertTrue(otherTaskSent.await(5, TimeUnit.SECONDS),
+                    "A slow endpoint should not delay the notifications of other tasks");
+        } finally {
+            slowTaskReleased.countDown();
+            coalescer.close();
+        }
+    }
 }
@@ -1,8 +1,6 @@
 package org.a2aproject.sdk.grpc.mapper;
 
-import java.util.Base64;
-
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.protobuf.Value;
 import org.a2aproject.sdk.spec.DataPart;
 import org.a2aproject.sdk.spec.FileContent;
@@ -52,8 +50,9 @@ public interface PartMapper {
             FileContent fileContent = filePart.file();
 
             if (fileContent instanceof FileWithBytes fileWithBytes) {
-                // Map to raw (bytes), filename, and media_type
-                builder.setRaw(ByteString.copyFrom(Base64.getDecoder().decode(fileWithBytes.bytes())));
+                // Map to raw (bytes), filename, and media_type. The content is read-only, so it is
+                // wrapped without copying.
+                builder.setRaw(UnsafeByteOperations.unsafeWrap(fileWithBytes.content()));
                 if (fileWithBytes.name() != null) {
                     builder.setFilename(fileWithBytes.name());
                 }
@@ -93,11 +92,10 @@ public interface PartMapper {
         if (proto.hasText()) {
             return new TextPart(proto.getText(), metadata);
         } else if (proto.hasRaw()) {
-            // raw bytes → FilePart(FileWithBytes)
-            String bytes = Base64.getEncoder().encodeToString(proto.getRaw().toByteArray());
+            // raw bytes → FilePart(FileWithBytes), sharing the immutable ByteString content
             String mimeType = proto.getMediaType().isEmpty() ? "" : proto.getMediaType();
             String name = proto.getFilename().isEmpty() ? "" : proto.getFilename();
-            return new FilePart(new FileWithBytes(mimeType, name, bytes), metadata);
+            return new FilePart(new FileWithBytes(mimeType, name, proto.getRaw().asReadOnlyByteBuffer()), metadata);
         } else if (proto.hasUrl()) {
             // url → FilePart(FileWithUri)
             String uri = proto.getUrl();
@@ -8,6 +8,7 @@ import static org.a2aproject.sdk.spec.A2AMethods.SEND_STREAMING_MESSAGE_METHOD;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -18,9 +19,11 @@ import java.util.regex.Pattern;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
 import com.google.gson.Strictness;
 import com.google.gson.stream.JsonWriter;
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -177,6 +180,17 @@ public class JSONRPCUtils {
     static final String ERROR_MESSAGE = "Invalid request content: %s. Please verify the request matches the expected schema for this method.";
 
     public static A2ARequest<?> parseRequestBody(String body, @Nullable String tenant) throws JsonMappingException, JsonProcessingException {
+        // Well-formed requests are read in one pass, and their params are parsed straight from the body
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(body);
+        if (envelope != null && A2AMessage.JSONRPC_VERSION.equals(envelope.jsonrpc())) {
+            try {
+                return parseMethodRequest(envelope.jsonrpc(), envelope.id(), envelope.method(), envelope.params(), tenant);
+            } catch (InvalidParamsError e) {
+                throw new InvalidParamsJsonMappingException(Utils.defaultIfNull(e.getMessage(), "Invalid parameters"), envelope.id());
+            }
+        }
+
+        // Anything else is parsed into a tree, to report the problem with the matching error
         JsonElement jelement = JsonParser.parseString(body);
         JsonObject jsonRpc = jelement.getAsJsonObject();
         if (!jsonRpc.has("method")) {
@@ -189,17 +203,177 @@ public class JSONRPCUtils {
         String method = jsonRpc.get("method").getAsString();
         JsonElement paramsNode = jsonRpc.get("params");
         try {
-            return parseMethodRequest(version, id, method, paramsNode, tenant);
+            return parseMethodRequest(version, id, method, paramsNode == null ? null : paramsNode.toString(), tenant);
         } catch (InvalidParamsError e) {
             throw new InvalidParamsJsonMappingException(Utils.defaultIfNull(e.getMessage(), "Invalid parameters"), id);
         }
     }
 
-    private static A2ARequest<?> parseMethodRequest(String version, Object id, String method, JsonElement paramsNode, @Nullable String tenant) throws InvalidParamsError, MethodNotFoundJsonMappingException, JsonProcessingException {
+    /**
+     * Returns whether the body is a JSON-RPC batch, i.e. a JSON array of requests or responses.
+     *
+     * @param body the HTTP body
+     * @return {@code true} if the first non-whitespace character opens an array
+     */
+    public static boolean isBatchBody(String body) {
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits a JSON-RPC batch into the JSON of its members, in order, so that each can be parsed
+     * with {@link #parseRequestBody} or {@link #parseResponseBody} and fail on its own.
+     *
+     * @param body the HTTP body, a JSON array
+     * @return the JSON of each member of the batch
+     * @throws JsonProcessingException if the body is not a JSON array
+     * @throws com.google.gson.JsonSyntaxException if the body is not valid JSON
+     */
+    public static List<String> splitBatchBody(String body) throws JsonProcessingException {
+        // Well-formed batches are split in one pass, each member being a region of the body
+        List<String> scanned = JsonRpcEnvelope.splitArray(body);
+        if (scanned != null) {
+            return scanned;
+        }
+
+        // Anything else is parsed into a tree, to report the problem
+        JsonElement jelement = JsonParser.parseString(body);
+        if (!jelement.isJsonArray()) {
+            throw new JsonProcessingException("JSON-RPC batch must be a JSON array");
+        }
+        JsonArray batch = jelement.getAsJsonArray();
+        List<String> members = new ArrayList<>(batch.size());
+        for (JsonElement member : batch) {
+            members.add(member.toString());
+        }
+        return members;
+    }
+
+    /**
+     * Returns whether a member of a batch is a JSON-RPC notification, i.e. a request without an
+     * {@code id}, which must not be answered.
+     *
+     * @param member the JSON of the member
+     * @return true if the member is a JSON object with a {@code method} and no {@code id}
+     */
+    public static boolean isNotification(String member) {
+        return JsonRpcEnvelope.isNotification(member);
+    }
+
+    /**
+     * Parses a JSON-RPC notification, a request without an {@code id}, into a request whose ID
+     * is {@code null}.
+     *
+     * @param body the notification
+     * @param tenant the tenant of the HTTP request, if any
+     * @return the request
+     * @throws JsonMappingException if the notification is not a valid JSON-RPC request, or its
+     *                              params do not match its method
+     * @throws JsonProcessingException if the body is not valid JSON
+     */
+    // Notifications carry a null ID through the request, which A2ARequest allows
+    @SuppressWarnings("NullAway")
+    public static A2ARequest<?> parseNotificationBody(String body, @Nullable String tenant)
+            throws JsonMappingException, JsonProcessingException {
+        JsonObject jsonRpc = JsonParser.parseString(body).getAsJsonObject();
+        if (jsonRpc.has("id") || !jsonRpc.has("method")) {
+            throw new JsonMappingException(null, "JSON-RPC notification must have a 'method' and no 'id'");
+        }
+        String version = getAndValidateJsonrpc(jsonRpc);
+        String method = jsonRpc.get("method").getAsString();
+        JsonElement paramsNode = jsonRpc.get("params");
+        try {
+            return parseMethodRequest(version, null, method, paramsNode == null ? null : paramsNode.toString(), tenant);
+        } catch (InvalidParamsError e) {
+            throw new InvalidParamsJsonMappingException(Utils.defaultIfNull(e.getMessage(), "Invalid parameters"), null);
+        }
+    }
+
+    /**
+     * Combines JSON-RPC requests or responses into a batch.
+     *
+     * @param members the JSON of each request or response, in order
+     * @return the JSON array of the batch
+     */
+    public static String toJsonRPCBatch(List<String> members) {
+        return "[" + String.join(",", members) + "]";
+    }
+
+    /**
+     * Returns the method of a JSON-RPC request read in a single pass over the body, without
+     * building a tree, so that a request can be routed before it is parsed.
+     *
+     * @param body the request body
+     * @return the method, or {@code null} if the body is not a request that the single pass can
+     *         read, in which case it is left to {@link #parseRequestBody(String, String)}
+     */
+    public static @Nullable String peekMethod(String body) {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(body);
+        return envelope == null ? null : envelope.method();
+    }
+
+    /**
+     * Returns the method of a JSON-RPC request, so that requests for methods that
+     * {@link #parseRequestBody(String, String)} does not know, such as extension methods, can be
+     * dispatched.
+     *
+     * @param body the request body
+     * @return the method, or {@code null} if the body is not a JSON object with a string method
+     */
+    public static @Nullable String getMethod(String body) {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(body);
+        if (envelope != null) {
+            return envelope.method();
+        }
+        try {
+            JsonElement jelement = JsonParser.parseString(body);
+            if (jelement.isJsonObject() && jelement.getAsJsonObject().get("method") instanceof JsonPrimitive method
+                    && method.isString()) {
+                return method.getAsString();
+            }
+        } catch (RuntimeException e) {
+            // Not JSON
+        }
+        return null;
+    }
+
+    /**
+     * Parses a JSON-RPC request for a method that is not part of the A2A protocol, such as an
+     * extension method, reading its params into the given builder.
+     *
+     * @param body the request body
+     * @param paramsBuilder the builder receiving the params
+     * @return the ID of the request
+     * @throws JsonMappingException if the request is not a valid JSON-RPC request, or its params
+     *                              do not match the builder
+     * @throws JsonProcessingException if the body is not valid JSON
+     */
+    public static Object parseExtensionRequestBody(String body, com.google.protobuf.Message.Builder paramsBuilder)
+            throws JsonMappingException, JsonProcessingException {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(body);
+        if (envelope != null && A2AMessage.JSONRPC_VERSION.equals(envelope.jsonrpc())) {
+            parseParams(envelope.params(), paramsBuilder, envelope.id());
+            return envelope.id();
+        }
+
+        JsonObject jsonRpc = JsonParser.parseString(body).getAsJsonObject();
+        getAndValidateJsonrpc(jsonRpc);
+        Object id = getAndValidateId(jsonRpc);
+        JsonElement paramsNode = jsonRpc.get("params");
+        parseParams(paramsNode == null ? null : paramsNode.toString(), paramsBuilder, id);
+        return id;
+    }
+
+    private static A2ARequest<?> parseMethodRequest(String version, Object id, String method, @Nullable String paramsJson, @Nullable String tenant) throws InvalidParamsError, MethodNotFoundJsonMappingException, JsonProcessingException {
         switch (method) {
             case GET_TASK_METHOD -> {
                 org.a2aproject.sdk.grpc.GetTaskRequest.Builder builder = org.a2aproject.sdk.grpc.GetTaskRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -207,7 +381,7 @@ public class JSONRPCUtils {
             }
             case CANCEL_TASK_METHOD -> {
                 org.a2aproject.sdk.grpc.CancelTaskRequest.Builder builder = org.a2aproject.sdk.grpc.CancelTaskRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -215,7 +389,7 @@ public class JSONRPCUtils {
             }
             case LIST_TASK_METHOD -> {
                 org.a2aproject.sdk.grpc.ListTasksRequest.Builder builder = org.a2aproject.sdk.grpc.ListTasksRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -223,7 +397,7 @@ public class JSONRPCUtils {
             }
             case SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD -> {
                 org.a2aproject.sdk.grpc.TaskPushNotificationConfig.Builder builder = org.a2aproject.sdk.grpc.TaskPushNotificationConfig.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -231,7 +405,7 @@ public class JSONRPCUtils {
             }
             case GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD -> {
                 org.a2aproject.sdk.grpc.GetTaskPushNotificationConfigRequest.Builder builder = org.a2aproject.sdk.grpc.GetTaskPushNotificationConfigRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -239,7 +413,7 @@ public class JSONRPCUtils {
             }
             case SEND_MESSAGE_METHOD -> {
                 org.a2aproject.sdk.grpc.SendMessageRequest.Builder builder = org.a2aproject.sdk.grpc.SendMessageRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -247,7 +421,7 @@ public class JSONRPCUtils {
             }
             case LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD -> {
                 org.a2aproject.sdk.grpc.ListTaskPushNotificationConfigsRequest.Builder builder = org.a2aproject.sdk.grpc.ListTaskPushNotificationConfigsRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -255,7 +429,7 @@ public class JSONRPCUtils {
             }
             case DELETE_TASK_PUSH_NOTIFICATION_CONFIG_METHOD -> {
                 org.a2aproject.sdk.grpc.DeleteTaskPushNotificationConfigRequest.Builder builder = org.a2aproject.sdk.grpc.DeleteTaskPushNotificationConfigRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -266,7 +440,7 @@ public class JSONRPCUtils {
             }
             case SEND_STREAMING_MESSAGE_METHOD -> {
                 org.a2aproject.sdk.grpc.SendMessageRequest.Builder builder = org.a2aproject.sdk.grpc.SendMessageRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -274,7 +448,7 @@ public class JSONRPCUtils {
             }
             case SUBSCRIBE_TO_TASK_METHOD -> {
                 org.a2aproject.sdk.grpc.SubscribeToTaskRequest.Builder builder = org.a2aproject.sdk.grpc.SubscribeToTaskRequest.newBuilder();
-                parseRequestBody(paramsNode, builder, id);
+                parseParams(paramsJson, builder, id);
                 if (tenant != null && !tenant.isBlank() && (builder.getTenant() == null || builder.getTenant().isBlank())) {
                     builder.setTenant(tenant);
                 }
@@ -435,6 +609,13 @@ public class JSONRPCUtils {
         return new A2AError(A2AErrorCodes.INTERNAL.code(), message == null ? "" : message, details);
     }
 
+    private static void parseParams(@Nullable String paramsJson, com.google.protobuf.Message.Builder builder, Object id) throws JsonProcessingException {
+        if (paramsJson == null) {
+            throw new InvalidParamsJsonMappingException("JSON-RPC request missing required 'params' field.", id);
+        }
+        parseJsonString(paramsJson, builder, id);
+    }
+
     protected static void parseRequestBody(JsonElement jsonRpc, com.google.protobuf.Message.Builder builder, Object id) throws JsonProcessingException {
         parseJsonString(jsonRpc.toString(), builder, id);
     }
@@ -0,0 +1,202 @@
+package org.a2aproject.sdk.grpc.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal JSON writer producing UTF-8 bytes into a growable buffer.
+ * <p>
+ * Only the structural characters and the values are written; separators between members and
+ * elements are written by the caller, which knows the shape of the document. Strings are escaped
+ * like Gson does by default, which is what {@code JsonFormat} and the JSON-RPC envelope writer
+ * use: control characters, {@code "} and {@code \}, the HTML-sensitive characters
+ * {@code < > & = '}, and U+2028/U+2029 are escaped. Unpaired surrogates are written as {@code ?},
+ * like {@link String#getBytes(java.nio.charset.Charset)} does.
+ * </p>
+ */
+final class JsonByteWriter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64 =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] ASCII_ESCAPES = new byte[128][];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ASCII_ESCAPES[c] = unicodeEscape((char) c);
+        }
+        ASCII_ESCAPES['\t'] = ascii("\\t");
+        ASCII_ESCAPES['\b'] = ascii("\\b");
+        ASCII_ESCAPES['\n'] = ascii("\\n");
+        ASCII_ESCAPES['\r'] = ascii("\\r");
+        ASCII_ESCAPES['\f'] = ascii("\\f");
+        ASCII_ESCAPES['"'] = ascii("\\\"");
+        ASCII_ESCAPES['\\'] = ascii("\\\\");
+        for (char c : new char[] {'<', '>', '&', '=', '\''}) {
+            ASCII_ESCAPES[c] = unicodeEscape(c);
+        }
+    }
+
+    private byte[] buf;
+    private int count;
+
+    JsonByteWriter(int initialCapacity) {
+        this.buf = new byte[initialCapacity];
+    }
+
+    static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] unicodeEscape(char c) {
+        return new byte[] {'\\', 'u', HEX[c >> 12 & 0xf], HEX[c >> 8 & 0xf], HEX[c >> 4 & 0xf], HEX[c & 0xf]};
+    }
+
+    /**
+     * Writes a single ASCII character, such as a structural character.
+     */
+    void write(char c) {
+        ensureCapacity(1);
+        buf[count++] = (byte) c;
+    }
+
+    /**
+     * Writes pre-encoded bytes, such as a quoted member name followed by {@code :}.
+     */
+    void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    /**
+     * Writes text known to consist of ASCII characters that need no escaping, such as a number.
+     */
+    void writeAscii(String text) {
+        int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buf[count++] = (byte) text.charAt(i);
+        }
+    }
+
+    void writeLong(long value) {
+        writeAscii(Long.toString(value));
+    }
+
+    void writeBoolean(boolean value) {
+        writeAscii(value ? "true" : "false");
+    }
+
+    void writeNull() {
+        writeAscii("null");
+    }
+
+    /**
+     * Writes a quoted and escaped string.
+     */
+    void writeString(String value) {
+        int length = value.length();
+        // Most strings are ASCII without escapes, reserve for that case
+        ensureCapacity(length + 2);
+        buf[count++] = '"';
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c >= 0x80 || ASCII_ESCAPES[c] != null) {
+                break;
+            }
+            buf[count++] = (byte) c;
+            i++;
+        }
+        if (i < length) {
+            writeStringSlow(value, i);
+        }
+        write('"');
+    }
+
+    private void writeStringSlow(String value, int start) {
+        int length = value.length();
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte[] escape = ASCII_ESCAPES[c];
+                if (escape != null) {
+                    write(escape);
+                } else {
+                    write(c);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buf[count++] = (byte) (0xc0 | c >> 6);
+                buf[count++] = (byte) (0x80 | c & 0x3f);
+            } else if (c == 0x2028 || c == 0x2029) {
+                write(unicodeEscape(c));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensureCapacity(4);
+                    buf[count++] = (byte) (0xf0 | codePoint >> 18);
+                    buf[count++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                    buf[count++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                    buf[count++] = (byte) (0x80 | codePoint & 0x3f);
+                } else {
+                    write('?');
+                }
+            } else {
+                ensureCapacity(3);
+                buf[count++] = (byte) (0xe0 | c >> 12);
+                buf[count++] = (byte) (0x80 | c >> 6 & 0x3f);
+                buf[count++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the buffer as a quoted base64 string, with padding, encoding
+     * directly into the output. The buffer's position is not changed.
+     * <p>
+     * Like {@code JsonFormat} prints {@code bytes} fields, the {@code =} padding is not escaped.
+     * </p>
+     */
+    void writeBase64(ByteBuffer content) {
+        int length = content.remaining();
+        ensureCapacity((length + 2) / 3 * 4 + 2);
+        buf[count++] = '"';
+        int i = content.position();
+        int end = i + length - length % 3;
+        for (; i < end; i += 3) {
+            int bits = (content.get(i) & 0xff) << 16 | (content.get(i + 1) & 0xff) << 8 | content.get(i + 2) & 0xff;
+            buf[count++] = BASE64[bits >>> 18];
+            buf[count++] = BASE64[bits >>> 12 & 0x3f];
+            buf[count++] = BASE64[bits >>> 6 & 0x3f];
+            buf[count++] = BASE64[bits & 0x3f];
+        }
+        int rest = length % 3;
+        if (rest == 1) {
+            int bits = (content.get(i) & 0xff) << 16;
+            buf[count++] = BASE64[bits >>> 18];
+            buf[count++] = BASE64[bits >>> 12 & 0x3f];
+            buf[count++] = '=';
+            buf[count++] = '=';
+        } else if (rest == 2) {
+            int bits = (content.get(i) & 0xff) << 16 | (content.get(i + 1) & 0xff) << 8;
+            buf[count++] = BASE64[bits >>> 18];
+            buf[count++] = BASE64[bits >>> 12 & 0x3f];
+            buf[count++] = BASE64[bits >>> 6 & 0x3f];
+            buf[count++] = '=';
+        }
+        buf[count++] = '"';
+    }
+
+    byte[] toByteArray() {
+        return count == buf.length ? buf : Arrays.copyOf(buf, count);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (count + additional > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + additional));
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package org.a2aproject.sdk.grpc.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The members of a JSON-RPC request, read in a single pass over the request body without
+ * building a JSON tree.
+ * <p>
+ * The {@code params} object is not decoded here; its text is kept as a region of the body, so it
+ * can be parsed directly into the target protobuf builder without being re-serialized.
+ * </p>
+ * <p>
+ * Only well-formed requests of the usual shape are read: a strictly valid JSON object whose
+ * {@code jsonrpc} and {@code method} members are strings, whose {@code id} is a string or an
+ * integer, and whose {@code params} member is an object. For anything else {@link #scan(String)}
+ * returns {@code null}, and the caller falls back to the tree-based parsing, which reports the
+ * problem with the appropriate JSON-RPC error.
+ * </p>
+ */
+final class JsonRpcEnvelope {
+
+    // Deeper documents are left to the tree-based parsing
+    private static final int MAX_DEPTH = 128;
+
+    private final String jsonrpc;
+    private final Object id;
+    private final String method;
+    private final String params;
+
+    private JsonRpcEnvelope(String jsonrpc, Object id, String method, String params) {
+        this.jsonrpc = jsonrpc;
+        this.id = id;
+        this.method = method;
+        this.params = params;
+    }
+
+    String jsonrpc() {
+        return jsonrpc;
+    }
+
+    /**
+     * Returns the request ID, converted like {@link JSONRPCUtils#getAndValidateId}: an
+     * {@link Integer} if the ID is an integer or a string holding one, otherwise the string.
+     */
+    Object id() {
+        return id;
+    }
+
+    String method() {
+        return method;
+    }
+
+    /**
+     * Returns the JSON text of the {@code params} object.
+     */
+    String params() {
+        return params;
+    }
+
+    /**
+     * Reads the members of a JSON-RPC request.
+     *
+     * @param body the request body
+     * @return the request members, or {@code null} if the body is not a well-formed request of
+     *         the usual shape
+     */
+    static @Nullable JsonRpcEnvelope scan(String body) {
+        try {
+            return new Scanner(body).scanEnvelope();
+        } catch (MalformedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Splits a JSON array into the text of its elements, as regions of the body.
+     *
+     * @param body the body
+     * @return the elements in order, or {@code null} if the body is not a well-formed JSON array
+     */
+    static @Nullable List<String> splitArray(String body) {
+        try {
+            return new Scanner(body).scanArray();
+        } catch (MalformedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether a JSON-RPC message is a notification: a well-formed JSON object with a
+     * {@code method} member and no {@code id} member.
+     *
+     * @param body the message
+     * @return true if the message is a notification
+     */
+    static boolean isNotification(String body) {
+        try {
+            return new Scanner(body).scanNotification();
+        } catch (MalformedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Thrown when the body cannot be read by the scanner. Carries no stack trace, as it only
+     * selects the fallback path.
+     */
+    private static final class MalformedException extends Exception {
+        private static final MalformedException INSTANCE = new MalformedException();
+
+        private MalformedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Scanner {
+        private final String json;
+        private int pos;
+
+        private Scanner(String json) {
+            this.json = json;
+        }
+
+        JsonRpcEnvelope scanEnvelope() throws MalformedException {
+            String jsonrpc = null;
+            Object id = null;
+            String method = null;
+            String params = null;
+
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() != '}') {
+                while (true) {
+                    skipWhitespace();
+                    String name = readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    // Later members replace earlier ones with the same name, like in a JsonObject
+                    switch (name) {
+                        case "jsonrpc" -> jsonrpc = readStringValue();
+                        case "method" -> method = readStringValue();
+                        case "id" -> id = readId();
+                        case "params" -> {
+                            if (peek() != '{') {
+                                throw MalformedException.INSTANCE;
+                            }
+                            int start = pos;
+                            skipValue(0);
+                            params = json.substring(start, pos);
+                        }
+                        default -> skipValue(0);
+                    }
+                    skipWhitespace();
+                    if (peek() == ',') {
+                        pos++;
+                        continue;
+                    }
+                    break;
+                }
+            }
+            expect('}');
+            skipWhitespace();
+            if (pos != json.length() || jsonrpc == null || id == null || method == null || params == null) {
+                throw MalformedException.INSTANCE;
+            }
+            return new JsonRpcEnvelope(jsonrpc, id, method, params);
+        }
+
+        List<String> scanArray() throws MalformedException {
+            List<String> elements = new ArrayList<>();
+            skipWhitespace();
+            expect('[');
+            skipWhitespace();
+            if (peek() != ']') {
+                while (true) {
+                    skipWhitespace();
+                    int start = pos;
+                    skipValue(0);
+                    elements.add(json.substring(start, pos));
+                    skipWhitespace();
+                    if (peek() == ',') {
+                        pos++;
+                        continue;
+                    }
+                    break;
+                }
+            }
+            expect(']');
+            skipWhitespace();
+            if (pos != json.length()) {
+                throw MalformedException.INSTANCE;
+            }
+            return elements;
+        }
+
+        boolean scanNotification() throws MalformedException {
+            boolean hasId = false;
+            boolean hasMethod = false;
+
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() != '}') {
+                while (true) {
+                    skipWhitespace();
+                    String name = readString();
+                    hasId |= name.equals("id");
+                    hasMethod |= name.equals("method");
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    skipValue(0);
+                    skipWhitespace();
+                    if (peek() == ',') {
+                        pos++;
+                        continue;
+                    }
+                    break;
+                }
+            }
+            expect('}');
+            skipWhitespace();
+            if (pos != json.length()) {
+                throw MalformedException.INSTANCE;
+            }
+            return hasMethod && !hasId;
+        }
+
+        private String readStringValue() throws MalformedException {
+            if (peek() != '"') {
+                throw MalformedException.INSTANCE;
+            }
+            return readString();
+        }
+
+        private Object readId() throws MalformedException {
+            char c = peek();
+            if (c == '"') {
+                String id = readString();
+                Integer intId = parseInteger(id);
+                return intId != null ? intId : id;
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                int start = pos;
+                skipNumber();
+                Integer intId = parseInteger(json.substring(start, pos));
+                if (intId == null) {
+                    // Fractions and large numbers are converted by the tree-based parsing
+                    throw MalformedException.INSTANCE;
+                }
+                return intId;
+            }
+            throw MalformedException.INSTANCE;
+        }
+
+        private static @Nullable Integer parseInteger(String text) {
+            try {
+                return Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void skipValue(int depth) throws MalformedException {
+            if (depth > MAX_DEPTH) {
+                throw MalformedException.INSTANCE;
+            }
+            char c = peek();
+            switch (c) {
+                case '{' -> {
+                    pos++;
+                    skipWhitespace();
+                    if (peek() == '}') {
+                        pos++;
+                        return;
+                    }
+                    while (true) {
+                        skipWhitespace();
+                        skipString();
+                        skipWhitespace();
+                        expect(':');
+                        skipWhitespace();
+                        skipValue(depth + 1);
+                        skipWhitespace();
+                        if (peek() == ',') {
+                            pos++;
+                            continue;
+                        }
+                        expect('}');
+                        return;
+                    }
+                }
+                case '[' -> {
+                    pos++;
+                    skipWhitespace();
+                    if (peek() == ']') {
+                        pos++;
+                        return;
+                    }
+                    while (true) {
+                        skipWhitespace();
+                        skipValue(depth + 1);
+                        skipWhitespace();
+                        if (peek() == ',') {
+                            pos++;
+                            continue;
+                        }
+                        expect(']');
+                        return;
+                    }
+                }
+                case '"' -> skipString();
+                case 't' -> expectLiteral("true");
+                case 'f' -> expectLiteral("false");
+                case 'n' -> expectLiteral("null");
+                default -> {
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        skipNumber();
+                    } else {
+                        throw MalformedException.INSTANCE;
+                    }
+                }
+            }
+        }
+
+        private String readString() throws MalformedException {
+            expect('"');
+            int start = pos;
+            // Fast path for strings without escapes
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if (c == '"') {
+                    return json.substring(start, pos++);
+                }
+                if (c == '\\') {
+                    break;
+                }
+                if (c < 0x20) {
+                    throw MalformedException.INSTANCE;
+                }
+                pos++;
+            }
+            StringBuilder sb = new StringBuilder(json.length() - start);
+            sb.append(json, start, pos);
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c < 0x20) {
+                    throw MalformedException.INSTANCE;
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> sb.append(escaped);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> sb.append((char) readHex4());
+                    default -> throw MalformedException.INSTANCE;
+                }
+            }
+            throw MalformedException.INSTANCE;
+        }
+
+        private void skipString() throws MalformedException {
+            expect('"');
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') {
+                    return;
+                }
+                if (c < 0x20) {
+                    throw MalformedException.INSTANCE;
+                }
+                if (c == '\\') {
+                    char escaped = next();
+                    switch (escaped) {
+                        case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> {
+                        }
+                        case 'u' -> readHex4();
+                        default -> throw MalformedException.INSTANCE;
+                    }
+                }
+            }
+            throw MalformedException.INSTANCE;
+        }
+
+        private int readHex4() throws MalformedException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(next(), 16);
+                if (digit < 0) {
+                    throw MalformedException.INSTANCE;
+                }
+                value = (value << 4) | digit;
+            }
+            return value;
+        }
+
+        // number = [ "-" ] int [ frac ] [ exp ], as defined by RFC 8259
+        private void skipNumber() throws MalformedException {
+            if (peek() == '-') {
+                pos++;
+            }
+            if (peek() == '0') {
+                pos++;
+            } else {
+                skipDigits();
+            }
+            if (pos < json.length() && json.charAt(pos) == '.') {
+                pos++;
+                skipDigits();
+            }
+            if (pos < json.length() && (json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+                pos++;
+                if (peek() == '+' || peek() == '-') {
+                    pos++;
+                }
+                skipDigits();
+            }
+        }
+
+        private void skipDigits() throws MalformedException {
+            int start = pos;
+            while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+                pos++;
+            }
+            if (pos == start) {
+                throw MalformedException.INSTANCE;
+            }
+        }
+
+        private void expectLiteral(String literal) throws MalformedException {
+            if (!json.startsWith(literal, pos)) {
+                throw MalformedException.INSTANCE;
+            }
+            pos += literal.length();
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private void expect(char expected) throws MalformedException {
+            if (next() != expected) {
+                throw MalformedException.INSTANCE;
+            }
+        }
+
+        private char peek() throws MalformedException {
+            if (pos >= json.length()) {
+                throw MalformedException.INSTANCE;
+            }
+            return json.charAt(pos);
+        }
+
+        private char next() throws MalformedException {
+            char c = peek();
+            pos++;
+            return c;
+        }
+    }
+}
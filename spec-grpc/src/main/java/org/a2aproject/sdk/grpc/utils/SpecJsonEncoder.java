@@ -0,0 +1,548 @@
+package org.a2aproject.sdk.grpc.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendMessageResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageResponse;
+import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.DataPart;
+import org.a2aproject.sdk.spec.EventKind;
+import org.a2aproject.sdk.spec.FilePart;
+import org.a2aproject.sdk.spec.FileWithBytes;
+import org.a2aproject.sdk.spec.FileWithUri;
+import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.Part;
+import org.a2aproject.sdk.spec.StreamingEventKind;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.a2aproject.sdk.spec.TextPart;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes spec objects directly as proto3 JSON, without converting them to protobuf messages.
+ * <p>
+ * The output is byte-for-byte what {@link JSONRPCUtils#toJsonRPCResultResponse} produces for the
+ * same objects converted with {@link ProtoUtils.ToProto}: members in field number order,
+ * {@code lowerCamelCase} names, fields without presence always printed, and strings escaped the
+ * same way. The encoder covers the responses carrying tasks, messages and task update events,
+ * which dominate streaming traffic; {@link #supports(A2AResponse)} tells whether a response can
+ * be encoded, the others are serialized through the protobuf messages.
+ * </p>
+ * <pre>{@code
+ * if (SpecJsonEncoder.supports(response)) {
+ *     byte[] json = SpecJsonEncoder.toJsonRPCResultResponse(response);
+ * }
+ * }</pre>
+ */
+public final class SpecJsonEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final byte[] NO_BYTES = new byte[0];
+
+    // Timestamp range accepted by com.google.protobuf.util.Timestamps, 0001-01-01 to 9999-12-31
+    private static final long TIMESTAMP_SECONDS_MIN = -62135596800L;
+    private static final long TIMESTAMP_SECONDS_MAX = 253402300799L;
+
+    private static final byte[] JSONRPC = JsonByteWriter.ascii("{\"jsonrpc\":\"2.0\"");
+    private static final byte[] ID = JsonByteWriter.ascii(",\"id\":");
+    private static final byte[] RESULT = JsonByteWriter.ascii(",\"result\":");
+
+    private static final byte[] TASK = JsonByteWriter.ascii("{\"task\":");
+    private static final byte[] MESSAGE = JsonByteWriter.ascii("{\"message\":");
+    private static final byte[] STATUS_UPDATE = JsonByteWriter.ascii("{\"statusUpdate\":");
+    private static final byte[] ARTIFACT_UPDATE = JsonByteWriter.ascii("{\"artifactUpdate\":");
+
+    private static final byte[] FIRST_ID = JsonByteWriter.ascii("{\"id\":");
+    private static final byte[] FIRST_TASK_ID = JsonByteWriter.ascii("{\"taskId\":");
+    private static final byte[] FIRST_MESSAGE_ID = JsonByteWriter.ascii("{\"messageId\":");
+    private static final byte[] FIRST_ARTIFACT_ID = JsonByteWriter.ascii("{\"artifactId\":");
+    private static final byte[] FIRST_STATE = JsonByteWriter.ascii("{\"state\":");
+    private static final byte[] CONTEXT_ID = JsonByteWriter.ascii(",\"contextId\":");
+    private static final byte[] TASK_ID = JsonByteWriter.ascii(",\"taskId\":");
+    private static final byte[] STATUS = JsonByteWriter.ascii(",\"status\":");
+    private static final byte[] ARTIFACTS = JsonByteWriter.ascii(",\"artifacts\":");
+    private static final byte[] ARTIFACT = JsonByteWriter.ascii(",\"artifact\":");
+    private static final byte[] HISTORY = JsonByteWriter.ascii(",\"history\":");
+    private static final byte[] METADATA = JsonByteWriter.ascii(",\"metadata\":");
+    private static final byte[] STATUS_MESSAGE = JsonByteWriter.ascii(",\"message\":");
+    private static final byte[] TIMESTAMP = JsonByteWriter.ascii(",\"timestamp\":");
+    private static final byte[] ROLE = JsonByteWriter.ascii(",\"role\":");
+    private static final byte[] PARTS = JsonByteWriter.ascii(",\"parts\":");
+    private static final byte[] EXTENSIONS = JsonByteWriter.ascii(",\"extensions\":");
+    private static final byte[] REFERENCE_TASK_IDS = JsonByteWriter.ascii(",\"referenceTaskIds\":");
+    private static final byte[] NAME = JsonByteWriter.ascii(",\"name\":");
+    private static final byte[] DESCRIPTION = JsonByteWriter.ascii(",\"description\":");
+    private static final byte[] APPEND = JsonByteWriter.ascii(",\"append\":");
+    private static final byte[] LAST_CHUNK = JsonByteWriter.ascii(",\"lastChunk\":");
+    private static final byte[] PART_TEXT = JsonByteWriter.ascii("\"text\":");
+    private static final byte[] PART_RAW = JsonByteWriter.ascii("\"raw\":");
+    private static final byte[] PART_URL = JsonByteWriter.ascii("\"url\":");
+    private static final byte[] PART_DATA = JsonByteWriter.ascii("\"data\":");
+    private static final byte[] PART_METADATA = JsonByteWriter.ascii("\"metadata\":");
+    private static final byte[] FILENAME = JsonByteWriter.ascii(",\"filename\":");
+    private static final byte[] FIRST_FILENAME = JsonByteWriter.ascii("\"filename\":");
+    private static final byte[] MEDIA_TYPE = JsonByteWriter.ascii(",\"mediaType\":");
+    private static final byte[] EMPTY_STRING = JsonByteWriter.ascii("\"\"");
+
+    private SpecJsonEncoder() {
+        // Utility class
+    }
+
+    /**
+     * Checks whether a response can be encoded by {@link #toJsonRPCResultResponse(A2AResponse)}.
+     *
+     * @param response the response
+     * @return true for successful responses carrying a task, a message or a task update event,
+     *         with a string or integer ID
+     */
+    public static boolean supports(A2AResponse<?> response) {
+        if (response.getError() != null || response.getResult() == null || !isSupportedId(response.getId())) {
+            return false;
+        }
+        return response instanceof GetTaskResponse
+                || response instanceof CancelTaskResponse
+                || response instanceof SendMessageResponse
+                || response instanceof SendStreamingMessageResponse;
+    }
+
+    /**
+     * Encodes a successful JSON-RPC response.
+     *
+     * @param response the response, for which {@link #supports(A2AResponse)} returns true
+     * @return the UTF-8 encoded JSON-RPC response
+     * @throws IllegalArgumentException if the response is not supported
+     */
+    public static byte[] toJsonRPCResultResponse(A2AResponse<?> response) {
+        return toJsonRPCResultResponse(response, NO_BYTES, NO_BYTES);
+    }
+
+    /**
+     * Encodes a successful JSON-RPC response surrounded by framing bytes, such as the
+     * {@code data:} line of a Server-Sent Event, into a single array.
+     *
+     * @param response the response, for which {@link #supports(A2AResponse)} returns true
+     * @param prefix the bytes written before the response
+     * @param suffix the bytes written after the response
+     * @return the prefix, the UTF-8 encoded JSON-RPC response and the suffix
+     * @throws IllegalArgumentException if the response is not supported
+     */
+    public static byte[] toJsonRPCResultResponse(A2AResponse<?> response, byte[] prefix, byte[] suffix) {
+        if (!supports(response)) {
+            throw new IllegalArgumentException("Unsupported response: " + response.getClass().getName());
+        }
+        JsonByteWriter out = new JsonByteWriter(INITIAL_CAPACITY);
+        out.write(prefix);
+        out.write(JSONRPC);
+        Object id = response.getId();
+        // Like JsonUtil.writeJsonRpcId with a Gson writer that does not serialize nulls
+        if (id != null) {
+            out.write(ID);
+            if (id instanceof String stringId) {
+                out.writeString(stringId);
+            } else {
+                out.writeLong(((Number) id).longValue());
+            }
+        }
+        out.write(RESULT);
+        if (response instanceof GetTaskResponse r) {
+            writeTask(out, r.getResult());
+        } else if (response instanceof CancelTaskResponse r) {
+            writeTask(out, r.getResult());
+        } else if (response instanceof SendMessageResponse r) {
+            writeSendMessageResult(out, r.getResult());
+        } else if (response instanceof SendStreamingMessageResponse r) {
+            writeStreamResult(out, r.getResult());
+        }
+        out.write('}');
+        out.write(suffix);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a task as the proto3 JSON of {@code Task}.
+     *
+     * @param task the task
+     * @return the UTF-8 encoded JSON
+     */
+    public static byte[] encodeTask(Task task) {
+        JsonByteWriter out = new JsonByteWriter(INITIAL_CAPACITY);
+        writeTask(out, task);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a task or message as the proto3 JSON of {@code SendMessageResponse}.
+     *
+     * @param result the task or message
+     * @return the UTF-8 encoded JSON
+     */
+    public static byte[] encodeSendMessageResponse(EventKind result) {
+        JsonByteWriter out = new JsonByteWriter(INITIAL_CAPACITY);
+        writeSendMessageResult(out, result);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a streaming event as the proto3 JSON of {@code StreamResponse}.
+     *
+     * @param event the streaming event
+     * @return the UTF-8 encoded JSON
+     */
+    public static byte[] encodeStreamResponse(StreamingEventKind event) {
+        JsonByteWriter out = new JsonByteWriter(INITIAL_CAPACITY);
+        writeStreamResult(out, event);
+        return out.toByteArray();
+    }
+
+    private static boolean isSupportedId(@Nullable Object id) {
+        return id == null || id instanceof String || id instanceof Integer || id instanceof Long
+                || id instanceof Short || id instanceof Byte;
+    }
+
+    private static void writeSendMessageResult(JsonByteWriter out, EventKind result) {
+        if (result instanceof Task task) {
+            out.write(TASK);
+            writeTask(out, task);
+        } else if (result instanceof Message message) {
+            out.write(MESSAGE);
+            writeMessage(out, message);
+        } else {
+            throw new IllegalArgumentException("Unsupported event type: " + result);
+        }
+        out.write('}');
+    }
+
+    private static void writeStreamResult(JsonByteWriter out, StreamingEventKind event) {
+        if (event instanceof Task task) {
+            out.write(TASK);
+            writeTask(out, task);
+        } else if (event instanceof Message message) {
+            out.write(MESSAGE);
+            writeMessage(out, message);
+        } else if (event instanceof TaskStatusUpdateEvent statusUpdate) {
+            out.write(STATUS_UPDATE);
+            writeTaskStatusUpdateEvent(out, statusUpdate);
+        } else if (event instanceof TaskArtifactUpdateEvent artifactUpdate) {
+            out.write(ARTIFACT_UPDATE);
+            writeTaskArtifactUpdateEvent(out, artifactUpdate);
+        } else {
+            throw new IllegalArgumentException("Unsupported event type: " + event);
+        }
+        out.write('}');
+    }
+
+    private static void writeTask(JsonByteWriter out, Task task) {
+        out.write(FIRST_ID);
+        writeOptionalString(out, task.id());
+        out.write(CONTEXT_ID);
+        writeOptionalString(out, task.contextId());
+        out.write(STATUS);
+        writeTaskStatus(out, task.status());
+        out.write(ARTIFACTS);
+        out.write('[');
+        List<Artifact> artifacts = task.artifacts();
+        if (artifacts != null) {
+            for (int i = 0; i < artifacts.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeArtifact(out, artifacts.get(i));
+            }
+        }
+        out.write(']');
+        out.write(HISTORY);
+        out.write('[');
+        List<Message> history = task.history();
+        if (history != null) {
+            for (int i = 0; i < history.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeMessage(out, history.get(i));
+            }
+        }
+        out.write(']');
+        out.write(METADATA);
+        writeStruct(out, task.metadata());
+        out.write('}');
+    }
+
+    private static void writeTaskStatus(JsonByteWriter out, TaskStatus status) {
+        out.write(FIRST_STATE);
+        writeTaskState(out, status.state());
+        Message message = status.message();
+        if (message != null) {
+            out.write(STATUS_MESSAGE);
+            writeMessage(out, message);
+        }
+        out.write(TIMESTAMP);
+        writeTimestamp(out, status.timestamp());
+        out.write('}');
+    }
+
+    private static void writeTaskState(JsonByteWriter out, TaskState state) {
+        org.a2aproject.sdk.grpc.TaskState protoState = ProtoUtils.ToProto.taskState(state);
+        if (protoState == org.a2aproject.sdk.grpc.TaskState.UNRECOGNIZED) {
+            // As rejected by the protobuf builder
+            throw new IllegalArgumentException("Can't set an unrecognized task state");
+        }
+        out.writeString(protoState.name());
+    }
+
+    private static void writeMessage(JsonByteWriter out, Message message) {
+        out.write(FIRST_MESSAGE_ID);
+        writeOptionalString(out, message.messageId());
+        out.write(CONTEXT_ID);
+        writeOptionalString(out, message.contextId());
+        out.write(TASK_ID);
+        writeOptionalString(out, message.taskId());
+        out.write(ROLE);
+        Message.Role role = message.role();
+        out.writeString(role == null ? org.a2aproject.sdk.grpc.Role.ROLE_UNSPECIFIED.name() : role.name());
+        out.write(PARTS);
+        writeParts(out, message.parts());
+        out.write(METADATA);
+        writeStruct(out, message.metadata());
+        out.write(EXTENSIONS);
+        writeStrings(out, message.extensions());
+        out.write(REFERENCE_TASK_IDS);
+        writeStrings(out, message.referenceTaskIds());
+        out.write('}');
+    }
+
+    private static void writeArtifact(JsonByteWriter out, Artifact artifact) {
+        out.write(FIRST_ARTIFACT_ID);
+        writeOptionalString(out, artifact.artifactId());
+        out.write(NAME);
+        writeOptionalString(out, artifact.name());
+        out.write(DESCRIPTION);
+        writeOptionalString(out, artifact.description());
+        out.write(PARTS);
+        writeParts(out, artifact.parts());
+        out.write(METADATA);
+        writeStruct(out, artifact.metadata());
+        out.write(EXTENSIONS);
+        writeStrings(out, artifact.extensions());
+        out.write('}');
+    }
+
+    private static void writeTaskStatusUpdateEvent(JsonByteWriter out, TaskStatusUpdateEvent event) {
+        out.write(FIRST_TASK_ID);
+        out.writeString(event.taskId());
+        out.write(CONTEXT_ID);
+        out.writeString(event.contextId());
+        out.write(STATUS);
+        writeTaskStatus(out, event.status());
+        out.write(METADATA);
+        writeStruct(out, event.metadata());
+        out.write('}');
+    }
+
+    private static void writeTaskArtifactUpdateEvent(JsonByteWriter out, TaskArtifactUpdateEvent event) {
+        out.write(FIRST_TASK_ID);
+        out.writeString(event.taskId());
+        out.write(CONTEXT_ID);
+        out.writeString(event.contextId());
+        out.write(ARTIFACT);
+        writeArtifact(out, event.artifact());
+        out.write(APPEND);
+        out.writeBoolean(Boolean.TRUE.equals(event.append()));
+        out.write(LAST_CHUNK);
+        out.writeBoolean(Boolean.TRUE.equals(event.lastChunk()));
+        out.write(METADATA);
+        writeStruct(out, event.metadata());
+        out.write('}');
+    }
+
+    private static void writeParts(JsonByteWriter out, @Nullable List<Part<?>> parts) {
+        out.write('[');
+        if (parts != null) {
+            for (int i = 0; i < parts.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writePart(out, parts.get(i));
+            }
+        }
+        out.write(']');
+    }
+
+    // Mirrors PartMapper: the content, then metadata, which is always set, then filename and media type
+    private static void writePart(JsonByteWriter out, Part<?> part) {
+        out.write('{');
+        @Nullable String filename = null;
+        @Nullable String mediaType = null;
+        if (part instanceof TextPart textPart) {
+            out.write(PART_TEXT);
+            out.writeString(textPart.text());
+            out.write(',');
+            out.write(PART_METADATA);
+            writeStruct(out, textPart.metadata());
+        } else if (part instanceof FilePart filePart) {
+            if (filePart.file() instanceof FileWithBytes fileWithBytes) {
+                out.write(PART_RAW);
+                // Encoded from the raw content, like the bytes field of the protobuf message
+                out.writeBase64(fileWithBytes.content());
+                out.write(',');
+                filename = fileWithBytes.name();
+                mediaType = fileWithBytes.mimeType();
+            } else if (filePart.file() instanceof FileWithUri fileWithUri) {
+                out.write(PART_URL);
+                out.writeString(fileWithUri.uri());
+                out.write(',');
+                filename = fileWithUri.name();
+                mediaType = fileWithUri.mimeType();
+            }
+            out.write(PART_METADATA);
+            writeStruct(out, filePart.metadata());
+        } else if (part instanceof DataPart dataPart) {
+            out.write(PART_DATA);
+            writeValue(out, dataPart.data());
+            out.write(',');
+            out.write(PART_METADATA);
+            writeStruct(out, dataPart.metadata());
+        } else {
+            // An unknown part has neither content nor metadata
+            out.write(FIRST_FILENAME);
+            out.write(EMPTY_STRING);
+            out.write(MEDIA_TYPE);
+            out.write(EMPTY_STRING);
+            out.write('}');
+            return;
+        }
+        out.write(FILENAME);
+        writeOptionalString(out, filename);
+        out.write(MEDIA_TYPE);
+        writeOptionalString(out, mediaType);
+        out.write('}');
+    }
+
+    private static void writeStrings(JsonByteWriter out, @Nullable List<String> values) {
+        out.write('[');
+        if (values != null) {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.writeString(values.get(i));
+            }
+        }
+        out.write(']');
+    }
+
+    private static void writeOptionalString(JsonByteWriter out, @Nullable String value) {
+        if (value == null) {
+            out.write(EMPTY_STRING);
+        } else {
+            out.writeString(value);
+        }
+    }
+
+    // Mirrors A2ACommonFieldMapper.mapToStruct: a missing map is an empty struct
+    private static void writeStruct(JsonByteWriter out, @Nullable Map<String, Object> map) {
+        out.write('{');
+        if (map != null) {
+            boolean first = true;
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                out.writeString(entry.getKey());
+                out.write(':');
+                writeValue(out, entry.getValue());
+            }
+        }
+        out.write('}');
+    }
+
+    // Mirrors A2ACommonFieldMapper.objectToValue: unsupported types and null are written as null
+    @SuppressWarnings("unchecked")
+    private static void writeValue(JsonByteWriter out, @Nullable Object value) {
+        if (value instanceof String string) {
+            out.writeString(string);
+        } else if (value instanceof Number number) {
+            writeDouble(out, number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            out.writeBoolean(bool);
+        } else if (value instanceof Map<?, ?> map) {
+            writeStruct(out, (Map<String, Object>) map);
+        } else if (value instanceof List<?> list) {
+            out.write('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeValue(out, list.get(i));
+            }
+            out.write(']');
+        } else {
+            out.writeNull();
+        }
+    }
+
+    private static void writeDouble(JsonByteWriter out, double value) {
+        if (Double.isNaN(value)) {
+            out.writeAscii("\"NaN\"");
+        } else if (Double.isInfinite(value)) {
+            out.writeAscii(value > 0 ? "\"Infinity\"" : "\"-Infinity\"");
+        } else {
+            out.writeAscii(Double.toString(value));
+        }
+    }
+
+    // Formats like com.google.protobuf.util.Timestamps.toString, a missing timestamp is the epoch
+    private static void writeTimestamp(JsonByteWriter out, @Nullable OffsetDateTime dateTime) {
+        long seconds = 0;
+        int nanos = 0;
+        if (dateTime != null) {
+            Instant instant = dateTime.toInstant();
+            seconds = instant.getEpochSecond();
+            nanos = instant.getNano();
+        }
+        if (seconds < TIMESTAMP_SECONDS_MIN || seconds > TIMESTAMP_SECONDS_MAX) {
+            throw new IllegalArgumentException("Timestamp is not valid. Seconds (" + seconds + ") must be in range "
+                    + "[-62,135,596,800, +253,402,300,799]. Nanos (" + nanos + ") must be in range [0, +999,999,999].");
+        }
+        LocalDateTime time = LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+        StringBuilder sb = new StringBuilder(32);
+        sb.append('"');
+        appendPadded(sb, time.getYear(), 4).append('-');
+        appendPadded(sb, time.getMonthValue(), 2).append('-');
+        appendPadded(sb, time.getDayOfMonth(), 2).append('T');
+        appendPadded(sb, time.getHour(), 2).append(':');
+        appendPadded(sb, time.getMinute(), 2).append(':');
+        appendPadded(sb, time.getSecond(), 2);
+        if (nanos != 0) {
+            sb.append('.');
+            if (nanos % 1_000_000 == 0) {
+                appendPadded(sb, nanos / 1_000_000, 3);
+            } else if (nanos % 1_000 == 0) {
+                appendPadded(sb, nanos / 1_000, 6);
+            } else {
+                appendPadded(sb, nanos, 9);
+            }
+        }
+        sb.append("Z\"");
+        out.writeAscii(sb.toString());
+    }
+
+    private static StringBuilder appendPadded(StringBuilder sb, int value, int width) {
+        String digits = Integer.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits);
+    }
+}
@@ -4,28 +4,37 @@ import static org.a2aproject.sdk.grpc.utils.JSONRPCUtils.ERROR_MESSAGE;
 import static org.a2aproject.sdk.spec.A2AMethods.GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
 import static org.a2aproject.sdk.spec.A2AMethods.SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
+
 import com.google.gson.JsonArray;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import com.google.protobuf.Struct;
 
 import org.a2aproject.sdk.jsonrpc.common.json.InvalidParamsJsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.json.MethodNotFoundJsonMappingException;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.A2ARequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CreateTaskPushNotificationConfigRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CreateTaskPushNotificationConfigResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskPushNotificationConfigRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskPushNotificationConfigResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskRequest;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendMessageRequest;
 import org.a2aproject.sdk.spec.InvalidParamsError;
 import org.a2aproject.sdk.spec.JSONParseError;
 import org.a2aproject.sdk.spec.TaskNotFoundError;
 import org.a2aproject.sdk.spec.TaskPushNotificationConfig;
+import org.a2aproject.sdk.spec.TextPart;
 import org.a2aproject.sdk.util.ErrorDetail;
 import org.junit.jupiter.api.Test;
 
@@ -91,6 +100,126 @@ public class JSONRPCUtilsTest {
         assertEquals("task-123", getRequest.getParams().taskId());
     }
 
+    @Test
+    public void testParseSendMessageRequest_DecodesEscapedParams() throws JsonProcessingException {
+        String validRequest = """
+            {
+              "jsonrpc": "2.0",
+              "id": 5,
+              "method": "SendMessage",
+              "params": {
+                "message": {
+                  "messageId": "msg-1",
+                  "role": "ROLE_USER",
+                  "parts": [{"text": "say \\"h\\u00e9llo\\"\\n"}]
+                }
+              }
+            }
+            """;
+
+        A2ARequest<?> request = JSONRPCUtils.parseRequestBody(validRequest, "tenant-1");
+
+        SendMessageRequest sendRequest = assertInstanceOf(SendMessageRequest.class, request);
+        assertEquals(5, sendRequest.getId());
+        assertEquals("tenant-1", sendRequest.getParams().tenant());
+        assertEquals("say \"h\u00e9llo\"\n", ((TextPart) sendRequest.getParams().message().parts().get(0)).text());
+    }
+
+    @Test
+    public void testParseLenientRequest_UsesTreeParsing() throws JsonProcessingException {
+        String lenientRequest = """
+            {
+              // Accepted by the lenient tree-based parsing only
+              'jsonrpc': '2.0',
+              'method': 'GetTaskPushNotificationConfig',
+              'id': 6,
+              'params': {"taskId": "task-123", "id": "config-456"}
+            }
+            """;
+
+        A2ARequest<?> request = JSONRPCUtils.parseRequestBody(lenientRequest, null);
+
+        GetTaskPushNotificationConfigRequest getRequest = assertInstanceOf(GetTaskPushNotificationConfigRequest.class, request);
+        assertEquals(6, getRequest.getId());
+        assertEquals("task-123", getRequest.getParams().taskId());
+    }
+
+    @Test
+    public void testSplitBatchBody() throws JsonProcessingException {
+        String batch = """
+            [
+              {"jsonrpc": "2.0", "method": "GetTask", "id": 1, "params": {"id": "task-1"}},
+              {"jsonrpc": "2.0", "method": "UnknownMethod", "id": 2},
+              42
+            ]
+            """;
+
+        assertTrue(JSONRPCUtils.isBatchBody(batch));
+        List<String> members = JSONRPCUtils.splitBatchBody(batch);
+        assertEquals(3, members.size());
+        A2ARequest<?> first = JSONRPCUtils.parseRequestBody(members.get(0), null);
+        assertEquals("task-1", assertInstanceOf(GetTaskRequest.class, first).getParams().id());
+        assertThrows(MethodNotFoundJsonMappingException.class, () -> JSONRPCUtils.parseRequestBody(members.get(1), null));
+        assertEquals("42", members.get(2));
+
+        assertEquals("[" + members.get(0) + ",42]", JSONRPCUtils.toJsonRPCBatch(List.of(members.get(0), "42")));
+        assertFalse(JSONRPCUtils.isBatchBody(" {\"jsonrpc\": \"2.0\"}"));
+        assertThrows(JsonSyntaxException.class, () -> JSONRPCUtils.splitBatchBody("[{\"jsonrpc\""));
+    }
+
+    @Test
+    public void testParseNotificationBody() throws JsonProcessingException {
+        String notification = """
+            {"jsonrpc": "2.0", "method": "GetTask", "params": {"id": "task-1"}}
+            """;
+
+        assertTrue(JSONRPCUtils.isNotification(notification));
+        A2ARequest<?> request = JSONRPCUtils.parseNotificationBody(notification, null);
+        assertNull(request.getId());
+        assertEquals("task-1", assertInstanceOf(GetTaskRequest.class, request).getParams().id());
+
+        assertFalse(JSONRPCUtils.isNotification("{\"jsonrpc\": \"2.0\", \"method\": \"GetTask\", \"id\": 1}"));
+        assertThrows(MethodNotFoundJsonMappingException.class,
+                () -> JSONRPCUtils.parseNotificationBody("{\"jsonrpc\": \"2.0\", \"method\": \"UnknownMethod\"}", null));
+        assertThrows(InvalidParamsJsonMappingException.class,
+                () -> JSONRPCUtils.parseNotificationBody("{\"jsonrpc\": \"2.0\", \"method\": \"GetTask\"}", null));
+    }
+
+    @Test
+    public void testParseExtensionRequestBody() throws JsonProcessingException {
+        String request = """
+            {"jsonrpc": "2.0", "method": "UpdateTaskSubscription", "id": "3", "params": {"id": "sub-1", "add": ["task-1"]}}
+            """;
+
+        assertEquals("UpdateTaskSubscription", JSONRPCUtils.getMethod(request));
+        assertThrows(MethodNotFoundJsonMappingException.class, () -> JSONRPCUtils.parseRequestBody(request, null));
+        Struct.Builder params = Struct.newBuilder();
+        assertEquals(3, JSONRPCUtils.parseExtensionRequestBody(request, params));
+        assertEquals("sub-1", params.getFieldsOrThrow("id").getStringValue());
+        assertEquals("task-1", params.getFieldsOrThrow("add").getListValue().getValues(0).getStringValue());
+
+        assertEquals("SubscribeToTasks", JSONRPCUtils.getMethod("{\"method\": \"SubscribeToTasks\", \"id\": {}}"));
+        assertEquals(null, JSONRPCUtils.getMethod("{\"method\": 1}"));
+        assertEquals(null, JSONRPCUtils.getMethod("not json"));
+        assertEquals("UpdateTaskSubscription", JSONRPCUtils.peekMethod(request));
+        assertEquals(null, JSONRPCUtils.peekMethod("{\"method\": \"SubscribeToTasks\", \"id\": {}}"));
+        assertThrows(InvalidParamsJsonMappingException.class, () -> JSONRPCUtils.parseExtensionRequestBody(
+                "{\"jsonrpc\": \"2.0\", \"method\": \"SubscribeToTasks\", \"id\": 1}", Struct.newBuilder()));
+    }
+
+    @Test
+    public void testParseMissingParams_ThrowsInvalidParamsJsonMappingException() {
+        String missingParams = """
+            {"jsonrpc": "2.0", "method": "GetTask", "id": "7"}
+            """;
+
+        InvalidParamsJsonMappingException exception = assertThrows(
+            InvalidParamsJsonMappingException.class,
+            () -> JSONRPCUtils.parseRequestBody(missingParams, null)
+        );
+        assertEquals(7, exception.getId());
+    }
+
     @Test
     public void testParseMalformedJSON_ThrowsJsonSyntaxException() {
         String malformedRequest = """
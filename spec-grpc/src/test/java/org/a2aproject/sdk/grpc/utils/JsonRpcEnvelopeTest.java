@@ -0,0 +1,120 @@
+package org.a2aproject.sdk.grpc.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcEnvelopeTest {
+
+    @Test
+    public void testScanRequest() {
+        String params = "{\"id\": \"task-1\", \"nested\": [1, -2.5e3, true, false, null, {\"a\": \"}\"}]}";
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan("""
+            {"jsonrpc": "2.0", "id": "req-1", "extra": {"ignored": [1, 2]}, "method": "GetTask", "params": %s}
+            """.formatted(params));
+
+        assertNotNull(envelope);
+        assertEquals("2.0", envelope.jsonrpc());
+        assertEquals("req-1", envelope.id());
+        assertEquals("GetTask", envelope.method());
+        assertEquals(params, envelope.params());
+    }
+
+    @Test
+    public void testIdConversion() {
+        assertEquals(7, scanWithId("7").id());
+        assertEquals(7, scanWithId("\"7\"").id());
+        assertEquals(-3, scanWithId("-3").id());
+        assertEquals("abc", scanWithId("\"abc\"").id());
+        // Left to the tree-based parsing
+        assertNull(JsonRpcEnvelope.scan(requestWithId("1.5")));
+        assertNull(JsonRpcEnvelope.scan(requestWithId("99999999999")));
+        assertNull(JsonRpcEnvelope.scan(requestWithId("null")));
+        assertNull(JsonRpcEnvelope.scan(requestWithId("true")));
+    }
+
+    @Test
+    public void testDecodesEscapes() {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(
+                "{\"jsonrpc\":\"2.0\",\"id\":\"a\\\"b\\u00e9\",\"method\":\"Get\\u0054ask\",\"params\":{\"k\":\"\\\\\"}}");
+
+        assertNotNull(envelope);
+        assertEquals("a\"b\u00e9", envelope.id());
+        assertEquals("GetTask", envelope.method());
+        assertEquals("{\"k\":\"\\\\\"}", envelope.params());
+    }
+
+    @Test
+    public void testLaterMembersReplaceEarlierOnes() {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"A\",\"method\":\"B\",\"params\":{}}");
+
+        assertNotNull(envelope);
+        assertEquals("B", envelope.method());
+    }
+
+    @Test
+    public void testRejectsUnusualOrMalformedRequests() {
+        String[] bodies = {
+            "",
+            "[]",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\"}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":\"text\"}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":null,\"params\":{}}",
+            "{\"jsonrpc\":2.0,\"id\":1,\"method\":\"GetTask\",\"params\":{}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{\"a\":1,}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{\"a\":01}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{'a':1}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{\"a\":\"\\x\"}}",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{\"a\":1}} trailing",
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{\"a\":1}",
+        };
+        for (String body : bodies) {
+            assertNull(JsonRpcEnvelope.scan(body), body);
+        }
+    }
+
+    @Test
+    public void testRejectsDeeplyNestedParams() {
+        String nested = "[".repeat(1000) + "]".repeat(1000);
+        assertNull(JsonRpcEnvelope.scan(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"GetTask\",\"params\":{\"a\":" + nested + "}}"));
+    }
+
+    @Test
+    public void testSplitArray() {
+        assertEquals(List.of("{\"a\": [1, \"]\"]}", "42", "\"x,y\"", "[]"),
+                JsonRpcEnvelope.splitArray(" [ {\"a\": [1, \"]\"]}, 42,\n\"x,y\" ,[] ] "));
+        assertEquals(List.of(), JsonRpcEnvelope.splitArray("[ ]"));
+        assertNull(JsonRpcEnvelope.splitArray("{}"));
+        assertNull(JsonRpcEnvelope.splitArray("[1,]"));
+        assertNull(JsonRpcEnvelope.splitArray("[1] trailing"));
+        assertNull(JsonRpcEnvelope.splitArray("[{\"a\": 1}"));
+    }
+
+    @Test
+    public void testIsNotification() {
+        assertTrue(JsonRpcEnvelope.isNotification("{\"jsonrpc\": \"2.0\", \"method\": \"GetTask\", \"params\": {\"id\": 1}}"));
+        assertFalse(JsonRpcEnvelope.isNotification("{\"jsonrpc\": \"2.0\", \"method\": \"GetTask\", \"id\": null}"));
+        assertFalse(JsonRpcEnvelope.isNotification("{\"jsonrpc\": \"2.0\", \"method\": \"GetTask\", \"id\": 1}"));
+        assertFalse(JsonRpcEnvelope.isNotification("{\"jsonrpc\": \"2.0\"}"));
+        assertFalse(JsonRpcEnvelope.isNotification("42"));
+        assertFalse(JsonRpcEnvelope.isNotification("{\"method\": \"GetTask\""));
+    }
+
+    private static String requestWithId(String id) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"GetTask\",\"params\":{}}";
+    }
+
+    private static JsonRpcEnvelope scanWithId(String id) {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.scan(requestWithId(id));
+        assertNotNull(envelope);
+        return envelope;
+    }
+}
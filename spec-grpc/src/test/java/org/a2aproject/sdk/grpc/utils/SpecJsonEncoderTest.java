@@ -0,0 +1,313 @@
+package org.a2aproject.sdk.grpc.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.GetTaskResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendMessageResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageResponse;
+import org.a2aproject.sdk.spec.Artifact;
+import org.a2aproject.sdk.spec.DataPart;
+import org.a2aproject.sdk.spec.FilePart;
+import org.a2aproject.sdk.spec.FileWithBytes;
+import org.a2aproject.sdk.spec.FileWithUri;
+import org.a2aproject.sdk.spec.InternalError;
+import org.a2aproject.sdk.spec.Message;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskArtifactUpdateEvent;
+import org.a2aproject.sdk.spec.TaskState;
+import org.a2aproject.sdk.spec.TaskStatus;
+import org.a2aproject.sdk.spec.TaskStatusUpdateEvent;
+import org.a2aproject.sdk.spec.TextPart;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link SpecJsonEncoder} produces the same bytes as the protobuf path,
+ * {@link ProtoUtils.ToProto} followed by {@link JSONRPCUtils#toJsonRPCResultResponse}.
+ * <p>
+ * The golden files under {@code src/test/resources/golden} pin the format of a few responses, so
+ * that a change of the protobuf printer is noticed as well.
+ * </p>
+ */
+public class SpecJsonEncoderTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.of(2025, 3, 14, 15, 9, 26, 535_000_000, ZoneOffset.UTC);
+
+    private static final Message AGENT_MESSAGE = Message.builder()
+            .role(Message.Role.ROLE_AGENT)
+            .parts(new TextPart("Working on it"))
+            .messageId("message-2")
+            .contextId("context-1")
+            .taskId("task-1")
+            .build();
+
+    private static final Task TASK = Task.builder()
+            .id("task-1")
+            .contextId("context-1")
+            .status(new TaskStatus(TaskState.TASK_STATE_WORKING, AGENT_MESSAGE, TIMESTAMP))
+            .artifacts(List.of(Artifact.builder()
+                    .artifactId("artifact-1")
+                    .name("result")
+                    .parts(new TextPart("partial <b>result</b> & more"),
+                            new FilePart(new FileWithUri("image/png", "chart.png", "https://example.com/chart.png?a=1&b=2")),
+                            new FilePart(new FileWithBytes("text/plain", "hello.txt", "aGVsbG8gd29ybGQ=")),
+                            new DataPart(Map.of("score", 0.75)))
+                    .extensions(List.of("https://example.com/ext/v1"))
+                    .build()))
+            .history(Message.builder()
+                    .role(Message.Role.ROLE_USER)
+                    .parts(new TextPart("Summarize \"this\"\n\tplease"))
+                    .messageId("message-1")
+                    .contextId("context-1")
+                    .referenceTaskIds(List.of("task-0"))
+                    .build(), AGENT_MESSAGE)
+            .metadata(Map.of("priority", 3))
+            .build();
+
+    @Test
+    public void testTaskMatchesGoldenFile() throws IOException {
+        GetTaskResponse response = new GetTaskResponse("request-1", TASK);
+
+        assertMatchesProtoPath(response);
+        assertEquals(readGolden("get-task-response.json"), encode(response));
+    }
+
+    @Test
+    public void testStatusUpdateMatchesGoldenFile() throws IOException {
+        SendStreamingMessageResponse response = new SendStreamingMessageResponse(7, TaskStatusUpdateEvent.builder()
+                .taskId("task-1")
+                .contextId("context-1")
+                .status(new TaskStatus(TaskState.TASK_STATE_COMPLETED, null, TIMESTAMP))
+                .metadata(Map.of("final", true))
+                .build());
+
+        assertMatchesProtoPath(response);
+        assertEquals(readGolden("status-update-stream-response.json"), encode(response));
+    }
+
+    @Test
+    public void testArtifactUpdateMatchesGoldenFile() throws IOException {
+        SendStreamingMessageResponse response = new SendStreamingMessageResponse("request-2", TaskArtifactUpdateEvent.builder()
+                .taskId("task-1")
+                .contextId("context-1")
+                .artifact(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(new TextPart("chunk 2"))
+                        .build())
+                .append(true)
+                .build());
+
+        assertMatchesProtoPath(response);
+        assertEquals(readGolden("artifact-update-stream-response.json"), encode(response));
+    }
+
+    @Test
+    public void testResponsesMatchProtoPath() {
+        assertMatchesProtoPath(new GetTaskResponse(1, TASK));
+        assertMatchesProtoPath(new CancelTaskResponse(Long.valueOf(42), TASK));
+        assertMatchesProtoPath(new SendMessageResponse("request-3", TASK));
+        assertMatchesProtoPath(new SendMessageResponse("request-3", AGENT_MESSAGE));
+        assertMatchesProtoPath(new SendStreamingMessageResponse("request-4", TASK));
+        assertMatchesProtoPath(new SendStreamingMessageResponse("request-4", AGENT_MESSAGE));
+        // JSON-RPC notifications have no ID
+        assertMatchesProtoPath(new SendStreamingMessageResponse(null, AGENT_MESSAGE));
+    }
+
+    @Test
+    public void testMinimalObjectsMatchProtoPath() {
+        Task task = Task.builder()
+                .id("task-1")
+                .contextId("context-1")
+                .status(new TaskStatus(TaskState.TASK_STATE_SUBMITTED, null, OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)))
+                .build();
+        assertMatchesProtoPath(new GetTaskResponse("request-1", task));
+
+        assertMatchesProtoPath(new SendStreamingMessageResponse("request-1", TaskArtifactUpdateEvent.builder()
+                .taskId("task-1")
+                .contextId("context-1")
+                .artifact(Artifact.builder().artifactId("artifact-1").parts(new DataPart(List.of())).build())
+                .build()));
+    }
+
+    @Test
+    public void testStringEscapingMatchesProtoPath() {
+        List<String> texts = List.of(
+                "plain",
+                "quote \" backslash \\ slash /",
+                "controls \u0000 \u0001 \b \f \n \r \t \u001f \u007f",
+                "html < > & = '",
+                "separators \u2028 \u2029",
+                "latin é ß, cjk 漢字, emoji 😀",
+                "unpaired \ud800 surrogate \udc00",
+                "");
+        for (String text : texts) {
+            Message message = Message.builder()
+                    .role(Message.Role.ROLE_USER)
+                    .parts(new TextPart(text, Map.of(text, text)))
+                    .messageId(text.isEmpty() ? "empty" : text)
+                    .build();
+            assertMatchesProtoPath(new SendStreamingMessageResponse(text, message));
+        }
+    }
+
+    @Test
+    public void testDataValuesMatchProtoPath() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("string", "value");
+        data.put("int", 1);
+        data.put("long", 12345678901234L);
+        data.put("double", 0.1);
+        data.put("large", 1e21);
+        data.put("small", 1e-7);
+        data.put("negative", -2.5f);
+        data.put("true", true);
+        data.put("false", false);
+        data.put("null", null);
+        data.put("unsupported", new Object());
+        data.put("nested", Map.of("list", Arrays.asList(1, "two", null, List.of(), Map.of())));
+
+        List<Object> values = new ArrayList<>();
+        values.add(data);
+        values.add(List.of(1, 2, 3));
+        values.add("text");
+        values.add(42);
+        values.add(false);
+        for (Object value : values) {
+            Message message = Message.builder()
+                    .role(Message.Role.ROLE_AGENT)
+                    .parts(new DataPart(value))
+                    .messageId("message-1")
+                    .metadata(Map.of("nested", Map.of("list", List.of(1.5, "two"))))
+                    .build();
+            assertMatchesProtoPath(new SendMessageResponse("request-1", message));
+        }
+    }
+
+    @Test
+    public void testTimestampsMatchProtoPath() {
+        int[] nanos = {0, 1, 1_000, 1_000_000, 100_000_000, 123_456_789, 999_999_999};
+        for (int nano : nanos) {
+            for (OffsetDateTime time : List.of(
+                    OffsetDateTime.of(2025, 12, 31, 23, 59, 59, nano, ZoneOffset.UTC),
+                    OffsetDateTime.of(1969, 7, 20, 20, 17, 40, nano, ZoneOffset.ofHours(-5)),
+                    OffsetDateTime.of(1, 1, 1, 0, 0, 0, nano, ZoneOffset.UTC))) {
+                TaskStatusUpdateEvent event = TaskStatusUpdateEvent.builder()
+                        .taskId("task-1")
+                        .contextId("context-1")
+                        .status(new TaskStatus(TaskState.TASK_STATE_WORKING, null, time))
+                        .build();
+                assertMatchesProtoPath(new SendStreamingMessageResponse("request-1", event));
+            }
+        }
+    }
+
+    @Test
+    public void testAllTaskStatesMatchProtoPath() {
+        for (TaskState state : TaskState.values()) {
+            if (state == TaskState.UNRECOGNIZED) {
+                continue;
+            }
+            TaskStatusUpdateEvent event = TaskStatusUpdateEvent.builder()
+                    .taskId("task-1")
+                    .contextId("context-1")
+                    .status(new TaskStatus(state, null, TIMESTAMP))
+                    .build();
+            assertMatchesProtoPath(new SendStreamingMessageResponse("request-1", event));
+        }
+    }
+
+    @Test
+    public void testRawFileContentMatchesProtoPath() {
+        for (int length = 0; length <= 6; length++) {
+            byte[] content = new byte[length];
+            for (int i = 0; i < length; i++) {
+                content[i] = (byte) (0xff - i * 37);
+            }
+            Message message = Message.builder()
+                    .role(Message.Role.ROLE_AGENT)
+                    .parts(new FilePart(new FileWithBytes("application/octet-stream", "data.bin", content)))
+                    .messageId("message-" + length)
+                    .build();
+            assertMatchesProtoPath(new SendMessageResponse("request-1", message));
+        }
+    }
+
+    @Test
+    public void testSupports() {
+        assertTrue(SpecJsonEncoder.supports(new GetTaskResponse("request-1", TASK)));
+        assertFalse(SpecJsonEncoder.supports(new GetTaskResponse("request-1", new InternalError("failed"))));
+        assertFalse(SpecJsonEncoder.supports(new GetTaskResponse(1.5, TASK)));
+        assertFalse(SpecJsonEncoder.supports(new ListTasksResponse("request-1", new ListTasksResult(List.of(TASK)))));
+    }
+
+    @Test
+    public void testEncodeWithoutEnvelope() throws Exception {
+        assertArrayEquals(JSONRPCUtils.toJsonRPCResultResponse(null, ProtoUtils.ToProto.task(TASK))
+                        .replace("{\"jsonrpc\":\"2.0\",\"result\":", "")
+                        .replaceFirst("}$", "")
+                        .getBytes(StandardCharsets.UTF_8),
+                SpecJsonEncoder.encodeTask(TASK));
+        assertEquals("{\"message\":" + new String(SpecJsonEncoder.encodeSendMessageResponse(AGENT_MESSAGE), StandardCharsets.UTF_8)
+                        .substring("{\"message\":".length()),
+                new String(SpecJsonEncoder.encodeStreamResponse(AGENT_MESSAGE), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeWithFraming() {
+        GetTaskResponse response = new GetTaskResponse("request-1", TASK);
+        byte[] framed = SpecJsonEncoder.toJsonRPCResultResponse(response,
+                "data: ".getBytes(StandardCharsets.US_ASCII), "\nid: 3\n\n".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("data: " + encode(response) + "\nid: 3\n\n", new String(framed, StandardCharsets.UTF_8));
+    }
+
+    private static void assertMatchesProtoPath(A2AResponse<?> response) {
+        assertTrue(SpecJsonEncoder.supports(response));
+        // Compared as UTF-8, in which unpaired surrogates are replaced
+        byte[] expected = JSONRPCUtils.toJsonRPCResultResponse(response.getId(), toProto(response)).getBytes(StandardCharsets.UTF_8);
+        assertEquals(new String(expected, StandardCharsets.UTF_8), encode(response));
+        assertArrayEquals(expected, SpecJsonEncoder.toJsonRPCResultResponse(response));
+    }
+
+    private static com.google.protobuf.MessageOrBuilder toProto(A2AResponse<?> response) {
+        if (response instanceof GetTaskResponse r) {
+            return ProtoUtils.ToProto.task(r.getResult());
+        } else if (response instanceof CancelTaskResponse r) {
+            return ProtoUtils.ToProto.task(r.getResult());
+        } else if (response instanceof SendMessageResponse r) {
+            return ProtoUtils.ToProto.taskOrMessage(r.getResult());
+        } else if (response instanceof SendStreamingMessageResponse r) {
+            return ProtoUtils.ToProto.taskOrMessageStream(r.getResult());
+        }
+        throw new IllegalArgumentException(response.getClass().getName());
+    }
+
+    private static String encode(A2AResponse<?> response) {
+        return new String(SpecJsonEncoder.toJsonRPCResultResponse(response), StandardCharsets.UTF_8);
+    }
+
+    private static String readGolden(String name) throws IOException {
+        try (InputStream in = SpecJsonEncoderTest.class.getResourceAsStream("/golden/" + name)) {
+            assertNotNull(in, "Missing golden file " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+    }
+}
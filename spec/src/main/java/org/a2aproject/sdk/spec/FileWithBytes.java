@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,9 +32,16 @@ import org.jspecify.annotations.Nullable;
  * The bytes field contains the base64-encoded file content. Decoders should handle the base64
  * encoding/decoding transparently.
  * <p>
- * This class uses lazy loading with soft-reference caching to reduce memory pressure: the
- * base64-encoded content is computed on-demand and held via a {@link SoftReference}, allowing
- * the JVM to reclaim it under memory pressure. If reclaimed, it is recomputed on next access.
+ * The content is kept in the form it was created from. Instances created from raw bytes (a
+ * {@code byte[]} or a {@link ByteBuffer}) hold the bytes themselves: {@link #content()} returns
+ * them without copying, and the base64 form is only computed when {@link #bytes()} is called.
+ * Instances created from a base64 string hold the string, and decode it when {@link #content()}
+ * is called. Binary transports should use {@link #content()}, so that raw bytes are never
+ * round-tripped through base64.
+ * <p>
+ * Instances created from a {@link File} or {@link Path} read the file on demand. Their
+ * base64-encoded content is held via a {@link SoftReference}, allowing the JVM to reclaim it under
+ * memory pressure. If reclaimed, it is recomputed on next access.
  *
  * @see FileContent
  * @see FilePart
@@ -53,10 +61,6 @@ public final class FileWithBytes implements FileContent {
     // Source for (re)generating base64 content on-demand
     private final ByteSource source;
 
-    // Soft-reference cache: held in memory but reclaimable by GC under memory pressure
-    @Nullable
-    private volatile SoftReference<String> cachedBytes;
-
     /**
      * Creates a {@code FileWithBytes} with pre-encoded base64 content.
      * This is the canonical constructor used by serialization frameworks.
@@ -69,7 +73,6 @@ public final class FileWithBytes implements FileContent {
         this.mimeType = Assert.checkNotNullParam("mimeType", mimeType);
         this.name = Assert.checkNotNullParam("name", name);
         this.source = new PreEncodedSource(Assert.checkNotNullParam("bytes", bytes));
-        this.cachedBytes = new SoftReference<>(bytes);
     }
 
     /**
@@ -118,22 +121,42 @@ public final class FileWithBytes implements FileContent {
     }
 
     /**
-     * Creates a {@code FileWithBytes} by base64-encoding the given raw byte array.
+     * Creates a {@code FileWithBytes} holding the given raw byte array.
      * <p>
      * A defensive copy of {@code content} is made at construction time, so subsequent mutations
-     * to the caller's array have no effect. The copy is base64-encoded on the first call to
-     * {@link #bytes()}, then cached via a soft reference. The cache may be cleared by GC under
-     * memory pressure, in which case the encoding is recomputed from the retained copy.
+     * to the caller's array have no effect. The copy is base64-encoded each time {@link #bytes()}
+     * is called.
      *
      * @param mimeType the MIME type of the file (e.g., {@code "application/pdf"})
      * @param name the file name (e.g., {@code "report.pdf"})
-     * @param content the raw file content to be base64-encoded
+     * @param content the raw file content
      * @throws NullPointerException if {@code content} is null
      */
     public FileWithBytes(String mimeType, String name, byte[] content) {
         this.mimeType = Assert.checkNotNullParam("mimeType", mimeType);
         this.name = Assert.checkNotNullParam("name", name);
-        this.source = new ByteArraySource(content);
+        this.source = new ByteBufferSource(
+                ByteBuffer.wrap(Objects.requireNonNull(content, "content must not be null").clone()));
+    }
+
+    /**
+     * Creates a {@code FileWithBytes} holding the remaining bytes of the given buffer, without
+     * copying them.
+     * <p>
+     * The buffer's position and limit are not changed. The content is shared with the caller, who
+     * must not modify it afterwards; this is intended for immutable sources such as the read-only
+     * buffer of a protobuf {@code ByteString}. Use {@link #FileWithBytes(String, String, byte[])}
+     * for content that may change.
+     *
+     * @param mimeType the MIME type of the file (e.g., {@code "application/pdf"})
+     * @param name the file name (e.g., {@code "report.pdf"})
+     * @param content the raw file content
+     * @throws NullPointerException if {@code content} is null
+     */
+    public FileWithBytes(String mimeType, String name, ByteBuffer content) {
+        this.mimeType = Assert.checkNotNullParam("mimeType", mimeType);
+        this.name = Assert.checkNotNullParam("name", name);
+        this.source = new ByteBufferSource(Objects.requireNonNull(content, "content must not be null").slice());
     }
 
     @Override
@@ -149,43 +172,41 @@ public final class FileWithBytes implements FileContent {
     /**
      * Returns the base64-encoded file content.
      * <p>
-     * The content is computed on the first call and cached via a soft reference. Subsequent calls
-     * return the cached value. If the JVM reclaims the cache under memory pressure, the content is
-     * recomputed transparently on the next access.
-     * <p>
-     * For instances created from a {@link File} or {@link Path}, recomputation involves reading
-     * the file from disk. Callers in performance-sensitive paths should retain the returned value
-     * rather than calling this method repeatedly.
+     * For instances created from raw bytes, the content is encoded on each call. For instances
+     * created from a {@link File} or {@link Path}, the content is computed on the first call and
+     * cached via a soft reference; if the JVM reclaims the cache under memory pressure, the file
+     * is read again on the next access. Callers in performance-sensitive paths should retain the
+     * returned value rather than calling this method repeatedly, or use {@link #content()}.
      *
      * @return the base64-encoded file content
      * @throws RuntimeException if an I/O error occurs while reading a file-backed source
      */
     public String bytes() {
-        // First check: fast path without locking
-        SoftReference<String> ref = cachedBytes;
-        if (ref != null) {
-            String cached = ref.get();
-            if (cached != null) {
-                return cached;
-            }
+        try {
+            return source.getBase64();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load file content", e);
         }
-        // Second check: slow path, synchronized to prevent redundant computation
-        // (especially costly for file-backed sources, which would re-read from disk)
-        synchronized (this) {
-            ref = cachedBytes;
-            if (ref != null) {
-                String cached = ref.get();
-                if (cached != null) {
-                    return cached;
-                }
-            }
-            try {
-                String computed = source.getBase64();
-                cachedBytes = new SoftReference<>(computed);
-                return computed;
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to load file content", e);
-            }
+    }
+
+    /**
+     * Returns the raw (decoded) file content as a read-only buffer.
+     * <p>
+     * For instances created from raw bytes, the returned buffer shares the retained content and
+     * no copy is made. Instances created from a base64 string decode it on each call, and
+     * instances created from a {@link File} or {@link Path} read the file on each call.
+     * <p>
+     * The returned buffer is positioned at zero, and its limit is the size of the content.
+     *
+     * @return the raw file content
+     * @throws IllegalArgumentException if the base64 content of the instance is not valid
+     * @throws RuntimeException if an I/O error occurs while reading a file-backed source
+     */
+    public ByteBuffer content() {
+        try {
+            return source.getContent();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load file content", e);
         }
     }
 
@@ -267,6 +288,8 @@ public final class FileWithBytes implements FileContent {
      */
     private interface ByteSource {
         String getBase64() throws IOException;
+
+        ByteBuffer getContent() throws IOException;
     }
 
     /**
@@ -283,6 +306,11 @@ public final class FileWithBytes implements FileContent {
         public String getBase64() {
             return base64;
         }
+
+        @Override
+        public ByteBuffer getContent() {
+            return ByteBuffer.wrap(Base64.getDecoder().decode(base64)).asReadOnlyBuffer();
+        }
     }
 
     /**
@@ -291,29 +319,64 @@ public final class FileWithBytes implements FileContent {
     private static final class PathSource implements ByteSource {
         private final Path path;
 
+        // Soft-reference cache: held in memory but reclaimable by GC under memory pressure
+        @Nullable
+        private volatile SoftReference<String> cachedBase64;
+
         PathSource(Path path) {
             this.path = path;
         }
 
         @Override
         public String getBase64() throws IOException {
-            return encodeFileToBase64(path);
+            // First check: fast path without locking
+            SoftReference<String> ref = cachedBase64;
+            if (ref != null) {
+                String cached = ref.get();
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            // Second check: slow path, synchronized to prevent re-reading the file concurrently
+            synchronized (this) {
+                ref = cachedBase64;
+                if (ref != null) {
+                    String cached = ref.get();
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+                String computed = encodeFileToBase64(path);
+                cachedBase64 = new SoftReference<>(computed);
+                return computed;
+            }
+        }
+
+        @Override
+        public ByteBuffer getContent() throws IOException {
+            return ByteBuffer.wrap(Files.readAllBytes(path)).asReadOnlyBuffer();
         }
     }
 
     /**
-     * Source for byte array that needs to be encoded.
+     * Source for raw bytes held in memory, encoded on demand.
      */
-    private static final class ByteArraySource implements ByteSource {
-        private final byte[] content;
+    private static final class ByteBufferSource implements ByteSource {
+        private final ByteBuffer content;
 
-        ByteArraySource(byte[] content) {
-            this.content = Objects.requireNonNull(content, "content must not be null").clone();
+        ByteBufferSource(ByteBuffer content) {
+            this.content = content.asReadOnlyBuffer();
         }
 
         @Override
         public String getBase64() {
-            return Base64.getEncoder().encodeToString(content);
+            ByteBuffer encoded = Base64.getEncoder().encode(content.duplicate());
+            return new String(encoded.array(), encoded.arrayOffset(), encoded.remaining(), StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public ByteBuffer getContent() {
+            return content.duplicate();
         }
     }
 
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Base64;
@@ -159,6 +160,46 @@ class FileWithBytesTest {
         assertArrayEquals(content, decoded);
     }
 
+    // ========== ByteBuffer constructor ==========
+
+    @Test
+    void testByteBufferConstructor_usesRemainingBytesWithoutCopy() {
+        ByteBuffer buffer = ByteBuffer.wrap("xxpayloadxx".getBytes());
+        buffer.position(2).limit(9);
+
+        FileWithBytes fwb = new FileWithBytes("text/plain", "payload.txt", buffer.asReadOnlyBuffer());
+
+        assertEquals(base64("payload".getBytes()), fwb.bytes());
+        assertEquals(ByteBuffer.wrap("payload".getBytes()), fwb.content());
+        assertEquals(2, buffer.position());
+        assertEquals(9, buffer.limit());
+    }
+
+    // ========== content() ==========
+
+    @Test
+    void testContent_returnsRawBytesForEachConstructor() throws IOException {
+        byte[] content = new byte[]{0, 1, 2, (byte) 0xFF, (byte) 0xFE};
+        Path path = writeTempFile("content.bin", content);
+
+        assertEquals(ByteBuffer.wrap(content), new FileWithBytes("a/b", "c", content).content());
+        assertEquals(ByteBuffer.wrap(content), new FileWithBytes("a/b", "c", base64(content)).content());
+        assertEquals(ByteBuffer.wrap(content), new FileWithBytes("a/b", path).content());
+    }
+
+    @Test
+    void testContent_isReadOnlyAndIndependentOfCaller() {
+        byte[] content = "original".getBytes();
+        FileWithBytes fwb = new FileWithBytes("text/plain", "data.txt", content);
+        content[0] = 'X';
+
+        ByteBuffer first = fwb.content();
+        assertTrue(first.isReadOnly());
+        first.position(first.limit());
+
+        assertEquals(ByteBuffer.wrap("original".getBytes()), fwb.content());
+    }
+
     // ========== Consistency across constructors ==========
 
     @Test
@@ -3,39 +3,46 @@ package org.a2aproject.sdk.transport.grpc.handler;
 import static org.a2aproject.sdk.grpc.utils.ProtoUtils.FromProto;
 import static org.a2aproject.sdk.grpc.utils.ProtoUtils.ToProto;
 import static org.a2aproject.sdk.server.ServerCallContext.TRANSPORT_KEY;
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.unwrapCompletionException;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import jakarta.enterprise.inject.Vetoed;
 
 import com.google.protobuf.Empty;
+import com.google.protobuf.Struct;
 import org.a2aproject.sdk.common.A2AErrorMessages;
 import org.a2aproject.sdk.grpc.A2AServiceGrpc;
 import org.a2aproject.sdk.grpc.StreamResponse;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
 import org.a2aproject.sdk.server.AgentCardValidator;
+import org.a2aproject.sdk.server.RateLimitExceededError;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.auth.User;
 import org.a2aproject.sdk.server.extensions.A2AExtensions;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
 import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
+import org.a2aproject.sdk.server.requesthandlers.TaskSubscriptionParams;
 import org.a2aproject.sdk.server.version.A2AVersionValidator;
 import org.a2aproject.sdk.spec.A2AError;
 import org.a2aproject.sdk.spec.AgentCard;
 import org.a2aproject.sdk.spec.CancelTaskParams;
 import org.a2aproject.sdk.spec.ContentTypeNotSupportedError;
 import org.a2aproject.sdk.spec.DeleteTaskPushNotificationConfigParams;
-import org.a2aproject.sdk.spec.EventKind;
 import org.a2aproject.sdk.spec.ExtendedAgentCardNotConfiguredError;
 import org.a2aproject.sdk.spec.ExtensionSupportRequiredError;
 import org.a2aproject.sdk.spec.GetTaskPushNotificationConfigParams;
@@ -62,10 +69,16 @@ import org.a2aproject.sdk.spec.A2AErrorCodes;
 import org.a2aproject.sdk.spec.UnsupportedOperationError;
 import org.a2aproject.sdk.spec.VersionNotSupportedError;
 import org.a2aproject.sdk.transport.grpc.context.GrpcContextKeys;
+import io.grpc.BindableService;
 import io.grpc.Context;
 import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
 import org.jspecify.annotations.Nullable;
 
@@ -154,12 +167,38 @@ import org.jspecify.annotations.Nullable;
 @Vetoed
 public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
 
+    /**
+     * Name of the gRPC service of the multi-task subscription extension, see
+     * {@link #taskSubscriptionService()}.
+     */
+    public static final String TASK_SUBSCRIPTION_SERVICE_NAME = "a2a_java.extensions.v1.TaskSubscriptionService";
+
+    /**
+     * Bidirectional streaming method of the multi-task subscription extension.
+     *
+     * <p>The client sends {@code google.protobuf.Struct} messages with the members {@code add} and
+     * {@code remove}, as described in {@link TaskSubscriptionParams}, to change the tasks carried
+     * by the call, and receives the events of those tasks. A2A messages cannot carry these
+     * parameters, hence the {@code Struct}.
+     */
+    public static final MethodDescriptor<Struct, StreamResponse> SUBSCRIBE_TO_TASKS_METHOD_DESCRIPTOR =
+            MethodDescriptor.<Struct, StreamResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(
+                            TASK_SUBSCRIPTION_SERVICE_NAME, MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD))
+                    .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(Struct.getDefaultInstance()))
+                    .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(StreamResponse.getDefaultInstance()))
+                    .build();
+
     // Hook so testing can wait until streaming subscriptions are established.
     // Without this we get intermittent failures
     private static volatile @Nullable Runnable streamingSubscribedRunnable;
 
     private final AtomicBoolean initialised = new AtomicBoolean(false);
 
+    // Server streaming calls with an active subscription, for getOutboundBufferDepths()
+    private final Set<StreamResponseSubscriber> activeStreams = ConcurrentHashMap.newKeySet();
+
     private static final Logger LOGGER = Logger.getLogger(GrpcHandler.class.getName());
 
     /**
@@ -172,15 +211,16 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
     /**
      * Handles a unary (blocking) message send request.
      *
-     * <p>This method processes a message send request, waits for the agent to complete
-     * processing, and returns either a Task or Message in the response.
+     * <p>This method processes a message send request and, once the agent has completed
+     * processing, returns either a Task or Message in the response. No thread is held while
+     * the agent runs.
      *
      * <p><b>Protocol Flow:</b>
      * <ol>
      *   <li>Validate A2A protocol version and extensions</li>
      *   <li>Convert protobuf request to domain {@link MessageSendParams}</li>
-     *   <li>Invoke {@link org.a2aproject.sdk.server.requesthandlers.RequestHandler#onMessageSend}</li>
-     *   <li>Convert domain response to protobuf {@link org.a2aproject.sdk.grpc.SendMessageResponse}</li>
+     *   <li>Invoke {@link org.a2aproject.sdk.server.requesthandlers.RequestHandler#onMessageSendAsync}</li>
+     *   <li>Once the result is ready, convert it to protobuf {@link org.a2aproject.sdk.grpc.SendMessageResponse}</li>
      *   <li>Send response and complete the RPC</li>
      * </ol>
      *
@@ -202,10 +242,20 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
             A2AVersionValidator.validateProtocolVersion(getAgentCardInternal(), context);
             A2AExtensions.validateRequiredExtensions(getAgentCardInternal(), context);
             MessageSendParams params = FromProto.messageSendParams(request);
-            EventKind taskOrMessage = getRequestHandler().onMessageSend(params, context);
-            org.a2aproject.sdk.grpc.SendMessageResponse response = ToProto.taskOrMessage(taskOrMessage);
-            responseObserver.onNext(response);
-            responseObserver.onCompleted();
+            // The response is sent when the result is ready; the calling thread is released now
+            getRequestHandler().onMessageSendAsync(params, context).whenComplete((taskOrMessage, error) -> {
+                if (error != null) {
+                    handleAsyncError(responseObserver, error);
+                    return;
+                }
+                try {
+                    org.a2aproject.sdk.grpc.SendMessageResponse response = ToProto.taskOrMessage(taskOrMessage);
+                    responseObserver.onNext(response);
+                    responseObserver.onCompleted();
+                } catch (Throwable t) {
+                    handleInternalError(responseObserver, t);
+                }
+            });
         } catch (A2AError e) {
             handleError(responseObserver, e);
         } catch (SecurityException e) {
@@ -261,13 +311,20 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
         try {
             ServerCallContext context = createCallContext(responseObserver);
             CancelTaskParams params = FromProto.cancelTaskParams(request);
-            Task task = getRequestHandler().onCancelTask(params, context);
-            if (task != null) {
-                responseObserver.onNext(ToProto.task(task));
-                responseObserver.onCompleted();
-            } else {
-                handleError(responseObserver, new TaskNotFoundError());
-            }
+            getRequestHandler().onCancelTaskAsync(params, context).whenComplete((task, error) -> {
+                if (error != null) {
+                    handleAsyncError(responseObserver, error);
+                } else if (task != null) {
+                    try {
+                        responseObserver.onNext(ToProto.task(task));
+                        responseObserver.onCompleted();
+                    } catch (Throwable t) {
+                        handleInternalError(responseObserver, t);
+                    }
+                } else {
+                    handleError(responseObserver, new TaskNotFoundError());
+                }
+            });
         } catch (A2AError e) {
             handleError(responseObserver, e);
         } catch (SecurityException e) {
@@ -432,6 +489,89 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
         }
     }
 
+    /**
+     * Returns the gRPC service of the multi-task subscription extension, served by this handler.
+     *
+     * <p>The extension is a separate service, as the binding of the A2A service is generated
+     * from its definition. Register it next to this handler to offer the extension.
+     *
+     * @return the service, with the single method {@link #SUBSCRIBE_TO_TASKS_METHOD_DESCRIPTOR}
+     */
+    public BindableService taskSubscriptionService() {
+        return () -> ServerServiceDefinition.builder(TASK_SUBSCRIPTION_SERVICE_NAME)
+                .addMethod(SUBSCRIBE_TO_TASKS_METHOD_DESCRIPTOR, ServerCalls.asyncBidiStreamingCall(this::subscribeToTasks))
+                .build();
+    }
+
+    /**
+     * Opens a multi-task subscription carrying the tasks requested on the call.
+     *
+     * <p>Each request message updates the subscription. As a single update cannot be answered on
+     * its own, a failed update, e.g. for a task that does not exist, ends the call with its error.
+     * Half-closing the call keeps the events flowing; the subscription is closed when the call is
+     * cancelled.
+     *
+     * @param responseObserver the gRPC response stream observer
+     * @return the observer of the update messages
+     * @see org.a2aproject.sdk.server.requesthandlers.RequestHandler#onSubscribeToTasks
+     */
+    public StreamObserver<Struct> subscribeToTasks(StreamObserver<StreamResponse> responseObserver) {
+        if (!getAgentCardInternal().capabilities().streaming()) {
+            handleError(responseObserver, new InvalidRequestError());
+            return new IgnoringStreamObserver<>();
+        }
+        try {
+            ServerCallContext context = createCallContext(responseObserver);
+            installForkedContextWrapper(context);
+            MultiTaskSubscription subscription = getRequestHandler().onSubscribeToTasks(
+                    new TaskSubscriptionParams(null, List.of(), List.of()), context);
+            context.activateExtension(MultiTaskSubscription.EXTENSION_URI);
+            convertToStreamResponse(subscription.events(), responseObserver, context, false);
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(Struct params) {
+                    try {
+                        subscription.update(TaskSubscriptionParams.fromStruct(params));
+                    } catch (Throwable t) {
+                        // Delivered by the stream, which owns the response observer
+                        subscription.fail(t);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    subscription.close();
+                }
+
+                @Override
+                public void onCompleted() {
+                    // The client has no more updates; the events keep flowing until it cancels
+                }
+            };
+        } catch (A2AError e) {
+            handleError(responseObserver, e);
+        } catch (SecurityException e) {
+            handleSecurityException(responseObserver, e);
+        } catch (Throwable t) {
+            handleInternalError(responseObserver, t);
+        }
+        return new IgnoringStreamObserver<>();
+    }
+
+    private static final class IgnoringStreamObserver<V> implements StreamObserver<V> {
+        @Override
+        public void onNext(V value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+
     /**
      * Converts a reactive stream of domain events to gRPC streaming responses.
      *
@@ -440,12 +580,19 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
      * streams subscription and detecting client disconnections.
      *
      * <p><b>Backpressure Handling:</b>
+     * <p>Upstream demand follows gRPC flow control, so events for slow clients stay in the
+     * event queue instead of piling up in transport buffers:
      * <ol>
-     *   <li>Request 1 event from upstream</li>
+     *   <li>Request 1 event from upstream once the call is ready
+     *       ({@link ServerCallStreamObserver#isReady()})</li>
      *   <li>Send event to gRPC response observer</li>
-     *   <li>Wait for send completion</li>
-     *   <li>Request next event (backpressure)</li>
+     *   <li>If the call is still ready, request the next event; otherwise request it from the
+     *       {@linkplain ServerCallStreamObserver#setOnReadyHandler(Runnable) on-ready handler}
+     *       once the transport has drained</li>
      * </ol>
+     * <p>Observers that are not {@link ServerCallStreamObserver}s are always considered ready.
+     * The number of messages each active stream has written while not ready is reported by
+     * {@link #getOutboundBufferDepths()}.
      *
      * <p><b>Disconnect Detection:</b>
      * <p>When the gRPC client disconnects:
@@ -472,92 +619,184 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
     private void convertToStreamResponse(Flow.Publisher<StreamingEventKind> publisher,
                                          StreamObserver<org.a2aproject.sdk.grpc.StreamResponse> responseObserver,
                                          ServerCallContext context) {
-        CompletableFuture.runAsync(() -> {
-            publisher.subscribe(new Flow.Subscriber<StreamingEventKind>() {
-                private  Flow.@Nullable Subscription subscription;
-                private final AtomicBoolean completed = new AtomicBoolean(false);
+        convertToStreamResponse(publisher, responseObserver, context, true);
+    }
 
-                @Override
-                public void onSubscribe(Flow.Subscription subscription) {
-                    this.subscription = subscription;
-                    if (this.subscription != null) {
-                        this.subscription.request(1);
-                    }
+    /**
+     * Converts a reactive stream of domain events to gRPC streaming responses, as
+     * {@link #convertToStreamResponse(Flow.Publisher, StreamObserver, ServerCallContext)} does.
+     *
+     * @param completeOnFinalEvent whether a final task status ends the stream; streams carrying
+     *                             several tasks end with the publisher instead
+     */
+    private void convertToStreamResponse(Flow.Publisher<StreamingEventKind> publisher,
+                                         StreamObserver<org.a2aproject.sdk.grpc.StreamResponse> responseObserver,
+                                         ServerCallContext context, boolean completeOnFinalEvent) {
+        StreamResponseSubscriber subscriber =
+                new StreamResponseSubscriber(responseObserver, context, Context.current(), completeOnFinalEvent);
+        if (responseObserver instanceof ServerCallStreamObserver<StreamResponse> callObserver) {
+            // Must be registered before the service method returns
+            callObserver.setOnReadyHandler(subscriber::onReady);
+        }
+        getExecutor().execute(() -> publisher.subscribe(subscriber));
+    }
 
-                    // Detect gRPC client disconnect and call EventConsumer.cancel() directly
-                    // This stops the polling loop without relying on subscription cancellation propagation
-                    Context grpcContext = Context.current();
-                    grpcContext.addListener(new Context.CancellationListener() {
-                        @Override
-                        public void cancelled(Context ctx) {
-                            LOGGER.fine(() -> "gRPC call cancelled by client, calling EventConsumer.cancel() to stop polling loop");
-                            context.invokeEventConsumerCancelCallback();
-                            subscription.cancel();
-                        }
-                    }, getExecutor());
+    /**
+     * Returns the outbound buffer depth of each active server streaming call.
+     *
+     * <p>The depth of a stream is the number of messages written to the call while gRPC
+     * reported it as not ready, which are held in transport buffers until the client reads
+     * them. Since upstream demand follows readiness, a depth above {@code 1} only occurs
+     * for messages that are not requested, such as errors. The depth is reset when the call
+     * becomes ready again.
+     *
+     * @return the depth of each active stream, in no particular order
+     */
+    public List<Integer> getOutboundBufferDepths() {
+        List<Integer> depths = new ArrayList<>(activeStreams.size());
+        for (StreamResponseSubscriber stream : activeStreams) {
+            depths.add(stream.bufferDepth.get());
+        }
+        return depths;
+    }
 
-                    // Notify tests that we are subscribed
-                    Runnable runnable = streamingSubscribedRunnable;
-                    if (runnable != null) {
-                        runnable.run();
-                    }
-                }
+    private final class StreamResponseSubscriber implements Flow.Subscriber<StreamingEventKind> {
+
+        private final StreamObserver<StreamResponse> responseObserver;
+        private final @Nullable ServerCallStreamObserver<StreamResponse> callObserver;
+        private final ServerCallContext context;
+        private final Context grpcContext;
+        private final boolean completeOnFinalEvent;
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        // Set while demand is withheld because the call is not ready
+        private final AtomicBoolean awaitingReady = new AtomicBoolean(false);
+        private final AtomicInteger bufferDepth = new AtomicInteger();
+        private volatile Flow.@Nullable Subscription subscription;
+
+        StreamResponseSubscriber(StreamObserver<StreamResponse> responseObserver, ServerCallContext context,
+                                 Context grpcContext, boolean completeOnFinalEvent) {
+            this.responseObserver = responseObserver;
+            this.callObserver = responseObserver instanceof ServerCallStreamObserver<StreamResponse> observer
+                    ? observer : null;
+            this.context = context;
+            this.grpcContext = grpcContext;
+            this.completeOnFinalEvent = completeOnFinalEvent;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            activeStreams.add(this);
+            requestWhenReady(subscription);
 
+            // Detect gRPC client disconnect and call EventConsumer.cancel() directly
+            // This stops the polling loop without relying on subscription cancellation propagation
+            grpcContext.addListener(new Context.CancellationListener() {
                 @Override
-                public void onNext(StreamingEventKind event) {
-                    StreamResponse response = ToProto.streamResponse(event);
-                    responseObserver.onNext(response);
-                    if (response.hasStatusUpdate()) {
-                        org.a2aproject.sdk.grpc.TaskState state = response.getStatusUpdate().getStatus().getState();
-                        boolean isFinal = state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_CANCELED
-                                || state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_COMPLETED
-                                || state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_FAILED
-                                || state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_REJECTED;
-                        if (isFinal) {
-                            // Cancel subscription to prevent onComplete() from being called after we close the stream
-                            if (this.subscription != null) {
-                                subscription.cancel();
-                            }
-                            completeStream();
-                        } else {
-                            if (this.subscription != null) {
-                                subscription.request(1);
-                            }
-                        }
-                    } else {
-                        if (this.subscription != null) {
-                            this.subscription.request(1);
-                        }
-                    }
+                public void cancelled(Context ctx) {
+                    LOGGER.fine(() -> "gRPC call cancelled by client, calling EventConsumer.cancel() to stop polling loop");
+                    context.invokeEventConsumerCancelCallback();
+                    subscription.cancel();
+                    activeStreams.remove(StreamResponseSubscriber.this);
                 }
+            }, getExecutor());
 
-                @Override
-                public void onError(Throwable throwable) {
-                    // Cancel upstream to stop EventConsumer when error occurs
-                    if (this.subscription != null) {
-                        subscription.cancel();
-                     }
-                    if (throwable instanceof A2AError jsonrpcError) {
-                        handleError(responseObserver, jsonrpcError);
-                    } else {
-                        handleInternalError(responseObserver, throwable);
+            // Notify tests that we are subscribed
+            Runnable runnable = streamingSubscribedRunnable;
+            if (runnable != null) {
+                runnable.run();
+            }
+        }
+
+        @Override
+        public void onNext(StreamingEventKind event) {
+            StreamResponse response = ToProto.streamResponse(event);
+            send(response);
+            Flow.Subscription current = subscription;
+            if (completeOnFinalEvent && response.hasStatusUpdate()) {
+                org.a2aproject.sdk.grpc.TaskState state = response.getStatusUpdate().getStatus().getState();
+                boolean isFinal = state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_CANCELED
+                        || state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_COMPLETED
+                        || state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_FAILED
+                        || state == org.a2aproject.sdk.grpc.TaskState.TASK_STATE_REJECTED;
+                if (isFinal) {
+                    // Cancel subscription to prevent onComplete() from being called after we close the stream
+                    if (current != null) {
+                        current.cancel();
                     }
                     completeStream();
+                    return;
                 }
+            }
+            if (current != null) {
+                requestWhenReady(current);
+            }
+        }
 
-                @Override
-                public void onComplete() {
-                    completeStream();
-                }
+        @Override
+        public void onError(Throwable throwable) {
+            // Cancel upstream to stop EventConsumer when error occurs
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+            if (throwable instanceof A2AError jsonrpcError) {
+                handleError(responseObserver, jsonrpcError);
+            } else {
+                handleInternalError(responseObserver, throwable);
+            }
+            completeStream();
+        }
 
-                private void completeStream() {
-                    // Atomically check and set - only the first caller will proceed
-                    if (completed.compareAndSet(false, true)) {
-                        responseObserver.onCompleted();
-                    }
-                }
-            });
-        }, getExecutor());
+        @Override
+        public void onComplete() {
+            completeStream();
+        }
+
+        /**
+         * Invoked by gRPC when the call becomes ready after having been not ready.
+         */
+        void onReady() {
+            bufferDepth.set(0);
+            Flow.Subscription current = subscription;
+            if (current != null && awaitingReady.compareAndSet(true, false)) {
+                current.request(1);
+            }
+        }
+
+        private void send(StreamResponse response) {
+            responseObserver.onNext(response);
+            if (!isReady()) {
+                int depth = bufferDepth.incrementAndGet();
+                LOGGER.finest(() -> "gRPC call not ready, " + depth + " message(s) buffered for slow client");
+            }
+        }
+
+        private void requestWhenReady(Flow.Subscription current) {
+            if (isReady()) {
+                current.request(1);
+                return;
+            }
+            awaitingReady.set(true);
+            // The call may have become ready before the flag was set, in which case the
+            // on-ready handler has already run and would not request the next event
+            if (isReady() && awaitingReady.compareAndSet(true, false)) {
+                current.request(1);
+            }
+        }
+
+        private boolean isReady() {
+            ServerCallStreamObserver<StreamResponse> observer = callObserver;
+            return observer == null || observer.isReady() || observer.isCancelled();
+        }
+
+        private void completeStream() {
+            // Atomically check and set - only the first caller will proceed
+            if (completed.compareAndSet(false, true)) {
+                activeStreams.remove(this);
+                responseObserver.onCompleted();
+            }
+        }
     }
 
     @Override
@@ -748,6 +987,8 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
      *   <li>{@link ExtendedAgentCardNotConfiguredError} → {@code FAILED_PRECONDITION}</li>
      *   <li>{@link ExtensionSupportRequiredError} → {@code FAILED_PRECONDITION}</li>
      *   <li>{@link VersionNotSupportedError} → {@code UNIMPLEMENTED}</li>
+     *   <li>{@link RateLimitExceededError} → {@code RESOURCE_EXHAUSTED}, with a {@code RetryInfo} detail</li>
+     *   <li>{@link ServerOverloadedError} → {@code UNAVAILABLE}, with a {@code RetryInfo} detail</li>
      *   <li>Unknown errors → {@code UNKNOWN}</li>
      * </ul>
      *
@@ -756,9 +997,23 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
      * @param error the A2A protocol error
      */
     private <V> void handleError(StreamObserver<V> responseObserver, A2AError error) {
+        responseObserver.onError(toStatusRuntimeException(error));
+    }
+
+    /**
+     * Converts an A2A error to the gRPC status reported to the client, as described in
+     * {@link #handleError}.
+     */
+    static StatusRuntimeException toStatusRuntimeException(A2AError error) {
         A2AErrorCodes errorCode = A2AErrorCodes.fromCode(error.getCode());
         String grpcStatusName = errorCode != null ? errorCode.grpcStatus() : "UNKNOWN";
         String reason = errorCode != null ? errorCode.name() : "UNKNOWN";
+        if (error instanceof RateLimitExceededError) {
+            grpcStatusName = Status.Code.RESOURCE_EXHAUSTED.name();
+        } else if (error instanceof ServerOverloadedError) {
+            // UNAVAILABLE is the status gRPC clients consider safe to retry
+            grpcStatusName = Status.Code.UNAVAILABLE.name();
+        }
         int grpcCode = Status.Code.valueOf(grpcStatusName).value();
 
         com.google.rpc.ErrorInfo.Builder errorInfoBuilder = com.google.rpc.ErrorInfo.newBuilder()
@@ -769,13 +1024,18 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
                     errorInfoBuilder.putMetadata(k, v instanceof String s ? s : JsonUtil.OBJECT_MAPPER.toJson(v)));
         }
 
-        com.google.rpc.Status rpcStatus = com.google.rpc.Status.newBuilder()
+        com.google.rpc.Status.Builder rpcStatus = com.google.rpc.Status.newBuilder()
                 .setCode(grpcCode)
                 .setMessage(error.getMessage() != null ? error.getMessage() : "")
-                .addDetails(com.google.protobuf.Any.pack(errorInfoBuilder.build()))
-                .build();
+                .addDetails(com.google.protobuf.Any.pack(errorInfoBuilder.build()));
+        if (error instanceof ServerOverloadedError overloaded) {
+            rpcStatus.addDetails(com.google.protobuf.Any.pack(com.google.rpc.RetryInfo.newBuilder()
+                    .setRetryDelay(com.google.protobuf.Duration.newBuilder()
+                            .setSeconds(overloaded.getRetryAfterSeconds()))
+                    .build()));
+        }
 
-        responseObserver.onError(StatusProto.toStatusRuntimeException(rpcStatus));
+        return StatusProto.toStatusRuntimeException(rpcStatus.build());
     }
 
     /**
@@ -825,6 +1085,21 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
         handleError(responseObserver, new InternalError(t.getMessage()));
     }
 
+    /**
+     * Reports the failure of an asynchronous request handler call like the synchronous handlers
+     * report thrown exceptions.
+     */
+    private <V> void handleAsyncError(StreamObserver<V> responseObserver, Throwable error) {
+        Throwable cause = unwrapCompletionException(error);
+        if (cause instanceof A2AError a2aError) {
+            handleError(responseObserver, a2aError);
+        } else if (cause instanceof SecurityException securityException) {
+            handleSecurityException(responseObserver, securityException);
+        } else {
+            handleInternalError(responseObserver, cause);
+        }
+    }
+
 
     private AgentCard getAgentCardInternal() {
         AgentCard agentCard = getAgentCard();
@@ -0,0 +1,88 @@
+package org.a2aproject.sdk.transport.grpc.handler;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import org.a2aproject.sdk.server.RateLimitExceededError;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
+import org.a2aproject.sdk.transport.grpc.context.GrpcContextKeys;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * gRPC server interceptor applying the per-tenant {@link RateLimiter} to A2A calls.
+ *
+ * <p>The tenant is carried in the {@code tenant} field of the request message, so the limit is
+ * checked when the request message arrives. A rejected call is closed with
+ * {@code RESOURCE_EXHAUSTED} and a {@code RetryInfo} detail, and the request never reaches the
+ * service implementation.
+ *
+ * <p>The interceptor does nothing while no rate limit is configured.
+ */
+@ApplicationScoped
+public class RateLimitInterceptor implements ServerInterceptor {
+
+    private static final String TENANT_FIELD = "tenant";
+
+    private final RateLimiter rateLimiter;
+
+    @Inject
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        if (!rateLimiter.isEnabled()) {
+            return next.startCall(call, headers);
+        }
+        String bareMethodName = call.getMethodDescriptor().getBareMethodName();
+        String method = bareMethodName == null ? call.getMethodDescriptor().getFullMethodName()
+                : GrpcContextKeys.METHOD_MAPPING.getOrDefault(bareMethodName, bareMethodName);
+
+        return new SimpleForwardingServerCallListener<ReqT>(next.startCall(call, headers)) {
+            private boolean rejected;
+
+            @Override
+            public void onMessage(ReqT message) {
+                try {
+                    rateLimiter.acquire(tenantOf(message), method);
+                } catch (RateLimitExceededError e) {
+                    rejected = true;
+                    StatusRuntimeException status = GrpcHandler.toStatusRuntimeException(e);
+                    Metadata trailers = status.getTrailers();
+                    call.close(status.getStatus(), trailers != null ? trailers : new Metadata());
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    private static String tenantOf(Object message) {
+        if (message instanceof Message protoMessage) {
+            FieldDescriptor field = protoMessage.getDescriptorForType().findFieldByName(TENANT_FIELD);
+            if (field != null && field.getJavaType() == FieldDescriptor.JavaType.STRING) {
+                return (String) protoMessage.getField(field);
+            }
+        }
+        return "";
+    }
+}
@@ -8,17 +8,26 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.protobuf.Empty;
+import com.google.protobuf.ListValue;
 import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.internal.testing.StreamRecorder;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import mutiny.zero.ZeroPublisher;
+import org.a2aproject.sdk.grpc.A2AServiceGrpc;
 import org.a2aproject.sdk.grpc.AuthenticationInfo;
 import org.a2aproject.sdk.grpc.CancelTaskRequest;
 import org.a2aproject.sdk.grpc.DeleteTaskPushNotificationConfigRequest;
@@ -40,11 +49,14 @@ import org.a2aproject.sdk.grpc.TaskPushNotificationConfig;
 import org.a2aproject.sdk.grpc.TaskState;
 import org.a2aproject.sdk.grpc.TaskStatus;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.events.EventConsumer;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
 import org.a2aproject.sdk.server.requesthandlers.AbstractA2ARequestHandlerTest;
 import org.a2aproject.sdk.server.requesthandlers.DefaultRequestHandler;
 import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
+import org.a2aproject.sdk.spec.A2AMethods;
 import org.a2aproject.sdk.spec.AgentCapabilities;
 import org.a2aproject.sdk.spec.AgentCard;
 import org.a2aproject.sdk.spec.AgentExtension;
@@ -194,6 +206,55 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
         assertEquals(GRPC_MESSAGE, response.getMessage());
     }
 
+    @Test
+    public void testOnMessageOverloaded() throws Exception {
+        RequestHandler overloadedHandler = Mockito.mock(RequestHandler.class);
+        Mockito.when(overloadedHandler.onMessageSendAsync(Mockito.any(), Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(new ServerOverloadedError("Server overloaded", 2)));
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, overloadedHandler, internalExecutor);
+
+        StreamRecorder<SendMessageResponse> streamRecorder = sendMessageRequest(handler);
+
+        assertGrpcError(streamRecorder, Status.Code.UNAVAILABLE);
+        com.google.rpc.Status rpcStatus = io.grpc.protobuf.StatusProto.fromThrowable(streamRecorder.getError());
+        com.google.rpc.RetryInfo retryInfo = rpcStatus.getDetails(1).unpack(com.google.rpc.RetryInfo.class);
+        Assertions.assertEquals(2, retryInfo.getRetryDelay().getSeconds());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRateLimitInterceptorRejectsPerTenant() {
+        RateLimiter rateLimiter = new RateLimiter();
+        rateLimiter.setLimit(A2AMethods.SEND_MESSAGE_METHOD, 0.1, 1);
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter);
+
+        ServerCall<SendMessageRequest, SendMessageResponse> call = Mockito.mock(ServerCall.class);
+        Mockito.when(call.getMethodDescriptor()).thenReturn(A2AServiceGrpc.getSendMessageMethod());
+        ServerCall.Listener<SendMessageRequest> delegate = Mockito.mock(ServerCall.Listener.class);
+        ServerCallHandler<SendMessageRequest, SendMessageResponse> next = Mockito.mock(ServerCallHandler.class);
+        Mockito.when(next.startCall(Mockito.any(), Mockito.any())).thenReturn(delegate);
+        SendMessageRequest request = SendMessageRequest.newBuilder().setTenant("tenant-a").setMessage(GRPC_MESSAGE).build();
+
+        ServerCall.Listener<SendMessageRequest> first = interceptor.interceptCall(call, new Metadata(), next);
+        first.onMessage(request);
+        first.onHalfClose();
+        Mockito.verify(delegate).onMessage(request);
+        Mockito.verify(delegate).onHalfClose();
+
+        ServerCall.Listener<SendMessageRequest> second = interceptor.interceptCall(call, new Metadata(), next);
+        second.onMessage(request);
+        second.onHalfClose();
+        Mockito.verify(delegate, Mockito.times(1)).onMessage(request);
+        Mockito.verify(delegate, Mockito.times(1)).onHalfClose();
+        Mockito.verify(call).close(
+                Mockito.argThat(status -> status.getCode() == Status.Code.RESOURCE_EXHAUSTED), Mockito.any());
+
+        // Another tenant has its own budget
+        SendMessageRequest otherTenant = request.toBuilder().setTenant("tenant-b").build();
+        interceptor.interceptCall(call, new Metadata(), next).onMessage(otherTenant);
+        Mockito.verify(delegate).onMessage(otherTenant);
+    }
+
     @Test
     public void testOnMessageNewMessageWithExistingTaskSuccess() throws Exception {
         GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler, internalExecutor);
@@ -562,6 +623,37 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
         Assertions.assertNull(streamRecorder.getError());
     }
 
+    @Test
+    public void testSubscribeToTasksUpdatesOnTheCall() throws Exception {
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler, internalExecutor);
+        taskStore.save(AbstractA2ARequestHandlerTest.MINIMAL_TASK, false);
+        queueManager.createOrTap(AbstractA2ARequestHandlerTest.MINIMAL_TASK.id());
+
+        StreamRecorder<StreamResponse> streamRecorder = StreamRecorder.create();
+        StreamObserver<Struct> updates = handler.subscribeToTasks(streamRecorder);
+        updates.onNext(taskSubscriptionUpdate("add", AbstractA2ARequestHandlerTest.MINIMAL_TASK.id()));
+        // Half-closing the call keeps the subscription open
+        updates.onCompleted();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (streamRecorder.getValues().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(1, streamRecorder.getValues().size());
+        Assertions.assertEquals(AbstractA2ARequestHandlerTest.MINIMAL_TASK.id(), streamRecorder.getValues().get(0).getTask().getId());
+        Assertions.assertNull(streamRecorder.getError());
+
+        // A failed update ends the call with its error
+        updates.onNext(taskSubscriptionUpdate("add", "missing-task"));
+        Assertions.assertTrue(streamRecorder.awaitCompletion(5, TimeUnit.SECONDS));
+        StatusRuntimeException error = Assertions.assertInstanceOf(StatusRuntimeException.class, streamRecorder.getError());
+        Assertions.assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    private static Struct taskSubscriptionUpdate(String operation, String taskId) {
+        ListValue taskIds = ListValue.newBuilder().addValues(Value.newBuilder().setStringValue(taskId)).build();
+        return Struct.newBuilder().putFields(operation, Value.newBuilder().setListValue(taskIds).build()).build();
+    }
+
     @Test
     public void testOnSubscribeExistingTaskSuccessMocks() throws Exception {
         GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler, internalExecutor);
@@ -1280,6 +1372,50 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
         Assertions.assertNotNull(response.getNextPageToken());
     }
 
+    @Test
+    public void testStreamingDemandFollowsCallReadiness() throws Exception {
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler, internalExecutor);
+        taskStore.save(AbstractA2ARequestHandlerTest.MINIMAL_TASK, false);
+
+        List<Event> events = List.of(
+                TaskArtifactUpdateEvent.builder()
+                        .taskId(AbstractA2ARequestHandlerTest.MINIMAL_TASK.id())
+                        .contextId(AbstractA2ARequestHandlerTest.MINIMAL_TASK.contextId())
+                        .artifact(Artifact.builder()
+                                .artifactId("11")
+                                .parts(new TextPart("text"))
+                                .build())
+                        .build(),
+                TaskStatusUpdateEvent.builder()
+                        .taskId(AbstractA2ARequestHandlerTest.MINIMAL_TASK.id())
+                        .contextId(AbstractA2ARequestHandlerTest.MINIMAL_TASK.contextId())
+                        .status(new org.a2aproject.sdk.spec.TaskStatus(org.a2aproject.sdk.spec.TaskState.TASK_STATE_WORKING))
+                        .build());
+
+        CountDownLatch streamStarted = new CountDownLatch(1);
+        GrpcHandler.setStreamingSubscribedRunnable(streamStarted::countDown);
+        FlowControlledStreamObserver streamObserver = new FlowControlledStreamObserver();
+        try (MockedConstruction<EventConsumer> mocked = Mockito.mockConstruction(
+                EventConsumer.class,
+                (mock, context) -> {
+                    Mockito.doReturn(ZeroPublisher.fromIterable(events.stream().map(AbstractA2ARequestHandlerTest::wrapEvent).toList())).when(mock).consumeAll();
+                })) {
+            sendStreamingMessageRequest(handler, streamObserver);
+            Assertions.assertTrue(streamStarted.await(5, TimeUnit.SECONDS));
+        }
+
+        // No demand is signalled while the call is not ready
+        Thread.sleep(100);
+        Assertions.assertTrue(streamObserver.values.isEmpty());
+        assertEquals(List.of(0), handler.getOutboundBufferDepths());
+
+        streamObserver.ready = true;
+        streamObserver.onReadyHandler.run();
+        Assertions.assertTrue(streamObserver.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, streamObserver.values.size());
+        Assertions.assertTrue(handler.getOutboundBufferDepths().isEmpty());
+    }
+
     private static class TestGrpcHandler extends GrpcHandler {
 
         private final AgentCard card;
@@ -1327,4 +1463,61 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
             return executor;
         }
     }
+
+    private static class FlowControlledStreamObserver extends ServerCallStreamObserver<StreamResponse> {
+        final List<StreamResponse> values = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile boolean ready;
+        volatile Runnable onReadyHandler = () -> { };
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+        }
+
+        @Override
+        public void setCompression(String compression) {
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+
+        @Override
+        public void onNext(StreamResponse value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.countDown();
+        }
+    }
 }
@@ -1,15 +1,29 @@
 package org.a2aproject.sdk.transport.jsonrpc.handler;
 
 import static org.a2aproject.sdk.server.util.async.AsyncUtils.createTubeConfig;
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.unwrapCompletionException;
+import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.METHOD_NAME_KEY;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
+import com.google.protobuf.Struct;
+import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AErrorResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AMessage;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2ARequest;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.DeleteTaskPushNotificationConfigRequest;
@@ -25,6 +39,7 @@ import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTaskPushNotificationConfig
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.NonStreamingJSONRPCRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.SendMessageRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.SendMessageResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageRequest;
@@ -36,8 +51,11 @@ import org.a2aproject.sdk.server.AgentCardValidator;
 import org.a2aproject.sdk.server.ExtendedAgentCard;
 import org.a2aproject.sdk.server.PublicAgentCard;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.extensions.A2AExtensions;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
 import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
+import org.a2aproject.sdk.server.requesthandlers.TaskSubscriptionParams;
 import org.a2aproject.sdk.server.util.async.Internal;
 import org.a2aproject.sdk.server.version.A2AVersionValidator;
 import org.a2aproject.sdk.spec.A2AError;
@@ -110,6 +128,16 @@ import org.jspecify.annotations.Nullable;
  * with the error object embedded in the response. Protocol version and required
  * extensions are validated before processing requests.
  *
+ * <h2>Batch Requests</h2>
+ * <p>JSON-RPC 2.0 batches of non-streaming requests are handled by {@link #onBatchRequest},
+ * which runs the requests concurrently and returns the responses in order, leaving out
+ * notifications.
+ *
+ * <h2>Multi-Task Subscriptions</h2>
+ * <p>The extension methods {@value MultiTaskSubscription#SUBSCRIBE_TO_TASKS_METHOD} and
+ * {@value MultiTaskSubscription#UPDATE_TASK_SUBSCRIPTION_METHOD} are not part of the A2A
+ * protocol, so routes dispatch them to {@link #onSubscribeToTasks} and {@link #onUpdateTaskSubscription} with the raw body.
+ *
  * <h2>Streaming Support</h2>
  * <p>Streaming methods ({@code sendStreamingMessage}, {@code subscribeToTask}) return
  * a {@link Flow.Publisher} of JSON-RPC responses, allowing Server-Sent Events delivery
@@ -240,6 +268,31 @@ public class JSONRPCHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #onMessageSend(SendMessageRequest, ServerCallContext)}.
+     *
+     * <p>The returned future completes once the agent has produced the result, so that the
+     * calling thread can be released in the meantime. It never completes exceptionally: errors
+     * are reported in the JSON-RPC response.
+     *
+     * @param request the JSON-RPC request containing message params
+     * @param context the server call context containing authentication and metadata
+     * @return a future completed with the JSON-RPC response
+     * @see RequestHandler#onMessageSendAsync(org.a2aproject.sdk.spec.MessageSendParams, ServerCallContext)
+     */
+    public CompletableFuture<SendMessageResponse> onMessageSendAsync(SendMessageRequest request, ServerCallContext context) {
+        try {
+            A2AVersionValidator.validateProtocolVersion(agentCard, context);
+            A2AExtensions.validateRequiredExtensions(agentCard, context);
+            return requestHandler.onMessageSendAsync(request.getParams(), context).toCompletableFuture()
+                    .handle((taskOrMessage, error) -> error == null
+                            ? new SendMessageResponse(request.getId(), taskOrMessage)
+                            : new SendMessageResponse(request.getId(), toA2AError(error)));
+        } catch (Throwable t) {
+            return CompletableFuture.completedFuture(new SendMessageResponse(request.getId(), toA2AError(t)));
+        }
+    }
+
     /**
      * Handles a streaming message send request.
      *
@@ -273,6 +326,8 @@ public class JSONRPCHandler {
      * @param request the JSON-RPC request containing message params
      * @param context the server call context containing authentication and metadata
      * @return publisher of JSON-RPC response objects containing streaming events
+     * @throws ServerOverloadedError if the stream is rejected by admission control, so that the
+     *         transport can answer with its overload signal before the stream is opened
      * @see #onMessageSend(SendMessageRequest, ServerCallContext)
      * @see RequestHandler#onMessageSendStream(org.a2aproject.sdk.spec.MessageSendParams, ServerCallContext)
      */
@@ -293,6 +348,8 @@ public class JSONRPCHandler {
             // We can't use the convertingProcessor convenience method since that propagates any errors as an error handled
             // via Subscriber.onError() rather than as part of the SendStreamingResponse payload
             return convertToSendStreamingMessageResponse(request.getId(), publisher);
+        } catch (ServerOverloadedError e) {
+            throw e;
         } catch (A2AError e) {
             return ZeroPublisher.fromItems(new SendStreamingMessageResponse(request.getId(), e));
         } catch (Throwable throwable) {
@@ -339,6 +396,33 @@ public class JSONRPCHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #onCancelTask(CancelTaskRequest, ServerCallContext)}.
+     *
+     * <p>The returned future completes once the agent has processed the cancellation. It never
+     * completes exceptionally: errors are reported in the JSON-RPC response.
+     *
+     * @param request the JSON-RPC request containing task ID params
+     * @param context the server call context containing authentication and metadata
+     * @return a future completed with the JSON-RPC response
+     * @see RequestHandler#onCancelTaskAsync(CancelTaskParams, ServerCallContext)
+     */
+    public CompletableFuture<CancelTaskResponse> onCancelTaskAsync(CancelTaskRequest request, ServerCallContext context) {
+        try {
+            return requestHandler.onCancelTaskAsync(request.getParams(), context).toCompletableFuture()
+                    .handle((task, error) -> {
+                        if (error != null) {
+                            return new CancelTaskResponse(request.getId(), toA2AError(error));
+                        }
+                        return task != null
+                                ? new CancelTaskResponse(request.getId(), task)
+                                : new CancelTaskResponse(request.getId(), new TaskNotFoundError());
+                    });
+        } catch (Throwable t) {
+            return CompletableFuture.completedFuture(new CancelTaskResponse(request.getId(), toA2AError(t)));
+        }
+    }
+
     /**
      * Subscribes to task updates via a streaming connection.
      *
@@ -370,6 +454,7 @@ public class JSONRPCHandler {
      * @param request the JSON-RPC request containing task ID params
      * @param context the server call context containing authentication and metadata
      * @return publisher of JSON-RPC response objects containing task updates
+     * @throws ServerOverloadedError if the stream is rejected by admission control
      * @see RequestHandler#onSubscribeToTask(org.a2aproject.sdk.spec.TaskIdParams, ServerCallContext)
      * @see #onMessageSendStream(SendStreamingMessageRequest, ServerCallContext)
      */
@@ -388,6 +473,8 @@ public class JSONRPCHandler {
             // We can't use the convertingProcessor convenience method since that propagates any errors as an error handled
             // via Subscriber.onError() rather than as part of the SendStreamingResponse payload
             return convertToSendStreamingMessageResponse(request.getId(), publisher);
+        } catch (ServerOverloadedError e) {
+            throw e;
         } catch (A2AError e) {
             // Other A2AError types - wrap inline as part of the stream
             return ZeroPublisher.fromItems(new SendStreamingMessageResponse(request.getId(), e));
@@ -396,6 +483,95 @@ public class JSONRPCHandler {
         }
     }
 
+    /**
+     * Opens a multi-task subscription, a single stream carrying the events of a changing set of
+     * tasks, for the {@value MultiTaskSubscription#EXTENSION_URI} extension method
+     * {@value MultiTaskSubscription#SUBSCRIBE_TO_TASKS_METHOD}.
+     *
+     * <p>Every event carries the ID of its task. The tasks carried by the stream are changed with
+     * {@link #onUpdateTaskSubscription}, using the subscription ID chosen by the client, and the
+     * stream stays open until the client goes away.
+     *
+     * <p><b>Example Request:</b>
+     * <pre>{@code
+     * {
+     *   "jsonrpc": "2.0",
+     *   "id": "subscribe-123",
+     *   "method": "SubscribeToTasks",
+     *   "params": {
+     *     "id": "my-subscription",
+     *     "add": ["task-1", "task-2"]
+     *   }
+     * }
+     * }</pre>
+     *
+     * @param body the JSON-RPC request body
+     * @param context the server call context containing authentication and metadata
+     * @return publisher of JSON-RPC response objects containing the events of the tasks
+     * @throws JsonProcessingException if the body is not a valid request
+     * @see RequestHandler#onSubscribeToTasks(TaskSubscriptionParams, ServerCallContext)
+     */
+    public Flow.Publisher<SendStreamingMessageResponse> onSubscribeToTasks(String body, ServerCallContext context)
+            throws JsonProcessingException {
+        Struct.Builder params = Struct.newBuilder();
+        Object id = JSONRPCUtils.parseExtensionRequestBody(body, params);
+        if (!agentCard.capabilities().streaming()) {
+            return ZeroPublisher.fromItems(
+                    new SendStreamingMessageResponse(id, new InvalidRequestError("Streaming is not supported by the agent")));
+        }
+        try {
+            MultiTaskSubscription subscription =
+                    requestHandler.onSubscribeToTasks(TaskSubscriptionParams.fromStruct(params.build()), context);
+            context.activateExtension(MultiTaskSubscription.EXTENSION_URI);
+            return convertToSendStreamingMessageResponse(id, subscription.events());
+        } catch (A2AError e) {
+            return ZeroPublisher.fromItems(new SendStreamingMessageResponse(id, e));
+        } catch (Throwable throwable) {
+            return ZeroPublisher.fromItems(new SendStreamingMessageResponse(id, new InternalError(throwable.getMessage())));
+        }
+    }
+
+    /**
+     * Adds tasks to and removes tasks from a multi-task subscription opened by
+     * {@link #onSubscribeToTasks}, for the extension method
+     * {@value MultiTaskSubscription#UPDATE_TASK_SUBSCRIPTION_METHOD}. The result holds the IDs of
+     * the tasks carried by the subscription after the update.
+     *
+     * <p><b>Example Request:</b>
+     * <pre>{@code
+     * {
+     *   "jsonrpc": "2.0",
+     *   "id": "update-123",
+     *   "method": "UpdateTaskSubscription",
+     *   "params": {
+     *     "id": "my-subscription",
+     *     "add": ["task-3"],
+     *     "remove": ["task-1"]
+     *   }
+     * }
+     * }</pre>
+     *
+     * @param body the JSON-RPC request body
+     * @param context the server call context containing authentication and metadata
+     * @return the JSON of the JSON-RPC response
+     * @throws JsonProcessingException if the body is not a valid request
+     * @see RequestHandler#onUpdateTaskSubscription(TaskSubscriptionParams, ServerCallContext)
+     */
+    public String onUpdateTaskSubscription(String body, ServerCallContext context) throws JsonProcessingException {
+        Struct.Builder params = Struct.newBuilder();
+        Object id = JSONRPCUtils.parseExtensionRequestBody(body, params);
+        try {
+            MultiTaskSubscription subscription =
+                    requestHandler.onUpdateTaskSubscription(TaskSubscriptionParams.fromStruct(params.build()), context);
+            context.activateExtension(MultiTaskSubscription.EXTENSION_URI);
+            return JSONRPCUtils.toJsonRPCResultResponse(id, TaskSubscriptionParams.toStruct(subscription));
+        } catch (A2AError e) {
+            return JSONRPCUtils.toJsonRPCErrorResponse(id, e);
+        } catch (Throwable t) {
+            return JSONRPCUtils.toJsonRPCErrorResponse(id, new InternalError(t.getMessage()));
+        }
+    }
+
     /**
      * Retrieves a specific push notification configuration.
      *
@@ -685,6 +861,161 @@ public class JSONRPCHandler {
         }
     }
 
+    /**
+     * Handles a JSON-RPC 2.0 batch request.
+     *
+     * <p>Every request of the batch is handled on its own, with a copy of the call context, and
+     * the responses are returned in the order of the batch. Requests that may block run
+     * concurrently on the executor, while message sends and cancellations release their thread
+     * until the agent is done, as in {@link #onMessageSendAsync}. Streaming methods cannot be
+     * part of a batch and are answered with an {@link InvalidRequestError}. Notifications,
+     * requests without an ID, are handled like the others but get no response.
+     *
+     * <p><b>Example Request:</b>
+     * <pre>{@code
+     * [
+     *   {"jsonrpc": "2.0", "id": 1, "method": "GetTask", "params": {"id": "task-1"}},
+     *   {"jsonrpc": "2.0", "id": 2, "method": "GetTask", "params": {"id": "task-2"}}
+     * ]
+     * }</pre>
+     *
+     * @param batch the members of the batch in order: requests to handle, or the error response
+     *              for members that could not be parsed
+     * @param context the server call context of the HTTP request
+     * @return a future completed once every member is handled, with one response per member that
+     *         is not a notification, and which never completes exceptionally
+     */
+    public CompletableFuture<List<A2AResponse<?>>> onBatchRequest(List<? extends A2AMessage> batch, ServerCallContext context) {
+        return onBatchRequest(batch, context, executor);
+    }
+
+    /**
+     * Handles a JSON-RPC 2.0 batch request, running the requests that may block on the given
+     * executor.
+     *
+     * <p>Transports use this method to run the requests with the state of the calling thread
+     * that the handler's executor does not carry, such as the request context and the security
+     * identity of the HTTP request.
+     *
+     * @param batch the members of the batch in order: requests to handle, or the error response
+     *              for members that could not be parsed
+     * @param context the server call context of the HTTP request
+     * @param memberExecutor the executor running the requests that may block
+     * @return a future completed once every member is handled, with one response per member that
+     *         is not a notification, and which never completes exceptionally
+     * @see #onBatchRequest(List, ServerCallContext)
+     */
+    public CompletableFuture<List<A2AResponse<?>>> onBatchRequest(List<? extends A2AMessage> batch, ServerCallContext context,
+                                                                  Executor memberExecutor) {
+        List<CompletableFuture<? extends A2AResponse<?>>> responses = new ArrayList<>(batch.size());
+        List<CompletableFuture<?>> pending = new ArrayList<>(batch.size());
+        for (A2AMessage member : batch) {
+            if (member instanceof A2AResponse<?> response) {
+                responses.add(CompletableFuture.completedFuture(response));
+            } else if (member instanceof A2ARequest<?> request) {
+                CompletableFuture<? extends A2AResponse<?>> response =
+                        onBatchMember(request, batchMemberContext(context, request), memberExecutor);
+                pending.add(response);
+                if (request.getId() != null) {
+                    responses.add(response);
+                }
+            }
+        }
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> responses.stream().<A2AResponse<?>>map(CompletableFuture::join).toList());
+    }
+
+    private CompletableFuture<? extends A2AResponse<?>> onBatchMember(A2ARequest<?> request, ServerCallContext context,
+                                                                      Executor memberExecutor) {
+        if (!(request instanceof NonStreamingJSONRPCRequest<?> nonStreamingRequest)) {
+            return CompletableFuture.completedFuture(new A2AErrorResponse(request.getId(),
+                    new InvalidRequestError("Streaming method '" + request.getMethod() + "' cannot be part of a batch")));
+        }
+        return onNonStreamingRequestAsync(nonStreamingRequest, context, memberExecutor);
+    }
+
+    /**
+     * Handles any non-streaming request without holding the calling thread while the request is
+     * processed.
+     *
+     * <p>Message sends and cancellations complete once the agent is done, as in
+     * {@link #onMessageSendAsync}, reads that never block are handled on the calling thread, and
+     * all other requests run on the executor. Transports that multiplex many requests on one
+     * connection, such as batches and WebSocket connections, use this method so that a slow
+     * request does not delay the others.
+     *
+     * @param request the non-streaming JSON-RPC request
+     * @param context the server call context of the request
+     * @return a future completed with the JSON-RPC response, which never completes exceptionally
+     */
+    public CompletableFuture<? extends A2AResponse<?>> onNonStreamingRequestAsync(NonStreamingJSONRPCRequest<?> request,
+                                                                                 ServerCallContext context) {
+        return onNonStreamingRequestAsync(request, context, executor);
+    }
+
+    private CompletableFuture<? extends A2AResponse<?>> onNonStreamingRequestAsync(NonStreamingJSONRPCRequest<?> request,
+                                                                                  ServerCallContext context,
+                                                                                  Executor requestExecutor) {
+        if (request instanceof SendMessageRequest req) {
+            return onMessageSendAsync(req, context);
+        }
+        if (request instanceof CancelTaskRequest req) {
+            return onCancelTaskAsync(req, context);
+        }
+        if (isNonBlocking(request)) {
+            return CompletableFuture.completedFuture(onNonStreamingRequest(request, context));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> onNonStreamingRequest(request, context), requestExecutor);
+        } catch (RejectedExecutionException e) {
+            // The executor is saturated, so the calling thread handles the request itself
+            return CompletableFuture.completedFuture(onNonStreamingRequest(request, context));
+        }
+    }
+
+    private boolean isNonBlocking(NonStreamingJSONRPCRequest<?> request) {
+        return request instanceof GetExtendedAgentCardRequest
+                || ((request instanceof GetTaskRequest || request instanceof ListTasksRequest) && isNonBlockingTaskRead())
+                || ((request instanceof GetTaskPushNotificationConfigRequest
+                        || request instanceof ListTaskPushNotificationConfigsRequest) && isNonBlockingPushNotificationConfigRead());
+    }
+
+    private A2AResponse<?> onNonStreamingRequest(NonStreamingJSONRPCRequest<?> request, ServerCallContext context) {
+        if (request instanceof GetTaskRequest req) {
+            return onGetTask(req, context);
+        }
+        if (request instanceof ListTasksRequest req) {
+            return onListTasks(req, context);
+        }
+        if (request instanceof CreateTaskPushNotificationConfigRequest req) {
+            return setPushNotificationConfig(req, context);
+        }
+        if (request instanceof GetTaskPushNotificationConfigRequest req) {
+            return getPushNotificationConfig(req, context);
+        }
+        if (request instanceof ListTaskPushNotificationConfigsRequest req) {
+            return listPushNotificationConfigs(req, context);
+        }
+        if (request instanceof DeleteTaskPushNotificationConfigRequest req) {
+            return deletePushNotificationConfig(req, context);
+        }
+        if (request instanceof GetExtendedAgentCardRequest req) {
+            return onGetExtendedCardRequest(req, context);
+        }
+        return new A2AErrorResponse(request.getId(), new UnsupportedOperationError());
+    }
+
+    /**
+     * Copies the call context of a batch for one of its requests, so that requests handled
+     * concurrently do not share the method name or activated extensions.
+     */
+    private static ServerCallContext batchMemberContext(ServerCallContext context, A2ARequest<?> request) {
+        Map<String, Object> state = new HashMap<>(context.getState());
+        state.put(METHOD_NAME_KEY, request.getMethod());
+        return new ServerCallContext(context.getUser(), state, context.getRequestedExtensions(),
+                context.getRequestedProtocolVersion());
+    }
+
     /**
      * Returns the public agent card.
      *
@@ -743,7 +1074,35 @@ public class JSONRPCHandler {
             });
     }
 
-    public void validateRequestedTask(String requestedTaskId) {
+    private static A2AError toA2AError(Throwable error) {
+        Throwable cause = unwrapCompletionException(error);
+        return cause instanceof A2AError a2aError ? a2aError : new InternalError(cause.getMessage());
+    }
+
+    public void validateRequestedTask(@Nullable String requestedTaskId) {
         requestHandler.validateRequestedTask(requestedTaskId);
     }
+
+    /**
+     * Returns whether {@link #onGetTask} and {@link #onListTasks} complete without blocking, so
+     * that routes may serve them on the event loop instead of dispatching to a worker thread.
+     *
+     * @return {@code true} if task reads never block
+     * @see RequestHandler#isNonBlockingTaskRead()
+     */
+    public boolean isNonBlockingTaskRead() {
+        return requestHandler.isNonBlockingTaskRead();
+    }
+
+    /**
+     * Returns whether {@link #getPushNotificationConfig} and {@link #listPushNotificationConfigs}
+     * complete without blocking, so that routes may serve them on the event loop instead of
+     * dispatching to a worker thread.
+     *
+     * @return {@code true} if push notification config reads never block
+     * @see RequestHandler#isNonBlockingPushNotificationConfigRead()
+     */
+    public boolean isNonBlockingPushNotificationConfigRead() {
+        return requestHandler.isNonBlockingPushNotificationConfigRead();
+    }
 }
@@ -15,12 +15,19 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AErrorResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AMessage;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskRequest;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CancelTaskResponse;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.CreateTaskPushNotificationConfigRequest;
@@ -48,6 +55,8 @@ import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.events.EventConsumer;
 import org.a2aproject.sdk.server.requesthandlers.AbstractA2ARequestHandlerTest;
 import org.a2aproject.sdk.server.requesthandlers.DefaultRequestHandler;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
+import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
 import org.a2aproject.sdk.server.tasks.ResultAggregator;
 import org.a2aproject.sdk.spec.AgentCapabilities;
 import org.a2aproject.sdk.spec.AgentCard;
@@ -61,7 +70,9 @@ import org.a2aproject.sdk.spec.ExtendedAgentCardNotConfiguredError;
 import org.a2aproject.sdk.spec.ExtensionSupportRequiredError;
 import org.a2aproject.sdk.spec.GetTaskPushNotificationConfigParams;
 import org.a2aproject.sdk.spec.InternalError;
+import org.a2aproject.sdk.spec.InvalidParamsError;
 import org.a2aproject.sdk.spec.InvalidRequestError;
+import org.a2aproject.sdk.spec.JSONParseError;
 import org.a2aproject.sdk.spec.ListTaskPushNotificationConfigsParams;
 import org.a2aproject.sdk.spec.ListTasksParams;
 import org.a2aproject.sdk.spec.Message;
@@ -226,6 +237,41 @@ public class JSONRPCHandlerTest extends AbstractA2ARequestHandlerTest {
         assertNull(response.getResult());
     }
 
+    @Test
+    public void testOnMessageSendAsync() throws Exception {
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
+        taskStore.save(MINIMAL_TASK, false);
+        agentExecutorExecute = (context, agentEmitter) -> {
+            agentEmitter.sendMessage(context.getMessage());
+        };
+        Message message = Message.builder(MESSAGE)
+                .taskId(MINIMAL_TASK.id())
+                .contextId(MINIMAL_TASK.contextId())
+                .build();
+        SendMessageRequest request = new SendMessageRequest("1", new MessageSendParams(message, null, null));
+        SendMessageResponse response = handler.onMessageSendAsync(request, callContext).get(5, TimeUnit.SECONDS);
+        assertNull(response.getError());
+        Assertions.assertSame(message, response.getResult());
+    }
+
+    @Test
+    public void testOnMessageSendAsyncError() throws Exception {
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
+        taskStore.save(MINIMAL_TASK, false);
+        agentExecutorExecute = (context, agentEmitter) -> {
+            agentEmitter.fail(new UnsupportedOperationError());
+        };
+        Message message = Message.builder(MESSAGE)
+                .taskId(MINIMAL_TASK.id())
+                .contextId(MINIMAL_TASK.contextId())
+                .build();
+        SendMessageRequest request = new SendMessageRequest(
+                "1", new MessageSendParams(message, null, null));
+        SendMessageResponse response = handler.onMessageSendAsync(request, callContext).get(5, TimeUnit.SECONDS);
+        assertInstanceOf(UnsupportedOperationError.class, response.getError());
+        assertNull(response.getResult());
+    }
+
     @Test
     public void testOnMessageErrorMocks() {
         JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
@@ -1985,4 +2031,130 @@ public class JSONRPCHandlerTest extends AbstractA2ARequestHandlerTest {
         assertEquals(0, result.pageSize(), "pageSize should be 0");
         // nextPageToken can be null for empty results
     }
+
+    @Test
+    public void testOnBatchRequestKeepsOrder() {
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
+        taskStore.save(MINIMAL_TASK, false);
+
+        List<A2AMessage> batch = List.of(
+                new GetTaskRequest("1", new TaskQueryParams(MINIMAL_TASK.id())),
+                new A2AErrorResponse("2", new JSONParseError("Unexpected end of input")),
+                new GetTaskRequest("3", new TaskQueryParams("missing-task")),
+                new SubscribeToTaskRequest("4", new TaskIdParams(MINIMAL_TASK.id())));
+        List<A2AResponse<?>> responses = handler.onBatchRequest(batch, callContext).join();
+
+        assertEquals(List.of("1", "2", "3", "4"), responses.stream().map(A2AResponse::getId).toList());
+        Assertions.assertSame(MINIMAL_TASK, assertInstanceOf(GetTaskResponse.class, responses.get(0)).getResult());
+        assertInstanceOf(JSONParseError.class, responses.get(1).getError());
+        assertInstanceOf(TaskNotFoundError.class, responses.get(2).getError());
+        assertInstanceOf(InvalidRequestError.class, responses.get(3).getError());
+    }
+
+    @Test
+    public void testOnBatchRequestRunsBlockingReadsConcurrently() throws Exception {
+        // Each read waits until both have started, so the batch only completes if they run concurrently
+        CountDownLatch started = new CountDownLatch(2);
+        RequestHandler blockingReads = Mockito.mock(RequestHandler.class);
+        Mockito.when(blockingReads.onGetTask(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            return Task.builder(MINIMAL_TASK).id(invocation.<TaskQueryParams>getArgument(0).id()).build();
+        });
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, blockingReads, internalExecutor);
+
+        List<A2AResponse<?>> responses = handler.onBatchRequest(List.of(
+                new GetTaskRequest("1", new TaskQueryParams("task-1")),
+                new GetTaskRequest("2", new TaskQueryParams("task-2"))), callContext)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals("task-1", ((Task) responses.get(0).getResult()).id());
+        assertEquals("task-2", ((Task) responses.get(1).getResult()).id());
+    }
+
+    @Test
+    public void testOnBatchRequestOmitsNotifications() throws Exception {
+        RequestHandler blockingReads = Mockito.mock(RequestHandler.class);
+        Mockito.when(blockingReads.onGetTask(Mockito.any(), Mockito.any())).thenAnswer(invocation ->
+                Task.builder(MINIMAL_TASK).id(invocation.<TaskQueryParams>getArgument(0).id()).build());
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, blockingReads, internalExecutor);
+        AtomicInteger executed = new AtomicInteger();
+        Executor memberExecutor = task -> {
+            executed.incrementAndGet();
+            internalExecutor.execute(task);
+        };
+
+        List<A2AResponse<?>> responses = handler.onBatchRequest(List.of(
+                new GetTaskRequest(null, new TaskQueryParams("task-1")),
+                new GetTaskRequest("2", new TaskQueryParams("task-2"))), callContext, memberExecutor)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("2"), responses.stream().map(A2AResponse::getId).toList());
+        assertEquals("task-2", ((Task) responses.get(0).getResult()).id());
+        Mockito.verify(blockingReads, Mockito.times(2)).onGetTask(Mockito.any(), Mockito.any());
+        assertEquals(2, executed.get());
+
+        assertEquals(List.of(), handler.onBatchRequest(List.of(
+                new GetTaskRequest(null, new TaskQueryParams("task-1"))), callContext).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testOnSubscribeToTasksAndUpdate() throws Exception {
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
+        taskStore.save(MINIMAL_TASK, false);
+        queueManager.createOrTap(MINIMAL_TASK.id());
+
+        Flow.Publisher<SendStreamingMessageResponse> response = handler.onSubscribeToTasks("""
+                {"jsonrpc": "2.0", "id": "1", "method": "SubscribeToTasks",
+                 "params": {"id": "sub-1", "add": ["%s"]}}
+                """.formatted(MINIMAL_TASK.id()), callContext);
+        CompletableFuture<SendStreamingMessageResponse> first = new CompletableFuture<>();
+        AtomicReference<Flow.Subscription> subscriptionRef = new AtomicReference<>();
+        response.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriptionRef.set(subscription);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(SendStreamingMessageResponse item) {
+                first.complete(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                first.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        SendStreamingMessageResponse snapshot = first.get(5, TimeUnit.SECONDS);
+        assertEquals(1, snapshot.getId());
+        assertEquals(MINIMAL_TASK.id(), ((Task) snapshot.getResult()).id());
+        assertTrue(callContext.isExtensionActivated(MultiTaskSubscription.EXTENSION_URI));
+
+        String notFound = handler.onUpdateTaskSubscription("""
+                {"jsonrpc": "2.0", "id": 2, "method": "UpdateTaskSubscription",
+                 "params": {"id": "sub-1", "add": ["missing-task"]}}
+                """, callContext);
+        assertTrue(notFound.contains("\"code\":" + new TaskNotFoundError().getCode()), notFound);
+
+        String removed = handler.onUpdateTaskSubscription("""
+                {"jsonrpc": "2.0", "id": 3, "method": "UpdateTaskSubscription",
+                 "params": {"id": "sub-1", "remove": ["%s"]}}
+                """.formatted(MINIMAL_TASK.id()), callContext);
+        JsonObject result = JsonParser.parseString(removed).getAsJsonObject().getAsJsonObject("result");
+        assertEquals("sub-1", result.get("id").getAsString());
+        assertEquals(0, result.getAsJsonArray("taskIds").size());
+
+        subscriptionRef.get().cancel();
+        callContext.invokeEventConsumerCancelCallback();
+        String closed = handler.onUpdateTaskSubscription("""
+                {"jsonrpc": "2.0", "id": 4, "method": "UpdateTaskSubscription", "params": {"id": "sub-1"}}
+                """, callContext);
+        assertTrue(closed.contains("\"code\":" + new InvalidParamsError().getCode()), closed);
+    }
 }
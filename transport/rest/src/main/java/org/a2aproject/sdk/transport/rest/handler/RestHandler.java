@@ -2,7 +2,9 @@ package org.a2aproject.sdk.transport.rest.handler;
 
 import static org.a2aproject.sdk.common.MediaType.APPLICATION_JSON;
 import static org.a2aproject.sdk.server.util.async.AsyncUtils.createTubeConfig;
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.unwrapCompletionException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
@@ -10,8 +12,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -23,6 +27,7 @@ import jakarta.inject.Inject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Struct;
 import com.google.protobuf.util.JsonFormat;
 import mutiny.zero.ZeroPublisher;
 import org.a2aproject.sdk.grpc.utils.ProtoUtils;
@@ -31,12 +36,17 @@ import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
 import org.a2aproject.sdk.jsonrpc.common.json.JsonUtil;
 import org.a2aproject.sdk.jsonrpc.common.wrappers.ListTasksResult;
 import org.a2aproject.sdk.server.AgentCardCacheMetadata;
+import org.a2aproject.sdk.server.AgentCardResponse;
 import org.a2aproject.sdk.server.AgentCardValidator;
 import org.a2aproject.sdk.server.ExtendedAgentCard;
 import org.a2aproject.sdk.server.PublicAgentCard;
+import org.a2aproject.sdk.server.RateLimitExceededError;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.extensions.A2AExtensions;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
 import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
+import org.a2aproject.sdk.server.requesthandlers.TaskSubscriptionParams;
 import org.a2aproject.sdk.server.util.async.Internal;
 import org.a2aproject.sdk.server.version.A2AVersionValidator;
 import org.a2aproject.sdk.spec.A2AError;
@@ -90,6 +100,7 @@ import org.jspecify.annotations.Nullable;
  * <li>Task management (get, list, cancel, subscribe)</li>
  * <li>Push notification configurations (create, get, list, delete)</li>
  * <li>Agent card retrieval (public and extended)</li>
+ * <li>Multi-task subscriptions (extension)</li>
  * </ul>
  *
  * <h2>Error Handling</h2>
@@ -239,6 +250,36 @@ public class RestHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #sendMessage(ServerCallContext, String, String)}.
+     *
+     * <p>
+     * The returned future completes once the agent has produced the result, so that the
+     * calling thread can be released in the meantime. It never completes exceptionally: errors
+     * are reported as error responses.
+     *
+     * @param context the server call context containing authentication and metadata
+     * @param tenant the tenant identifier
+     * @param body the JSON request body containing the message to send
+     * @return a future completed with the HTTP response containing the task or message result
+     * @see RequestHandler#onMessageSendAsync(MessageSendParams, ServerCallContext)
+     */
+    public CompletableFuture<HTTPRestResponse> sendMessageAsync(ServerCallContext context, String tenant, String body) {
+        try {
+            A2AVersionValidator.validateProtocolVersion(agentCard, context);
+            A2AExtensions.validateRequiredExtensions(agentCard, context);
+            org.a2aproject.sdk.grpc.SendMessageRequest.Builder request = org.a2aproject.sdk.grpc.SendMessageRequest.newBuilder();
+            parseRequestBody(body, request);
+            request.setTenant(tenant);
+            return respondAsync(requestHandler.onMessageSendAsync(ProtoUtils.FromProto.messageSendParams(request), context),
+                    result -> createSuccessResponse(200, org.a2aproject.sdk.grpc.SendMessageResponse.newBuilder(ProtoUtils.ToProto.taskOrMessage(result))));
+        } catch (A2AError e) {
+            return CompletableFuture.completedFuture(createErrorResponse(e));
+        } catch (Throwable throwable) {
+            return CompletableFuture.completedFuture(createErrorResponse(new InternalError(throwable.getMessage())));
+        }
+    }
+
     /**
      * Handles a streaming message send request.
      *
@@ -356,6 +397,60 @@ public class RestHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #cancelTask(ServerCallContext, String, String, String)}.
+     *
+     * <p>
+     * The returned future completes once the agent has processed the cancellation. It never
+     * completes exceptionally: errors are reported as error responses.
+     *
+     * @param context the server call context containing authentication and metadata
+     * @param tenant the tenant identifier
+     * @param body the JSON request body
+     * @param taskId the ID of the task to cancel
+     * @return a future completed with the HTTP response containing the cancelled task
+     * @see RequestHandler#onCancelTaskAsync(CancelTaskParams, ServerCallContext)
+     */
+    public CompletableFuture<HTTPRestResponse> cancelTaskAsync(ServerCallContext context, String tenant, String body, String taskId) {
+        try {
+            if (taskId == null || taskId.isEmpty()) {
+                throw new InvalidParamsError();
+            }
+            Map<String, Object> metadata = JsonUtil.readMetadata(body);
+            CancelTaskParams params = CancelTaskParams.builder().id(taskId).tenant(tenant).metadata(metadata).build();
+            return respondAsync(requestHandler.onCancelTaskAsync(params, context), task -> {
+                if (task != null) {
+                    return createSuccessResponse(200, org.a2aproject.sdk.grpc.Task.newBuilder(ProtoUtils.ToProto.task(task)));
+                }
+                throw new UnsupportedOperationError();
+            });
+        } catch (A2AError e) {
+            return CompletableFuture.completedFuture(createErrorResponse(e));
+        } catch (Throwable throwable) {
+            return CompletableFuture.completedFuture(createErrorResponse(new InternalError(throwable.getMessage())));
+        }
+    }
+
+    /**
+     * Converts the eventual result of an asynchronous request into an HTTP response, mapping
+     * failures to error responses like the synchronous handlers do.
+     */
+    private <T> CompletableFuture<HTTPRestResponse> respondAsync(CompletionStage<T> result, Function<T, HTTPRestResponse> onSuccess) {
+        return result.toCompletableFuture().handle((value, error) -> {
+            Throwable cause = error == null ? null : unwrapCompletionException(error);
+            try {
+                if (cause != null) {
+                    throw cause;
+                }
+                return onSuccess.apply(value);
+            } catch (A2AError e) {
+                return createErrorResponse(e);
+            } catch (Throwable throwable) {
+                return createErrorResponse(new InternalError(throwable.getMessage()));
+            }
+        });
+    }
+
     /**
      * Creates a push notification configuration for a task.
      *
@@ -440,6 +535,75 @@ public class RestHandler {
         }
     }
 
+    /**
+     * Opens a multi-task subscription, a single stream carrying the events of a changing set of
+     * tasks, for the {@value MultiTaskSubscription#EXTENSION_URI} extension.
+     *
+     * <p>
+     * The optional body lists the tasks to start with, as in
+     * {@link #updateTaskSubscription}. Every event carries the ID of its task, and the stream
+     * stays open until the client goes away.</p>
+     *
+     * <p>
+     * <b>Example Request:</b></p>
+     * <pre>{@code
+     * POST /{tenant}/extensions/taskSubscriptions/{subscriptionId}:subscribe
+     * {"add": ["task-1", "task-2"]}
+     * }</pre>
+     *
+     * @param context the server call context containing authentication and metadata
+     * @param body the JSON request body, may be empty
+     * @param subscriptionId the subscription identifier chosen by the client
+     * @return the streaming HTTP response containing the events of the tasks
+     * @see RequestHandler#onSubscribeToTasks(TaskSubscriptionParams, ServerCallContext)
+     */
+    public HTTPRestResponse subscribeToTasks(ServerCallContext context, String body, String subscriptionId) {
+        try {
+            if (!agentCard.capabilities().streaming()) {
+                return createErrorResponse(new InvalidRequestError("Streaming is not supported by the agent"));
+            }
+            TaskSubscriptionParams params = parseTaskSubscriptionParams(body, subscriptionId);
+            MultiTaskSubscription subscription = requestHandler.onSubscribeToTasks(params, context);
+            context.activateExtension(MultiTaskSubscription.EXTENSION_URI);
+            return createStreamingResponse(subscription.events());
+        } catch (A2AError e) {
+            return createErrorResponse(e);
+        } catch (Throwable throwable) {
+            return createErrorResponse(new InternalError(throwable.getMessage()));
+        }
+    }
+
+    /**
+     * Adds tasks to and removes tasks from a multi-task subscription opened by
+     * {@link #subscribeToTasks}. The removals are applied first; the response holds the IDs of
+     * the tasks carried by the subscription after the update.
+     *
+     * <p>
+     * <b>Example Request:</b></p>
+     * <pre>{@code
+     * POST /{tenant}/extensions/taskSubscriptions/{subscriptionId}:update
+     * {"add": ["task-3"], "remove": ["task-1"]}
+     * }</pre>
+     *
+     * @param context the server call context containing authentication and metadata
+     * @param body the JSON request body
+     * @param subscriptionId the subscription identifier chosen by the client
+     * @return the HTTP response containing the subscription
+     * @see RequestHandler#onUpdateTaskSubscription(TaskSubscriptionParams, ServerCallContext)
+     */
+    public HTTPRestResponse updateTaskSubscription(ServerCallContext context, String body, String subscriptionId) {
+        try {
+            TaskSubscriptionParams params = parseTaskSubscriptionParams(body, subscriptionId);
+            MultiTaskSubscription subscription = requestHandler.onUpdateTaskSubscription(params, context);
+            context.activateExtension(MultiTaskSubscription.EXTENSION_URI);
+            return createSuccessResponse(200, TaskSubscriptionParams.toStruct(subscription).toBuilder());
+        } catch (A2AError e) {
+            return createErrorResponse(e);
+        } catch (Throwable throwable) {
+            return createErrorResponse(new InternalError(throwable.getMessage()));
+        }
+    }
+
     /**
      * Retrieves a task by ID.
      *
@@ -655,6 +819,16 @@ public class RestHandler {
         }
     }
 
+    private TaskSubscriptionParams parseTaskSubscriptionParams(@Nullable String body, String subscriptionId) throws A2AError {
+        Struct.Builder builder = Struct.newBuilder();
+        if (body != null && !body.isBlank()) {
+            parseRequestBody(body, builder);
+        }
+        TaskSubscriptionParams params = TaskSubscriptionParams.fromStruct(builder.build());
+        // The subscription is identified by the path
+        return new TaskSubscriptionParams(subscriptionId, params.add(), params.remove());
+    }
+
     private void validate(String json) {
         try {
             JsonParser.parseString(json);
@@ -675,11 +849,21 @@ public class RestHandler {
 
     /**
      * Creates an HTTP error response from an A2A error.
+     * <p>
+     * A {@link ServerOverloadedError} is answered with {@code 503 Service Unavailable} and a
+     * {@code Retry-After} header, so clients back off instead of treating it as a server failure.
+     * A {@link RateLimitExceededError} is answered the same way with {@code 429 Too Many Requests}.
+     * </p>
      *
      * @param error the A2A error to convert
      * @return the HTTP response with appropriate status code and error details
      */
     public HTTPRestResponse createErrorResponse(A2AError error) {
+        if (error instanceof ServerOverloadedError overloaded) {
+            int statusCode = error instanceof RateLimitExceededError ? 429 : 503;
+            return new HTTPRestResponse(statusCode, APPLICATION_JSON, new HTTPRestErrorResponse(error).toJson(),
+                    Map.of("Retry-After", Integer.toString(overloaded.getRetryAfterSeconds())));
+        }
         int statusCode = mapErrorToHttpStatus(error);
         return createErrorResponse(statusCode, error);
     }
@@ -845,13 +1029,58 @@ public class RestHandler {
      */
     public HTTPRestResponse getAgentCard() {
         try {
-            return new HTTPRestResponse(200, APPLICATION_JSON, JsonUtil.toJson(agentCard),
-                    cacheMetadata.getHttpHeadersMap());
+            AgentCardResponse response = cacheMetadata.respond(agentCard, null, null, null);
+            return new HTTPRestResponse(200, APPLICATION_JSON, new String(response.getBody(), StandardCharsets.UTF_8),
+                    response.getHeaders());
         } catch (Throwable t) {
             return createErrorResponse(500, new InternalError(t.getMessage()));
         }
     }
 
+    /**
+     * Retrieves the public agent card as pre-rendered bytes, honouring the conditional and
+     * content-coding request headers.
+     *
+     * <p>
+     * The agent card is rendered once by {@link AgentCardCacheMetadata}. Requests whose
+     * validators match the current ETag or Last-Modified date are answered with
+     * {@code 304 Not Modified}, and clients accepting gzip receive the precompressed variant.
+     *
+     * @param ifNoneMatch the {@code If-None-Match} request header, if any
+     * @param ifModifiedSince the {@code If-Modified-Since} request header, if any
+     * @param acceptEncoding the {@code Accept-Encoding} request header, if any
+     * @return the response containing the status, headers and body to send
+     * @throws IllegalStateException if the agent card cannot be rendered
+     * @see #getAgentCard()
+     */
+    public AgentCardResponse getAgentCard(@Nullable String ifNoneMatch, @Nullable String ifModifiedSince,
+                                          @Nullable String acceptEncoding) {
+        return cacheMetadata.respond(agentCard, ifNoneMatch, ifModifiedSince, acceptEncoding);
+    }
+
+    /**
+     * Returns whether {@link #getTask} and {@link #listTasks} complete without blocking, so that
+     * routes may serve them on the event loop instead of dispatching to a worker thread.
+     *
+     * @return {@code true} if task reads never block
+     * @see RequestHandler#isNonBlockingTaskRead()
+     */
+    public boolean isNonBlockingTaskRead() {
+        return requestHandler.isNonBlockingTaskRead();
+    }
+
+    /**
+     * Returns whether {@link #getTaskPushNotificationConfiguration} and
+     * {@link #listTaskPushNotificationConfigurations} complete without blocking, so that routes may
+     * serve them on the event loop instead of dispatching to a worker thread.
+     *
+     * @return {@code true} if push notification config reads never block
+     * @see RequestHandler#isNonBlockingPushNotificationConfigRead()
+     */
+    public boolean isNonBlockingPushNotificationConfigRead() {
+        return requestHandler.isNonBlockingPushNotificationConfigRead();
+    }
+
     /**
      * Represents an HTTP REST response with status code, content type, and body.
      */
@@ -12,6 +12,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -19,7 +20,9 @@ import com.google.protobuf.InvalidProtocolBufferException;
 
 import org.a2aproject.sdk.common.MediaType;
 import org.a2aproject.sdk.server.AgentCardCacheMetadata;
+import org.a2aproject.sdk.server.RateLimitExceededError;
 import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
 import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
 import org.a2aproject.sdk.server.config.DefaultValuesConfigProvider;
 import org.a2aproject.sdk.server.requesthandlers.AbstractA2ARequestHandlerTest;
@@ -149,6 +152,57 @@ public class RestHandlerTest extends AbstractA2ARequestHandlerTest {
                 "JSON_PARSE", "Failed to parse json");
     }
 
+    @Test
+    public void testSendMessageAsync() throws Exception {
+        RestHandler handler = new RestHandler(CARD, createCacheMetadata(), requestHandler, internalExecutor);
+        agentExecutorExecute = (context, agentEmitter) -> {
+            agentEmitter.sendMessage(context.getMessage());
+        };
+        String requestBody = """
+            {
+              "message":
+                {
+                  "messageId": "message-1234",
+                  "contextId": "context-1234",
+                  "role": "ROLE_USER",
+                  "parts": [{
+                    "text": "tell me a joke"
+                  }]
+              }
+            }""";
+
+        RestHandler.HTTPRestResponse response = handler.sendMessageAsync(callContext, "", requestBody).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(200, response.getStatusCode(), response.toString());
+        Assertions.assertTrue(response.getBody().contains("tell me a joke"));
+
+        response = handler.sendMessageAsync(callContext, "", "invalid json").get(5, TimeUnit.SECONDS);
+        assertProblemDetail(response, 400,
+                "JSON_PARSE", "Failed to parse json");
+    }
+
+    @Test
+    public void testOverloadedErrorResponse() {
+        RestHandler handler = new RestHandler(CARD, createCacheMetadata(), requestHandler, internalExecutor);
+
+        RestHandler.HTTPRestResponse response = handler.createErrorResponse(
+                new ServerOverloadedError("Server overloaded", 5));
+
+        Assertions.assertEquals(503, response.getStatusCode());
+        Assertions.assertEquals("5", response.getHeaders().get("Retry-After"));
+        Assertions.assertTrue(response.getBody().contains("Server overloaded"));
+    }
+
+    @Test
+    public void testRateLimitedErrorResponse() {
+        RestHandler handler = new RestHandler(CARD, createCacheMetadata(), requestHandler, internalExecutor);
+
+        RestHandler.HTTPRestResponse response = handler.createErrorResponse(
+                new RateLimitExceededError("Rate limit exceeded for SendMessage", 2));
+
+        Assertions.assertEquals(429, response.getStatusCode());
+        Assertions.assertEquals("2", response.getHeaders().get("Retry-After"));
+    }
+
     @Test
     public void testSendMessageWrongValueBody() {
         RestHandler handler = new RestHandler(CARD, createCacheMetadata(), requestHandler, internalExecutor);
@@ -1077,6 +1131,57 @@ public class RestHandlerTest extends AbstractA2ARequestHandlerTest {
                 "tasks should be empty array");
     }
 
+    @Test
+    public void testSubscribeToTasksAndUpdate() throws Exception {
+        RestHandler handler = new RestHandler(CARD, createCacheMetadata(), requestHandler, internalExecutor);
+        taskStore.save(MINIMAL_TASK, false);
+        queueManager.createOrTap(MINIMAL_TASK.id());
+
+        RestHandler.HTTPRestResponse response = handler.subscribeToTasks(callContext, "", "sub-1");
+        Assertions.assertInstanceOf(RestHandler.HTTPRestStreamingResponse.class, response);
+
+        RestHandler.HTTPRestResponse added = handler.updateTaskSubscription(callContext,
+                "{\"add\": [\"" + MINIMAL_TASK.id() + "\"]}", "sub-1");
+        Assertions.assertEquals(200, added.getStatusCode());
+        JsonObject subscription = JsonParser.parseString(added.getBody()).getAsJsonObject();
+        Assertions.assertEquals("sub-1", subscription.get("id").getAsString());
+        Assertions.assertEquals(MINIMAL_TASK.id(), subscription.getAsJsonArray("taskIds").get(0).getAsString());
+
+        CountDownLatch received = new CountDownLatch(1);
+        AtomicReference<String> snapshot = new AtomicReference<>();
+        ((RestHandler.HTTPRestStreamingResponse) response).getPublisher().subscribe(new Flow.Subscriber<String>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(String item) {
+                snapshot.set(item);
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Assertions.assertTrue(received.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(snapshot.get().contains("\"task\""), snapshot.get());
+
+        RestHandler.HTTPRestResponse notFound = handler.updateTaskSubscription(callContext,
+                "{\"add\": [\"missing-task\"]}", "sub-1");
+        Assertions.assertEquals(404, notFound.getStatusCode());
+        Assertions.assertEquals(422, handler.updateTaskSubscription(callContext, "{\"add\": \"task\"}", "sub-1").getStatusCode());
+        Assertions.assertEquals(422, handler.updateTaskSubscription(callContext, "", "other-sub").getStatusCode());
+
+        callContext.invokeEventConsumerCancelCallback();
+        Assertions.assertEquals(422, handler.updateTaskSubscription(callContext, "", "sub-1").getStatusCode());
+    }
+
     private static void assertProblemDetail(RestHandler.HTTPRestResponse response,
                                             int expectedStatus, String expectedReason, String expectedMessage) {
         Assertions.assertEquals(expectedStatus, response.getStatusCode());
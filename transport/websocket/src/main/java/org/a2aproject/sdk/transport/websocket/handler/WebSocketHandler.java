@@ -0,0 +1,112 @@
+package org.a2aproject.sdk.transport.websocket.handler;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.config.A2AConfigProvider;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
+import org.a2aproject.sdk.transport.jsonrpc.handler.JSONRPCHandler;
+
+/**
+ * WebSocket transport handler for the A2A protocol.
+ *
+ * <p>The WebSocket transport carries JSON-RPC 2.0 messages, one per WebSocket text message, over
+ * a single persistent connection. A client that goes through several turns of a conversation,
+ * for example answering {@code INPUT_REQUIRED}, pays the connection and TLS setup once instead of
+ * once per streaming HTTP request.
+ *
+ * <p>Every connection is served by a {@link WebSocketSession}, opened with the call context of
+ * the WebSocket handshake. Requests are dispatched by {@link JSONRPCHandler}, so the transport
+ * supports every JSON-RPC method, including the multi-task subscription extension methods, and
+ * shares its validation and error handling.
+ *
+ * <h2>Multiplexing</h2>
+ * <p>Requests are answered by responses with the same id, in any order. Streaming requests are
+ * answered by one response per event, and their end is signalled by a
+ * {@value org.a2aproject.sdk.common.WebSocketProtocol#STREAM_COMPLETED_METHOD} notification.
+ * Many requests and streams can be in progress at once, up to
+ * {@code a2a.websocket.max-concurrent-requests} per connection (default: 100). The size of the
+ * messages received is limited by {@code a2a.websocket.max-message-size} (default: 64 MiB), so
+ * that large tasks and artifact events fit in one message.
+ *
+ * <h2>CDI Integration</h2>
+ * <p>This handler is an {@code @ApplicationScoped} CDI bean that requires the
+ * {@link JSONRPCHandler}, the {@link RateLimiter} and an {@link A2AConfigProvider}.
+ *
+ * @see WebSocketSession
+ * @see org.a2aproject.sdk.common.WebSocketProtocol
+ */
+@ApplicationScoped
+public class WebSocketHandler {
+
+    static final String MAX_CONCURRENT_REQUESTS_PROPERTY = "a2a.websocket.max-concurrent-requests";
+
+    /**
+     * Maximum size in bytes of a message, and of a frame, received on a connection (default:
+     * {@value org.a2aproject.sdk.common.WebSocketProtocol#DEFAULT_MAX_MESSAGE_SIZE}). The limit is
+     * enforced by the WebSocket server, so it is applied by the server integration.
+     */
+    public static final String MAX_MESSAGE_SIZE_PROPERTY = "a2a.websocket.max-message-size";
+
+    private JSONRPCHandler jsonRpcHandler;
+    private RateLimiter rateLimiter;
+    private int maxConcurrentRequests;
+
+    /**
+     * No-args constructor for CDI proxy creation.
+     * CDI requires a non-private constructor to create proxies for @ApplicationScoped beans.
+     * All fields are initialized by the @Inject constructor during actual bean creation.
+     */
+    @SuppressWarnings("NullAway")
+    protected WebSocketHandler() {
+        // For CDI proxy creation
+    }
+
+    /**
+     * Creates the handler, reading the connection limits from the configuration.
+     *
+     * @param jsonRpcHandler the handler dispatching the requests
+     * @param rateLimiter the per-tenant rate limiter applied to every request
+     * @param configProvider the configuration
+     */
+    @Inject
+    public WebSocketHandler(JSONRPCHandler jsonRpcHandler, RateLimiter rateLimiter, A2AConfigProvider configProvider) {
+        this(jsonRpcHandler, rateLimiter,
+                Integer.parseInt(configProvider.getValue(MAX_CONCURRENT_REQUESTS_PROPERTY)));
+    }
+
+    /**
+     * Creates the handler with explicit connection limits.
+     *
+     * @param jsonRpcHandler the handler dispatching the requests
+     * @param rateLimiter the per-tenant rate limiter applied to every request
+     * @param maxConcurrentRequests the maximum number of requests and streams in progress at once
+     *                              on a connection
+     */
+    public WebSocketHandler(JSONRPCHandler jsonRpcHandler, RateLimiter rateLimiter, int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(MAX_CONCURRENT_REQUESTS_PROPERTY + " must be at least 1");
+        }
+        this.jsonRpcHandler = jsonRpcHandler;
+        this.rateLimiter = rateLimiter;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Opens the session serving a WebSocket connection.
+     *
+     * <p>The context is the one of the WebSocket handshake: its user, headers, requested
+     * extensions and protocol version apply to every request of the connection, and each request
+     * gets its own copy of it.
+     *
+     * @param context the call context of the WebSocket handshake
+     * @param tenant the tenant of the connection, used when a request does not name one
+     * @param sender sends text messages on the connection
+     * @return the session, which must be {@linkplain WebSocketSession#close() closed} with the
+     *         connection
+     */
+    public WebSocketSession openSession(ServerCallContext context, String tenant, WebSocketSession.Sender sender) {
+        return new WebSocketSession(jsonRpcHandler, rateLimiter, context, tenant, sender, maxConcurrentRequests);
+    }
+}
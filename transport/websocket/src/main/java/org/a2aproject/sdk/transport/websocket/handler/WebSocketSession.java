@@ -0,0 +1,450 @@
+package org.a2aproject.sdk.transport.websocket.handler;
+
+import static org.a2aproject.sdk.server.util.async.AsyncUtils.unwrapCompletionException;
+import static org.a2aproject.sdk.transport.jsonrpc.context.JSONRPCContextKeys.METHOD_NAME_KEY;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.a2aproject.sdk.grpc.utils.JSONRPCUtils;
+import org.a2aproject.sdk.jsonrpc.common.json.IdJsonMappingException;
+import org.a2aproject.sdk.jsonrpc.common.json.InvalidParamsJsonMappingException;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonMappingException;
+import org.a2aproject.sdk.jsonrpc.common.json.JsonProcessingException;
+import org.a2aproject.sdk.jsonrpc.common.json.MethodNotFoundJsonMappingException;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AErrorResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2ARequest;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.A2AResponse;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.NonStreamingJSONRPCRequest;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SendStreamingMessageRequest;
+import org.a2aproject.sdk.jsonrpc.common.wrappers.SubscribeToTaskRequest;
+import org.a2aproject.sdk.server.RateLimitExceededError;
+import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
+import org.a2aproject.sdk.server.requesthandlers.MultiTaskSubscription;
+import org.a2aproject.sdk.server.util.sse.SseFormatter;
+import org.a2aproject.sdk.spec.A2AError;
+import org.a2aproject.sdk.spec.InternalError;
+import org.a2aproject.sdk.spec.InvalidParamsError;
+import org.a2aproject.sdk.spec.InvalidRequestError;
+import org.a2aproject.sdk.spec.JSONParseError;
+import org.a2aproject.sdk.spec.MethodNotFoundError;
+import org.a2aproject.sdk.spec.UnsupportedOperationError;
+import org.a2aproject.sdk.transport.jsonrpc.handler.JSONRPCHandler;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Serves the JSON-RPC requests received on one WebSocket connection.
+ *
+ * <p>Each text message received on the connection is passed to {@link #onTextMessage(String)},
+ * which dispatches it and returns without waiting for the response: responses are sent with the
+ * {@link Sender} as soon as they are ready, so a slow request never delays the others. Streaming
+ * requests are answered by one response per event, each carrying the id of the request, followed
+ * by a {@value WebSocketProtocol#STREAM_COMPLETED_METHOD} notification. The next event of a
+ * stream is only requested once the previous one has been sent, so a slow connection holds back
+ * the agent events instead of buffering them.
+ *
+ * <p>Every request is rate limited like an HTTP request of the tenant, and at most
+ * {@code maxConcurrentRequests} requests and streams can be in progress at once; further requests
+ * are answered with a {@link ServerOverloadedError}.
+ *
+ * <p>{@link #onTextMessage(String)} may block while a request is admitted, so transports call it
+ * from a worker thread rather than from an event loop. It may be called concurrently. The session
+ * must be {@linkplain #close() closed} with the connection, which cancels its streams.
+ *
+ * @see WebSocketHandler#openSession(ServerCallContext, String, Sender)
+ */
+public class WebSocketSession implements AutoCloseable {
+
+    /**
+     * Sends text messages on a WebSocket connection.
+     *
+     * <p>Implementations must send messages in the order of the calls, and may be called
+     * concurrently.
+     */
+    @FunctionalInterface
+    public interface Sender {
+
+        /**
+         * Sends a text message on the connection.
+         *
+         * @param message the text message
+         * @return a stage completed once the message is written, or completed exceptionally if
+         *         it could not be written
+         */
+        CompletionStage<?> send(String message);
+    }
+
+    private final JSONRPCHandler jsonRpcHandler;
+    private final RateLimiter rateLimiter;
+    private final ServerCallContext context;
+    private final String tenant;
+    private final Sender sender;
+    private final int maxConcurrentRequests;
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private final Map<String, StreamSubscriber> streams = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    WebSocketSession(JSONRPCHandler jsonRpcHandler, RateLimiter rateLimiter, ServerCallContext context,
+                     String tenant, Sender sender, int maxConcurrentRequests) {
+        this.jsonRpcHandler = jsonRpcHandler;
+        this.rateLimiter = rateLimiter;
+        this.context = context;
+        this.tenant = tenant;
+        this.sender = sender;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Handles a text message received on the connection.
+     *
+     * <p>The message is parsed as a JSON-RPC request and dispatched; messages that cannot be
+     * parsed are answered with the matching JSON-RPC error.
+     *
+     * @param message the text message
+     */
+    public void onTextMessage(String message) {
+        if (closed) {
+            return;
+        }
+        A2ARequest<?> request;
+        try {
+            request = JSONRPCUtils.parseRequestBody(message, tenant);
+        } catch (MethodNotFoundJsonMappingException e) {
+            // Extension methods are not A2A requests, so they are only looked for here
+            String method = JSONRPCUtils.getMethod(message);
+            if (MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD.equals(method)) {
+                onSubscribeToTasks(message, e.getId());
+            } else if (MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD.equals(method)) {
+                onUpdateTaskSubscription(message, e.getId());
+            } else {
+                send(toErrorResponse(e));
+            }
+            return;
+        } catch (Throwable t) {
+            send(toErrorResponse(t));
+            return;
+        }
+        if (!admit(request.getId(), request.getMethod())) {
+            return;
+        }
+        ServerCallContext requestContext = requestContext(request.getMethod());
+        if (request instanceof NonStreamingJSONRPCRequest<?> nonStreamingRequest) {
+            onNonStreamingRequest(nonStreamingRequest, requestContext);
+        } else if (request instanceof SendStreamingMessageRequest req) {
+            openStream(req.getId(), requestContext, () -> {
+                jsonRpcHandler.validateRequestedTask(req.getParams().message().taskId());
+                return jsonRpcHandler.onMessageSendStream(req, requestContext);
+            });
+        } else if (request instanceof SubscribeToTaskRequest req) {
+            openStream(req.getId(), requestContext, () -> {
+                jsonRpcHandler.validateRequestedTask(req.getParams().id());
+                return jsonRpcHandler.onSubscribeToTask(req, requestContext);
+            });
+        } else {
+            release();
+            send(new A2AErrorResponse(request.getId(), new UnsupportedOperationError()));
+        }
+    }
+
+    /**
+     * Answers a text message that the transport could not hand over to
+     * {@link #onTextMessage(String)}, for example because its worker pool rejected it, with a
+     * {@link ServerOverloadedError}, so that the client does not wait for a response that never
+     * comes.
+     *
+     * <p>Unlike {@link #onTextMessage(String)}, this method does not block, so it can be called
+     * from an event loop.
+     *
+     * @param message the text message that was not handled
+     */
+    public void onRejectedTextMessage(String message) {
+        if (closed) {
+            return;
+        }
+        Object id = null;
+        try {
+            if (JsonParser.parseString(message) instanceof JsonObject json
+                    && json.get("id") instanceof JsonPrimitive idElement) {
+                id = idElement.isNumber() ? idElement.getAsNumber() : idElement.getAsString();
+            }
+        } catch (RuntimeException e) {
+            // Not JSON, answered without an id
+        }
+        send(new A2AErrorResponse(id, new ServerOverloadedError("The server is too busy to handle the request", 1)));
+    }
+
+    /**
+     * Closes the session, cancelling the streams still in progress.
+     *
+     * <p>Responses of requests still in progress are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        streams.values().forEach(StreamSubscriber::cancel);
+    }
+
+    /**
+     * Returns the number of requests and streams in progress on the connection.
+     *
+     * @return the number of requests and streams in progress
+     */
+    public int getRequestsInProgress() {
+        return inProgress.get();
+    }
+
+    private void onNonStreamingRequest(NonStreamingJSONRPCRequest<?> request, ServerCallContext requestContext) {
+        CompletableFuture<? extends A2AResponse<?>> response;
+        try {
+            response = jsonRpcHandler.onNonStreamingRequestAsync(request, requestContext);
+        } catch (Throwable t) {
+            release();
+            send(new A2AErrorResponse(request.getId(), toA2AError(t)));
+            return;
+        }
+        response.whenComplete((result, t) -> {
+            release();
+            send(t == null ? result : new A2AErrorResponse(request.getId(), toA2AError(t)));
+        });
+    }
+
+    private void onSubscribeToTasks(String message, @Nullable Object id) {
+        if (!admit(id, MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD)) {
+            return;
+        }
+        ServerCallContext requestContext = requestContext(MultiTaskSubscription.SUBSCRIBE_TO_TASKS_METHOD);
+        openStream(id, requestContext, () -> jsonRpcHandler.onSubscribeToTasks(message, requestContext));
+    }
+
+    private void onUpdateTaskSubscription(String message, @Nullable Object id) {
+        if (!admit(id, MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD)) {
+            return;
+        }
+        try {
+            sendText(jsonRpcHandler.onUpdateTaskSubscription(message,
+                    requestContext(MultiTaskSubscription.UPDATE_TASK_SUBSCRIPTION_METHOD)));
+        } catch (Throwable t) {
+            A2AErrorResponse error = toErrorResponse(t);
+            send(new A2AErrorResponse(id, error.getError()));
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Starts a stream, which counts as a request in progress until its publisher completes or
+     * the session is closed.
+     */
+    private void openStream(@Nullable Object id, ServerCallContext requestContext, PublisherFactory publisherFactory) {
+        if (id == null) {
+            release();
+            send(new A2AErrorResponse(new InvalidRequestError(null, "Streaming requests must have an id", null)));
+            return;
+        }
+        StreamSubscriber subscriber = new StreamSubscriber(id, requestContext);
+        if (streams.putIfAbsent(subscriber.key, subscriber) != null) {
+            release();
+            send(new A2AErrorResponse(id, new InvalidRequestError(null,
+                    "A stream with id '" + subscriber.key + "' is already in progress", null)));
+            return;
+        }
+        Flow.Publisher<? extends A2AResponse<?>> publisher;
+        try {
+            publisher = publisherFactory.create();
+        } catch (Throwable t) {
+            A2AErrorResponse error = toErrorResponse(t);
+            send(new A2AErrorResponse(id, error.getError()));
+            subscriber.onComplete();
+            return;
+        }
+        publisher.subscribe(subscriber);
+        if (closed) {
+            // The connection went away while the stream was opening
+            subscriber.cancel();
+        }
+    }
+
+    /**
+     * Rate limits a request and counts it as in progress, answering it with an error if it is
+     * not admitted.
+     *
+     * @return {@code true} if the request was admitted and must be {@linkplain #release()
+     *         released} once answered
+     */
+    private boolean admit(@Nullable Object id, String method) {
+        try {
+            rateLimiter.acquire(tenant, method);
+        } catch (RateLimitExceededError e) {
+            send(new A2AErrorResponse(id, e));
+            return false;
+        }
+        if (inProgress.incrementAndGet() > maxConcurrentRequests) {
+            inProgress.decrementAndGet();
+            send(new A2AErrorResponse(id, new ServerOverloadedError(
+                    "Too many requests in progress on the connection: the limit is " + maxConcurrentRequests, 1)));
+            return false;
+        }
+        return true;
+    }
+
+    private void release() {
+        inProgress.decrementAndGet();
+    }
+
+    /**
+     * Copies the call context of the connection for one of its requests, so that requests
+     * handled concurrently do not share the method name or activated extensions.
+     */
+    private ServerCallContext requestContext(String method) {
+        Map<String, Object> state = new HashMap<>(context.getState());
+        state.put(METHOD_NAME_KEY, method);
+        return new ServerCallContext(context.getUser(), state, context.getRequestedExtensions(),
+                context.getRequestedProtocolVersion());
+    }
+
+    private CompletionStage<?> send(A2AResponse<?> response) {
+        String message;
+        try {
+            message = SseFormatter.formatResponseAsJson(response);
+        } catch (RuntimeException e) {
+            message = JSONRPCUtils.toJsonRPCErrorResponse(response.getId(), new InternalError(e.getMessage()));
+        }
+        return sendText(message);
+    }
+
+    private CompletionStage<?> sendText(String message) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The WebSocket connection is closed"));
+        }
+        try {
+            return sender.send(message);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static String streamCompleted(Object id) {
+        JsonObject params = new JsonObject();
+        params.add(WebSocketProtocol.STREAM_ID_PARAM,
+                id instanceof Number number ? new JsonPrimitive(number) : new JsonPrimitive(String.valueOf(id)));
+        JsonObject notification = new JsonObject();
+        notification.addProperty("jsonrpc", "2.0");
+        notification.addProperty("method", WebSocketProtocol.STREAM_COMPLETED_METHOD);
+        notification.add("params", params);
+        return notification.toString();
+    }
+
+    private static A2AError toA2AError(Throwable t) {
+        return toErrorResponse(t).getError();
+    }
+
+    /**
+     * Maps a failure while parsing or dispatching a request to its JSON-RPC error response.
+     *
+     * @param t the failure
+     * @return the error response, carrying the request id when it is known
+     */
+    private static A2AErrorResponse toErrorResponse(Throwable t) {
+        Throwable cause = unwrapCompletionException(t);
+        if (cause instanceof A2AError e) {
+            return new A2AErrorResponse(e);
+        } else if (cause instanceof InvalidParamsJsonMappingException e) {
+            return new A2AErrorResponse(e.getId(), new InvalidParamsError(null, e.getMessage(), null));
+        } else if (cause instanceof MethodNotFoundJsonMappingException e) {
+            return new A2AErrorResponse(e.getId(), new MethodNotFoundError(null, e.getMessage(), null));
+        } else if (cause instanceof IdJsonMappingException e) {
+            return new A2AErrorResponse(e.getId(), new InvalidRequestError(null, e.getMessage(), null));
+        } else if (cause instanceof JsonMappingException) {
+            return new A2AErrorResponse(new InvalidRequestError(null, cause.getMessage(), null));
+        } else if (cause instanceof JsonSyntaxException || cause instanceof JsonProcessingException) {
+            return new A2AErrorResponse(new JSONParseError(null, cause.getMessage(), null));
+        }
+        return new A2AErrorResponse(new InternalError(cause.getMessage()));
+    }
+
+    @FunctionalInterface
+    private interface PublisherFactory {
+        Flow.Publisher<? extends A2AResponse<?>> create() throws Exception;
+    }
+
+    /**
+     * Sends the responses of a stream, requesting the next one once the previous one is written.
+     */
+    private final class StreamSubscriber implements Flow.Subscriber<A2AResponse<?>> {
+
+        private final Object id;
+        private final String key;
+        private final ServerCallContext requestContext;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile Flow.@Nullable Subscription subscription;
+
+        StreamSubscriber(Object id, ServerCallContext requestContext) {
+            this.id = id;
+            // Ids are compared as strings, as the parser does not keep their JSON type
+            this.key = String.valueOf(id);
+            this.requestContext = requestContext;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (done.get()) {
+                subscription.cancel();
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(A2AResponse<?> item) {
+            send(item).whenComplete((ignored, t) -> {
+                Flow.Subscription current = subscription;
+                if (t != null) {
+                    cancel();
+                } else if (current != null && !done.get()) {
+                    current.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            send(new A2AErrorResponse(id, toA2AError(throwable)));
+            onComplete();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done.compareAndSet(false, true)) {
+                streams.remove(key, this);
+                release();
+                sendText(streamCompleted(id));
+            }
+        }
+
+        void cancel() {
+            if (done.compareAndSet(false, true)) {
+                streams.remove(key, this);
+                release();
+                Flow.Subscription current = subscription;
+                if (current != null) {
+                    current.cancel();
+                }
+                requestContext.invokeEventConsumerCancelCallback();
+            }
+        }
+    }
+}
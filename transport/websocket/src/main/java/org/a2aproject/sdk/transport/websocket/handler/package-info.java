@@ -0,0 +1,15 @@
+/**
+ * WebSocket transport handler implementations for the A2A protocol.
+ *
+ * <p>This package carries JSON-RPC 2.0 messages over one persistent WebSocket connection per
+ * client. Requests are dispatched by the JSON-RPC transport handler, so the WebSocket transport
+ * supports the same methods, and many requests and streams can be in progress on a connection at
+ * once.
+ *
+ * @see org.a2aproject.sdk.transport.websocket.handler.WebSocketHandler
+ * @see org.a2aproject.sdk.common.WebSocketProtocol
+ */
+@NullMarked
+package org.a2aproject.sdk.transport.websocket.handler;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,179 @@
+package org.a2aproject.sdk.transport.websocket.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.a2aproject.sdk.common.WebSocketProtocol;
+import org.a2aproject.sdk.server.ServerCallContext;
+import org.a2aproject.sdk.server.ServerOverloadedError;
+import org.a2aproject.sdk.server.auth.UnauthenticatedUser;
+import org.a2aproject.sdk.server.ratelimit.RateLimiter;
+import org.a2aproject.sdk.server.requesthandlers.AbstractA2ARequestHandlerTest;
+import org.a2aproject.sdk.server.requesthandlers.RequestHandler;
+import org.a2aproject.sdk.spec.A2AErrorCodes;
+import org.a2aproject.sdk.spec.Task;
+import org.a2aproject.sdk.spec.TaskQueryParams;
+import org.a2aproject.sdk.transport.jsonrpc.handler.JSONRPCHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+public class WebSocketHandlerTest extends AbstractA2ARequestHandlerTest {
+
+    private final ServerCallContext callContext = new ServerCallContext(UnauthenticatedUser.INSTANCE, Map.of("foo", "bar"), new HashSet<>(), "1.0");
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+    private WebSocketSession openSession(RequestHandler handler, int maxConcurrentRequests) {
+        WebSocketHandler webSocketHandler = new WebSocketHandler(
+                new JSONRPCHandler(CARD, handler, internalExecutor), new RateLimiter(), maxConcurrentRequests);
+        return webSocketHandler.openSession(callContext, "", message -> {
+            sent.add(message);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private JsonObject nextMessage() throws InterruptedException {
+        String message = sent.poll(10, TimeUnit.SECONDS);
+        assertNotNull(message, "No message was sent");
+        return JsonParser.parseString(message).getAsJsonObject();
+    }
+
+    @Test
+    public void testGetTask() throws Exception {
+        taskStore.save(MINIMAL_TASK, false);
+        WebSocketSession session = openSession(requestHandler, 10);
+
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": "1", "method": "GetTask", "params": {"id": "%s"}}
+                """.formatted(MINIMAL_TASK.id()));
+
+        JsonObject response = nextMessage();
+        assertEquals("1", response.get("id").getAsString());
+        assertEquals(MINIMAL_TASK.id(), response.getAsJsonObject("result").get("id").getAsString());
+        assertEquals(0, session.getRequestsInProgress());
+    }
+
+    @Test
+    public void testStreamingMessageEndsWithStreamCompleted() throws Exception {
+        taskStore.save(MINIMAL_TASK, false);
+        agentExecutorExecute = (context, agentEmitter) -> {
+            agentEmitter.sendMessage(context.getMessage());
+        };
+        WebSocketSession session = openSession(requestHandler, 10);
+
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": 7, "method": "SendStreamingMessage",
+                 "params": {"message": {"messageId": "message-1", "role": "ROLE_USER", "taskId": "%s",
+                            "contextId": "%s", "parts": [{"text": "hi"}]}}}
+                """.formatted(MINIMAL_TASK.id(), MINIMAL_TASK.contextId()));
+
+        JsonObject event = nextMessage();
+        assertEquals(7, event.get("id").getAsInt());
+        assertEquals("message-1", event.getAsJsonObject("result").getAsJsonObject("message").get("messageId").getAsString());
+
+        JsonObject completed = nextMessage();
+        assertNull(completed.get("id"));
+        assertEquals(WebSocketProtocol.STREAM_COMPLETED_METHOD, completed.get("method").getAsString());
+        assertEquals(7, completed.getAsJsonObject("params").get(WebSocketProtocol.STREAM_ID_PARAM).getAsInt());
+        assertEquals(0, session.getRequestsInProgress());
+    }
+
+    @Test
+    public void testParseErrors() throws Exception {
+        WebSocketSession session = openSession(requestHandler, 10);
+
+        session.onTextMessage("{not json");
+        assertEquals(A2AErrorCodes.JSON_PARSE.code(), nextMessage().getAsJsonObject("error").get("code").getAsInt());
+
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": "2", "method": "NoSuchMethod", "params": {}}
+                """);
+        JsonObject response = nextMessage();
+        assertEquals("2", response.get("id").getAsString());
+        assertEquals(A2AErrorCodes.METHOD_NOT_FOUND.code(), response.getAsJsonObject("error").get("code").getAsInt());
+    }
+
+    @Test
+    public void testRejectsRequestsOverTheConcurrencyLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RequestHandler blockingReads = Mockito.mock(RequestHandler.class);
+        Mockito.when(blockingReads.onGetTask(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return Task.builder(MINIMAL_TASK).id(invocation.<TaskQueryParams>getArgument(0).id()).build();
+        });
+        WebSocketSession session = openSession(blockingReads, 1);
+
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": "1", "method": "GetTask", "params": {"id": "task-1"}}
+                """);
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": "2", "method": "GetTask", "params": {"id": "task-2"}}
+                """);
+
+        JsonObject rejected = nextMessage();
+        assertEquals("2", rejected.get("id").getAsString());
+        assertNotNull(rejected.getAsJsonObject("error"));
+
+        release.countDown();
+        JsonObject response = nextMessage();
+        assertEquals("1", response.get("id").getAsString());
+        assertEquals("task-1", response.getAsJsonObject("result").get("id").getAsString());
+    }
+
+    @Test
+    public void testCloseCancelsStreams() throws Exception {
+        taskStore.save(MINIMAL_TASK, false);
+        queueManager.createOrTap(MINIMAL_TASK.id());
+        WebSocketSession session = openSession(requestHandler, 10);
+
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": "1", "method": "SubscribeToTask", "params": {"id": "%s"}}
+                """.formatted(MINIMAL_TASK.id()));
+        // The first event of a task subscription is the current task
+        assertEquals(MINIMAL_TASK.id(), nextMessage().getAsJsonObject("result").getAsJsonObject("task").get("id").getAsString());
+        assertEquals(1, session.getRequestsInProgress());
+
+        session.close();
+        assertEquals(0, session.getRequestsInProgress());
+        session.onTextMessage("""
+                {"jsonrpc": "2.0", "id": "2", "method": "GetTask", "params": {"id": "%s"}}
+                """.formatted(MINIMAL_TASK.id()));
+        assertNull(sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRejectedMessageIsAnsweredWithServerOverloaded() throws Exception {
+        WebSocketSession session = openSession(requestHandler, 10);
+
+        session.onRejectedTextMessage("""
+                {"jsonrpc": "2.0", "id": 3, "method": "GetTask", "params": {"id": "task-1"}}
+                """);
+
+        JsonObject response = nextMessage();
+        assertEquals(3, response.get("id").getAsInt());
+        JsonObject error = response.getAsJsonObject("error");
+        assertEquals(A2AErrorCodes.INTERNAL.code(), error.get("code").getAsInt());
+        assertTrue(error.get("data").toString().contains(ServerOverloadedError.RETRY_AFTER_SECONDS));
+        assertEquals(0, session.getRequestsInProgress());
+    }
+
+    @Test
+    public void testRejectsInvalidConcurrencyLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new WebSocketHandler(
+                new JSONRPCHandler(CARD, requestHandler, internalExecutor), new RateLimiter(), 0));
+    }
+}
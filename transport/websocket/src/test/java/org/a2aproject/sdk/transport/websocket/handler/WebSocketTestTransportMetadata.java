@@ -0,0 +1,12 @@
+package org.a2aproject.sdk.transport.websocket.handler;
+
+import org.a2aproject.sdk.server.TransportMetadata;
+import org.a2aproject.sdk.spec.TransportProtocol;
+
+public class WebSocketTestTransportMetadata implements TransportMetadata {
+    @Override
+    public String getTransportProtocol() {
+        return TransportProtocol.JSONRPC.asString();
+    }
+
+}